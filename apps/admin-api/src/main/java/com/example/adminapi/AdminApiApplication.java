@@ -13,7 +13,11 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 public class AdminApiApplication {
     public static void main(final String[] args) {
         final SpringApplication app = new SpringApplication(AdminApiApplication.class);
-        app.setDefaultProperties(Map.of("app.type", "admin"));
+        app.setDefaultProperties(Map.of(
+                "app.type", "admin",
+                // 관리자 계정은 로그인 빈도가 낮고 권한이 크므로 사용자 API보다 강한 해시 비용을 목표로 합니다.
+                "app.security.password-hashing.target-latency", "PT0.25S"
+        ));
         app.run(args);
     }
 }
@@ -13,7 +13,10 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 public class UserApiApplication {
     public static void main(final String[] args) {
         final SpringApplication app = new SpringApplication(UserApiApplication.class);
-        app.setDefaultProperties(Map.of("app.type", "user"));
+        app.setDefaultProperties(Map.of(
+                "app.type", "user",
+                "app.security.password-hashing.target-latency", "PT0.08S"
+        ));
         app.run(args);
     }
 }
@@ -0,0 +1,76 @@
+-- =====================================================================
+-- blacklisted_token: 토큰 해시 hex(varchar 64) → 다이제스트(bytea 32) 저장 전환
+-- =====================================================================
+-- 배경
+--  - token_hash는 SHA-256 hex 64자 varchar로, 같은 값을 32바이트보다 두 배 이상 크게 저장하고
+--    인덱스 탐색마다 문자열 비교를 수행합니다. 수천만 건 규모에서는 인덱스가 메모리에 남기 어렵습니다.
+--  - token_digest(bytea)는 같은 값을 32바이트로 저장합니다. 애플리케이션은 변환기
+--    (BlacklistedTokenDigestConverter)를 통해 기존과 같은 hex 문자열로 다루므로 로컬 인덱스/무효화 메시지는 변경이 없습니다.
+--
+-- 전환 절차 (app.jwt.blacklist-hash-storage)
+--  1. 아래 1단계 DDL 적용 후 DUAL로 배포합니다.
+--     - 등록: token_hash + token_digest 함께 저장 / 조회: token_hash 기준
+--  2. 백필이 끝날 때까지 DUAL로 운영합니다.
+--     - BlacklistedTokenDigestBackfillScheduler가 app.jwt.blacklist-digest-backfill.interval(기본 PT1M)마다
+--       batch-size(기본 1000) × max-batches-per-run(기본 50)행까지 배치 단위로 채웁니다.
+--     - 아래 검증 쿼리가 0건이면 완료입니다.
+--  3. 2단계 인덱스 중 하나를 생성한 뒤 BINARY로 전환합니다.
+--     - 등록: token_digest만 저장 / 조회: token_digest 기준 (JWT 인증 단일 쿼리 포함)
+--  4. (선택) 모든 노드가 BINARY로 전환되고 token_hash만 가진 행이 만료된 뒤 3단계 DDL로 hex 컬럼을 제거합니다.
+--
+-- 인덱스 선택
+--  - (A) B-tree 유니크 (token_digest, expires_at): 기존 token_hash 유니크와 같은 구조이며, 키가 32바이트로 줄어듭니다.
+--  - (B) HASH (token_digest): 키 대신 4바이트 해시 코드만 저장하므로 가장 작고, 동등 비교(exists) 전용입니다.
+--    유니크를 보장하지 않지만 등록 전 중복 확인(BlacklistedTokenCommandService)이 있고,
+--    중복 행이 있어도 exists 판정 결과는 같으므로 블랙리스트에는 (B)만으로 충분합니다.
+--
+-- 롤백
+--  - BINARY → DUAL로 되돌리기 전에 BINARY 기간 등록 행의 token_hash를 채워야 합니다.
+--    UPDATE blacklisted_token SET token_hash = encode(token_digest, 'hex') WHERE token_hash IS NULL AND token_digest IS NOT NULL;
+-- =====================================================================
+
+-- 1단계: token_digest 컬럼 추가 및 키 CHECK 제약 갱신 (파티션 테이블이면 모든 파티션에 전파됩니다.)
+ALTER TABLE blacklisted_token ADD COLUMN IF NOT EXISTS token_digest bytea;
+COMMENT ON COLUMN blacklisted_token.token_digest IS '폐기된 토큰 해시(SHA-256, 32바이트)';
+
+ALTER TABLE blacklisted_token DROP CONSTRAINT IF EXISTS chk_blacklisted_token_key;
+ALTER TABLE blacklisted_token
+    ADD CONSTRAINT chk_blacklisted_token_key
+    CHECK (token_hash IS NOT NULL OR token_digest IS NOT NULL OR token_id IS NOT NULL) NOT VALID;
+ALTER TABLE blacklisted_token VALIDATE CONSTRAINT chk_blacklisted_token_key;
+
+-- 검증: BINARY 전환 전 0건이어야 합니다.
+SELECT count(*) AS hex_only_active_rows
+FROM blacklisted_token
+WHERE token_digest IS NULL
+  AND token_hash IS NOT NULL
+  AND expires_at > now();
+
+-- 2단계 (B): HASH 인덱스
+--  일반 테이블: 운영 중 잠금을 피하기 위해 CONCURRENTLY로 생성합니다. (트랜잭션 블록 밖에서 실행)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_blacklisted_token_token_digest
+    ON blacklisted_token USING hash (token_digest);
+
+--  파티션 테이블: 부모에는 ON ONLY로 만들고, 파티션마다 CONCURRENTLY로 생성 후 ATTACH합니다.
+--  이후 애플리케이션이 생성하는 파티션에는 자동으로 같은 인덱스가 만들어집니다.
+-- CREATE INDEX IF NOT EXISTS ix_blacklisted_token_token_digest
+--     ON ONLY blacklisted_token USING hash (token_digest);
+-- CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_blacklisted_token_p20260101_token_digest
+--     ON blacklisted_token_p20260101 USING hash (token_digest);
+-- ALTER INDEX ix_blacklisted_token_token_digest
+--     ATTACH PARTITION ix_blacklisted_token_p20260101_token_digest;
+
+-- 2단계 (A): B-tree 유니크 (엔티티의 uk_blacklisted_token_token_digest와 같은 정의)
+-- CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uk_blacklisted_token_token_digest
+--     ON blacklisted_token (token_digest, expires_at);
+
+-- 인덱스 크기 비교
+SELECT indexrelid::regclass AS index_name, pg_size_pretty(pg_relation_size(indexrelid)) AS index_size
+FROM pg_index
+WHERE indrelid = 'blacklisted_token'::regclass;
+
+-- 3단계(선택): BINARY 전환 완료 후 hex 컬럼 제거
+-- ALTER TABLE blacklisted_token DROP CONSTRAINT chk_blacklisted_token_key;
+-- ALTER TABLE blacklisted_token DROP COLUMN token_hash;
+-- ALTER TABLE blacklisted_token
+--     ADD CONSTRAINT chk_blacklisted_token_key CHECK (token_digest IS NOT NULL OR token_id IS NOT NULL);
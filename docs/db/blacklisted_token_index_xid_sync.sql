@@ -0,0 +1,41 @@
+-- =====================================================================
+-- blacklisted_token: 노드 로컬 인덱스 증분 폴링을 커밋 완료 경계(xid) 기준으로 전환
+-- =====================================================================
+-- 배경
+--  - BlacklistedTokenIndexScheduler는 created_at >= (직전 폴링 시각 - 5초)로 증분 조회했습니다.
+--    created_at은 INSERT 시점(애플리케이션 시계) 값이라, 5초보다 늦게 커밋된 행이나
+--    노드 간 시계 차이가 5초를 넘는 행은 다음 전체 재적재(기본 1시간)까지 인덱스에서 빠졌습니다.
+--
+-- 동작
+--  - created_xid: 등록 트랜잭션의 xid8 (DB 기본값 pg_current_xact_id(), 애플리케이션은 쓰지 않음)
+--  - 폴링마다 먼저 pg_snapshot_xmin(pg_current_snapshot())을 읽습니다. 이 값보다 작은 xid의 트랜잭션은
+--    모두 커밋/롤백이 끝났으므로, 이후 조회에서 [직전 경계, 현재 경계) 범위의 행은 빠짐없이 보입니다.
+--  - 아직 진행 중인 트랜잭션의 행은 경계 밖에 있다가 커밋 후 다음 폴링 범위에 들어옵니다.
+--    커밋 지연 시간/시계와 무관하며, 전체 적재도 같은 방식으로 시작 경계를 기록합니다.
+--  - xid8은 epoch 포함 64비트라 wraparound가 없습니다. (PostgreSQL 13 이상)
+--
+-- 적용
+--  - 기존 행은 NULL로 두고(테이블 재작성 없음) 기본값만 지정합니다. NULL 행은 전체 적재로만 반영되며,
+--    만료되면 파티션 정리로 사라집니다.
+--  - 인덱스는 파티션 테이블이면 부모에 생성(각 파티션에 전파), 일반 테이블이면 CONCURRENTLY로 생성합니다.
+-- =====================================================================
+
+ALTER TABLE blacklisted_token ADD COLUMN IF NOT EXISTS created_xid xid8;
+ALTER TABLE blacklisted_token ALTER COLUMN created_xid SET DEFAULT pg_current_xact_id();
+COMMENT ON COLUMN blacklisted_token.created_xid IS '등록 트랜잭션 xid (증분 폴링 기준)';
+
+-- 파티션 테이블
+CREATE INDEX IF NOT EXISTS idx_blacklisted_token_created_xid ON blacklisted_token (created_xid);
+
+-- 일반 테이블 (트랜잭션 블록 밖에서 실행)
+-- CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_blacklisted_token_created_xid ON blacklisted_token (created_xid);
+
+-- 검증: 증분 조회가 created_xid 인덱스를 사용하는지 확인
+SELECT pg_snapshot_xmin(pg_current_snapshot()) AS committed_horizon;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT token_hash, token_id, expires_at, created_at
+FROM blacklisted_token
+WHERE created_xid >= '0'::xid8
+  AND created_xid < pg_snapshot_xmin(pg_current_snapshot())
+  AND expires_at > now();
@@ -0,0 +1,45 @@
+-- =====================================================================
+-- blacklisted_token: 토큰 해시 키 → jti(token_id) 키 전환
+-- =====================================================================
+-- 배경
+--  - 기존에는 요청마다 전체 토큰 문자열의 SHA-256을 계산해 token_hash(64자 hex)로 조회했습니다.
+--  - 서명/만료 검증을 통과한 토큰의 jti(UUID)로 조회하면 해시 계산이 사라지고 키 크기도 16바이트로 줄어듭니다.
+--
+-- 전환 절차 (app.jwt.blacklist-key-mode)
+--  1. 아래 1단계 DDL 적용 후 DUAL(기본값)로 배포합니다.
+--     - 등록: token_hash + token_id 함께 저장
+--     - 조회: token_hash 기준 (기존 행과 호환)
+--  2. 리프레시 토큰 최대 수명(app.jwt.refresh-token-ttl, 기본 P30D) 이상 DUAL로 운영합니다.
+--     - 기존 해시 전용 행은 해시에서 jti를 역산할 수 없으므로 백필하지 않고 만료로 소멸시킵니다.
+--     - 아래 검증 쿼리로 만료되지 않은 해시 전용 행이 0건인지 확인합니다.
+--  3. JTI로 전환합니다.
+--     - 등록: token_id만 저장 / 조회: 파싱 이후 jti 기준
+--  4. (선택) 모든 노드가 JTI로 전환된 뒤 2단계 DDL로 token_hash 컬럼을 제거합니다.
+--
+-- 롤백
+--  - 3단계 이후 HASH/DUAL로 되돌리면 JTI 모드에서 등록된 행(token_hash 없음)은 해시로 조회되지 않습니다.
+--    되돌려야 한다면 DUAL로 전환하고 액세스 토큰 최대 수명 동안은 조회를 JTI로 유지하는 별도 배포가 필요합니다.
+-- =====================================================================
+
+-- 1단계: token_id 컬럼 추가 및 token_hash NULL 허용
+ALTER TABLE blacklisted_token ADD COLUMN IF NOT EXISTS token_id uuid;
+ALTER TABLE blacklisted_token ALTER COLUMN token_hash DROP NOT NULL;
+
+-- 운영 중 테이블 잠금을 피하기 위해 CONCURRENTLY로 생성합니다. (트랜잭션 블록 밖에서 실행)
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uk_blacklisted_token_token_id
+    ON blacklisted_token (token_id);
+
+ALTER TABLE blacklisted_token
+    ADD CONSTRAINT chk_blacklisted_token_key
+    CHECK (token_hash IS NOT NULL OR token_id IS NOT NULL) NOT VALID;
+ALTER TABLE blacklisted_token VALIDATE CONSTRAINT chk_blacklisted_token_key;
+
+-- 검증: JTI 전환 전 0건이어야 합니다.
+SELECT count(*) AS hash_only_active_rows
+FROM blacklisted_token
+WHERE token_id IS NULL
+  AND expires_at > now();
+
+-- 2단계(선택): JTI 전환 완료 후 해시 컬럼 제거
+-- ALTER TABLE blacklisted_token DROP CONSTRAINT chk_blacklisted_token_key;
+-- ALTER TABLE blacklisted_token DROP COLUMN token_hash;
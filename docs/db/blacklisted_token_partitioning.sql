@@ -0,0 +1,96 @@
+-- =====================================================================
+-- blacklisted_token: expires_at 일 단위 RANGE 파티셔닝
+-- =====================================================================
+-- 배경
+--  - 만료 정리가 매일 03:00 단일 DELETE(expires_at < now)로 수행되어, 대형 테이블에서
+--    대량 WAL 발생 / 유니크 인덱스 팽창 / 장시간 잠금으로 인증 경로 조회(existsByTokenHash)가 느려졌습니다.
+--  - 일 단위 파티션으로 나누면 정리는 "모든 행이 만료된 파티션"의 DETACH + DROP(카탈로그 변경)으로 끝납니다.
+--
+-- [중요] 엔티티(BlacklistedToken)는 부모 테이블만 매핑합니다.
+--  - ddl-auto로 최초 생성된 일반 테이블은 아래 절차로 제거 후 파티션 테이블로 다시 생성해야 합니다.
+--  - 파티션 생성/삭제는 애플리케이션이 담당합니다.
+--    - 사전 생성: BlacklistedTokenPartitionScheduler (기동 시 + app.jwt.blacklist-partition.precreate-cron, 기본 02:30)
+--      오늘 ~ (max(access, refresh TTL) + app.jwt.blacklist-partition.precreate-margin-days, 기본 7일)
+--    - 정리: BlacklistedTokenCleanupScheduler (app.jwt.blacklist-cleanup-cron, 기본 03:00)
+--      파티션 테이블이면 어제 이전 파티션 DETACH/DROP, 아니면 기존 DELETE로 자동 대체
+--      분리는 DETACH PARTITION ... CONCURRENTLY(PostgreSQL 14 이상 필요)를 autocommit으로 실행해
+--      부모 테이블에 ACCESS EXCLUSIVE를 잡지 않습니다. (app.jwt.blacklist-partition.lock-timeout, 기본 30초)
+--      중단되어 "분리 대기"로 남은 파티션은 다음 정리에서 DETACH ... FINALIZE 후 삭제합니다.
+--  - 파티션 이름 규칙: blacklisted_token_pYYYYMMDD, 범위 [YYYY-MM-DD 00:00, 다음날 00:00)
+--
+-- 전역 유일성 전략
+--  - 파티션 테이블의 PK/UNIQUE는 파티션 키(expires_at)를 포함해야 합니다.
+--  - 같은 토큰은 항상 같은 exp를 가지므로 (token_hash, expires_at) / (token_id, expires_at) 유니크는
+--    토큰 단위 전역 유일성과 동일합니다. (해시 충돌로 다른 토큰이 같은 해시를 가질 확률은 무시)
+--  - existsByTokenHash / existsByTokenId는 파티션마다 선두 컬럼(token_hash/token_id) 인덱스를 한 번씩 탐색합니다.
+--    파티션 수는 최대 TTL 일수 수준이며, 대부분의 판정은 노드 로컬 블랙리스트 인덱스(Bloom)에서 끝납니다.
+--
+-- 롤백
+--  - 파티션 테이블 → 일반 테이블로 되돌리려면 아래 3단계를 역순으로 수행합니다.
+--    애플리케이션은 파티션 여부를 매 실행 시 확인하므로 설정 변경이 필요 없습니다.
+-- =====================================================================
+
+-- 1단계: 기존 테이블 이름 변경
+ALTER TABLE blacklisted_token RENAME TO blacklisted_token_legacy;
+ALTER INDEX IF EXISTS uk_blacklisted_token_token_hash RENAME TO uk_blacklisted_token_legacy_token_hash;
+ALTER INDEX IF EXISTS uk_blacklisted_token_token_id RENAME TO uk_blacklisted_token_legacy_token_id;
+
+-- 2단계: 파티션 부모 테이블 생성
+CREATE TABLE blacklisted_token
+(
+    blacklisted_token_id uuid         NOT NULL,
+    token_hash           varchar(64),
+    token_id             uuid,
+    token_type           varchar(20)  NOT NULL,
+    expires_at           timestamp(6) NOT NULL,
+    subject              varchar(100),
+    created_at           timestamp(6),
+    created_by           varchar(255),
+    modified_at          timestamp(6),
+    last_modified_by     varchar(255),
+    CONSTRAINT pk_blacklisted_token PRIMARY KEY (blacklisted_token_id, expires_at),
+    CONSTRAINT uk_blacklisted_token_token_hash UNIQUE (token_hash, expires_at),
+    CONSTRAINT uk_blacklisted_token_token_id UNIQUE (token_id, expires_at)
+) PARTITION BY RANGE (expires_at);
+
+COMMENT ON TABLE blacklisted_token IS '폐기된 JWT 블랙리스트 (expires_at 일 단위 파티션)';
+COMMENT ON COLUMN blacklisted_token.expires_at IS '토큰 만료 시각 (파티션 키)';
+
+-- created_at 범위 조회용 인덱스 (노드 로컬 인덱스 증분 폴링은 created_xid 기준: blacklisted_token_index_xid_sync.sql)
+CREATE INDEX idx_blacklisted_token_created_at ON blacklisted_token (created_at);
+
+-- 3단계: 만료되지 않은 행이 걸치는 일자 파티션 생성 후 이관
+--  - 애플리케이션 기동 시에도 생성되지만, 이관 전 수동 생성이 필요합니다. (예: 오늘부터 40일)
+DO
+$$
+    DECLARE
+        d date;
+    BEGIN
+        FOR d IN SELECT generate_series(current_date, current_date + 40, interval '1 day')::date
+            LOOP
+                EXECUTE format(
+                        'CREATE TABLE IF NOT EXISTS %I PARTITION OF blacklisted_token FOR VALUES FROM (%L) TO (%L)',
+                        'blacklisted_token_p' || to_char(d, 'YYYYMMDD'), d::timestamp, (d + 1)::timestamp
+                        );
+            END LOOP;
+    END
+$$;
+
+INSERT INTO blacklisted_token (blacklisted_token_id, token_hash, token_id, token_type, expires_at, subject,
+                               created_at, created_by, modified_at, last_modified_by)
+SELECT blacklisted_token_id, token_hash, token_id, token_type, expires_at, subject,
+       created_at, created_by, modified_at, last_modified_by
+FROM blacklisted_token_legacy
+WHERE expires_at >= current_date;
+
+-- 4단계: 검증 후 기존 테이블 제거
+-- SELECT count(*) FROM blacklisted_token;
+-- DROP TABLE blacklisted_token_legacy;
+
+-- 참고: 파티션 목록 / 추정 행 수
+-- SELECT c.relname, c.reltuples
+-- FROM pg_inherits i
+--          JOIN pg_class c ON c.oid = i.inhrelid
+--          JOIN pg_class p ON p.oid = i.inhparent
+-- WHERE p.relname = 'blacklisted_token'
+-- ORDER BY c.relname;
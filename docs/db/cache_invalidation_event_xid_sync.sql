@@ -0,0 +1,37 @@
+-- =====================================================================
+-- cache_invalidation_event: 노드 간 캐시 무효화 추격 조회를 커밋 완료 경계(xid) 기준으로 전환
+-- =====================================================================
+-- 배경
+--  - CacheInvalidationDispatcher는 시퀀스 역전(작은 id가 늦게 커밋)을 created_at >= (now - 10초) 보정 조회로만 다시 확인했습니다.
+--    created_at은 발행 노드 JVM 시계의 INSERT 시점 값이고, 기준 시각은 수신 노드 시계라서
+--    publish() 후 10초 넘게 열려 있던 트랜잭션이나 노드 간 시계 차이가 있으면 이벤트가 영구히 누락되었습니다.
+--    (TTL이 없는 자동완성 색인은 재기동 전까지 탈퇴/변경 전 회원이 남음)
+--
+-- 동작 (blacklisted_token_index_xid_sync.sql과 같은 방식)
+--  - created_xid: 발행 트랜잭션의 xid8 (DB 기본값 pg_current_xact_id(), 애플리케이션은 쓰지 않음)
+--  - 추격 조회마다 먼저 pg_snapshot_xmin(pg_current_snapshot())을 읽고, created_xid >= 직전 경계인 이벤트를 조회한 뒤
+--    경계를 읽은 값으로 전진시킵니다. 경계 아래 트랜잭션은 모두 종료되었으므로 커밋 지연/시계와 무관하게 누락되지 않습니다.
+--  - 경계 이상이지만 이미 커밋된 이벤트도 바로 전달하고, 경계가 지나갈 때까지 시퀀스로 중복 전달을 막습니다.
+--
+-- 적용
+--  - 보관 기간(기본 1시간)만 유지하는 작은 테이블이므로 컬럼/인덱스를 바로 추가합니다.
+--    기존 행(created_xid NULL)은 추격 대상에서 빠지며, 배포 직후 노드는 기동 시 현재 경계부터 수신합니다.
+--  - app.cache.invalidation.late-commit-window 설정은 더 이상 사용하지 않습니다.
+-- =====================================================================
+
+ALTER TABLE cache_invalidation_event ADD COLUMN IF NOT EXISTS created_xid xid8;
+ALTER TABLE cache_invalidation_event ALTER COLUMN created_xid SET DEFAULT pg_current_xact_id();
+COMMENT ON COLUMN cache_invalidation_event.created_xid IS '발행 트랜잭션 xid (추격 조회 기준)';
+
+CREATE INDEX IF NOT EXISTS idx_cache_invalidation_event_created_xid ON cache_invalidation_event (created_xid);
+
+-- 검증
+SELECT pg_snapshot_xmin(pg_current_snapshot()) AS committed_horizon;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT cache_invalidation_event_id, topic, cache_key, expires_at, created_xid
+FROM cache_invalidation_event
+WHERE created_xid >= pg_snapshot_xmin(pg_current_snapshot())
+  AND cache_invalidation_event_id > 0
+ORDER BY cache_invalidation_event_id
+LIMIT 500;
@@ -0,0 +1,40 @@
+-- =====================================================================
+-- login_throttle_counter: 로그인 시도 제한 공유 카운터
+-- =====================================================================
+-- 배경
+--  - 로그인 실패는 이벤트/로그로만 남고, 초당 수천 건의 BCrypt 검증과 회원 조회를 막는 장치가 없었습니다.
+--  - JsonBodyLoginAuthenticationFilter가 인증 전에 IP/로그인 아이디별 슬라이딩 윈도우 한도를 검사합니다.
+--  - 기본(LOCAL)은 노드 메모리 카운터이며, 노드 간 한도를 공유하려면 DATABASE 모드로 이 테이블을 사용합니다.
+--
+-- 동작
+--  - 키마다 한 행(현재/직전 윈도우 시도 수)만 유지하며, 윈도우 회전/한도 검사/증가를 UPSERT 한 문장으로 처리합니다.
+--  - 같은 키의 동시 요청은 행 잠금으로 직렬화됩니다. 로그인 요청마다 짧은 쓰기 트랜잭션이 최대 2번 발생합니다.
+--  - 갱신이 잦고 유실돼도 한도가 잠시 느슨해질 뿐이므로 UNLOGGED 테이블로 WAL 쓰기를 줄입니다.
+--    (크래시 복구 시 비워지며, 복제본으로 전파되지 않습니다.)
+--
+-- 전환 절차 (app.security.login-throttle.mode)
+--  1. 아래 DDL을 적용합니다.
+--  2. DATABASE로 전환해 배포합니다. DB 오류 시에는 로그인을 막지 않고 허용합니다.
+--
+-- 정리
+--  - LoginThrottleCounterCleanupScheduler가 윈도우 2개보다 오래 갱신되지 않은 행을 주기적으로 삭제합니다.
+-- =====================================================================
+
+CREATE UNLOGGED TABLE IF NOT EXISTS login_throttle_counter
+(
+    throttle_key   varchar(200) PRIMARY KEY,
+    window_index   bigint       NOT NULL,
+    current_count  integer      NOT NULL,
+    previous_count integer      NOT NULL,
+    updated_at     timestamp(6) NOT NULL
+);
+
+COMMENT ON TABLE login_throttle_counter IS '로그인 시도 제한 카운터';
+COMMENT ON COLUMN login_throttle_counter.throttle_key IS '제한 대상 키 (ip:/login: 접두사)';
+COMMENT ON COLUMN login_throttle_counter.window_index IS '현재 윈도우 번호 (epoch millis / 윈도우 길이)';
+COMMENT ON COLUMN login_throttle_counter.current_count IS '현재 윈도우 시도 수';
+COMMENT ON COLUMN login_throttle_counter.previous_count IS '직전 윈도우 시도 수';
+COMMENT ON COLUMN login_throttle_counter.updated_at IS '마지막 갱신 시각';
+
+-- 정리 쿼리(updated_at 범위 삭제)용
+CREATE INDEX IF NOT EXISTS idx_login_throttle_counter_updated_at ON login_throttle_counter (updated_at);
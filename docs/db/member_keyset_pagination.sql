@@ -0,0 +1,103 @@
+-- =====================================================================
+-- member: 관리자 회원 목록 keyset(seek) 페이지네이션
+-- =====================================================================
+-- 배경
+--  - GET /api/admin/members는 OFFSET/LIMIT + 매 페이지 count(*)로 조회합니다.
+--    깊은 페이지일수록 앞의 OFFSET 행을 모두 읽고 버리므로 회원 수에 비례해 느려집니다.
+--  - GET /api/admin/members/cursor는 직전 페이지 경계 행의 (created_at, member_id)를 커서로 받아
+--    복합 인덱스 범위 스캔으로 size + 1건만 읽습니다. 전체 건수는 계산하지 않습니다.
+--
+-- 인덱스
+--  - (role, created_at, member_id): 목록 조회는 항상 role IN (...) 조건을 가지므로 role을 선두 컬럼으로 둡니다.
+--    USER 조회(role 1개)는 동등 조건 + 범위 스캔으로 정렬 없이 limit건에서 멈춥니다.
+--    관리자 조회(ADMIN/SUPER_ADMIN 2개)는 행 수가 적어 두 범위를 읽고 정렬하는 비용이 작습니다.
+--  - B-tree는 양방향 스캔이 가능하므로 CREATE_ASC/CREATE_DESC, 이전/다음 페이지를 같은 인덱스로 처리합니다.
+--  - 검색어(LIKE '%...%') 조건은 인덱스 범위 안에서 필터로 적용됩니다.
+--
+-- 적용
+--  - 운영 테이블에는 CONCURRENTLY로 생성합니다. (트랜잭션 블록 밖에서 실행)
+-- =====================================================================
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_member_role_created_at_member_id
+    ON member (role, created_at, member_id);
+
+
+-- =====================================================================
+-- 벤치마크 (1M / 10M 행)
+-- =====================================================================
+--  - 운영 DB가 아닌 별도 인스턴스에서 실행합니다. member_bench 테이블에 합성 데이터를 만들고 비교합니다.
+--  - :rows 를 1000000 / 10000000 으로 바꿔 각각 실행합니다. (psql: \set rows 1000000)
+--  - 비교 항목: 깊은 페이지(전체의 90% 지점) OFFSET 조회 vs 같은 위치 keyset 조회,
+--    그리고 OFFSET 방식이 매 페이지 함께 실행하는 count(*)
+--  - EXPLAIN (ANALYZE, BUFFERS)의 Execution Time / shared hit+read 를 기록합니다.
+--    keyset은 위치와 무관하게 size + 1건과 인덱스 몇 페이지만 읽어야 합니다.
+-- =====================================================================
+
+-- \set rows 1000000
+
+DROP TABLE IF EXISTS member_bench;
+CREATE TABLE member_bench (LIKE member INCLUDING DEFAULTS);
+
+-- USER 99%, ADMIN/SUPER_ADMIN 1%. created_at은 초 단위로 겹치게 만들어 member_id 보조 정렬이 필요한 상황을 재현합니다.
+INSERT INTO member_bench (member_id, login_id, nick_name, password, active, role, member_type, token_version,
+                          created_at, created_by, modified_at, last_modified_by)
+SELECT g,
+       'user' || g,
+       'nick' || g,
+       '{bcrypt}bench',
+       CASE WHEN g % 20 = 0 THEN 'INACTIVE' ELSE 'ACTIVE' END,
+       CASE WHEN g % 100 = 0 THEN 'ADMIN' WHEN g % 1000 = 1 THEN 'SUPER_ADMIN' ELSE 'USER' END,
+       'GENERAL',
+       0,
+       timestamp '2020-01-01' + (g / 3) * interval '1 second',
+       'bench',
+       timestamp '2020-01-01' + (g / 3) * interval '1 second',
+       'bench'
+FROM generate_series(1, :rows) AS g;
+
+CREATE INDEX idx_member_bench_role_created_at_member_id ON member_bench (role, created_at, member_id);
+VACUUM ANALYZE member_bench;
+
+-- 1) OFFSET 방식: 90% 지점 페이지 (CREATE_DESC, size 10)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT *
+FROM member_bench
+WHERE role = 'USER'
+ORDER BY created_at DESC
+OFFSET (:rows * 9 / 10) LIMIT 10;
+
+-- 2) OFFSET 방식이 매 페이지 함께 실행하는 전체 건수
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*)
+FROM member_bench
+WHERE role = 'USER';
+
+-- 3) keyset 방식: 같은 위치의 경계 행을 커서로 사용 (애플리케이션이 생성하는 조건과 같은 형태)
+SELECT created_at AS cursor_created_at, member_id AS cursor_member_id
+FROM member_bench
+WHERE role = 'USER'
+ORDER BY created_at DESC, member_id DESC
+OFFSET (:rows * 9 / 10) LIMIT 1
+\gset
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT *
+FROM member_bench
+WHERE role = 'USER'
+  AND created_at <= :'cursor_created_at'
+  AND (created_at < :'cursor_created_at' OR member_id < :cursor_member_id)
+ORDER BY created_at DESC, member_id DESC
+LIMIT 11;
+
+-- 4) keyset 방식: 관리자 조회 (role 2개)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT *
+FROM member_bench
+WHERE role IN ('ADMIN', 'SUPER_ADMIN')
+  AND created_at <= :'cursor_created_at'
+  AND (created_at < :'cursor_created_at' OR member_id < :cursor_member_id)
+ORDER BY created_at DESC, member_id DESC
+LIMIT 11;
+
+-- 정리
+-- DROP TABLE member_bench;
@@ -0,0 +1,48 @@
+-- =====================================================================
+-- member: 관리자 회원 목록/상세 DTO Projection 조회
+-- =====================================================================
+-- 배경
+--  - 회원 목록(getList/getCursorList)과 상세(getDetail)는 Member 엔티티를 적재한 뒤 응답으로 변환했습니다.
+--    행마다 관리 엔티티 + 영속성 컨텍스트 스냅샷(컬럼 값 배열), memberImages 지연 컬렉션 래퍼,
+--    password/jwt_refresh_token_encrypted(text) 등 응답에 쓰지 않는 컬럼 값이 함께 만들어졌습니다.
+--  - 응답은 읽기 전용이므로 MemberRepositoryImpl이 QueryDSL Projections.constructor로
+--    MemberListView(6컬럼) / MemberDetailView(9컬럼)만 읽습니다. (MemberLogView와 같은 방식)
+--  - DTO 결과는 관리 대상이 아니므로 read-only 힌트 대신 fetch size만 페이지 크기(size + 1)로 지정합니다.
+--
+-- 힙 할당 측정 (전/후 비교)
+--  - 같은 데이터(아래 조회 대상 20건 페이지)로 변경 전 커밋과 현재 커밋의 admin-api를 각각 띄워 비교합니다.
+--  - JFR로 요청 구간의 할당을 기록합니다.
+--      java -XX:StartFlightRecording=settings=profile,filename=member-list.jfr -jar admin-api.jar
+--      (워밍업 1,000회 후) GET /api/admin/members?role=USER&size=20 를 10,000회 호출
+--      jfr print --events jdk.ObjectAllocationSample member-list.jfr
+--  - 페이지당 할당 = 측정 구간 jdk.ThreadAllocationStatistics 증가분 / 호출 수
+--    (요청 스레드만 보려면 ThreadMXBean#getThreadAllocatedBytes 전후 차이를 로그로 남겨도 됩니다)
+--  - 확인 항목: Member / PersistentBag / EntityEntry / Object[](스냅샷) 할당이 사라지고
+--    MemberListView만 남는지, 페이지당 할당 바이트가 줄었는지
+--
+-- 적용
+--  - 스키마 변경은 없습니다. 아래 쿼리는 두 방식이 DB에서 읽어 오는 행 폭을 비교하기 위한 것입니다.
+-- =====================================================================
+
+-- 1) 변경 전: 엔티티 적재 (모든 컬럼)
+EXPLAIN (ANALYZE, BUFFERS, VERBOSE)
+SELECT *
+FROM member
+WHERE role = 'USER'
+ORDER BY created_at DESC, member_id DESC
+LIMIT 21;
+
+-- 2) 변경 후: 목록 Projection (MemberListView)
+EXPLAIN (ANALYZE, BUFFERS, VERBOSE)
+SELECT member_id, login_id, nick_name, role, member_type, created_at
+FROM member
+WHERE role = 'USER'
+ORDER BY created_at DESC, member_id DESC
+LIMIT 21;
+
+-- 3) 행 폭 비교: Output 컬럼 수와 width= 값을 확인합니다.
+SELECT avg(pg_column_size(m.*))                                            AS entity_row_bytes,
+       avg(pg_column_size(row (m.member_id, m.login_id, m.nick_name,
+                                m.role, m.member_type, m.created_at)))     AS list_view_row_bytes
+FROM member m
+WHERE m.role = 'USER';
@@ -0,0 +1,32 @@
+-- =====================================================================
+-- member: 리프레시 토큰 해시 CAS 회전 (jwt_refresh_token_hash)
+-- =====================================================================
+-- 배경
+--  - 기존 회전은 회원 조회 → AES-GCM 복호화/비교 → 블랙리스트 INSERT → 회원 재조회 후 암호문 갱신 순서로 처리되어
+--    앱 재개 시 몰리는 동시 갱신에서 느리고, 조회와 갱신 사이에 경합이 있었습니다.
+--  - HASH_CAS 모드는 현재 리프레시 토큰의 키 해시(HMAC-SHA256, hex 64자)를 조건으로 단일 UPDATE로 회전합니다.
+--    갱신 0건이면 재사용/경합 패배로 보고 폐기 경로로 전환합니다.
+--
+-- 조건 컬럼
+--  - member_id 대신 login_id(unique)를 사용합니다. 리프레시 토큰 subject가 login_id라서 id 조회 없이 바로 갱신할 수 있습니다.
+--
+-- 전환 절차 (app.jwt.refresh-rotation-mode)
+--  1. 아래 DDL 적용 후 ENCRYPTED(기본값)로 배포합니다.
+--     - 로그인/회전 시 암호문과 해시를 함께 저장합니다.
+--  2. 대부분의 활성 세션이 한 번 이상 갱신되면 HASH_CAS로 전환합니다.
+--     - 해시가 없는 세션은 CAS가 실패해 재로그인이 필요합니다. 아래 검증 쿼리로 잔여 건수를 확인합니다.
+--
+-- 롤백
+--  - HASH_CAS 회전은 암호문을 비우므로, ENCRYPTED로 되돌리면 그 사이 회전된 세션은 재로그인이 필요합니다.
+-- =====================================================================
+
+ALTER TABLE member ADD COLUMN IF NOT EXISTS jwt_refresh_token_hash varchar(64);
+
+COMMENT ON COLUMN member.jwt_refresh_token_hash IS 'JWT Refresh Token 키 해시(HMAC-SHA256)';
+
+-- 검증: 리프레시 토큰은 있으나 해시가 없는 활성 회원 수
+SELECT count(*)
+FROM member
+WHERE active = 'ACTIVE'
+  AND jwt_refresh_token_encrypted IS NOT NULL
+  AND jwt_refresh_token_hash IS NULL;
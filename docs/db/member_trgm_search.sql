@@ -0,0 +1,37 @@
+-- =====================================================================
+-- member: 로그인 아이디/닉네임 부분 검색 pg_trgm GIN 인덱스
+-- =====================================================================
+-- 배경
+--  - 관리자 회원 검색(MemberFilterType.LOGIN_ID/NICK_NAME/ALL)은 '%검색어%' 부분 일치라 B-tree 인덱스를 쓸 수 없어
+--    매 검색이 member 전체 순차 스캔이었습니다.
+--  - pg_trgm GIN 인덱스는 3글자 단위(trigram)로 색인해 앞쪽 와일드카드 LIKE도 인덱스로 처리합니다.
+--
+-- 조회 식 (MemberSpecification)
+--  - lower(login_id) LIKE '%검색어%' / lower(nick_name) LIKE '%검색어%'
+--    인덱스 식과 완전히 같아야 하므로 QueryDSL 템플릿으로 lower(col)을 직접 생성하고, 패턴은 애플리케이션에서 소문자화합니다.
+--  - ALL은 두 조건의 OR이며, 플래너는 두 Bitmap Index Scan을 BitmapOr로 합칩니다. (UNION 후 중복 제거와 같은 계획)
+--  - 검색어가 3글자 미만이면 trigram을 만들 수 없어 순차 스캔이 선택될 수 있습니다.
+--
+-- 적용
+--  - 확장 생성에는 권한이 필요합니다. 인덱스는 운영 테이블에 CONCURRENTLY로 생성합니다. (트랜잭션 블록 밖에서 실행)
+--
+-- 회귀 테스트
+--  - MemberTrigramSearchExplainTest가 Testcontainers PostgreSQL에 엔티티 매핑으로 member 스키마를 만들고 이 파일을 그대로 실행한 뒤,
+--    MemberSpecification + MemberRepositoryImpl이 실제로 생성한 SQL(바인딩 값 포함)을 EXPLAIN 해 인덱스 사용을 확인합니다.
+--  - 실행: ./gradlew :libs:backend:domain-core:test --tests "*MemberTrigramSearchExplainTest" (Docker가 없으면 건너뜀)
+-- =====================================================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_member_login_id_trgm
+    ON member USING gin (lower(login_id) gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_member_nick_name_trgm
+    ON member USING gin (lower(nick_name) gin_trgm_ops);
+
+-- 검증: Bitmap Index Scan on idx_member_login_id_trgm / BitmapOr 확인
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT member_id
+FROM member
+WHERE lower(login_id) LIKE '%user12%'
+   OR lower(nick_name) LIKE '%user12%';
@@ -0,0 +1,174 @@
+package com.example.global.crypto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 미리 할당된 버퍼에 직접 쓰는 hex / Base64(표준, 패딩 포함) 인코더와 ASCII 복사 유틸
+ *
+ * <p>
+ * - 모든 메서드는 호출자가 넘긴 버퍼에 결과를 쓰고 길이를 반환하며, 중간 배열을 만들지 않습니다.
+ * - 결과는 ASCII이므로 문자열이 필요하면 {@link #asciiString(byte[], int, int)}로 한 번만 복사합니다.
+ * - Base64 디코딩은 이 프로젝트가 만든 값(패딩 포함, 줄바꿈 없음)만 허용하며, 형식이 다르면 -1을 반환합니다.
+ * </p>
+ */
+public final class CryptoEncoding {
+
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] BASE64_ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".getBytes(StandardCharsets.US_ASCII);
+    private static final int[] BASE64_DECODE_TABLE = new int[128];
+    private static final byte PAD = '=';
+
+    static {
+        Arrays.fill(BASE64_DECODE_TABLE, -1);
+        for (int i = 0; i < BASE64_ALPHABET.length; i++) {
+            BASE64_DECODE_TABLE[BASE64_ALPHABET[i]] = i;
+        }
+    }
+
+    private CryptoEncoding() {
+    }
+
+    public static int hexLength(final int byteLength) {
+        return byteLength * 2;
+    }
+
+    /**
+     * 소문자 hex로 인코딩합니다.
+     *
+     * @return 기록한 바이트 수
+     */
+    public static int encodeHex(final byte[] src, final int offset, final int length, final byte[] dst, final int dstOffset) {
+        int out = dstOffset;
+        for (int i = offset; i < offset + length; i++) {
+            final int value = src[i] & 0xFF;
+            dst[out++] = HEX_DIGITS[value >>> 4];
+            dst[out++] = HEX_DIGITS[value & 0x0F];
+        }
+        return out - dstOffset;
+    }
+
+    public static int base64Length(final int byteLength) {
+        return ((byteLength + 2) / 3) * 4;
+    }
+
+    /**
+     * 표준 Base64(패딩 포함)로 인코딩합니다.
+     *
+     * @return 기록한 바이트 수
+     */
+    public static int encodeBase64(final byte[] src, final int offset, final int length, final byte[] dst, final int dstOffset) {
+        int in = offset;
+        int out = dstOffset;
+        final int end = offset + length;
+        final int fullGroupsEnd = offset + (length / 3) * 3;
+
+        while (in < fullGroupsEnd) {
+            final int bits = (src[in++] & 0xFF) << 16 | (src[in++] & 0xFF) << 8 | (src[in++] & 0xFF);
+            dst[out++] = BASE64_ALPHABET[(bits >>> 18) & 0x3F];
+            dst[out++] = BASE64_ALPHABET[(bits >>> 12) & 0x3F];
+            dst[out++] = BASE64_ALPHABET[(bits >>> 6) & 0x3F];
+            dst[out++] = BASE64_ALPHABET[bits & 0x3F];
+        }
+
+        final int remaining = end - in;
+        if (remaining == 1) {
+            final int bits = (src[in] & 0xFF) << 16;
+            dst[out++] = BASE64_ALPHABET[(bits >>> 18) & 0x3F];
+            dst[out++] = BASE64_ALPHABET[(bits >>> 12) & 0x3F];
+            dst[out++] = PAD;
+            dst[out++] = PAD;
+        } else if (remaining == 2) {
+            final int bits = (src[in] & 0xFF) << 16 | (src[in + 1] & 0xFF) << 8;
+            dst[out++] = BASE64_ALPHABET[(bits >>> 18) & 0x3F];
+            dst[out++] = BASE64_ALPHABET[(bits >>> 12) & 0x3F];
+            dst[out++] = BASE64_ALPHABET[(bits >>> 6) & 0x3F];
+            dst[out++] = PAD;
+        }
+        return out - dstOffset;
+    }
+
+    /**
+     * 패딩을 포함한 Base64 문자열의 디코딩 길이를 반환합니다. 길이가 4의 배수가 아니면 -1입니다.
+     */
+    public static int decodedBase64Length(final CharSequence source) {
+        final int length = source.length();
+        if (length == 0 || length % 4 != 0) {
+            return length == 0 ? 0 : -1;
+        }
+        int padding = 0;
+        if (source.charAt(length - 1) == PAD) {
+            padding++;
+            if (source.charAt(length - 2) == PAD) {
+                padding++;
+            }
+        }
+        return length / 4 * 3 - padding;
+    }
+
+    /**
+     * 표준 Base64(패딩 포함) 문자열을 dst에 디코딩합니다.
+     *
+     * @return 디코딩된 바이트 수, 형식이 잘못되었거나 dst 크기가 부족하면 -1
+     */
+    public static int decodeBase64(final CharSequence source, final byte[] dst) {
+        final int decodedLength = decodedBase64Length(source);
+        if (decodedLength < 0 || decodedLength > dst.length) {
+            return -1;
+        }
+
+        final int length = source.length();
+        final int padding = length / 4 * 3 - decodedLength;
+        final int dataLength = length - padding;
+        int out = 0;
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = 0; i < dataLength; i++) {
+            final char c = source.charAt(i);
+            final int value = c < 128 ? BASE64_DECODE_TABLE[c] : -1;
+            if (value < 0) {
+                return -1;
+            }
+            bits = ((bits << 6) | value) & 0xFFF;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                dst[out++] = (byte) (bits >> bitCount);
+            }
+        }
+        // 패딩 직전의 남는 비트는 0이어야 정규 인코딩입니다.
+        if ((bits & ((1 << bitCount) - 1)) != 0) {
+            return -1;
+        }
+        return out == decodedLength ? out : -1;
+    }
+
+    /**
+     * 문자열이 모두 ASCII면 dst에 그대로 복사하고 길이를 반환합니다. ASCII가 아니거나 dst가 작으면 -1입니다.
+     * <p>
+     * ASCII 문자열은 UTF-8 인코딩 결과와 같으므로 getBytes(UTF_8) 대신 사용할 수 있습니다.
+     * </p>
+     */
+    public static int copyAscii(final String source, final byte[] dst) {
+        final int length = source.length();
+        if (length > dst.length) {
+            return -1;
+        }
+        for (int i = 0; i < length; i++) {
+            final char c = source.charAt(i);
+            if (c > 0x7F) {
+                return -1;
+            }
+            dst[i] = (byte) c;
+        }
+        return length;
+    }
+
+    /**
+     * ASCII 바이트 구간을 문자열로 만듭니다. (Latin-1 compact string으로 한 번만 복사)
+     */
+    public static String asciiString(final byte[] src, final int offset, final int length) {
+        return new String(src, offset, length, StandardCharsets.ISO_8859_1);
+    }
+}
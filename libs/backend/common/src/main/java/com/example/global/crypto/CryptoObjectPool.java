@@ -0,0 +1,74 @@
+package com.example.global.crypto;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * MessageDigest / Cipher / Mac 등 스레드 안전하지 않은 암호 객체 재사용 풀
+ *
+ * <p>
+ * - 가상 스레드는 요청마다 새로 생성되므로 ThreadLocal 캐시가 재사용되지 않고, 캐리어 스레드 단위 저장소는 공개 API가 없습니다.
+ *   대신 고정 크기 슬롯 배열을 CAS로 빌리고 반납하는 방식으로 캐리어 수 수준의 인스턴스만 유지합니다.
+ * - 슬롯 배열은 생성 시 한 번만 할당하므로 빌리기/반납 경로에서 추가 할당이 없습니다. (큐 노드 할당 없음)
+ * - 슬롯이 모두 비어 있으면 새로 생성하고, 모두 차 있으면 반납된 객체를 버립니다.
+ * - 빌린 객체는 반드시 같은 호출 흐름에서 반납해야 하며, 예외로 상태가 불명확해진 객체는 반납하지 않아도 됩니다.
+ * </p>
+ */
+public final class CryptoObjectPool<T> {
+
+    private final Supplier<T> factory;
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+
+    private CryptoObjectPool(final Supplier<T> factory, final int capacity) {
+        this.factory = factory;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * @param maxIdle 보관할 최대 유휴 객체 수 (2의 거듭제곱으로 올림)
+     */
+    public static <T> CryptoObjectPool<T> of(final Supplier<T> factory, final int maxIdle) {
+        if (factory == null) {
+            throw new IllegalArgumentException("factory는 필수입니다.");
+        }
+        return new CryptoObjectPool<>(factory, capacityFor(maxIdle));
+    }
+
+    public T acquire() {
+        final int start = startIndex();
+        for (int i = 0; i <= mask; i++) {
+            final int index = (start + i) & mask;
+            final T pooled = slots.get(index);
+            if (pooled != null && slots.compareAndSet(index, pooled, null)) {
+                return pooled;
+            }
+        }
+        return factory.get();
+    }
+
+    public void release(final T instance) {
+        if (instance == null) {
+            return;
+        }
+        final int start = startIndex();
+        for (int i = 0; i <= mask; i++) {
+            final int index = (start + i) & mask;
+            if (slots.get(index) == null && slots.compareAndSet(index, null, instance)) {
+                return;
+            }
+        }
+    }
+
+    // 스레드마다 다른 슬롯부터 탐색해 동시 요청 간 CAS 경합을 줄입니다.
+    private int startIndex() {
+        final long threadId = Thread.currentThread().threadId();
+        return (int) (threadId ^ (threadId >>> 32)) & mask;
+    }
+
+    private static int capacityFor(final int maxIdle) {
+        final int bounded = Math.min(Math.max(maxIdle, 1), 1 << 10);
+        return bounded == 1 ? 1 : Integer.highestOneBit(bounded - 1) << 1;
+    }
+}
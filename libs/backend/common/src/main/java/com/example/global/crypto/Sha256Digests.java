@@ -0,0 +1,104 @@
+package com.example.global.crypto;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 풀링된 SHA-256 다이제스트
+ *
+ * <p>
+ * - MessageDigest.getInstance(공급자 조회)와 입력/출력 배열 생성을 호출마다 반복하지 않도록,
+ *   다이제스트와 작업 버퍼를 한 묶음으로 {@link CryptoObjectPool}에서 재사용합니다.
+ * - byte[] 구간 / ByteBuffer 입력과 호출자 버퍼 출력 API는 추가 할당이 없습니다.
+ * - {@link #hex(String)}는 결과 문자열 1개만 할당합니다. (ASCII 입력 기준)
+ * - 예외가 발생한 작업 묶음은 다이제스트 상태를 보장할 수 없으므로 풀에 반납하지 않고 버립니다.
+ * </p>
+ */
+public final class Sha256Digests {
+
+    public static final int DIGEST_LENGTH = 32;
+    public static final int HEX_LENGTH = DIGEST_LENGTH * 2;
+
+    private static final String ALGORITHM = "SHA-256";
+    private static final int MAX_POOLED_INPUT_LENGTH = 8192;
+    private static final int MAX_IDLE = 64;
+
+    private static final CryptoObjectPool<DigestContext> POOL = CryptoObjectPool.of(DigestContext::new, MAX_IDLE);
+
+    private Sha256Digests() {
+    }
+
+    /**
+     * input[offset, offset + length)의 다이제스트를 out[outOffset]부터 32바이트로 기록합니다.
+     */
+    public static void digest(final byte[] input, final int offset, final int length, final byte[] out, final int outOffset) {
+        final DigestContext context = POOL.acquire();
+        context.digest.update(input, offset, length);
+        finish(context, out, outOffset);
+        POOL.release(context);
+    }
+
+    /**
+     * input의 남은 구간(position → limit)을 소비해 다이제스트를 out[outOffset]부터 기록합니다.
+     */
+    public static void digest(final ByteBuffer input, final byte[] out, final int outOffset) {
+        final DigestContext context = POOL.acquire();
+        context.digest.update(input);
+        finish(context, out, outOffset);
+        POOL.release(context);
+    }
+
+    /**
+     * 문자열(UTF-8)의 SHA-256을 소문자 hex(64자)로 반환합니다.
+     */
+    public static String hex(final String input) {
+        final DigestContext context = POOL.acquire();
+        final int asciiLength = input.length() <= MAX_POOLED_INPUT_LENGTH
+                ? CryptoEncoding.copyAscii(input, context.input(input.length()))
+                : -1;
+        if (asciiLength >= 0) {
+            context.digest.update(context.input, 0, asciiLength);
+        } else {
+            context.digest.update(input.getBytes(StandardCharsets.UTF_8));
+        }
+        finish(context, context.output, 0);
+        CryptoEncoding.encodeHex(context.output, 0, DIGEST_LENGTH, context.hex, 0);
+        final String hex = CryptoEncoding.asciiString(context.hex, 0, HEX_LENGTH);
+        POOL.release(context);
+        return hex;
+    }
+
+    private static void finish(final DigestContext context, final byte[] out, final int outOffset) {
+        try {
+            context.digest.digest(out, outOffset, DIGEST_LENGTH);
+        } catch (final DigestException e) {
+            throw new IllegalStateException("SHA-256 출력 버퍼가 올바르지 않습니다.", e);
+        }
+    }
+
+    private static final class DigestContext {
+
+        private final MessageDigest digest;
+        private final byte[] output = new byte[DIGEST_LENGTH];
+        private final byte[] hex = new byte[HEX_LENGTH];
+        private byte[] input = new byte[512];
+
+        private DigestContext() {
+            try {
+                this.digest = MessageDigest.getInstance(ALGORITHM);
+            } catch (final NoSuchAlgorithmException e) {
+                throw new IllegalStateException("지원하지 않는 해시 알고리즘입니다.", e);
+            }
+        }
+
+        private byte[] input(final int length) {
+            if (input.length < length) {
+                input = new byte[Math.min(MAX_POOLED_INPUT_LENGTH, Math.max(length, input.length * 2))];
+            }
+            return input;
+        }
+    }
+}
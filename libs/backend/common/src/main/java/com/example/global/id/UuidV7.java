@@ -0,0 +1,19 @@
+package com.example.global.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * UUID PK를 시간 순서 UUIDv7로 생성합니다.
+ * - 랜덤 UUID(v4)와 달리 새 행이 인덱스 오른쪽 끝에 추가되어 B-tree 페이지 분할과 단편화가 줄어듭니다.
+ * - {@code @GeneratedValue} 없이 {@code @Id}와 함께 사용합니다.
+ */
+@IdGeneratorType(UuidV7IdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface UuidV7 {
+}
@@ -0,0 +1,90 @@
+package com.example.global.id;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간 순서 UUIDv7(RFC 9562) 생성기
+ *
+ * <p>
+ * - 상위 48비트는 epoch 밀리초, rand_a 12비트는 같은 밀리초 안의 증가 카운터입니다. (RFC 9562 6.2 Method 1)
+ * - (밀리초, 카운터) 상태를 AtomicLong 하나에 담아 CAS로 갱신하므로, 한 JVM 안에서 발급 순서와 정렬 순서가 같습니다.
+ *   카운터가 넘치거나 시계가 뒤로 가면 밀리초 필드를 앞당겨 단조성을 유지합니다.
+ * - rand_b 62비트는 스레드별 난수원(ThreadLocalRandom)에서 채웁니다. 공유 SecureRandom 잠금을 거치지 않습니다.
+ *   jti/추적 ID/PK는 서명되거나 공개되는 식별자일 뿐 비밀값이 아니므로 예측 불가능성이 필요하지 않습니다.
+ *   (비밀번호/토큰처럼 비밀이어야 하는 값에는 사용하지 않습니다.)
+ * </p>
+ */
+public final class UuidV7Generator {
+
+    /**
+     * Crockford base32 (I/L/O/U 제외) - 고정 길이로 인코딩하면 사전순 정렬이 시간순과 같습니다.
+     */
+    private static final byte[] BASE32_ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".getBytes(StandardCharsets.US_ASCII);
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+    private static final long VARIANT_RFC_4122 = 0x8000_0000_0000_0000L;
+
+    public static final int TRACE_ID_LENGTH = 16;
+
+    private static final AtomicLong LAST_STATE = new AtomicLong();
+
+    private UuidV7Generator() {
+    }
+
+    /**
+     * UUIDv7을 발급합니다.
+     */
+    public static UUID next() {
+        final long state = nextState();
+        final long mostSigBits = ((state >>> COUNTER_BITS) << 16) | VERSION_7 | (state & 0xFFFL);
+        final long leastSigBits = (ThreadLocalRandom.current().nextLong() & VARIANT_MASK) | VARIANT_RFC_4122;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * 추적 ID용 16자 Crockford base32 문자열을 발급합니다.
+     * <p>
+     * - 80비트 = epoch 밀리초 48비트 + 카운터 12비트 + 난수 20비트 (UUIDv7 앞부분과 같은 구성)
+     * - 문자열 하나만 할당하며, 같은 JVM에서 발급한 값은 사전순으로 시간순입니다.
+     * </p>
+     */
+    public static String nextTraceId() {
+        final long state = nextState();
+        final long random = ThreadLocalRandom.current().nextInt() & 0xFFFFFL;
+        final byte[] chars = new byte[TRACE_ID_LENGTH];
+        // 상위 60비트(밀리초+카운터) → 12자
+        for (int i = 11; i >= 0; i--) {
+            chars[i] = BASE32_ALPHABET[(int) ((state >>> ((11 - i) * 5)) & 0x1F)];
+        }
+        // 하위 20비트(난수) → 4자
+        for (int i = 15; i >= 12; i--) {
+            chars[i] = BASE32_ALPHABET[(int) ((random >>> ((15 - i) * 5)) & 0x1F)];
+        }
+        return new String(chars, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * UUIDv7에 담긴 epoch 밀리초를 반환합니다.
+     */
+    public static long timestampMillis(final UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    /**
+     * (밀리초 << 12 | 카운터) 상태를 단조 증가시킵니다.
+     */
+    private static long nextState() {
+        final long candidate = System.currentTimeMillis() << COUNTER_BITS;
+        while (true) {
+            final long last = LAST_STATE.get();
+            final long next = candidate > last ? candidate : last + 1;
+            if (LAST_STATE.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.global.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * {@link UuidV7} 식별자 생성기
+ * - persist 시점에 {@link UuidV7Generator#next()}로 PK를 채웁니다.
+ */
+public class UuidV7IdentifierGenerator implements IdentifierGenerator {
+
+    @Override
+    public Object generate(final SharedSessionContractImplementor session, final Object object) {
+        return UuidV7Generator.next();
+    }
+}
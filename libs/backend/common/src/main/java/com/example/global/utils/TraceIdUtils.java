@@ -1,9 +1,8 @@
 package com.example.global.utils;
 
+import com.example.global.id.UuidV7Generator;
 import org.slf4j.MDC;
 
-import java.util.UUID;
-
 /**
  * TraceId 조회 유틸리티
  * - MDC에 저장된 traceId를 안전하게 반환합니다.
@@ -27,8 +26,11 @@ public final class TraceIdUtils {
         return newTraceId;
     }
 
+    /**
+     * 16자 Crockford base32 추적 ID (시간순 정렬 가능, 상세는 {@link UuidV7Generator#nextTraceId()})
+     */
     public static String createTraceId() {
-        return UUID.randomUUID().toString().substring(0, 8);
+        return UuidV7Generator.nextTraceId();
     }
 
     public static String resolveTraceIdFromRequest(final jakarta.servlet.http.HttpServletRequest request) {
@@ -0,0 +1,83 @@
+package com.example.global.crypto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CryptoEncodingTest {
+
+    @Test
+    @DisplayName("hex/Base64 인코딩 결과는 JDK 인코더와 같고, Base64는 원본으로 복원된다")
+    void encode_matchesJdkEncoders_andRoundTrips() {
+        final Random random = new Random(42);
+        for (int length = 0; length <= 64; length++) {
+            // Arrange
+            final byte[] source = new byte[length];
+            random.nextBytes(source);
+            final byte[] hex = new byte[CryptoEncoding.hexLength(length)];
+            final byte[] base64 = new byte[CryptoEncoding.base64Length(length)];
+
+            // Act
+            final int hexLength = CryptoEncoding.encodeHex(source, 0, length, hex, 0);
+            final int base64Length = CryptoEncoding.encodeBase64(source, 0, length, base64, 0);
+            final String encoded = CryptoEncoding.asciiString(base64, 0, base64Length);
+            final byte[] decoded = new byte[CryptoEncoding.decodedBase64Length(encoded)];
+            final int decodedLength = CryptoEncoding.decodeBase64(encoded, decoded);
+
+            // Assert
+            assertThat(CryptoEncoding.asciiString(hex, 0, hexLength)).isEqualTo(HexFormat.of().formatHex(source));
+            assertThat(encoded).isEqualTo(Base64.getEncoder().encodeToString(source));
+            assertThat(decodedLength).isEqualTo(length);
+            assertThat(decoded).isEqualTo(source);
+        }
+    }
+
+    @Test
+    @DisplayName("패딩이 없거나, 알파벳 밖 문자가 있거나, 비정규 인코딩이면 -1을 반환한다")
+    void decodeBase64_invalidInput_returnsMinusOne() {
+        final byte[] dst = new byte[16];
+
+        assertThat(CryptoEncoding.decodeBase64("QQ", dst)).isEqualTo(-1);
+        assertThat(CryptoEncoding.decodeBase64("QQ!=", dst)).isEqualTo(-1);
+        assertThat(CryptoEncoding.decodeBase64("QR==", dst)).isEqualTo(-1);
+        assertThat(CryptoEncoding.decodeBase64("QUJDRA==", new byte[2])).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("ASCII가 아니거나 버퍼가 작으면 copyAscii는 -1을 반환한다")
+    void copyAscii_nonAsciiOrSmallBuffer_returnsMinusOne() {
+        assertThat(CryptoEncoding.copyAscii("abc", new byte[3])).isEqualTo(3);
+        assertThat(CryptoEncoding.copyAscii("토큰", new byte[8])).isEqualTo(-1);
+        assertThat(CryptoEncoding.copyAscii("abcd", new byte[3])).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("풀링된 SHA-256은 byte[]/ByteBuffer/문자열 입력 모두 MessageDigest 결과와 같다")
+    void sha256Digests_matchesMessageDigest() throws Exception {
+        // Arrange
+        final String token = "eyJhbGciOiJIUzI1NiJ9.payload.signature";
+        final byte[] input = token.getBytes(StandardCharsets.UTF_8);
+        final byte[] expected = MessageDigest.getInstance("SHA-256").digest(input);
+        final byte[] fromArray = new byte[Sha256Digests.DIGEST_LENGTH];
+        final byte[] fromBuffer = new byte[Sha256Digests.DIGEST_LENGTH];
+
+        // Act
+        Sha256Digests.digest(input, 0, input.length, fromArray, 0);
+        Sha256Digests.digest(ByteBuffer.wrap(input), fromBuffer, 0);
+
+        // Assert
+        assertThat(fromArray).isEqualTo(expected);
+        assertThat(fromBuffer).isEqualTo(expected);
+        assertThat(Sha256Digests.hex(token)).isEqualTo(HexFormat.of().formatHex(expected));
+        assertThat(Sha256Digests.hex("토큰")).isEqualTo(HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest("토큰".getBytes(StandardCharsets.UTF_8))));
+    }
+}
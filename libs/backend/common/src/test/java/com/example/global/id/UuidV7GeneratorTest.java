@@ -0,0 +1,80 @@
+package com.example.global.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    @DisplayName("버전 7, RFC 변형 비트를 가지며 타임스탬프는 현재 시각이다")
+    void next_hasVersion7AndRfcVariant() {
+        // Arrange
+        final long before = System.currentTimeMillis();
+
+        // Act
+        final UUID uuid = UuidV7Generator.next();
+
+        // Assert
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(UuidV7Generator.timestampMillis(uuid)).isBetween(before, System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    @DisplayName("연속 발급한 값은 같은 밀리초 안에서도 문자열/추적 ID 순서가 발급 순서와 같다")
+    void next_isMonotonic() {
+        // Arrange
+        final List<String> uuids = new ArrayList<>();
+        final List<String> traceIds = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            uuids.add(UuidV7Generator.next().toString());
+            traceIds.add(UuidV7Generator.nextTraceId());
+        }
+
+        // Assert
+        assertThat(uuids).isSorted().doesNotHaveDuplicates();
+        assertThat(traceIds).isSorted().doesNotHaveDuplicates()
+                .allMatch(traceId -> traceId.matches("[0-9A-HJKMNP-TV-Z]{" + UuidV7Generator.TRACE_ID_LENGTH + "}"));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 발급해도 중복이 없다")
+    void next_concurrent_noDuplicates() throws Exception {
+        // Arrange
+        final Set<UUID> issued = ConcurrentHashMap.newKeySet();
+        final List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    final Set<UUID> local = new HashSet<>();
+                    for (int i = 0; i < 5_000; i++) {
+                        local.add(UuidV7Generator.next());
+                    }
+                    issued.addAll(local);
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        // Assert
+        assertThat(issued).hasSize(8 * 5_000);
+    }
+}
@@ -15,9 +15,9 @@ class TraceIdUtilsTest {
     }
 
     @Test
-    void createTraceId_returns_8_char_string() {
+    void createTraceId_returns_16_char_base32_string() {
         final String traceId = TraceIdUtils.createTraceId();
-        assertThat(traceId).hasSize(8);
+        assertThat(traceId).hasSize(16).matches("[0-9A-HJKMNP-TV-Z]{16}");
     }
 
     @Test
@@ -37,14 +37,14 @@ class TraceIdUtilsTest {
     @Test
     void resolveTraceId_mdc_empty_creates_and_stores_new() {
         final String result = TraceIdUtils.resolveTraceId();
-        assertThat(result).hasSize(8);
+        assertThat(result).hasSize(16);
         assertThat(MDC.get(TraceIdUtils.TRACE_ID_KEY)).isEqualTo(result);
     }
 
     @Test
     void resolveTraceIdFromRequest_null_request_returns_new_traceId() {
         final String result = TraceIdUtils.resolveTraceIdFromRequest(null);
-        assertThat(result).hasSize(8);
+        assertThat(result).hasSize(16);
     }
 
     @Test
@@ -60,7 +60,7 @@ class TraceIdUtilsTest {
         final MockHttpServletRequest request = new MockHttpServletRequest();
         request.addHeader("X-Trace-Id", "   ");
         final String result = TraceIdUtils.resolveTraceIdFromRequest(request);
-        assertThat(result).hasSize(8);
+        assertThat(result).hasSize(16);
     }
 
     @Test
@@ -1,9 +1,14 @@
 plugins {
     java
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 dependencies {
     implementation(project(":libs:backend:global-core"))
+
+    // 실제 PostgreSQL 실행 계획 회귀 테스트 (Docker가 없으면 해당 테스트만 건너뜀)
+    testImplementation("org.testcontainers:testcontainers-junit-jupiter")
+    testImplementation("org.testcontainers:testcontainers-postgresql")
 }
 
 tasks.named<org.springframework.boot.gradle.tasks.bundling.BootJar>("bootJar") {
@@ -16,6 +21,14 @@ tasks.named<Jar>("jar") {
 
 tasks.named("classes") { dependsOn("generateContractEnumTs") }
 
+// JWT 파싱/검증 경로 마이크로벤치마크: ./gradlew :libs:backend:domain-core:jmh
+jmh {
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    profilers.add("gc")
+}
+
 tasks.register("generateContractEnumTs") {
     description = "contract enums → TypeScript 자동 생성"
     group = "codegen"
@@ -0,0 +1,119 @@
+package com.example.domain.security.jwt;
+
+import com.example.domain.account.enums.AccountRole;
+import com.example.global.security.jwt.JwtProperties;
+import com.example.global.security.jwt.JwtTokenClaimKeys;
+import com.example.global.security.jwt.JwtTokenKeyProvider;
+import com.example.global.security.jwt.JwtTokenType;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증 + claim 추출 비용 벤치마크 (jjwt vs 고속 검증기)
+ *
+ * <p>
+ * - jjwtParseSignedClaims: JwtTokenParser의 폴백 경로와 같이 재사용 파서로 검증한 뒤 Claims에서 고정 claim을 꺼냅니다.
+ * - fastVerify: JwtAccessTokenFastVerifier(JwtClaimScanner 기반)로 같은 claim 값을 얻습니다.
+ * - 두 경로 모두 검증 결과 캐시를 거치지 않으며, 서로 다른 토큰을 순환해 매 호출 실제 HMAC 검증을 수행합니다.
+ * - 고속 검증기가 토큰을 jjwt로 위임하면 비교가 무의미하므로 Setup에서 모든 토큰이 고속 경로로 통과하는지 확인합니다.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class JwtAccessTokenFastVerifierBenchmark {
+
+    private static final String ISSUER = "benchmark";
+    private static final String SECRET = "benchmark-secret-key-must-be-at-least-32-bytes";
+    private static final int TOKEN_COUNT = 1024;
+
+    private JwtParser jwtParser;
+    private JwtAccessTokenFastVerifier fastVerifier;
+    private String[] tokens;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        final JwtTokenKeyProvider keyProvider = new JwtTokenKeyProvider(
+                JwtProperties.of(ISSUER, SECRET, Duration.ofMinutes(30), Duration.ofDays(14))
+        );
+        jwtParser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(final JwsHeader header) {
+                        return keyProvider.findVerificationKey(header.getAlgorithm(), header.getKeyId());
+                    }
+                })
+                .build();
+        fastVerifier = new JwtAccessTokenFastVerifier(keyProvider);
+
+        tokens = new String[TOKEN_COUNT];
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            tokens[i] = createAccessToken(keyProvider);
+            if (fastVerifier.verify(tokens[i]).isEmpty()) {
+                throw new IllegalStateException("고속 검증기가 벤치마크 토큰을 처리하지 못했습니다.");
+            }
+        }
+    }
+
+    @Benchmark
+    public JwtTokenClaimValues jjwtParseSignedClaims() {
+        final Claims claims = jwtParser.parseSignedClaims(nextToken()).getPayload();
+        return JwtTokenClaimValues.of(
+                claims.getSubject(),
+                claims.getIssuer(),
+                claims.getId(),
+                claims.get(JwtTokenClaimKeys.ROLE, String.class),
+                claims.get(JwtTokenClaimKeys.TYPE, String.class),
+                claims.get(JwtTokenClaimKeys.VERSION, Number.class),
+                Optional.ofNullable(claims.getIssuedAt()).map(Date::toInstant).orElse(null),
+                Optional.ofNullable(claims.getExpiration()).map(Date::toInstant).orElse(null)
+        );
+    }
+
+    @Benchmark
+    public Optional<JwtTokenClaimValues> fastVerify() {
+        return fastVerifier.verify(nextToken());
+    }
+
+    private String nextToken() {
+        final String token = tokens[cursor];
+        cursor = (cursor + 1) % TOKEN_COUNT;
+        return token;
+    }
+
+    private String createAccessToken(final JwtTokenKeyProvider keyProvider) {
+        final Instant now = Instant.now();
+        return Jwts.builder()
+                .issuer(ISSUER)
+                .subject("user1")
+                .claim(JwtTokenClaimKeys.ROLE, AccountRole.USER.name())
+                .claim(JwtTokenClaimKeys.TYPE, JwtTokenType.ACCESS.name())
+                .claim(JwtTokenClaimKeys.VERSION, 3L)
+                .id(UUID.randomUUID().toString())
+                .issuedAt(Date.from(now.minusSeconds(1)))
+                .expiration(Date.from(now.plus(Duration.ofMinutes(30))))
+                .signWith(keyProvider.getSecretKey())
+                .compact();
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.domain.security.jwt;
+
+import com.example.domain.account.enums.AccountRole;
+import com.example.global.security.jwt.JwtProperties;
+import com.example.global.security.jwt.JwtTokenClaimKeys;
+import com.example.global.security.jwt.JwtTokenKeyProvider;
+import com.example.global.security.jwt.JwtTokenType;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenParser 파싱 경로 벤치마크 (검증 결과 캐시 도입 전/후)
+ *
+ * <p>
+ * - legacyRebuildParser: 캐시 도입 전 구현처럼 호출마다 Jwts.parser().verifyWith(...)를 구성해 검증합니다.
+ * - coldParse: 현재 JwtTokenParser에서 캐시가 항상 빗나가는 경우입니다. (캐시 1건, 서로 다른 토큰 순환)
+ * - warmParse: 같은 액세스 토큰을 반복 파싱해 캐시 조회(다이제스트 + 맵 조회)만 수행하는 경우입니다.
+ * - gc 프로파일러의 gc.alloc.rate.norm(B/op)으로 호출당 할당량을 비교합니다.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class JwtTokenParserBenchmark {
+
+    private static final String ISSUER = "benchmark";
+    private static final String SECRET = "benchmark-secret-key-must-be-at-least-32-bytes";
+    private static final int TOKEN_COUNT = 1024;
+
+    private JwtTokenKeyProvider keyProvider;
+    private JwtTokenParser coldParser;
+    private JwtTokenParser warmParser;
+    private String[] tokens;
+    private String warmToken;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        keyProvider = new JwtTokenKeyProvider(
+                JwtProperties.of(ISSUER, SECRET, Duration.ofMinutes(30), Duration.ofDays(14))
+        );
+        coldParser = new JwtTokenParser(
+                keyProvider,
+                new JwtVerifiedTokenCache(1, Duration.ofMinutes(30)),
+                new JwtAccessTokenFastVerifier(keyProvider)
+        );
+        warmParser = new JwtTokenParser(
+                keyProvider,
+                new JwtVerifiedTokenCache(1024, Duration.ofMinutes(30)),
+                new JwtAccessTokenFastVerifier(keyProvider)
+        );
+
+        tokens = new String[TOKEN_COUNT];
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            tokens[i] = createAccessToken();
+        }
+        warmToken = tokens[0];
+        warmParser.parseTokenResult(warmToken);
+    }
+
+    @Benchmark
+    public Claims legacyRebuildParser() {
+        return Jwts.parser()
+                .verifyWith(keyProvider.getSecretKey())
+                .build()
+                .parseSignedClaims(nextToken())
+                .getPayload();
+    }
+
+    @Benchmark
+    public JwtTokenParseResult coldParse() {
+        return coldParser.parseTokenResult(nextToken());
+    }
+
+    @Benchmark
+    public JwtTokenParseResult warmParse() {
+        return warmParser.parseTokenResult(warmToken);
+    }
+
+    private String nextToken() {
+        final String token = tokens[cursor];
+        cursor = (cursor + 1) % TOKEN_COUNT;
+        return token;
+    }
+
+    private String createAccessToken() {
+        final Instant now = Instant.now();
+        return Jwts.builder()
+                .issuer(ISSUER)
+                .subject("user1")
+                .claim(JwtTokenClaimKeys.ROLE, AccountRole.USER.name())
+                .claim(JwtTokenClaimKeys.TYPE, JwtTokenType.ACCESS.name())
+                .claim(JwtTokenClaimKeys.VERSION, 3L)
+                .id(UUID.randomUUID().toString())
+                .issuedAt(Date.from(now.minusSeconds(1)))
+                .expiration(Date.from(now.plus(Duration.ofMinutes(30))))
+                .signWith(keyProvider.getSecretKey())
+                .compact();
+    }
+}
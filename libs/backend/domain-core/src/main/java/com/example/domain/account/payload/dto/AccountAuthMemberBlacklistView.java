@@ -0,0 +1,13 @@
+package com.example.domain.account.payload.dto;
+
+/**
+ * JWT 인증 전용 조회 결과 DTO (회원 인증 정보 + 토큰 블랙리스트 여부)
+ */
+public record AccountAuthMemberBlacklistView(
+        AccountAuthMemberView member,
+        boolean blacklisted
+) {
+    public static AccountAuthMemberBlacklistView of(AccountAuthMemberView member, boolean blacklisted) {
+        return new AccountAuthMemberBlacklistView(member, blacklisted);
+    }
+}
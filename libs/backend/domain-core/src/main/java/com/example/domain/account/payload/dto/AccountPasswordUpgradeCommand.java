@@ -0,0 +1,15 @@
+package com.example.domain.account.payload.dto;
+
+/**
+ * 로그인 성공 시 비밀번호 해시 재인코딩 Command DTO
+ */
+public record AccountPasswordUpgradeCommand(
+        String loginId,
+        String currentEncodedPassword,
+        String newEncodedPassword
+) {
+
+    public static AccountPasswordUpgradeCommand of(String loginId, String currentEncodedPassword, String newEncodedPassword) {
+        return new AccountPasswordUpgradeCommand(loginId, currentEncodedPassword, newEncodedPassword);
+    }
+}
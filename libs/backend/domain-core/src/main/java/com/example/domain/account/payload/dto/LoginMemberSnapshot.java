@@ -0,0 +1,55 @@
+package com.example.domain.account.payload.dto;
+
+import com.example.domain.account.enums.AccountRole;
+import com.example.domain.member.enums.MemberActiveStatus;
+import com.example.domain.member.enums.MemberType;
+
+/**
+ * 로그인 요청 1건 동안 재사용하는 회원 스냅샷
+ *
+ * <p>
+ * - 로그인 정책 검증(LoginAccountValidator)에서 한 번 조회하고, 이후 UserDetailsService와 토큰 발급이 같은 값을 재사용합니다.
+ * - 인증(비밀번호), 토큰 발급(토큰 버전), 기존 리프레시 토큰 폐기(암호문)에 필요한 값을 모두 담습니다.
+ * </p>
+ */
+public record LoginMemberSnapshot(
+        Long id,
+        String loginId,
+        String password,
+        String nickName,
+        AccountRole role,
+        MemberType memberType,
+        MemberActiveStatus active,
+        long tokenVersion,
+        String refreshTokenEncrypted
+) {
+    public static LoginMemberSnapshot of(
+            Long id,
+            String loginId,
+            String password,
+            String nickName,
+            AccountRole role,
+            MemberType memberType,
+            MemberActiveStatus active,
+            long tokenVersion,
+            String refreshTokenEncrypted
+    ) {
+        return new LoginMemberSnapshot(
+                id, loginId, password, nickName, role, memberType, active,
+                tokenVersion, refreshTokenEncrypted
+        );
+    }
+
+    public AccountAuthMemberView toAuthMemberView() {
+        return AccountAuthMemberView.of(id, loginId, password, nickName, role, memberType, active, tokenVersion);
+    }
+
+    /**
+     * 비밀번호 해시는 로그에 남지 않도록 출력에서 제외합니다.
+     */
+    @Override
+    public String toString() {
+        return "LoginMemberSnapshot[id=" + id + ", loginId=" + loginId + ", role=" + role
+                + ", memberType=" + memberType + ", active=" + active + ", tokenVersion=" + tokenVersion + "]";
+    }
+}
@@ -2,6 +2,7 @@ package com.example.domain.account.service.command;
 
 import com.example.domain.account.payload.dto.AccountActivityPublishCommand;
 import com.example.domain.account.payload.dto.AccountLogoutCommand;
+import com.example.domain.account.payload.dto.AccountPasswordUpgradeCommand;
 import com.example.domain.account.payload.dto.AccountProfileUpdateCommand;
 import com.example.domain.account.payload.dto.AccountWithdrawCommand;
 import com.example.domain.account.payload.dto.CurrentAccountDTO;
@@ -48,6 +49,15 @@ public class AccountCommandService {
         return accountMemberCommandPort.updateMemberProfile(command);
     }
 
+    /**
+     * 로그인 성공 시 약한 비용(또는 접두사 없는 기존 형식)의 비밀번호 해시를 현재 설정으로 재인코딩해 저장합니다.
+     */
+    public boolean upgradePassword(AccountPasswordUpgradeCommand command) {
+        validatePasswordUpgradeCommand(command);
+
+        return accountMemberCommandPort.upgradePassword(command);
+    }
+
     private void validateLogoutCommand(AccountLogoutCommand command) {
         AccountInputValidator.requireNonNull(command, "로그아웃 요청 값이 비어있습니다.");
         AccountInputValidator.requireCurrentAccountFull(command.currentAccount());
@@ -64,4 +74,11 @@ public class AccountCommandService {
         AccountInputValidator.requireHasText(command.nickName(), "nickName은 필수입니다.");
     }
 
+    private void validatePasswordUpgradeCommand(AccountPasswordUpgradeCommand command) {
+        AccountInputValidator.requireNonNull(command, "비밀번호 재인코딩 요청 값이 비어있습니다.");
+        AccountInputValidator.requireHasText(command.loginId(), "loginId는 필수입니다.");
+        AccountInputValidator.requireHasText(command.currentEncodedPassword(), "currentEncodedPassword는 필수입니다.");
+        AccountInputValidator.requireHasText(command.newEncodedPassword(), "newEncodedPassword는 필수입니다.");
+    }
+
 }
@@ -1,11 +1,11 @@
 package com.example.domain.account.service.query;
 
 import com.example.domain.account.payload.dto.AccountAuthMemberView;
-import com.example.domain.account.payload.dto.AccountLoginCandidateView;
 import com.example.domain.account.payload.dto.AccountLoginIdQuery;
 import com.example.domain.account.payload.dto.AccountLoginIdRoleQuery;
 import com.example.domain.account.payload.dto.AccountLoginValidationQuery;
 import com.example.domain.account.payload.dto.CurrentAccountDTO;
+import com.example.domain.account.payload.dto.LoginMemberSnapshot;
 import com.example.domain.account.payload.dto.LoginMemberView;
 import com.example.domain.account.support.AccountMemberQueryPort;
 import com.example.domain.account.validator.AccountInputValidator;
@@ -64,11 +64,11 @@ public class AccountQueryService {
         return view;
     }
 
-    public Optional<AccountLoginCandidateView> findLoginCandidate(AccountLoginValidationQuery request) {
+    public Optional<LoginMemberSnapshot> findLoginSnapshot(AccountLoginValidationQuery request) {
         if (!isValidLoginValidationQuery(request)) {
             return Optional.empty();
         }
-        return accountMemberQueryPort.findLoginCandidate(request);
+        return accountMemberQueryPort.findLoginSnapshot(request);
     }
 
     private void validateCurrentAccount(CurrentAccountDTO request) {
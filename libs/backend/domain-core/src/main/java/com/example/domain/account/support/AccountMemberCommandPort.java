@@ -1,6 +1,7 @@
 package com.example.domain.account.support;
 
 import com.example.domain.account.enums.AccountRole;
+import com.example.domain.account.payload.dto.AccountPasswordUpgradeCommand;
 import com.example.domain.account.payload.dto.AccountProfileUpdateCommand;
 
 /**
@@ -14,4 +15,9 @@ public interface AccountMemberCommandPort {
     Long updateMemberProfile(AccountProfileUpdateCommand command);
 
     void deactivateMember(AccountRole role, Long memberId);
+
+    /**
+     * @return 재인코딩된 해시가 저장되었으면 true
+     */
+    boolean upgradePassword(AccountPasswordUpgradeCommand command);
 }
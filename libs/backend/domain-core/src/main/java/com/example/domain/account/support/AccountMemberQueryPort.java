@@ -1,10 +1,10 @@
 package com.example.domain.account.support;
 
 import com.example.domain.account.payload.dto.AccountAuthMemberView;
-import com.example.domain.account.payload.dto.AccountLoginCandidateView;
 import com.example.domain.account.payload.dto.AccountLoginIdQuery;
 import com.example.domain.account.payload.dto.AccountLoginIdRoleQuery;
 import com.example.domain.account.payload.dto.AccountLoginValidationQuery;
+import com.example.domain.account.payload.dto.LoginMemberSnapshot;
 import com.example.domain.account.payload.dto.LoginMemberView;
 
 import java.util.Optional;
@@ -17,5 +17,8 @@ public interface AccountMemberQueryPort {
 
     Optional<AccountAuthMemberView> findAuthMember(AccountLoginIdRoleQuery query);
 
-    Optional<AccountLoginCandidateView> findLoginCandidate(AccountLoginValidationQuery query);
+    /**
+     * 로그인 요청에서 재사용할 회원 스냅샷을 허용 권한 조건으로 한 번에 조회합니다.
+     */
+    Optional<LoginMemberSnapshot> findLoginSnapshot(AccountLoginValidationQuery query);
 }
@@ -0,0 +1,53 @@
+package com.example.domain.account.support;
+
+import com.example.domain.account.payload.dto.LoginMemberSnapshot;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 로그인 요청 동안 회원 스냅샷을 전달하는 ScopedValue 컨텍스트
+ *
+ * <p>
+ * - 로그인 필터가 인증 처리 구간을 {@link #open()}으로 감싸고, 로그인 정책 검증이 조회한 스냅샷을 {@link #store}로 기록합니다.
+ * - UserDetailsService/토큰 발급은 loginId 또는 id가 일치할 때만 스냅샷을 재사용하고, 없으면 기존 조회로 폴백합니다.
+ * - 슬롯은 한 요청 스레드에서만 쓰이며, 구간이 끝나면 바인딩과 함께 사라집니다. (RequestContextScope와 같은 방식)
+ * </p>
+ */
+public final class LoginMemberSnapshotScope {
+
+    private static final ScopedValue<Slot> CURRENT_SLOT = ScopedValue.newInstance();
+
+    private LoginMemberSnapshotScope() {
+    }
+
+    public static ScopedValue.Carrier open() {
+        return ScopedValue.where(CURRENT_SLOT, new Slot());
+    }
+
+    public static void store(final LoginMemberSnapshot snapshot) {
+        if (snapshot != null && CURRENT_SLOT.isBound()) {
+            CURRENT_SLOT.get().snapshot = snapshot;
+        }
+    }
+
+    public static Optional<LoginMemberSnapshot> findByLoginId(final String loginId) {
+        return current().filter(snapshot -> Objects.equals(snapshot.loginId(), loginId));
+    }
+
+    public static Optional<LoginMemberSnapshot> findById(final Long id) {
+        return current().filter(snapshot -> Objects.equals(snapshot.id(), id));
+    }
+
+    private static Optional<LoginMemberSnapshot> current() {
+        if (!CURRENT_SLOT.isBound()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(CURRENT_SLOT.get().snapshot);
+    }
+
+    private static final class Slot {
+
+        private LoginMemberSnapshot snapshot;
+    }
+}
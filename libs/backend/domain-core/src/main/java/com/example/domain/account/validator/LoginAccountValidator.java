@@ -1,11 +1,12 @@
 package com.example.domain.account.validator;
 
 import com.example.domain.account.enums.AccountRole;
-import com.example.domain.account.payload.dto.AccountLoginCandidateView;
 import com.example.domain.account.payload.dto.AccountLoginValidationQuery;
+import com.example.domain.account.payload.dto.LoginMemberSnapshot;
 import com.example.domain.account.payload.request.AccountAdminLoginRequest;
 import com.example.domain.account.payload.request.AccountUserLoginRequest;
 import com.example.domain.account.service.query.AccountQueryService;
+import com.example.domain.account.support.LoginMemberSnapshotScope;
 import com.example.domain.member.enums.MemberActiveStatus;
 import com.example.domain.member.enums.MemberType;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +27,8 @@ import java.util.Optional;
  * - 계정 존재/상태/권한 등 **읽기 전용 정책 검증**만 수행합니다.
  * 비밀번호 검증은 Security의 AuthenticationProvider에 위임하고,
  * 여기서는 계정 존재 여부/상태 및 "요청 타입에 맞는 권한"만 확인합니다.
+ * - 검증을 통과한 회원 스냅샷은 {@link LoginMemberSnapshotScope}에 기록해, 같은 로그인 요청의
+ * UserDetailsService/토큰 발급이 다시 조회하지 않도록 합니다.
  * </p>
  */
 @Component
@@ -80,7 +83,7 @@ public class LoginAccountValidator implements Validator {
             errors.rejectValue("loginId", "login.fail", "아이디가 존재하지 않거나 권한이 일치하지 않습니다.");
             return;
         }
-        final Optional<AccountLoginCandidateView> candidateOptional = accountQueryService.findLoginCandidate(
+        final Optional<LoginMemberSnapshot> candidateOptional = accountQueryService.findLoginSnapshot(
                 AccountLoginValidationQuery.of(loginId, allowedRoles)
         );
 
@@ -90,7 +93,7 @@ public class LoginAccountValidator implements Validator {
             return;
         }
 
-        final AccountLoginCandidateView candidate = candidateOptional.get();
+        final LoginMemberSnapshot candidate = candidateOptional.get();
 
         // 활성화 상태 체크
         if (candidate.active() != MemberActiveStatus.ACTIVE) {
@@ -100,8 +103,11 @@ public class LoginAccountValidator implements Validator {
 
         if (candidate.memberType() != MemberType.GENERAL) {
             errors.rejectValue("loginId", "login.fail", "비밀번호 로그인은 일반 계정만 지원합니다.");
+            return;
         }
 
+        LoginMemberSnapshotScope.store(candidate);
+
         // 비밀번호 검증은 Spring Security의 DaoAuthenticationProvider에서 수행하므로 생략합니다.
     }
 }
@@ -6,6 +6,7 @@ import com.example.domain.log.payload.response.MemberLogResponse;
 import com.example.domain.log.service.query.MemberLogQueryService;
 import com.example.domain.log.validator.MemberLogRequestPolicyValidator;
 import com.example.global.api.RestApiController;
+import com.example.global.payload.response.PageResponse;
 import com.example.global.payload.response.RestApiResponse;
 import com.example.global.version.ApiVersioning;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,7 +14,6 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.WebDataBinder;
@@ -44,10 +44,10 @@ public class AdminLogApiController {
 
     @Operation(summary = "회원 활동 로그 목록 조회")
     @GetMapping(value = "/members", version = ApiVersioning.V1)
-    public ResponseEntity<RestApiResponse<Page<MemberLogResponse>>> memberLogList(
+    public ResponseEntity<RestApiResponse<PageResponse<MemberLogResponse>>> memberLogList(
             @Valid @ModelAttribute("memberLogRequest") MemberLogRequest memberLogRequest
     ) {
-        final Page<MemberLogResponse> logPage = memberLogQueryService.getMemberLogs(MemberLogQuery.from(memberLogRequest));
+        final PageResponse<MemberLogResponse> logPage = memberLogQueryService.getMemberLogs(MemberLogQuery.from(memberLogRequest));
         return restApiController.ok(logPage);
     }
 
@@ -16,14 +16,17 @@ public record MemberLogSearchQuery(
         LocalDateTime endAt
 ) {
 
+    private static final LocalDateTime DEFAULT_START_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime DEFAULT_END_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
     public MemberLogSearchQuery {
         loginId = normalizeKeyword(loginId);
         details = normalizeKeyword(details);
         if (startAt == null) {
-            startAt = LocalDateTime.of(1970, 1, 1, 0, 0);
+            startAt = DEFAULT_START_AT;
         }
         if (endAt == null) {
-            endAt = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+            endAt = DEFAULT_END_AT;
         }
     }
 
@@ -45,6 +48,18 @@ public record MemberLogSearchQuery(
         return of(query.loginId(), query.memberId(), query.logType(), query.details(), query.startAt(), query.endAt());
     }
 
+    /**
+     * 검색 조건 없이 전체 기간을 조회하는지 여부 (전체 건수 추정치 사용 가능)
+     */
+    public boolean isUnfiltered() {
+        return loginId.isEmpty()
+                && memberId == null
+                && logType == null
+                && details.isEmpty()
+                && !startAt.isAfter(DEFAULT_START_AT)
+                && !endAt.isBefore(DEFAULT_END_AT);
+    }
+
     private static String normalizeKeyword(String value) {
         if (value == null) {
             return "";
@@ -2,12 +2,13 @@ package com.example.domain.log.repository;
 
 import com.example.domain.log.payload.dto.MemberLogSearchQuery;
 import com.example.domain.log.payload.dto.MemberLogView;
+import com.example.global.pagination.PageCountResolver;
+import com.example.global.pagination.payload.PageCountQuery;
+import com.example.global.payload.response.PageResponse;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
@@ -19,10 +20,13 @@ import static com.example.domain.log.entity.QMemberLog.memberLog;
 @RequiredArgsConstructor
 public class MemberLogRepositoryImpl implements MemberLogQueryRepository {
 
+    private static final String TABLE_NAME = "member_log";
+
     private final JPAQueryFactory queryFactory;
+    private final PageCountResolver pageCountResolver;
 
     @Override
-    public Page<MemberLogView> search(MemberLogSearchQuery query, Pageable pageable) {
+    public PageResponse<MemberLogView> search(MemberLogSearchQuery query, Pageable pageable) {
         if (pageable == null) {
             throw new IllegalArgumentException("pageable은 필수입니다.");
         }
@@ -32,10 +36,13 @@ public class MemberLogRepositoryImpl implements MemberLogQueryRepository {
                 : MemberLogSearchQuery.of("", null, null, "", null, null);
         final Predicate predicate = MemberLogSpecification.search(safeQuery);
 
-        final List<MemberLogView> content = fetchContent(predicate, pageable);
-        final long total = fetchTotalCount(predicate);
+        // 파티션 테이블 전체 count가 페이지 조회보다 비싸므로 건수 계산은 전략(추정치/조건별 캐시/생략)에 맡깁니다.
+        final List<MemberLogView> fetched = fetchContent(predicate, pageable);
+        final PageCountQuery countQuery = safeQuery.isUnfiltered()
+                ? PageCountQuery.unfiltered(TABLE_NAME, () -> fetchTotalCount(predicate))
+                : PageCountQuery.filtered(TABLE_NAME, predicate.toString(), () -> fetchTotalCount(predicate));
 
-        return new PageImpl<>(content, pageable, total);
+        return pageCountResolver.toPage(fetched, pageable, countQuery);
     }
 
     private List<MemberLogView> fetchContent(Predicate predicate, Pageable pageable) {
@@ -54,7 +61,7 @@ public class MemberLogRepositoryImpl implements MemberLogQueryRepository {
                 .where(predicate)
                 .orderBy(memberLog.createdAt.desc())
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(pageCountResolver.fetchLimit(pageable))
                 .fetch();
     }
 
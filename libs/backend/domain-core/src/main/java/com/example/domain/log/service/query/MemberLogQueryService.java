@@ -7,9 +7,9 @@ import com.example.domain.log.payload.response.MemberLogResponse;
 import com.example.domain.log.repository.MemberLogRepository;
 import com.example.global.exception.GlobalException;
 import com.example.global.exception.enums.ErrorCode;
+import com.example.global.payload.response.PageResponse;
 import com.example.global.utils.PaginationUtils;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
@@ -27,7 +27,7 @@ public class MemberLogQueryService {
      * - 생성일 기준 내림차순 정렬
      * - loginId/memberId/logType/details 조건이 있으면 필터링
      */
-    public Page<MemberLogResponse> getMemberLogs(MemberLogQuery query) {
+    public PageResponse<MemberLogResponse> getMemberLogs(MemberLogQuery query) {
         if (query == null) {
             throw new GlobalException(ErrorCode.INVALID_PARAMETER, "요청 값이 비어있습니다.");
         }
@@ -39,7 +39,7 @@ public class MemberLogQueryService {
                 Sort.by(Sort.Direction.DESC, "createdAt")
         );
 
-        final Page<MemberLogView> logs = memberLogRepository.search(
+        final PageResponse<MemberLogView> logs = memberLogRepository.search(
                 MemberLogSearchQuery.from(query),
                 pageable
         );
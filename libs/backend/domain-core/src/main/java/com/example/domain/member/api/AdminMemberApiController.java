@@ -2,26 +2,33 @@ package com.example.domain.member.api;
 
 import com.example.domain.account.payload.dto.CurrentAccountDTO;
 import com.example.domain.member.payload.dto.MemberCreateCommand;
+import com.example.domain.member.payload.dto.MemberCursorListQuery;
 import com.example.domain.member.payload.dto.MemberDeactivateCommand;
 import com.example.domain.member.payload.dto.MemberDetailQuery;
 import com.example.domain.member.payload.dto.MemberListQuery;
 import com.example.domain.member.payload.dto.MemberRoleUpdateCommand;
+import com.example.domain.member.payload.dto.MemberSuggestQuery;
 import com.example.domain.member.payload.dto.MemberUpdateCommand;
 import com.example.domain.member.payload.request.MemberCreateRequest;
 import com.example.domain.member.payload.request.MemberListRequest;
 import com.example.domain.member.payload.request.MemberRoleUpdateRequest;
+import com.example.domain.member.payload.request.MemberSuggestRequest;
 import com.example.domain.member.payload.request.MemberUpdateRequest;
 import com.example.domain.member.payload.response.DetailMemberResponse;
+import com.example.domain.member.payload.response.MemberCursorPageResponse;
 import com.example.domain.member.payload.response.MemberListResponse;
+import com.example.domain.member.payload.response.MemberSuggestResponse;
 import com.example.domain.member.service.MemberStrategyFactory;
 import com.example.domain.member.service.command.MemberCommandService;
 import com.example.domain.member.service.query.MemberQueryService;
+import com.example.domain.member.service.query.MemberSuggestQueryService;
 import com.example.domain.member.validator.MemberCreateRequestPolicyValidator;
 import com.example.domain.member.validator.MemberCreateValidator;
 import com.example.domain.member.validator.MemberListRequestPolicyValidator;
 import com.example.global.annotation.CurrentAccount;
 import com.example.global.api.RestApiController;
 import com.example.global.payload.response.IdResponse;
+import com.example.global.payload.response.PageResponse;
 import com.example.global.payload.response.RestApiResponse;
 import com.example.global.security.jwt.AccessTokenResolver;
 import com.example.global.security.payload.SecurityLogoutCommand;
@@ -32,7 +39,6 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.WebDataBinder;
@@ -47,9 +53,12 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.util.List;
+
 @Tag(name = "AdminMemberApiController", description = "관리자 전용 회원 관리 REST API (전략 패턴 적용)")
 @ConditionalOnProperty(name = "app.type", havingValue = "admin")
 @RestController
@@ -59,6 +68,7 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 public class AdminMemberApiController {
 
     private final MemberStrategyFactory memberStrategyFactory;
+    private final MemberSuggestQueryService memberSuggestQueryService;
 
     private final MemberCreateValidator memberCreateValidator;
     private final MemberCreateRequestPolicyValidator memberCreateRequestPolicyValidator;
@@ -101,15 +111,44 @@ public class AdminMemberApiController {
     @Operation(summary = "회원 목록 조회")
     @GetMapping(version = ApiVersioning.V1)
     @PreAuthorize("@memberGuard.hasAnyAdminRole() and @memberGuard.canManageRole(#memberListRequest.toDomainRole())")
-    public ResponseEntity<RestApiResponse<Page<MemberListResponse>>> getMemberList(
+    public ResponseEntity<RestApiResponse<PageResponse<MemberListResponse>>> getMemberList(
             @Valid @ModelAttribute("memberListRequest") MemberListRequest memberListRequest
     ) {
         final MemberQueryService service = memberStrategyFactory.getQueryService(memberListRequest.toDomainRole());
-        final Page<MemberListResponse> memberPage = service.getList(MemberListQuery.from(memberListRequest));
+        final PageResponse<MemberListResponse> memberPage = service.getList(MemberListQuery.from(memberListRequest));
 
         return restApiController.ok(memberPage);
     }
 
+    @Operation(summary = "회원 목록 조회 (커서)", description = "OFFSET/전체 건수 없이 커서 위치부터 조회합니다. page는 무시되며, 정렬 기준을 바꾸면 커서 없이 다시 조회해야 합니다.")
+    @GetMapping(value = "/cursor", version = ApiVersioning.V1)
+    @PreAuthorize("@memberGuard.hasAnyAdminRole() and @memberGuard.canManageRole(#memberListRequest.toDomainRole())")
+    public ResponseEntity<RestApiResponse<MemberCursorPageResponse>> getMemberCursorList(
+            @Valid @ModelAttribute("memberListRequest") MemberListRequest memberListRequest,
+            @RequestParam(required = false) String cursor
+    ) {
+        final MemberQueryService service = memberStrategyFactory.getQueryService(memberListRequest.toDomainRole());
+        final MemberCursorPageResponse response = service.getCursorList(
+                MemberCursorListQuery.from(memberListRequest, cursor)
+        );
+
+        return restApiController.ok(response);
+    }
+
+    @Operation(summary = "회원 자동완성", description = "로그인 아이디/닉네임 접두어로 회원을 찾습니다. 노드 메모리 색인만 사용하며, 기동 직후 색인 적재 전에는 빈 목록을 반환합니다.")
+    @GetMapping(value = "/suggest", version = ApiVersioning.V1)
+    @PreAuthorize("@memberGuard.hasAnyAdminRole() and @memberGuard.canManageRole(#memberSuggestRequest.toDomainRole())")
+    public ResponseEntity<RestApiResponse<List<MemberSuggestResponse>>> suggestMembers(
+            @ModelAttribute("memberSuggestRequest") MemberSuggestRequest memberSuggestRequest
+    ) {
+        final MemberQueryService service = memberStrategyFactory.getQueryService(memberSuggestRequest.toDomainRole());
+        final List<MemberSuggestResponse> response = memberSuggestQueryService.suggest(
+                MemberSuggestQuery.from(memberSuggestRequest, service.getSupportedRoles())
+        );
+
+        return restApiController.ok(response);
+    }
+
     @Operation(summary = "회원 상세 조회")
     @GetMapping(value = "/{id}", version = ApiVersioning.V1)
     @PreAuthorize("@memberGuard.hasAnyAdminRole() and @memberGuard.canAccessMember(#id)")
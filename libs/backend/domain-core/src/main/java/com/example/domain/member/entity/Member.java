@@ -18,7 +18,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "member", comment = "회원")
+@Table(
+        name = "member",
+        comment = "회원",
+        indexes = {
+                // 회원 목록 keyset 조회: role 동등 조건 + (created_at, member_id) 범위 스캔 (docs/db/member_keyset_pagination.sql 참고)
+                @Index(name = "idx_member_role_created_at_member_id", columnList = "role, created_at, member_id")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Member extends BaseTimeEntity implements Serializable {
@@ -60,6 +67,9 @@ public class Member extends BaseTimeEntity implements Serializable {
     @Column(name = "jwt_refresh_token_encrypted", columnDefinition = "text", comment = "JWT Refresh Token Encrypted")
     private String refreshTokenEncrypted;
 
+    @Column(name = "jwt_refresh_token_hash", length = 64, comment = "JWT Refresh Token 키 해시(HMAC-SHA256)")
+    private String refreshTokenHash;
+
     @Column(nullable = false, comment = "JWT 토큰 버전")
     private long tokenVersion = 0L;
 
@@ -139,15 +149,13 @@ public class Member extends BaseTimeEntity implements Serializable {
         this.loginId = "%s_LEAVE_%s".formatted(this.loginId, nowStr);
         this.nickName = "%s_LEAVE_%s".formatted(this.nickName, nowStr);
         this.refreshTokenEncrypted = null;
+        this.refreshTokenHash = null;
         rotateTokenVersion();
     }
 
-    public void updateRefreshTokenEncrypted(String refreshTokenEncrypted) {
-        this.refreshTokenEncrypted = refreshTokenEncrypted;
-    }
-
     public void invalidateRefreshTokenEncrypted() {
         this.refreshTokenEncrypted = null;
+        this.refreshTokenHash = null;
     }
 
     public void rotateTokenVersion() {
@@ -0,0 +1,20 @@
+package com.example.domain.member.payload.dto;
+
+import java.util.UUID;
+
+/**
+ * JWT 인증 전용 회원/블랙리스트 통합 조회 요청 DTO
+ *
+ * <p>
+ * - tokenHash, tokenId 중 블랙리스트 키 방식에 맞는 하나만 채웁니다.
+ * </p>
+ */
+public record MemberAuthLookupQuery(
+        String loginId,
+        String tokenHash,
+        UUID tokenId
+) {
+    public static MemberAuthLookupQuery of(String loginId, String tokenHash, UUID tokenId) {
+        return new MemberAuthLookupQuery(loginId, tokenHash, tokenId);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.domain.member.payload.dto;
+
+import com.example.domain.member.payload.request.MemberListRequest;
+
+/**
+ * 회원 목록 keyset 조회 Query DTO
+ * <p>
+ * - 검색 조건은 MemberListQuery를 그대로 사용하며(page는 무시), 위치는 커서 문자열로 전달합니다.
+ * - 커서 해석/검증은 서비스에서 수행합니다.
+ */
+public record MemberCursorListQuery(
+        MemberListQuery condition,
+        String cursor
+) {
+
+    public static MemberCursorListQuery of(MemberListQuery condition, String cursor) {
+        if (condition == null) {
+            throw new IllegalArgumentException("condition은 필수입니다.");
+        }
+        return new MemberCursorListQuery(condition, cursor);
+    }
+
+    public static MemberCursorListQuery from(MemberListRequest request, String cursor) {
+        return of(MemberListQuery.from(request), cursor);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.domain.member.payload.dto;
+
+import com.example.domain.account.enums.AccountRole;
+import com.example.domain.member.enums.MemberType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 상세 조회 Projection DTO
+ * <p>
+ * - 상세 응답(MemberProfileDetailResponse)에 필요한 프로필/감사(Audit) 컬럼만 담습니다.
+ */
+public record MemberDetailView(
+        Long id,
+        String loginId,
+        String nickName,
+        AccountRole role,
+        MemberType memberType,
+        LocalDateTime createdAt,
+        String createdBy,
+        LocalDateTime modifiedAt,
+        String lastModifiedBy
+) {
+
+    public static MemberDetailView of(
+            Long id,
+            String loginId,
+            String nickName,
+            AccountRole role,
+            MemberType memberType,
+            LocalDateTime createdAt,
+            String createdBy,
+            LocalDateTime modifiedAt,
+            String lastModifiedBy
+    ) {
+        return new MemberDetailView(id, loginId, nickName, role, memberType, createdAt, createdBy, modifiedAt, lastModifiedBy);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.domain.member.payload.dto;
+
+import com.example.domain.member.enums.MemberOrderType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 회원 목록 keyset 커서
+ *
+ * <p>
+ * - 페이지 경계 행의 (createdAt, memberId)와 정렬 기준, 이동 방향을 담아 Base64URL 문자열로 주고받습니다.
+ * - backward=true면 경계 행 이전(이전 페이지) 방향으로 조회합니다.
+ * - 형식이 맞지 않는 커서는 decode가 null을 반환하며, 호출자가 잘못된 요청으로 처리합니다.
+ * </p>
+ */
+public record MemberListCursor(
+        MemberOrderType order,
+        boolean backward,
+        LocalDateTime createdAt,
+        Long memberId
+) {
+
+    private static final String VERSION = "v1";
+    private static final String DELIMITER = "|";
+    private static final String FORWARD = "N";
+    private static final String BACKWARD = "P";
+
+    public static MemberListCursor of(
+            MemberOrderType order,
+            boolean backward,
+            LocalDateTime createdAt,
+            Long memberId
+    ) {
+        if (order == null || createdAt == null || memberId == null) {
+            throw new IllegalArgumentException("order/createdAt/memberId는 필수입니다.");
+        }
+        return new MemberListCursor(order, backward, createdAt, memberId);
+    }
+
+    public String encode() {
+        final String raw = String.join(
+                DELIMITER,
+                VERSION,
+                order.name(),
+                backward ? BACKWARD : FORWARD,
+                createdAt.toString(),
+                memberId.toString()
+        );
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MemberListCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            final String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final String[] parts = raw.split("\\" + DELIMITER, -1);
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                return null;
+            }
+            if (!FORWARD.equals(parts[2]) && !BACKWARD.equals(parts[2])) {
+                return null;
+            }
+            return of(
+                    MemberOrderType.valueOf(parts[1]),
+                    BACKWARD.equals(parts[2]),
+                    LocalDateTime.parse(parts[3]),
+                    Long.valueOf(parts[4])
+            );
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * 실제 조회 정렬 방향 (이전 페이지 조회는 정렬을 뒤집어 경계에서 가까운 행부터 읽습니다.)
+     */
+    public boolean scansAscending() {
+        return (order == MemberOrderType.CREATE_ASC) != backward;
+    }
+}
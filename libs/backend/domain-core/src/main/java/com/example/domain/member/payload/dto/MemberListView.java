@@ -0,0 +1,32 @@
+package com.example.domain.member.payload.dto;
+
+import com.example.domain.account.enums.AccountRole;
+import com.example.domain.member.enums.MemberType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 목록 조회 Projection DTO
+ * <p>
+ * - 목록 응답(MemberProfileListResponse)과 커서 경계(createdAt, id)에 필요한 컬럼만 담습니다.
+ */
+public record MemberListView(
+        Long id,
+        String loginId,
+        String nickName,
+        AccountRole role,
+        MemberType memberType,
+        LocalDateTime createdAt
+) {
+
+    public static MemberListView of(
+            Long id,
+            String loginId,
+            String nickName,
+            AccountRole role,
+            MemberType memberType,
+            LocalDateTime createdAt
+    ) {
+        return new MemberListView(id, loginId, nickName, role, memberType, createdAt);
+    }
+}
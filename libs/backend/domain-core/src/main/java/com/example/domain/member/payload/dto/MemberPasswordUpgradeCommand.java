@@ -0,0 +1,18 @@
+package com.example.domain.member.payload.dto;
+
+/**
+ * 비밀번호 해시 재인코딩(강도 상향) 요청 DTO
+ *
+ * <p>
+ * - 저장된 해시가 currentEncodedPassword와 같을 때만 newEncodedPassword로 교체합니다. (동시 비밀번호 변경 보호)
+ * </p>
+ */
+public record MemberPasswordUpgradeCommand(
+        String loginId,
+        String currentEncodedPassword,
+        String newEncodedPassword
+) {
+    public static MemberPasswordUpgradeCommand of(String loginId, String currentEncodedPassword, String newEncodedPassword) {
+        return new MemberPasswordUpgradeCommand(loginId, currentEncodedPassword, newEncodedPassword);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.domain.member.payload.dto;
+
+/**
+ * 리프레시 토큰 해시 CAS(compare-and-swap) 회전 요청 DTO
+ *
+ * <p>
+ * - currentHash가 저장된 값과 같고 토큰 버전이 일치할 때만 newHash로 교체합니다.
+ * </p>
+ */
+public record MemberRefreshTokenRotateCommand(
+        String loginId,
+        long tokenVersion,
+        String currentHash,
+        String newHash
+) {
+    public static MemberRefreshTokenRotateCommand of(String loginId, long tokenVersion, String currentHash, String newHash) {
+        return new MemberRefreshTokenRotateCommand(loginId, tokenVersion, currentHash, newHash);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.domain.member.payload.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 암호문/키 해시 갱신 요청 DTO
+ * 벌크 UPDATE는 Auditing을 거치지 않으므로 수정일/수정자를 함께 전달합니다.
+ */
+public record MemberRefreshTokenUpdateCommand(
+        Long memberId,
+        String refreshTokenEncrypted,
+        String refreshTokenHash,
+        LocalDateTime modifiedAt,
+        String modifiedBy
+) {
+    public static MemberRefreshTokenUpdateCommand of(
+            Long memberId,
+            String refreshTokenEncrypted,
+            String refreshTokenHash,
+            LocalDateTime modifiedAt,
+            String modifiedBy
+    ) {
+        return new MemberRefreshTokenUpdateCommand(memberId, refreshTokenEncrypted, refreshTokenHash, modifiedAt, modifiedBy);
+    }
+}
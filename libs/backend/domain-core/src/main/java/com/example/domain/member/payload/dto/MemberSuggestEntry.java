@@ -0,0 +1,52 @@
+package com.example.domain.member.payload.dto;
+
+import com.example.domain.account.enums.AccountRole;
+import com.example.domain.member.enums.MemberActiveStatus;
+import com.example.domain.member.repository.MemberSuggestProjection;
+
+/**
+ * 자동완성 색인 항목
+ * <p>
+ * - 색인은 이 항목만 메모리에 보관하며, 응답도 이 값으로만 구성합니다. (조회 시 DB 미접근)
+ */
+public record MemberSuggestEntry(
+        Long memberId,
+        String loginId,
+        String nickName,
+        AccountRole role,
+        MemberActiveStatus active
+) {
+
+    public static MemberSuggestEntry of(
+            Long memberId,
+            String loginId,
+            String nickName,
+            AccountRole role,
+            MemberActiveStatus active
+    ) {
+        if (memberId == null) {
+            throw new IllegalArgumentException("memberId는 필수입니다.");
+        }
+        return new MemberSuggestEntry(memberId, loginId, nickName, role, active);
+    }
+
+    public static MemberSuggestEntry from(MemberSuggestProjection projection) {
+        if (projection == null) {
+            throw new IllegalArgumentException("projection은 필수입니다.");
+        }
+        return of(
+                projection.getId(),
+                projection.getLoginId(),
+                projection.getNickName(),
+                projection.getRole(),
+                projection.getActive()
+        );
+    }
+
+    /**
+     * 활성 상태 조건 일치 여부 (ALL 또는 null이면 전체)
+     */
+    public boolean matchesActive(MemberActiveStatus condition) {
+        return condition == null || condition == MemberActiveStatus.ALL || condition == active;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.domain.member.payload.dto;
+
+import com.example.domain.account.enums.AccountRole;
+import com.example.domain.member.enums.MemberActiveStatus;
+import com.example.domain.member.payload.request.MemberSuggestRequest;
+
+import java.util.List;
+
+/**
+ * 회원 자동완성 Query DTO
+ * <p>
+ * - roles는 요청 권한을 담당하는 서비스의 지원 권한 목록입니다. (목록 조회와 같은 범위)
+ */
+public record MemberSuggestQuery(
+        String keyword,
+        List<AccountRole> roles,
+        MemberActiveStatus active,
+        int limit
+) {
+
+    public static MemberSuggestQuery of(String keyword, List<AccountRole> roles, MemberActiveStatus active, int limit) {
+        if (roles == null || roles.isEmpty()) {
+            throw new IllegalArgumentException("roles는 필수입니다.");
+        }
+        return new MemberSuggestQuery(keyword == null ? "" : keyword, List.copyOf(roles), active, limit);
+    }
+
+    public static MemberSuggestQuery from(MemberSuggestRequest request, List<AccountRole> roles) {
+        if (request == null) {
+            throw new IllegalArgumentException("request는 필수입니다.");
+        }
+        return of(request.q(), roles, request.toDomainActive(), request.limit());
+    }
+}
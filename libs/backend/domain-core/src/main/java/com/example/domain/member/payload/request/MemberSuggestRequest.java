@@ -0,0 +1,46 @@
+package com.example.domain.member.payload.request;
+
+import com.example.domain.account.enums.AccountRole;
+import com.example.domain.contract.enums.ApiAccountRole;
+import com.example.domain.contract.enums.ApiMemberActiveStatus;
+import com.example.domain.member.enums.MemberActiveStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record MemberSuggestRequest(
+        @Schema(description = "검색어(로그인 아이디/닉네임 접두어)", example = "user1")
+        String q,
+
+        @Schema(description = "권한", example = "USER")
+        ApiAccountRole role,
+
+        @Schema(description = "활성화 여부")
+        ApiMemberActiveStatus active,
+
+        @Schema(description = "최대 건수", example = "10")
+        Integer limit
+) {
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
+
+    // 생성자에서 null 또는 유효하지 않은 값에 대한 기본값 설정
+    public MemberSuggestRequest {
+        if (q == null) q = "";
+        if (role == null) role = ApiAccountRole.USER;
+        if (active == null) active = ApiMemberActiveStatus.ALL;
+        if (limit == null || limit < 1) limit = DEFAULT_LIMIT;
+        if (limit > MAX_LIMIT) limit = MAX_LIMIT;
+    }
+
+    public static MemberSuggestRequest of(String q, ApiAccountRole role, ApiMemberActiveStatus active, Integer limit) {
+        return new MemberSuggestRequest(q, role, active, limit);
+    }
+
+    public AccountRole toDomainRole() {
+        return role != null ? role.toDomain() : null;
+    }
+
+    public MemberActiveStatus toDomainActive() {
+        return active != null ? active.toDomain() : null;
+    }
+}
@@ -1,6 +1,6 @@
 package com.example.domain.member.payload.response;
 
-import com.example.domain.member.entity.Member;
+import com.example.domain.member.payload.dto.MemberDetailView;
 
 /**
  * 회원 상세 응답
@@ -9,11 +9,11 @@ public record DetailMemberResponse(
         MemberProfileDetailResponse profile
 ) {
 
-    public static DetailMemberResponse from(Member member) {
-        if (member == null) {
-            throw new IllegalArgumentException("member는 필수입니다.");
+    public static DetailMemberResponse from(MemberDetailView view) {
+        if (view == null) {
+            throw new IllegalArgumentException("view는 필수입니다.");
         }
-        return new DetailMemberResponse(MemberProfileDetailResponse.from(member));
+        return new DetailMemberResponse(MemberProfileDetailResponse.from(view));
     }
 
 }
@@ -0,0 +1,35 @@
+package com.example.domain.member.payload.response;
+
+import java.util.List;
+
+/**
+ * 회원 목록 keyset 조회 응답
+ * <p>
+ * - 전체 건수(count)를 계산하지 않으며, 앞/뒤 페이지는 커서로만 이동합니다.
+ * - nextCursor/prevCursor가 null이면 해당 방향에 더 이상 행이 없습니다.
+ */
+public record MemberCursorPageResponse(
+        List<MemberListResponse> content,
+        int size,
+        String nextCursor,
+        String prevCursor,
+        boolean hasNext,
+        boolean hasPrevious
+) {
+
+    public static MemberCursorPageResponse of(
+            List<MemberListResponse> content,
+            int size,
+            String nextCursor,
+            String prevCursor
+    ) {
+        return new MemberCursorPageResponse(
+                content == null ? List.of() : List.copyOf(content),
+                size,
+                nextCursor,
+                prevCursor,
+                nextCursor != null,
+                prevCursor != null
+        );
+    }
+}
@@ -1,6 +1,6 @@
 package com.example.domain.member.payload.response;
 
-import com.example.domain.member.entity.Member;
+import com.example.domain.member.payload.dto.MemberListView;
 
 /**
  * 회원 목록 응답
@@ -9,11 +9,11 @@ public record MemberListResponse(
         MemberProfileListResponse profile
 ) {
 
-    public static MemberListResponse from(Member member) {
-        if (member == null) {
-            throw new IllegalArgumentException("member는 필수입니다.");
+    public static MemberListResponse from(MemberListView view) {
+        if (view == null) {
+            throw new IllegalArgumentException("view는 필수입니다.");
         }
-        return new MemberListResponse(MemberProfileListResponse.from(member));
+        return new MemberListResponse(MemberProfileListResponse.from(view));
     }
 
 }
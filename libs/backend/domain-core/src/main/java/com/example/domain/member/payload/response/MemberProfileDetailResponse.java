@@ -2,7 +2,7 @@ package com.example.domain.member.payload.response;
 
 import com.example.domain.contract.enums.ApiAccountRole;
 import com.example.domain.contract.enums.ApiMemberType;
-import com.example.domain.member.entity.Member;
+import com.example.domain.member.payload.dto.MemberDetailView;
 import com.example.global.utils.DateTimeFormatUtils;
 
 /**
@@ -22,24 +22,24 @@ public record MemberProfileDetailResponse(
         String modifiedBy
 ) {
 
-    private MemberProfileDetailResponse(Member member) {
+    private MemberProfileDetailResponse(MemberDetailView view) {
         this(
-                member.getId(),
-                member.getLoginId(),
-                member.getNickName(),
-                ApiAccountRole.fromDomain(member.getRole()),
-                ApiMemberType.fromDomain(member.getMemberType()),
-                DateTimeFormatUtils.formatKoreanDateTime(member.getCreatedAt()),
-                member.getCreatedBy(),
-                DateTimeFormatUtils.formatKoreanDateTime(member.getModifiedAt()),
-                member.getLastModifiedBy()
+                view.id(),
+                view.loginId(),
+                view.nickName(),
+                ApiAccountRole.fromDomain(view.role()),
+                ApiMemberType.fromDomain(view.memberType()),
+                DateTimeFormatUtils.formatKoreanDateTime(view.createdAt()),
+                view.createdBy(),
+                DateTimeFormatUtils.formatKoreanDateTime(view.modifiedAt()),
+                view.lastModifiedBy()
         );
     }
 
-    public static MemberProfileDetailResponse from(Member member) {
-        if (member == null) {
-            throw new IllegalArgumentException("member는 필수입니다.");
+    public static MemberProfileDetailResponse from(MemberDetailView view) {
+        if (view == null) {
+            throw new IllegalArgumentException("view는 필수입니다.");
         }
-        return new MemberProfileDetailResponse(member);
+        return new MemberProfileDetailResponse(view);
     }
 }
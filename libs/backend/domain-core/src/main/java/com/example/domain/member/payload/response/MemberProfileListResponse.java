@@ -2,7 +2,7 @@ package com.example.domain.member.payload.response;
 
 import com.example.domain.contract.enums.ApiAccountRole;
 import com.example.domain.contract.enums.ApiMemberType;
-import com.example.domain.member.entity.Member;
+import com.example.domain.member.payload.dto.MemberListView;
 
 /**
  * 회원 목록/요약 프로필 응답
@@ -15,20 +15,20 @@ public record MemberProfileListResponse(
         ApiMemberType memberType
 ) {
 
-    private MemberProfileListResponse(Member member) {
+    private MemberProfileListResponse(MemberListView view) {
         this(
-                member.getId(),
-                member.getLoginId(),
-                member.getNickName(),
-                ApiAccountRole.fromDomain(member.getRole()),
-                ApiMemberType.fromDomain(member.getMemberType())
+                view.id(),
+                view.loginId(),
+                view.nickName(),
+                ApiAccountRole.fromDomain(view.role()),
+                ApiMemberType.fromDomain(view.memberType())
         );
     }
 
-    public static MemberProfileListResponse from(Member member) {
-        if (member == null) {
-            throw new IllegalArgumentException("member는 필수입니다.");
+    public static MemberProfileListResponse from(MemberListView view) {
+        if (view == null) {
+            throw new IllegalArgumentException("view는 필수입니다.");
         }
-        return new MemberProfileListResponse(member);
+        return new MemberProfileListResponse(view);
     }
 }
@@ -0,0 +1,30 @@
+package com.example.domain.member.payload.response;
+
+import com.example.domain.contract.enums.ApiAccountRole;
+import com.example.domain.contract.enums.ApiMemberActiveStatus;
+import com.example.domain.member.payload.dto.MemberSuggestEntry;
+
+/**
+ * 회원 자동완성 응답
+ */
+public record MemberSuggestResponse(
+        Long id,
+        String loginId,
+        String nickName,
+        ApiAccountRole role,
+        ApiMemberActiveStatus active
+) {
+
+    public static MemberSuggestResponse from(MemberSuggestEntry entry) {
+        if (entry == null) {
+            throw new IllegalArgumentException("entry는 필수입니다.");
+        }
+        return new MemberSuggestResponse(
+                entry.memberId(),
+                entry.loginId(),
+                entry.nickName(),
+                ApiAccountRole.fromDomain(entry.role()),
+                ApiMemberActiveStatus.fromDomain(entry.active())
+        );
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.domain.member.repository;
+
+/**
+ * JWT 인증 전용 네이티브 조회 Projection
+ *
+ * <p>
+ * - 회원 인증 정보와 제시된 토큰의 블랙리스트 여부를 한 번의 왕복으로 조회합니다.
+ * - 네이티브 쿼리 결과이므로 enum 컬럼은 문자열로 받아 Adapter에서 변환합니다.
+ * </p>
+ */
+public interface AuthMemberBlacklistProjection {
+
+    Long getId();
+
+    String getLoginId();
+
+    String getPassword();
+
+    String getNickName();
+
+    String getRole();
+
+    String getMemberType();
+
+    String getActive();
+
+    Long getTokenVersion();
+
+    Boolean getBlacklisted();
+}
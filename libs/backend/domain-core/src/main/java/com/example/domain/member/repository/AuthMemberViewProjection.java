@@ -0,0 +1,27 @@
+package com.example.domain.member.repository;
+
+import com.example.domain.account.enums.AccountRole;
+import com.example.domain.member.enums.MemberActiveStatus;
+import com.example.domain.member.enums.MemberType;
+
+/**
+ * JWT 인증용 회원 조회 Projection
+ */
+public interface AuthMemberViewProjection {
+
+    Long getId();
+
+    String getLoginId();
+
+    String getPassword();
+
+    String getNickName();
+
+    AccountRole getRole();
+
+    MemberType getMemberType();
+
+    MemberActiveStatus getActive();
+
+    long getTokenVersion();
+}
@@ -0,0 +1,29 @@
+package com.example.domain.member.repository;
+
+import com.example.domain.account.enums.AccountRole;
+import com.example.domain.member.enums.MemberActiveStatus;
+import com.example.domain.member.enums.MemberType;
+
+/**
+ * 로그인 요청 1건에서 재사용할 회원 스냅샷 조회 Projection
+ */
+public interface LoginMemberSnapshotProjection {
+
+    Long getId();
+
+    String getLoginId();
+
+    String getPassword();
+
+    String getNickName();
+
+    AccountRole getRole();
+
+    MemberType getMemberType();
+
+    MemberActiveStatus getActive();
+
+    long getTokenVersion();
+
+    String getRefreshTokenEncrypted();
+}
@@ -0,0 +1,16 @@
+package com.example.domain.member.repository;
+
+import com.example.domain.account.enums.AccountRole;
+import com.example.domain.member.enums.MemberActiveStatus;
+
+/**
+ * 접근 권한 검사용 Projection
+ */
+public interface MemberAccessTargetProjection {
+
+    Long getId();
+
+    AccountRole getRole();
+
+    MemberActiveStatus getActive();
+}
@@ -0,0 +1,30 @@
+package com.example.domain.member.repository;
+
+import com.example.domain.account.enums.AccountRole;
+import com.example.domain.member.payload.dto.MemberDetailView;
+import com.example.domain.member.payload.dto.MemberListView;
+import com.querydsl.core.types.Predicate;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface MemberQueryRepository {
+
+    /**
+     * keyset 조회: (createdAt, id) 순서로 limit건을 읽습니다. 전체 건수(count)는 조회하지 않습니다.
+     *
+     * @param predicate 검색 조건 + 커서 경계 조건
+     * @param ascending true면 오래된 순, false면 최신 순
+     */
+    List<MemberListView> findSeekPage(Predicate predicate, boolean ascending, int limit);
+
+    /**
+     * OFFSET 조회: (createdAt, id) 순서로 offset 이후 limit건을 읽습니다. 전체 건수는 호출자가 계산 전략으로 결정합니다.
+     */
+    List<MemberListView> findOffsetPage(Predicate predicate, boolean ascending, long offset, int limit);
+
+    /**
+     * 상세 조회: 지원 권한에 속한 회원 1건의 프로필/감사 컬럼만 읽습니다. (엔티티 미적재)
+     */
+    Optional<MemberDetailView> findDetailView(Long id, List<AccountRole> roles);
+}
@@ -2,15 +2,27 @@ package com.example.domain.member.repository;
 
 import com.example.domain.account.enums.AccountRole;
 import com.example.domain.member.entity.Member;
+import com.example.domain.member.enums.MemberActiveStatus;
+import com.example.domain.member.payload.dto.MemberPasswordUpgradeCommand;
+import com.example.domain.member.payload.dto.MemberRefreshTokenRotateCommand;
+import com.example.domain.member.payload.dto.MemberRefreshTokenUpdateCommand;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface MemberRepository extends JpaRepository<Member, Long>, QuerydslPredicateExecutor<Member> {
+public interface MemberRepository extends JpaRepository<Member, Long>, QuerydslPredicateExecutor<Member>, MemberQueryRepository {
 
     Optional<Member> findByLoginId(String loginId);
 
@@ -28,5 +40,166 @@ public interface MemberRepository extends JpaRepository<Member, Long>, QuerydslP
 
     Optional<Member> findByIdAndRoleIn(Long id, List<AccountRole> roles);
 
-    Optional<Member> findByLoginIdAndRoleIn(String loginId, List<AccountRole> roles);
+    /**
+     * 로그인 요청 1건에서 재사용할 스냅샷 조회 (검증/인증/토큰 발급이 이 결과 하나를 공유)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Optional<LoginMemberSnapshotProjection> findLoginSnapshotByLoginIdAndRoleIn(String loginId, List<AccountRole> roles);
+
+    // ===== Security Port 전용 읽기 (엔티티 대신 필요한 컬럼만 조회해 영속성 컨텍스트에 Member를 적재하지 않음) =====
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Optional<MemberAccessTargetProjection> findAccessTargetById(Long id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Optional<MemberAccessTargetProjection> findAccessTargetByIdAndRoleIn(Long id, List<AccountRole> roles);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Optional<AuthMemberViewProjection> findAuthViewByLoginIdAndActive(String loginId, MemberActiveStatus active);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Optional<MemberTokenInfoProjection> findTokenInfoById(Long id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Optional<MemberTokenInfoProjection> findTokenInfoByLoginId(String loginId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select m.id from Member m where m.loginId = :loginId")
+    Optional<Long> findIdByLoginId(@Param("loginId") String loginId);
+
+    // ===== 자동완성 색인 적재 (admin 노드 기동 시 1회 스트리밍 + 변경된 회원 단건 재조회) =====
+
+    /**
+     * 전체 회원을 필요한 컬럼만 fetch size 단위로 스트리밍합니다. (트랜잭션 안에서 호출하고 반드시 close)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000")
+    })
+    @Query("select m.id as id, m.loginId as loginId, m.nickName as nickName, m.role as role, m.active as active from Member m")
+    Stream<MemberSuggestProjection> streamAllSuggest();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Optional<MemberSuggestProjection> findSuggestById(Long id);
+
+    /**
+     * JWT 인증 전용: 회원 인증 정보와 토큰 해시 블랙리스트 여부를 한 번에 조회합니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = """
+            select m.member_id     as "id",
+                   m.login_id      as "loginId",
+                   m.password      as "password",
+                   m.nick_name     as "nickName",
+                   m.role          as "role",
+                   m.member_type   as "memberType",
+                   m.active        as "active",
+                   m.token_version as "tokenVersion",
+                   exists(select 1 from blacklisted_token bt where bt.token_hash = :tokenHash) as "blacklisted"
+            from member m
+            where m.login_id = :loginId
+            """, nativeQuery = true)
+    Optional<AuthMemberBlacklistProjection> findAuthMemberWithTokenHashBlacklist(
+            @Param("loginId") String loginId,
+            @Param("tokenHash") String tokenHash
+    );
+
+    /**
+     * JWT 인증 전용(BINARY 저장 형식): 회원 인증 정보와 토큰 다이제스트(bytea) 블랙리스트 여부를 한 번에 조회합니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = """
+            select m.member_id     as "id",
+                   m.login_id      as "loginId",
+                   m.password      as "password",
+                   m.nick_name     as "nickName",
+                   m.role          as "role",
+                   m.member_type   as "memberType",
+                   m.active        as "active",
+                   m.token_version as "tokenVersion",
+                   exists(select 1 from blacklisted_token bt where bt.token_digest = :tokenDigest) as "blacklisted"
+            from member m
+            where m.login_id = :loginId
+            """, nativeQuery = true)
+    Optional<AuthMemberBlacklistProjection> findAuthMemberWithTokenDigestBlacklist(
+            @Param("loginId") String loginId,
+            @Param("tokenDigest") byte[] tokenDigest
+    );
+
+    /**
+     * JWT 인증 전용(JTI 모드): 회원 인증 정보와 jti 블랙리스트 여부를 한 번에 조회합니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = """
+            select m.member_id     as "id",
+                   m.login_id      as "loginId",
+                   m.password      as "password",
+                   m.nick_name     as "nickName",
+                   m.role          as "role",
+                   m.member_type   as "memberType",
+                   m.active        as "active",
+                   m.token_version as "tokenVersion",
+                   exists(select 1 from blacklisted_token bt where bt.token_id = :tokenId) as "blacklisted"
+            from member m
+            where m.login_id = :loginId
+            """, nativeQuery = true)
+    Optional<AuthMemberBlacklistProjection> findAuthMemberWithTokenIdBlacklist(
+            @Param("loginId") String loginId,
+            @Param("tokenId") UUID tokenId
+    );
+
+    /**
+     * 리프레시 토큰 해시 CAS 회전: 저장된 해시/토큰 버전이 모두 일치하는 활성 회원 1건만 새 해시로 교체합니다.
+     * <p>
+     * - 엔티티를 로드하지 않고 단일 UPDATE로 처리하며, 동시 요청 중 하나만 1을 반환합니다.
+     * - 해시 회전 이후 암호문은 더 이상 현재 토큰과 일치하지 않으므로 함께 비웁니다.
+     * </p>
+     *
+     * @return 갱신된 행 수 (0이면 재사용/경합 패배/버전 불일치)
+     */
+    @Modifying
+    @Query("""
+            update Member m
+            set m.refreshTokenHash = :#{#command.newHash},
+                m.refreshTokenEncrypted = null
+            where m.loginId = :#{#command.loginId}
+              and m.refreshTokenHash = :#{#command.currentHash}
+              and m.tokenVersion = :#{#command.tokenVersion}
+              and m.active = com.example.domain.member.enums.MemberActiveStatus.ACTIVE
+            """)
+    int rotateRefreshTokenHash(@Param("command") MemberRefreshTokenRotateCommand command);
+
+    /**
+     * 비밀번호 해시 재인코딩: 저장된 해시가 로그인 시 검증한 값과 같을 때만 새 해시로 교체합니다.
+     * <p>
+     * - 로그인 중 다른 요청이 비밀번호를 바꿨다면 0을 반환하고 덮어쓰지 않습니다.
+     * </p>
+     *
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("""
+            update Member m
+            set m.password = :#{#command.newEncodedPassword}
+            where m.loginId = :#{#command.loginId}
+              and m.password = :#{#command.currentEncodedPassword}
+            """)
+    int upgradePassword(@Param("command") MemberPasswordUpgradeCommand command);
+
+    /**
+     * 리프레시 토큰 암호문/키 해시 갱신: 엔티티를 로드하지 않고 id 조건 단일 UPDATE로 처리합니다.
+     * 벌크 UPDATE는 @LastModifiedDate/@LastModifiedBy가 적용되지 않으므로 수정일/수정자를 직접 설정합니다.
+     *
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("""
+            update Member m
+            set m.refreshTokenEncrypted = :#{#command.refreshTokenEncrypted},
+                m.refreshTokenHash = :#{#command.refreshTokenHash},
+                m.modifiedAt = :#{#command.modifiedAt},
+                m.lastModifiedBy = :#{#command.modifiedBy}
+            where m.id = :#{#command.memberId}
+            """)
+    int updateRefreshToken(@Param("command") MemberRefreshTokenUpdateCommand command);
 }
@@ -0,0 +1,107 @@
+package com.example.domain.member.repository;
+
+import com.example.domain.account.enums.AccountRole;
+import com.example.domain.member.payload.dto.MemberDetailView;
+import com.example.domain.member.payload.dto.MemberListView;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.example.domain.member.entity.QMember.member;
+
+/**
+ * 회원 목록/상세 조회는 응답에 필요한 컬럼만 DTO로 읽습니다.
+ * <p>
+ * - 엔티티를 적재하지 않으므로 영속성 컨텍스트 스냅샷, memberImages 지연 컬렉션 프록시, 비밀번호/토큰 컬럼 복사가 없습니다.
+ * - DTO 결과는 관리 대상이 아니라 read-only 힌트가 필요 없고, fetch size만 페이지 크기에 맞춰 한 번에 받습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberRepositoryImpl implements MemberQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<MemberListView> findSeekPage(Predicate predicate, boolean ascending, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit은 1 이상이어야 합니다.");
+        }
+
+        return queryFactory
+                .select(listView())
+                .from(member)
+                .where(predicate)
+                .orderBy(orderByCreatedAt(ascending))
+                .limit(limit)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, limit)
+                .fetch();
+    }
+
+    @Override
+    public List<MemberListView> findOffsetPage(Predicate predicate, boolean ascending, long offset, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit은 1 이상이어야 합니다.");
+        }
+
+        return queryFactory
+                .select(listView())
+                .from(member)
+                .where(predicate)
+                .orderBy(orderByCreatedAt(ascending))
+                .offset(offset)
+                .limit(limit)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, limit)
+                .fetch();
+    }
+
+    @Override
+    public Optional<MemberDetailView> findDetailView(Long id, List<AccountRole> roles) {
+        if (id == null || roles == null || roles.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(queryFactory
+                .select(Projections.constructor(
+                        MemberDetailView.class,
+                        member.id,
+                        member.loginId,
+                        member.nickName,
+                        member.role,
+                        member.memberType,
+                        member.createdAt,
+                        member.createdBy,
+                        member.modifiedAt,
+                        member.lastModifiedBy
+                ))
+                .from(member)
+                .where(member.id.eq(id), member.role.in(roles))
+                .fetchOne());
+    }
+
+    private static ConstructorExpression<MemberListView> listView() {
+        return Projections.constructor(
+                MemberListView.class,
+                member.id,
+                member.loginId,
+                member.nickName,
+                member.role,
+                member.memberType,
+                member.createdAt
+        );
+    }
+
+    // idx_member_role_created_at_member_id 범위 스캔으로 limit건만 읽도록 정렬 키를 인덱스 순서와 맞춥니다.
+    private static OrderSpecifier<?>[] orderByCreatedAt(boolean ascending) {
+        return ascending
+                ? new OrderSpecifier<?>[]{member.createdAt.asc(), member.id.asc()}
+                : new OrderSpecifier<?>[]{member.createdAt.desc(), member.id.desc()};
+    }
+}
@@ -3,12 +3,17 @@ package com.example.domain.member.repository;
 import com.example.domain.account.enums.AccountRole;
 import com.example.domain.member.enums.MemberActiveStatus;
 import com.example.domain.member.enums.MemberFilterType;
+import com.example.domain.member.payload.dto.MemberListCursor;
 import com.example.domain.member.payload.dto.MemberListQuery;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringPath;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
@@ -21,11 +26,25 @@ import static com.example.domain.member.entity.QMember.member;
  */
 public final class MemberSpecification {
 
+    /**
+     * pg_trgm GIN 인덱스(idx_member_login_id_trgm / idx_member_nick_name_trgm)의 인덱스 식 lower(col)과
+     * 같은 형태로 비교해 플래너가 인덱스를 선택하도록 합니다. (docs/db/member_trgm_search.sql 참고)
+     * <p>
+     * - containsIgnoreCase는 lower(?) / escape '!'가 붙은 식을 만들어 선택도 추정이 어렵습니다.
+     * - 패턴은 애플리케이션에서 소문자화하고 %, _, \ 를 기본 이스케이프 문자(\)로 처리해 바인딩합니다.
+     * </p>
+     */
+    private static final String TRIGRAM_CONTAINS_TEMPLATE = "lower({0}) like {1}";
+
+    /**
+     * ALL은 두 조건을 OR로 묶습니다. 각 조건이 자기 trigram 인덱스를 쓰므로 PostgreSQL은
+     * BitmapOr(두 Bitmap Index Scan 결과를 TID 단위로 합침)로 처리하며, 이는 UNION 후 중복 제거와 같은 계획입니다.
+     */
     private static final Map<MemberFilterType, Function<String, Predicate>> FILTER_PREDICATE_RESOLVERS = Map.of(
-            MemberFilterType.LOGIN_ID, member.loginId::containsIgnoreCase,
-            MemberFilterType.NICK_NAME, member.nickName::containsIgnoreCase,
-            MemberFilterType.ALL, keyword -> member.loginId.containsIgnoreCase(keyword)
-                    .or(member.nickName.containsIgnoreCase(keyword))
+            MemberFilterType.LOGIN_ID, keyword -> trigramContains(member.loginId, keyword),
+            MemberFilterType.NICK_NAME, keyword -> trigramContains(member.nickName, keyword),
+            MemberFilterType.ALL, keyword -> trigramContains(member.loginId, keyword)
+                    .or(trigramContains(member.nickName, keyword))
     );
 
     private MemberSpecification() {
@@ -51,6 +70,43 @@ public final class MemberSpecification {
         return builder;
     }
 
+    /**
+     * keyset 경계 조건: 커서 행 다음(또는 이전)의 (createdAt, id)만 남깁니다.
+     * <p>
+     * - createdAt 범위 조건을 먼저 두어 복합 인덱스 (role, created_at, member_id) 범위 스캔이 가능하도록 전개합니다.
+     *   (createdAt &lt; c) OR (createdAt = c AND id &lt; i) 와 같은 의미입니다.
+     * </p>
+     */
+    public static Predicate seek(MemberListCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        if (cursor.scansAscending()) {
+            return member.createdAt.goe(cursor.createdAt())
+                    .and(member.createdAt.gt(cursor.createdAt()).or(member.id.gt(cursor.memberId())));
+        }
+        return member.createdAt.loe(cursor.createdAt())
+                .and(member.createdAt.lt(cursor.createdAt()).or(member.id.lt(cursor.memberId())));
+    }
+
+    private static BooleanExpression trigramContains(StringPath path, String keyword) {
+        return Expressions.booleanTemplate(TRIGRAM_CONTAINS_TEMPLATE, path, toContainsPattern(keyword));
+    }
+
+    static String toContainsPattern(String keyword) {
+        final String lowered = keyword.toLowerCase(Locale.ROOT);
+        final StringBuilder pattern = new StringBuilder(lowered.length() + 2).append('%');
+        for (int i = 0; i < lowered.length(); i++) {
+            final char c = lowered.charAt(i);
+            if (c == '%' || c == '_' || c == '\\') {
+                pattern.append('\\');
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+
     private static Optional<Predicate> resolveSearchPredicate(MemberFilterType filter, String keyword) {
         if (!StringUtils.hasText(keyword)) {
             return Optional.empty();
@@ -0,0 +1,20 @@
+package com.example.domain.member.repository;
+
+import com.example.domain.account.enums.AccountRole;
+import com.example.domain.member.enums.MemberActiveStatus;
+
+/**
+ * 자동완성 색인 적재용 Projection
+ */
+public interface MemberSuggestProjection {
+
+    Long getId();
+
+    String getLoginId();
+
+    String getNickName();
+
+    AccountRole getRole();
+
+    MemberActiveStatus getActive();
+}
@@ -0,0 +1,27 @@
+package com.example.domain.member.repository;
+
+import com.example.domain.account.enums.AccountRole;
+import com.example.domain.member.enums.MemberActiveStatus;
+import com.example.domain.member.enums.MemberType;
+
+/**
+ * 토큰 발급/재발급용 회원 조회 Projection
+ */
+public interface MemberTokenInfoProjection {
+
+    Long getId();
+
+    String getLoginId();
+
+    AccountRole getRole();
+
+    String getNickName();
+
+    MemberType getMemberType();
+
+    MemberActiveStatus getActive();
+
+    long getTokenVersion();
+
+    String getRefreshTokenEncrypted();
+}
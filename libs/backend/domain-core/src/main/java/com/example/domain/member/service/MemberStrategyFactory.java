@@ -1,10 +1,10 @@
 package com.example.domain.member.service;
 
 import com.example.domain.account.enums.AccountRole;
-import com.example.domain.member.entity.Member;
-import com.example.domain.member.repository.MemberRepository;
 import com.example.domain.member.service.command.MemberCommandService;
 import com.example.domain.member.service.query.MemberQueryService;
+import com.example.domain.security.guard.support.MemberAccessTarget;
+import com.example.domain.security.guard.support.MemberAccessTargetResolver;
 import com.example.global.exception.GlobalException;
 import com.example.global.exception.enums.ErrorCode;
 
@@ -24,7 +24,7 @@ import java.util.Map;
 public class MemberStrategyFactory {
 
     private final ApplicationContext applicationContext;
-    private final MemberRepository memberRepository;
+    private final MemberAccessTargetResolver memberAccessTargetResolver;
 
     // 전략 패턴을 위한 Map (키: AccountRole, 값: 서비스)
     private final Map<AccountRole, MemberCommandService> commandServiceMap = new EnumMap<>(AccountRole.class);
@@ -130,8 +130,9 @@ public class MemberStrategyFactory {
             throw new GlobalException(ErrorCode.INVALID_PARAMETER, "memberId는 필수입니다.");
         }
 
-        return memberRepository.findById(memberId)
-                .map(Member::getRole)
+        // 인가(@memberGuard.canAccessMember)에서 조회한 대상을 같은 요청 안에서 재사용합니다.
+        return memberAccessTargetResolver.resolve(memberId)
+                .map(MemberAccessTarget::role)
                 .orElseThrow(() -> new GlobalException(ErrorCode.MEMBER_NOT_EXIST));
     }
 }
@@ -9,6 +9,7 @@ import com.example.domain.member.payload.dto.MemberImagesStorageDeleteCommand;
 import com.example.domain.member.payload.dto.MemberNickNameExclusiveDuplicateCheckQuery;
 import com.example.domain.member.payload.dto.MemberUpdateCommand;
 import com.example.domain.member.support.MemberActivityPublishPort;
+import com.example.domain.member.support.MemberAuthCacheEvictionPort;
 import com.example.domain.member.support.MemberImageStoragePort;
 import com.example.domain.member.support.MemberUniquenessSupport;
 import com.example.global.exception.GlobalException;
@@ -31,6 +32,7 @@ public abstract class AbstractMemberCommandService implements MemberCommandServi
         validateNickNameUniqueness(command, loginId, context.memberUniquenessSupport());
         member.changeNickName(command.nickName());
         updatePasswordIfAllowed(member, command, context, loginId);
+        context.memberAuthCacheEvictionPort().evictAuthMember(loginId);
         publishMemberUpdatedEvent(context.memberActivityPublishPort(), member, context.updateMessage(), loginId);
     }
 
@@ -39,6 +41,7 @@ public abstract class AbstractMemberCommandService implements MemberCommandServi
 
         final String loginId = member.getLoginId();
         member.withdraw();
+        context.memberAuthCacheEvictionPort().evictAuthMember(loginId);
         context.memberSocialCleanupPort().cleanupOnWithdraw(member.getId(), loginId);
         deleteMemberProfileImages(member, context.memberImageStoragePort());
         publishMemberDeactivatedEvent(context.memberActivityPublishPort(), member, context.inactiveMessage(), loginId);
@@ -163,17 +166,20 @@ public abstract class AbstractMemberCommandService implements MemberCommandServi
      *
      * @param member                    대상 회원
      * @param newRole                   새 권한
-     * @param memberActivityPublishPort 활동 로그 발행 포트
+     * @param memberActivityPublishPort   활동 로그 발행 포트
+     * @param memberAuthCacheEvictionPort 인증 회원 캐시 무효화 포트
      */
     protected void applyRoleChange(
             final Member member,
             final AccountRole newRole,
-            final MemberActivityPublishPort memberActivityPublishPort
+            final MemberActivityPublishPort memberActivityPublishPort,
+            final MemberAuthCacheEvictionPort memberAuthCacheEvictionPort
     ) {
         final AccountRole oldRole = member.getRole();
         member.changeRole(newRole);
         member.rotateTokenVersion();
         member.invalidateRefreshTokenEncrypted();
+        memberAuthCacheEvictionPort.evictAuthMember(member.getLoginId());
 
         memberActivityPublishPort.publishMemberActivity(
                 member.getLoginId(),
@@ -31,6 +31,7 @@ public class AdminMemberCommandService extends AbstractMemberCommandService {
     private final MemberSocialCleanupPort memberSocialCleanupPort;
 
     private final MemberActivityPublishPort memberActivityPublishPort;
+    private final MemberAuthCacheEvictionPort memberAuthCacheEvictionPort;
     private final MemberTokenRevocationPort memberTokenRevocationPort;
     private final MemberPermissionCheckPort memberPermissionCheckPort;
 
@@ -74,7 +75,7 @@ public class AdminMemberCommandService extends AbstractMemberCommandService {
 
         final Member member = findAdminMember(command.memberId());
         updateMemberCommon(member, command, MemberUpdateContext.of(
-                memberUniquenessSupport, passwordEncoder, memberActivityPublishPort,
+                memberUniquenessSupport, passwordEncoder, memberActivityPublishPort, memberAuthCacheEvictionPort,
                 true, "관리자 비밀번호 변경", "관리자 정보 수정"
         ));
 
@@ -94,7 +95,8 @@ public class AdminMemberCommandService extends AbstractMemberCommandService {
 
         final Member member = findAdminMember(command.memberId());
         deactivateMemberCommon(member, MemberDeactivateContext.of(
-                memberImageStoragePort, memberSocialCleanupPort, memberActivityPublishPort, "관리자 탈퇴/비활성화 처리"
+                memberImageStoragePort, memberSocialCleanupPort, memberActivityPublishPort, memberAuthCacheEvictionPort,
+                "관리자 탈퇴/비활성화 처리"
         ));
         revokeSelfLogoutIfNeeded(command);
 
@@ -107,7 +109,7 @@ public class AdminMemberCommandService extends AbstractMemberCommandService {
         validateNotSelfRoleChange(command.memberId());
 
         final Member member = findAdminMember(command.memberId());
-        applyRoleChange(member, command.role(), memberActivityPublishPort);
+        applyRoleChange(member, command.role(), memberActivityPublishPort, memberAuthCacheEvictionPort);
     }
 
     private void validateNotSelfRoleChange(final Long memberId) {
@@ -1,6 +1,7 @@
 package com.example.domain.member.service.command;
 
 import com.example.domain.member.support.MemberActivityPublishPort;
+import com.example.domain.member.support.MemberAuthCacheEvictionPort;
 import com.example.domain.member.support.MemberImageStoragePort;
 import com.example.domain.member.support.MemberSocialCleanupPort;
 
@@ -12,18 +13,21 @@ public record MemberDeactivateContext(
         MemberImageStoragePort memberImageStoragePort,
         MemberSocialCleanupPort memberSocialCleanupPort,
         MemberActivityPublishPort memberActivityPublishPort,
+        MemberAuthCacheEvictionPort memberAuthCacheEvictionPort,
         String inactiveMessage
 ) {
     public static MemberDeactivateContext of(
             MemberImageStoragePort memberImageStoragePort,
             MemberSocialCleanupPort memberSocialCleanupPort,
             MemberActivityPublishPort memberActivityPublishPort,
+            MemberAuthCacheEvictionPort memberAuthCacheEvictionPort,
             String inactiveMessage
     ) {
         return new MemberDeactivateContext(
                 memberImageStoragePort,
                 memberSocialCleanupPort,
                 memberActivityPublishPort,
+                memberAuthCacheEvictionPort,
                 inactiveMessage
         );
     }
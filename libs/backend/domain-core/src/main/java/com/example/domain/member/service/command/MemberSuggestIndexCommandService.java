@@ -0,0 +1,60 @@
+package com.example.domain.member.service.command;
+
+import com.example.domain.member.payload.dto.MemberSuggestEntry;
+import com.example.domain.member.repository.MemberRepository;
+import com.example.domain.member.repository.MemberSuggestProjection;
+import com.example.domain.member.support.MemberSuggestIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+/**
+ * 회원 자동완성 색인 적재/갱신
+ *
+ * <p>
+ * - loadAll: 기동 시 전체 회원을 스트리밍으로 읽어 색인합니다. (영속성 컨텍스트/엔티티 미적재)
+ * - refresh: 회원 생성/수정/탈퇴 무효화 메시지 수신 후 해당 회원 1건만 다시 읽어 반영합니다.
+ * - reloadAll: 무효화 이벤트를 놓쳐 재동기화가 필요할 때 색인을 비우고 전체를 다시 적재합니다.
+ * </p>
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.type", havingValue = "admin")
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemberSuggestIndexCommandService {
+
+    private final MemberRepository memberRepository;
+    private final MemberSuggestIndex memberSuggestIndex;
+
+    public void loadAll() {
+        final long startedAt = System.nanoTime();
+        try (Stream<MemberSuggestProjection> members = memberRepository.streamAllSuggest()) {
+            members.map(MemberSuggestEntry::from).forEach(memberSuggestIndex::putIfAbsent);
+        }
+        memberSuggestIndex.markReady();
+        log.info(
+                "[MemberSuggest] 자동완성 색인 적재 완료: size={}, elapsedMs={}",
+                memberSuggestIndex.size(),
+                (System.nanoTime() - startedAt) / 1_000_000L
+        );
+    }
+
+    public void reloadAll() {
+        memberSuggestIndex.reset();
+        loadAll();
+    }
+
+    public void refresh(Long memberId) {
+        if (memberId == null) {
+            return;
+        }
+        memberRepository.findSuggestById(memberId)
+                .map(MemberSuggestEntry::from)
+                .ifPresentOrElse(memberSuggestIndex::upsert, () -> memberSuggestIndex.remove(memberId));
+    }
+}
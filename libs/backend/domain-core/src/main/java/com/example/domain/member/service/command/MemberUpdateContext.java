@@ -1,6 +1,7 @@
 package com.example.domain.member.service.command;
 
 import com.example.domain.member.support.MemberActivityPublishPort;
+import com.example.domain.member.support.MemberAuthCacheEvictionPort;
 import com.example.domain.member.support.MemberUniquenessSupport;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -12,6 +13,7 @@ public record MemberUpdateContext(
         MemberUniquenessSupport memberUniquenessSupport,
         PasswordEncoder passwordEncoder,
         MemberActivityPublishPort memberActivityPublishPort,
+        MemberAuthCacheEvictionPort memberAuthCacheEvictionPort,
         boolean allowPasswordChange,
         String passwordChangeMessage,
         String updateMessage
@@ -20,6 +22,7 @@ public record MemberUpdateContext(
             MemberUniquenessSupport memberUniquenessSupport,
             PasswordEncoder passwordEncoder,
             MemberActivityPublishPort memberActivityPublishPort,
+            MemberAuthCacheEvictionPort memberAuthCacheEvictionPort,
             boolean allowPasswordChange,
             String passwordChangeMessage,
             String updateMessage
@@ -28,6 +31,7 @@ public record MemberUpdateContext(
                 memberUniquenessSupport,
                 passwordEncoder,
                 memberActivityPublishPort,
+                memberAuthCacheEvictionPort,
                 allowPasswordChange,
                 passwordChangeMessage,
                 updateMessage
@@ -10,6 +10,7 @@ import com.example.domain.member.payload.dto.MemberRoleUpdateCommand;
 import com.example.domain.member.payload.dto.MemberUpdateCommand;
 import com.example.domain.member.repository.MemberRepository;
 import com.example.domain.member.support.MemberActivityPublishPort;
+import com.example.domain.member.support.MemberAuthCacheEvictionPort;
 import com.example.domain.member.support.MemberImageStoragePort;
 import com.example.domain.member.support.MemberSocialCleanupPort;
 import com.example.domain.member.support.MemberUniquenessSupport;
@@ -33,6 +34,7 @@ public class UserMemberCommandService extends AbstractMemberCommandService {
     private final MemberImageStoragePort memberImageStoragePort;
     private final MemberSocialCleanupPort memberSocialCleanupPort;
     private final MemberActivityPublishPort memberActivityPublishPort;
+    private final MemberAuthCacheEvictionPort memberAuthCacheEvictionPort;
 
     @Override
     public List<AccountRole> getSupportedRoles() {
@@ -70,7 +72,7 @@ public class UserMemberCommandService extends AbstractMemberCommandService {
         final Member member = findUserMember(command.memberId());
         final boolean allowPasswordChange = member.getMemberType() == MemberType.GENERAL;
         updateMemberCommon(member, command, MemberUpdateContext.of(
-                memberUniquenessSupport, passwordEncoder, memberActivityPublishPort,
+                memberUniquenessSupport, passwordEncoder, memberActivityPublishPort, memberAuthCacheEvictionPort,
                 allowPasswordChange, "비밀번호 변경", "회원 정보 수정"
         ));
 
@@ -85,7 +87,8 @@ public class UserMemberCommandService extends AbstractMemberCommandService {
 
         final Member member = findUserMember(command.memberId());
         deactivateMemberCommon(member, MemberDeactivateContext.of(
-                memberImageStoragePort, memberSocialCleanupPort, memberActivityPublishPort, "회원 탈퇴 처리"
+                memberImageStoragePort, memberSocialCleanupPort, memberActivityPublishPort, memberAuthCacheEvictionPort,
+                "회원 탈퇴 처리"
         ));
         return member.getId();
     }
@@ -95,7 +98,7 @@ public class UserMemberCommandService extends AbstractMemberCommandService {
         validateRoleUpdateCommand(command);
 
         final Member member = findUserMember(command.memberId());
-        applyRoleChange(member, command.role(), memberActivityPublishPort);
+        applyRoleChange(member, command.role(), memberActivityPublishPort, memberAuthCacheEvictionPort);
     }
 
     private Member findUserMember(Long memberId) {
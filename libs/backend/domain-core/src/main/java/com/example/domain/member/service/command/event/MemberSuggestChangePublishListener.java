@@ -0,0 +1,40 @@
+package com.example.domain.member.service.command.event;
+
+import com.example.domain.log.enums.LogType;
+import com.example.domain.log.event.MemberActivityEvent;
+import com.example.global.cache.invalidation.CacheInvalidationPublisher;
+import com.example.global.cache.invalidation.CacheInvalidationTopic;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 회원 자동완성 색인 변경 발행 리스너 (admin/user 공통)
+ *
+ * <p>
+ * - MemberActivityPublishPort로 발행된 JOIN/UPDATE/INACTIVE 이벤트를 커밋 직전에 받아
+ *   캐시 무효화 버스(MEMBER_SUGGEST_CHANGED)로 memberId를 발행합니다.
+ * - 회원 변경과 같은 트랜잭션에서 저장/NOTIFY 하므로 커밋된 변경만 전달되고, user-api에서의 가입/수정도 모든 admin 노드에 반영됩니다.
+ * - 트랜잭션 밖에서 발행된 이벤트는 발행기 자체 트랜잭션으로 즉시 전달합니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberSuggestChangePublishListener {
+
+    private static final Set<LogType> INDEXED_LOG_TYPES = EnumSet.of(LogType.JOIN, LogType.UPDATE, LogType.INACTIVE);
+
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void handleMemberActivityEvent(MemberActivityEvent event) {
+        if (event == null || event.memberId() == null || !INDEXED_LOG_TYPES.contains(event.logType())) {
+            return;
+        }
+        cacheInvalidationPublisher.publish(CacheInvalidationTopic.MEMBER_SUGGEST_CHANGED, String.valueOf(event.memberId()), null);
+    }
+}
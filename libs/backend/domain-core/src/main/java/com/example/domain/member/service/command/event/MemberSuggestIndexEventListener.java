@@ -0,0 +1,60 @@
+package com.example.domain.member.service.command.event;
+
+import com.example.domain.member.service.command.MemberSuggestIndexCommandService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 자동완성 색인 동기화 리스너
+ *
+ * <p>
+ * - 기동 완료 후 전체 적재를 비동기로 실행해 기동 시간을 늘리지 않습니다. (적재 전 자동완성은 빈 결과)
+ * - 회원 변경은 캐시 무효화 버스(MEMBER_SUGGEST_CHANGED)로 모든 admin 노드(발행 노드 포함)에 전달되며,
+ *   MemberSuggestIndexInvalidationSubscriber가 리스너 스레드를 막지 않도록 이 빈의 비동기 메서드로 넘깁니다.
+ * - 탈퇴 시 loginId가 바뀌므로 메시지 값 대신 커밋된 행을 다시 읽습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.type", havingValue = "admin")
+@RequiredArgsConstructor
+public class MemberSuggestIndexEventListener {
+
+    private final MemberSuggestIndexCommandService memberSuggestIndexCommandService;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnApplicationReady() {
+        try {
+            memberSuggestIndexCommandService.loadAll();
+        } catch (Exception e) {
+            log.warn("[MemberSuggest] 자동완성 색인 적재 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @Async
+    public void refreshMember(Long memberId) {
+        try {
+            memberSuggestIndexCommandService.refresh(memberId);
+        } catch (Exception e) {
+            log.warn("[MemberSuggest] 자동완성 색인 갱신 실패: memberId={}, message={}", memberId, e.getMessage());
+        }
+    }
+
+    /**
+     * 무효화 이벤트 유실로 개별 반영을 보장할 수 없을 때 전체를 다시 적재합니다.
+     */
+    @Async
+    public void reloadAll() {
+        try {
+            memberSuggestIndexCommandService.reloadAll();
+        } catch (Exception e) {
+            log.warn("[MemberSuggest] 자동완성 색인 재적재 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -1,25 +1,33 @@
 package com.example.domain.member.service.query;
 
 import com.example.domain.account.enums.AccountRole;
-import com.example.domain.member.entity.Member;
 import com.example.domain.member.enums.MemberOrderType;
+import com.example.domain.member.payload.dto.MemberCursorListQuery;
 import com.example.domain.member.payload.dto.MemberDetailQuery;
+import com.example.domain.member.payload.dto.MemberDetailView;
+import com.example.domain.member.payload.dto.MemberListCursor;
 import com.example.domain.member.payload.dto.MemberListQuery;
+import com.example.domain.member.payload.dto.MemberListView;
 import com.example.domain.member.payload.dto.MemberRoleExistsQuery;
 import com.example.domain.member.payload.response.DetailMemberResponse;
+import com.example.domain.member.payload.response.MemberCursorPageResponse;
 import com.example.domain.member.payload.response.MemberListResponse;
 import com.example.domain.member.repository.MemberRepository;
 import com.example.domain.member.repository.MemberSpecification;
 import com.example.global.exception.GlobalException;
 import com.example.global.exception.enums.ErrorCode;
+import com.example.global.pagination.PageCountResolver;
+import com.example.global.pagination.payload.PageCountQuery;
+import com.example.global.payload.response.PageResponse;
 import com.example.global.utils.PaginationUtils;
+import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Predicate;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -33,7 +41,10 @@ import java.util.List;
 @RequiredArgsConstructor
 public abstract class AbstractQueryDslMemberQueryService extends AbstractMemberQueryService {
 
+    private static final String TABLE_NAME = "member";
+
     protected final MemberRepository memberRepository;
+    protected final PageCountResolver pageCountResolver;
 
     @Override
     public boolean existsByRole(MemberRoleExistsQuery query) {
@@ -44,26 +55,74 @@ public abstract class AbstractQueryDslMemberQueryService extends AbstractMemberQ
     }
 
     @Override
-    public Page<MemberListResponse> getList(MemberListQuery request) {
+    public PageResponse<MemberListResponse> getList(MemberListQuery request) {
         if (request == null) {
             throw new GlobalException(ErrorCode.INVALID_PARAMETER, "요청 값이 비어있습니다.");
         }
 
-        Sort sort = Sort.by(Sort.Direction.DESC, "createdAt");
-        if (request.order() == MemberOrderType.CREATE_ASC) {
-            sort = Sort.by(Sort.Direction.ASC, "createdAt");
-        }
-
+        final boolean ascending = request.order() == MemberOrderType.CREATE_ASC;
         final Pageable pageable = PaginationUtils.toPageable(
                 request.page(),
                 request.size(),
-                PaginationUtils.DEFAULT_SIZE,
-                sort
+                PaginationUtils.DEFAULT_SIZE
         );
 
         final List<AccountRole> roles = getSupportedRoles();
         final Predicate predicate = MemberSpecification.searchMember(request, roles);
-        return memberRepository.findAll(predicate, pageable).map(MemberListResponse::from);
+        final List<MemberListView> fetched = memberRepository.findOffsetPage(
+                predicate,
+                ascending,
+                pageable.getOffset(),
+                pageCountResolver.fetchLimit(pageable)
+        );
+
+        // 역할(role) 조건이 항상 있으므로 조건 지문별로 짧게 캐시한 count를 사용합니다.
+        final PageCountQuery countQuery = PageCountQuery.filtered(
+                TABLE_NAME,
+                predicate.toString(),
+                () -> memberRepository.count(predicate)
+        );
+        return pageCountResolver.toPage(fetched, pageable, countQuery).map(MemberListResponse::from);
+    }
+
+    @Override
+    public MemberCursorPageResponse getCursorList(MemberCursorListQuery query) {
+        if (query == null) {
+            throw new GlobalException(ErrorCode.INVALID_PARAMETER, "요청 값이 비어있습니다.");
+        }
+
+        final MemberListQuery condition = query.condition();
+        final MemberOrderType order = condition.order() != null ? condition.order() : MemberOrderType.CREATE_DESC;
+        final MemberListCursor cursor = resolveCursor(query.cursor(), order);
+        final int size = PaginationUtils.normalizeSize(condition.size(), PaginationUtils.DEFAULT_SIZE);
+
+        final Predicate predicate = new BooleanBuilder(MemberSpecification.searchMember(condition, getSupportedRoles()))
+                .and(MemberSpecification.seek(cursor));
+        final boolean backward = cursor != null && cursor.backward();
+        final boolean ascending = cursor != null ? cursor.scansAscending() : order == MemberOrderType.CREATE_ASC;
+
+        // 1건 더 읽어 진행 방향에 다음 행이 있는지 판단합니다. (count 쿼리 없음)
+        final List<MemberListView> fetched = memberRepository.findSeekPage(predicate, ascending, size + 1);
+        final boolean hasMore = fetched.size() > size;
+        final List<MemberListView> rows = new ArrayList<>(hasMore ? fetched.subList(0, size) : fetched);
+        if (backward) {
+            Collections.reverse(rows);
+        }
+        if (rows.isEmpty()) {
+            return MemberCursorPageResponse.of(List.of(), size, null, null);
+        }
+
+        final boolean hasNext = backward || hasMore;
+        final boolean hasPrevious = backward ? hasMore : cursor != null;
+        final String nextCursor = hasNext ? toCursor(order, false, rows.getLast()) : null;
+        final String prevCursor = hasPrevious ? toCursor(order, true, rows.getFirst()) : null;
+
+        return MemberCursorPageResponse.of(
+                rows.stream().map(MemberListResponse::from).toList(),
+                size,
+                nextCursor,
+                prevCursor
+        );
     }
 
     @Override
@@ -72,9 +131,29 @@ public abstract class AbstractQueryDslMemberQueryService extends AbstractMemberQ
             throw new GlobalException(ErrorCode.INVALID_PARAMETER, "회원 식별자는 필수입니다.");
         }
 
-        final Member member = memberRepository.findByIdAndRoleIn(query.id(), getSupportedRoles())
+        final MemberDetailView view = memberRepository.findDetailView(query.id(), getSupportedRoles())
                 .orElseThrow(() -> new GlobalException(ErrorCode.MEMBER_NOT_EXIST));
 
-        return DetailMemberResponse.from(member);
+        return DetailMemberResponse.from(view);
+    }
+
+    private static MemberListCursor resolveCursor(String rawCursor, MemberOrderType order) {
+        if (rawCursor == null || rawCursor.isBlank()) {
+            return null;
+        }
+
+        final MemberListCursor cursor = MemberListCursor.decode(rawCursor);
+        if (cursor == null) {
+            throw new GlobalException(ErrorCode.INVALID_PARAMETER, "커서 형식이 올바르지 않습니다.");
+        }
+        // 정렬 기준이 바뀌면 경계 조건의 의미가 달라지므로 첫 페이지부터 다시 조회해야 합니다.
+        if (cursor.order() != order) {
+            throw new GlobalException(ErrorCode.INVALID_PARAMETER, "커서의 정렬 기준이 요청과 다릅니다.");
+        }
+        return cursor;
+    }
+
+    private static String toCursor(MemberOrderType order, boolean backward, MemberListView view) {
+        return MemberListCursor.of(order, backward, view.createdAt(), view.id()).encode();
     }
 }
@@ -1,12 +1,14 @@
 package com.example.domain.member.service.query;
 
 import com.example.domain.account.enums.AccountRole;
+import com.example.domain.member.payload.dto.MemberCursorListQuery;
 import com.example.domain.member.payload.dto.MemberDetailQuery;
 import com.example.domain.member.payload.dto.MemberListQuery;
 import com.example.domain.member.payload.dto.MemberRoleExistsQuery;
 import com.example.domain.member.payload.response.DetailMemberResponse;
+import com.example.domain.member.payload.response.MemberCursorPageResponse;
 import com.example.domain.member.payload.response.MemberListResponse;
-import org.springframework.data.domain.Page;
+import com.example.global.payload.response.PageResponse;
 
 import java.util.List;
 
@@ -25,7 +27,12 @@ public interface MemberQueryService {
 
     boolean existsByRole(MemberRoleExistsQuery query);
 
-    Page<MemberListResponse> getList(MemberListQuery memberUserListQuery);
+    PageResponse<MemberListResponse> getList(MemberListQuery memberUserListQuery);
+
+    /**
+     * keyset(커서) 기반 목록 조회: OFFSET/count 없이 (createdAt, id) 경계부터 size건을 읽습니다.
+     */
+    MemberCursorPageResponse getCursorList(MemberCursorListQuery query);
 
     DetailMemberResponse getDetail(MemberDetailQuery query);
 }
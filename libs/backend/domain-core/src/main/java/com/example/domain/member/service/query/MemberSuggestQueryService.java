@@ -0,0 +1,33 @@
+package com.example.domain.member.service.query;
+
+import com.example.domain.member.payload.dto.MemberSuggestQuery;
+import com.example.domain.member.payload.response.MemberSuggestResponse;
+import com.example.domain.member.support.MemberSuggestIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 회원 자동완성 조회
+ *
+ * <p>
+ * - 노드 로컬 색인(MemberSuggestIndex)만 사용하며 트랜잭션/DB 접근이 없습니다.
+ * - 부분 일치 검색은 기존 목록 조회(pg_trgm)를 사용하고, 여기서는 접두어 일치만 제공합니다.
+ * </p>
+ */
+@Service
+@ConditionalOnProperty(name = "app.type", havingValue = "admin")
+@RequiredArgsConstructor
+public class MemberSuggestQueryService {
+
+    private final MemberSuggestIndex memberSuggestIndex;
+
+    public List<MemberSuggestResponse> suggest(MemberSuggestQuery query) {
+        return memberSuggestIndex.suggest(query.keyword(), query.roles(), query.active(), query.limit())
+                .stream()
+                .map(MemberSuggestResponse::from)
+                .toList();
+    }
+}
@@ -2,6 +2,7 @@ package com.example.domain.member.service.query;
 
 import com.example.domain.account.enums.AccountRole;
 import com.example.domain.member.repository.MemberRepository;
+import com.example.global.pagination.PageCountResolver;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,8 +12,8 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class UserMemberQueryService extends AbstractQueryDslMemberQueryService {
 
-    public UserMemberQueryService(MemberRepository memberRepository) {
-        super(memberRepository);
+    public UserMemberQueryService(MemberRepository memberRepository, PageCountResolver pageCountResolver) {
+        super(memberRepository, pageCountResolver);
     }
 
     @Override
@@ -1,10 +1,13 @@
 package com.example.domain.member.support;
 
 import com.example.domain.account.enums.AccountRole;
+import com.example.domain.account.payload.dto.AccountPasswordUpgradeCommand;
 import com.example.domain.account.payload.dto.AccountProfileUpdateCommand;
 import com.example.domain.account.support.AccountMemberCommandPort;
 import com.example.domain.member.payload.dto.MemberDeactivateCommand;
+import com.example.domain.member.payload.dto.MemberPasswordUpgradeCommand;
 import com.example.domain.member.payload.dto.MemberUpdateCommand;
+import com.example.domain.member.repository.MemberRepository;
 import com.example.domain.member.service.MemberStrategyFactory;
 import com.example.domain.member.service.command.MemberCommandService;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +18,7 @@ import org.springframework.stereotype.Component;
 public class AccountMemberCommandPortAdapter implements AccountMemberCommandPort {
 
     private final MemberStrategyFactory memberStrategyFactory;
+    private final MemberRepository memberRepository;
 
     @Override
     public Long updateMemberProfile(AccountProfileUpdateCommand command) {
@@ -27,4 +31,16 @@ public class AccountMemberCommandPortAdapter implements AccountMemberCommandPort
         final MemberCommandService commandService = memberStrategyFactory.getCommandService(role);
         commandService.deactivateMember(MemberDeactivateCommand.of(memberId));
     }
+
+    /**
+     * 로그인 경로에서 호출되므로 엔티티를 로드하지 않고 단일 UPDATE로 처리합니다.
+     */
+    @Override
+    public boolean upgradePassword(AccountPasswordUpgradeCommand command) {
+        return memberRepository.upgradePassword(MemberPasswordUpgradeCommand.of(
+                command.loginId(),
+                command.currentEncodedPassword(),
+                command.newEncodedPassword()
+        )) == 1;
+    }
 }
@@ -1,13 +1,14 @@
 package com.example.domain.member.support;
 
 import com.example.domain.account.payload.dto.AccountAuthMemberView;
-import com.example.domain.account.payload.dto.AccountLoginCandidateView;
 import com.example.domain.account.payload.dto.AccountLoginIdQuery;
 import com.example.domain.account.payload.dto.AccountLoginIdRoleQuery;
 import com.example.domain.account.payload.dto.AccountLoginValidationQuery;
+import com.example.domain.account.payload.dto.LoginMemberSnapshot;
 import com.example.domain.account.payload.dto.LoginMemberView;
 import com.example.domain.account.support.AccountMemberQueryPort;
 import com.example.domain.member.entity.Member;
+import com.example.domain.member.repository.LoginMemberSnapshotProjection;
 import com.example.domain.member.repository.LoginMemberViewProjection;
 import com.example.domain.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
@@ -50,12 +51,12 @@ public class AccountMemberQueryPortAdapter implements AccountMemberQueryPort {
     }
 
     @Override
-    public Optional<AccountLoginCandidateView> findLoginCandidate(AccountLoginValidationQuery query) {
+    public Optional<LoginMemberSnapshot> findLoginSnapshot(AccountLoginValidationQuery query) {
         if (!isValidLoginValidationQuery(query)) {
             return Optional.empty();
         }
-        return memberRepository.findByLoginIdAndRoleIn(query.loginId(), query.allowedRoles())
-                .map(this::toLoginCandidateView);
+        return memberRepository.findLoginSnapshotByLoginIdAndRoleIn(query.loginId(), query.allowedRoles())
+                .map(this::toLoginSnapshot);
     }
 
     private LoginMemberView toLoginMemberView(LoginMemberViewProjection projection) {
@@ -82,13 +83,17 @@ public class AccountMemberQueryPortAdapter implements AccountMemberQueryPort {
         );
     }
 
-    private AccountLoginCandidateView toLoginCandidateView(Member member) {
-        return AccountLoginCandidateView.of(
-                member.getId(),
-                member.getLoginId(),
-                member.getRole(),
-                member.getMemberType(),
-                member.getActive()
+    private LoginMemberSnapshot toLoginSnapshot(LoginMemberSnapshotProjection projection) {
+        return LoginMemberSnapshot.of(
+                projection.getId(),
+                projection.getLoginId(),
+                projection.getPassword(),
+                projection.getNickName(),
+                projection.getRole(),
+                projection.getMemberType(),
+                projection.getActive(),
+                projection.getTokenVersion(),
+                projection.getRefreshTokenEncrypted()
         );
     }
 
@@ -0,0 +1,12 @@
+package com.example.domain.member.support;
+
+/**
+ * member → security 도메인 경계를 넘는 인증 회원 캐시 무효화 포트
+ * <p>
+ * 토큰 버전 회전/권한 변경/탈퇴 등 인증 정보가 바뀌는 경우
+ * JWT 인증 필터의 회원 캐시를 커밋 이후에 제거하도록 위임합니다.
+ */
+public interface MemberAuthCacheEvictionPort {
+
+    void evictAuthMember(String loginId);
+}
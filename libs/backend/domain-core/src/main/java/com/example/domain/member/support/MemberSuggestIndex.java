@@ -0,0 +1,313 @@
+package com.example.domain.member.support;
+
+import com.example.domain.account.enums.AccountRole;
+import com.example.domain.member.enums.MemberActiveStatus;
+import com.example.domain.member.payload.dto.MemberSuggestEntry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 회원 로그인 아이디/닉네임 접두어 자동완성 색인 (노드 로컬 메모리)
+ *
+ * <p>
+ * - 소문자화한 loginId/nickName을 정렬해 두고, 접두어 범위만 순회해 limit건에서 멈춥니다.
+ * - 항목에 role/active를 함께 보관해 권한/활성 조건도 메모리에서 거릅니다. 조회 시 DB에 접근하지 않습니다.
+ * - 키 저장은 두 단계입니다.
+ *   - packed: 압축 시점의 전체 키를 하나의 char[]에 이어 붙이고 offset(int[])/소유 항목 배열로 보관하는 정렬 배열 (이진 탐색)
+ *   - recent: 압축 이후 변경된 회원의 키만 담는 정렬 맵 (키: 소문자 값 + 구분자(NUL) + memberId)
+ *   변경이 packed 크기의 1/8(최소 4,096건)을 넘으면 현재 항목으로 packed를 다시 만들고 recent를 비웁니다.
+ * - 키 1개당 메모리(계산값, 압축 참조 기준): packed는 2×길이 + 8바이트, 정렬 맵 노드 방식은 String/byte[]/Node/Index 헤더로 약 80바이트 + 길이.
+ * - 변경된 회원의 이전 키는 packed에 남지만, 조회 시 소유 항목이 현재 항목(entries)과 같은 인스턴스인지 확인해 거릅니다.
+ * - 변경은 writeLock으로 직렬화하고, 조회는 packed/recent 쌍(state)을 한 번 읽어 잠금 없이 수행합니다.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "app.type", havingValue = "admin")
+public class MemberSuggestIndex {
+
+    private static final char KEY_SEPARATOR = '\u0000';
+    private static final char KEY_UPPER_BOUND = '\uffff';
+    private static final int MIN_COMPACT_THRESHOLD = 4_096;
+
+    private final ConcurrentHashMap<Long, MemberSuggestEntry> entries = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+
+    private volatile State state = State.empty();
+    private volatile boolean ready;
+    private int pendingChanges;
+
+    /**
+     * 접두어 일치 회원을 키 순서로 최대 limit명 반환합니다. (loginId/nickName이 모두 일치해도 1명으로 셉니다)
+     */
+    public List<MemberSuggestEntry> suggest(String prefix, Collection<AccountRole> roles, MemberActiveStatus active, int limit) {
+        final String from = normalize(prefix);
+        if (from.isEmpty() || limit < 1 || roles == null || roles.isEmpty()) {
+            return List.of();
+        }
+
+        final State current = state;
+        final PackedKeys packed = current.packed();
+        final Iterator<Map.Entry<String, MemberSuggestEntry>> recent = current.recent()
+                .subMap(from, true, from + KEY_UPPER_BOUND, false)
+                .entrySet()
+                .iterator();
+
+        final List<MemberSuggestEntry> result = new ArrayList<>(limit);
+        final Set<Long> seen = new HashSet<>();
+        int cursor = packed.lowerBound(from);
+        Map.Entry<String, MemberSuggestEntry> recentHead = recent.hasNext() ? recent.next() : null;
+        while (result.size() < limit) {
+            final boolean packedMatches = cursor < packed.size() && packed.startsWith(cursor, from);
+            if (!packedMatches && recentHead == null) {
+                break;
+            }
+
+            final MemberSuggestEntry candidate;
+            if (packedMatches && (recentHead == null || packed.compare(cursor, recentHead.getKey()) <= 0)) {
+                candidate = packed.owner(cursor++);
+            } else {
+                candidate = recentHead.getValue();
+                recentHead = recent.hasNext() ? recent.next() : null;
+            }
+
+            if (entries.get(candidate.memberId()) != candidate
+                    || !roles.contains(candidate.role())
+                    || !candidate.matchesActive(active)
+                    || !seen.add(candidate.memberId())) {
+                continue;
+            }
+            result.add(candidate);
+        }
+        return result;
+    }
+
+    /**
+     * 회원 생성/수정/탈퇴 반영: 이전 키를 지우고 현재 값으로 다시 색인합니다.
+     */
+    public void upsert(MemberSuggestEntry entry) {
+        synchronized (writeLock) {
+            final MemberSuggestEntry previous = entries.put(entry.memberId(), entry);
+            if (previous != null) {
+                removeRecentKeys(previous);
+            }
+            addRecentKeys(entry);
+            compactIfNeeded();
+        }
+    }
+
+    /**
+     * 기동 시 적재: 적재 중 이벤트로 먼저 반영된 회원은 더 최신 값이므로 덮어쓰지 않습니다.
+     * 적재 중에는 항목만 보관하고, markReady에서 한 번에 packed로 만듭니다.
+     */
+    public void putIfAbsent(MemberSuggestEntry entry) {
+        synchronized (writeLock) {
+            if (entries.putIfAbsent(entry.memberId(), entry) != null || !ready) {
+                return;
+            }
+            addRecentKeys(entry);
+            compactIfNeeded();
+        }
+    }
+
+    public void remove(Long memberId) {
+        synchronized (writeLock) {
+            final MemberSuggestEntry previous = entries.remove(memberId);
+            if (previous == null) {
+                return;
+            }
+            removeRecentKeys(previous);
+            compactIfNeeded();
+        }
+    }
+
+    public void markReady() {
+        synchronized (writeLock) {
+            compact();
+            this.ready = true;
+        }
+    }
+
+    /**
+     * 전체 재적재 전에 색인을 비웁니다. (재적재가 끝나 markReady가 호출될 때까지 isReady는 false)
+     */
+    public void reset() {
+        synchronized (writeLock) {
+            this.ready = false;
+            entries.clear();
+            state = State.empty();
+            pendingChanges = 0;
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void addRecentKeys(MemberSuggestEntry entry) {
+        for (String key : keysOf(entry)) {
+            state.recent().put(key, entry);
+        }
+        pendingChanges++;
+    }
+
+    private void removeRecentKeys(MemberSuggestEntry entry) {
+        for (String key : keysOf(entry)) {
+            state.recent().remove(key);
+        }
+        pendingChanges++;
+    }
+
+    private void compactIfNeeded() {
+        if (pendingChanges > Math.max(MIN_COMPACT_THRESHOLD, state.packed().size() / 8)) {
+            compact();
+        }
+    }
+
+    // writeLock 안에서만 호출합니다. 조회는 이전 state를 끝까지 사용하므로 중간 상태를 보지 않습니다.
+    private void compact() {
+        state = new State(PackedKeys.of(entries.values()), new ConcurrentSkipListMap<>());
+        pendingChanges = 0;
+    }
+
+    private static List<String> keysOf(MemberSuggestEntry entry) {
+        final List<String> result = new ArrayList<>(2);
+        addKey(result, entry.loginId(), entry.memberId());
+        addKey(result, entry.nickName(), entry.memberId());
+        return result;
+    }
+
+    private static void addKey(List<String> result, String value, Long memberId) {
+        final String normalized = normalize(value);
+        if (!normalized.isEmpty()) {
+            result.add(normalized + KEY_SEPARATOR + memberId);
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private record State(PackedKeys packed, ConcurrentSkipListMap<String, MemberSuggestEntry> recent) {
+
+        private static State empty() {
+            return new State(PackedKeys.EMPTY, new ConcurrentSkipListMap<>());
+        }
+    }
+
+    /**
+     * 정렬된 키를 하나의 char[]에 이어 붙인 불변 배열 (i번째 키: chars[offsets[i], offsets[i + 1]))
+     */
+    private record PackedKeys(char[] chars, int[] offsets, MemberSuggestEntry[] owners) {
+
+        private static final PackedKeys EMPTY = new PackedKeys(new char[0], new int[]{0}, new MemberSuggestEntry[0]);
+
+        private static PackedKeys of(Collection<MemberSuggestEntry> source) {
+            final List<KeyOwner> keys = new ArrayList<>(source.size() * 2);
+            for (MemberSuggestEntry entry : source) {
+                addKeyOwner(keys, entry.loginId(), entry);
+                addKeyOwner(keys, entry.nickName(), entry);
+            }
+            keys.sort(Comparator.comparing(KeyOwner::key).thenComparing(keyOwner -> keyOwner.owner().memberId()));
+
+            int totalLength = 0;
+            for (KeyOwner keyOwner : keys) {
+                totalLength += keyOwner.key().length();
+            }
+
+            final char[] chars = new char[totalLength];
+            final int[] offsets = new int[keys.size() + 1];
+            final MemberSuggestEntry[] owners = new MemberSuggestEntry[keys.size()];
+            int position = 0;
+            for (int i = 0; i < keys.size(); i++) {
+                final String key = keys.get(i).key();
+                key.getChars(0, key.length(), chars, position);
+                offsets[i] = position;
+                owners[i] = keys.get(i).owner();
+                position += key.length();
+            }
+            offsets[keys.size()] = position;
+            return new PackedKeys(chars, offsets, owners);
+        }
+
+        private static void addKeyOwner(List<KeyOwner> keys, String value, MemberSuggestEntry owner) {
+            final String normalized = normalize(value);
+            if (!normalized.isEmpty()) {
+                keys.add(new KeyOwner(normalized, owner));
+            }
+        }
+
+        private int size() {
+            return owners.length;
+        }
+
+        private MemberSuggestEntry owner(int index) {
+            return owners[index];
+        }
+
+        /**
+         * value 이상인 첫 번째 키의 위치 (없으면 size)
+         */
+        private int lowerBound(String value) {
+            int low = 0;
+            int high = size();
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (compare(mid, value) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * String.compareTo와 같은 순서로 index번째 키와 value를 비교합니다.
+         */
+        private int compare(int index, String value) {
+            final int start = offsets[index];
+            final int length = offsets[index + 1] - start;
+            final int common = Math.min(length, value.length());
+            for (int i = 0; i < common; i++) {
+                final char c = chars[start + i];
+                final char other = value.charAt(i);
+                if (c != other) {
+                    return c - other;
+                }
+            }
+            return length - value.length();
+        }
+
+        private boolean startsWith(int index, String prefix) {
+            final int start = offsets[index];
+            if (offsets[index + 1] - start < prefix.length()) {
+                return false;
+            }
+            for (int i = 0; i < prefix.length(); i++) {
+                if (chars[start + i] != prefix.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private record KeyOwner(String key, MemberSuggestEntry owner) {
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.domain.member.support;
+
+import com.example.domain.member.service.command.event.MemberSuggestIndexEventListener;
+import com.example.global.cache.invalidation.CacheInvalidationSubscriber;
+import com.example.global.cache.invalidation.CacheInvalidationTopic;
+import com.example.global.cache.invalidation.payload.dto.CacheInvalidationMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 노드/앱(user-api 포함)에서 변경된 회원을 로컬 자동완성 색인에 반영합니다.
+ * 회원 재조회는 DB 접근이므로 리스너 스레드에서 직접 하지 않고 비동기로 넘깁니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.type", havingValue = "admin")
+@RequiredArgsConstructor
+public class MemberSuggestIndexInvalidationSubscriber implements CacheInvalidationSubscriber {
+
+    private final MemberSuggestIndexEventListener memberSuggestIndexEventListener;
+
+    @Override
+    public CacheInvalidationTopic topic() {
+        return CacheInvalidationTopic.MEMBER_SUGGEST_CHANGED;
+    }
+
+    @Override
+    public void onInvalidated(CacheInvalidationMessage message) {
+        final Long memberId;
+        try {
+            memberId = Long.valueOf(message.key());
+        } catch (NumberFormatException e) {
+            log.warn("[MemberSuggest] 잘못된 무효화 키: key={}", message.key());
+            return;
+        }
+        memberSuggestIndexEventListener.refreshMember(memberId);
+    }
+
+    @Override
+    public void onResync() {
+        memberSuggestIndexEventListener.reloadAll();
+    }
+}
@@ -1,34 +1,45 @@
 package com.example.domain.member.support;
 
 import com.example.domain.account.enums.AccountRole;
+import com.example.domain.account.payload.dto.AccountAuthMemberBlacklistView;
 import com.example.domain.account.payload.dto.AccountAuthMemberView;
-import com.example.domain.member.entity.Member;
 import com.example.domain.member.enums.MemberActiveStatus;
+import com.example.domain.member.enums.MemberType;
+import com.example.domain.member.repository.AuthMemberBlacklistProjection;
+import com.example.domain.member.repository.AuthMemberViewProjection;
+import com.example.domain.member.repository.MemberAccessTargetProjection;
 import com.example.domain.member.repository.MemberRepository;
 import com.example.domain.security.guard.support.MemberAccessTarget;
 import com.example.domain.security.guard.support.SecurityMemberAccessPort;
+import com.example.global.security.blacklist.support.BlacklistedTokenHashStoragePolicy;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * SecurityMemberAccessPort 어댑터 — Member 도메인이 제공
+ *
+ * <p>
+ * - 매 요청 인증/인가 경로이므로 Member 엔티티 대신 Projection으로 필요한 컬럼만 읽기 전용으로 조회합니다.
+ * </p>
  */
 @Component
 @RequiredArgsConstructor
 public class SecurityMemberAccessPortAdapter implements SecurityMemberAccessPort {
 
     private final MemberRepository memberRepository;
+    private final BlacklistedTokenHashStoragePolicy blacklistedTokenHashStoragePolicy;
 
     @Override
     public Optional<MemberAccessTarget> findAccessTargetById(Long memberId) {
         if (memberId == null || memberId <= 0) {
             return Optional.empty();
         }
-        return memberRepository.findById(memberId)
-                .map(member -> MemberAccessTarget.of(member.getRole(), member.getId(), member.getActive()));
+        return memberRepository.findAccessTargetById(memberId)
+                .map(this::toAccessTarget);
     }
 
     @Override
@@ -36,8 +47,8 @@ public class SecurityMemberAccessPortAdapter implements SecurityMemberAccessPort
         if (memberId == null || memberId <= 0 || roles == null || roles.isEmpty()) {
             return Optional.empty();
         }
-        return memberRepository.findByIdAndRoleIn(memberId, roles)
-                .map(member -> MemberAccessTarget.of(member.getRole(), member.getId(), member.getActive()));
+        return memberRepository.findAccessTargetByIdAndRoleIn(memberId, roles)
+                .map(this::toAccessTarget);
     }
 
     @Override
@@ -45,30 +56,77 @@ public class SecurityMemberAccessPortAdapter implements SecurityMemberAccessPort
         if (loginId == null || loginId.isBlank()) {
             return Optional.empty();
         }
-        return memberRepository.findByLoginId(loginId)
-                .filter(member -> member.getActive() == MemberActiveStatus.ACTIVE)
+        return memberRepository.findAuthViewByLoginIdAndActive(loginId, MemberActiveStatus.ACTIVE)
                 .map(this::toAuthMemberView);
     }
 
+    @Override
+    public Optional<AccountAuthMemberBlacklistView> findActiveAuthMemberWithBlacklist(
+            String loginId,
+            String tokenHash,
+            UUID tokenId
+    ) {
+        if (loginId == null || loginId.isBlank()) {
+            return Optional.empty();
+        }
+
+        final Optional<AuthMemberBlacklistProjection> projection;
+        if (tokenHash != null && !tokenHash.isBlank() && blacklistedTokenHashStoragePolicy.readsDigest()) {
+            projection = memberRepository.findAuthMemberWithTokenDigestBlacklist(
+                    loginId,
+                    BlacklistedTokenHashStoragePolicy.toDigest(tokenHash)
+            );
+        } else if (tokenHash != null && !tokenHash.isBlank()) {
+            projection = memberRepository.findAuthMemberWithTokenHashBlacklist(loginId, tokenHash);
+        } else if (tokenId != null) {
+            projection = memberRepository.findAuthMemberWithTokenIdBlacklist(loginId, tokenId);
+        } else {
+            return Optional.empty();
+        }
+
+        return projection
+                .filter(row -> MemberActiveStatus.ACTIVE.name().equals(row.getActive()))
+                .map(row -> AccountAuthMemberBlacklistView.of(
+                        toAuthMemberView(row),
+                        Boolean.TRUE.equals(row.getBlacklisted())
+                ));
+    }
+
     @Override
     public Optional<Long> findMemberIdByLoginId(String loginId) {
         if (loginId == null || loginId.isBlank()) {
             return Optional.empty();
         }
-        return memberRepository.findByLoginId(loginId)
-                .map(Member::getId);
+        return memberRepository.findIdByLoginId(loginId);
+    }
+
+    private MemberAccessTarget toAccessTarget(MemberAccessTargetProjection projection) {
+        return MemberAccessTarget.of(projection.getRole(), projection.getId(), projection.getActive());
+    }
+
+    private AccountAuthMemberView toAuthMemberView(AuthMemberViewProjection projection) {
+        return AccountAuthMemberView.of(
+                projection.getId(),
+                projection.getLoginId(),
+                projection.getPassword(),
+                projection.getNickName(),
+                projection.getRole(),
+                projection.getMemberType(),
+                projection.getActive(),
+                projection.getTokenVersion()
+        );
     }
 
-    private AccountAuthMemberView toAuthMemberView(Member member) {
+    private AccountAuthMemberView toAuthMemberView(AuthMemberBlacklistProjection row) {
         return AccountAuthMemberView.of(
-                member.getId(),
-                member.getLoginId(),
-                member.getPassword(),
-                member.getNickName(),
-                member.getRole(),
-                member.getMemberType(),
-                member.getActive(),
-                member.getTokenVersion()
+                row.getId(),
+                row.getLoginId(),
+                row.getPassword(),
+                row.getNickName(),
+                AccountRole.valueOf(row.getRole()),
+                row.getMemberType() == null ? null : MemberType.valueOf(row.getMemberType()),
+                MemberActiveStatus.valueOf(row.getActive()),
+                row.getTokenVersion() == null ? 0L : row.getTokenVersion()
         );
     }
 }
@@ -1,28 +1,42 @@
 package com.example.domain.member.support;
 
+import com.example.domain.member.payload.dto.MemberRefreshTokenRotateCommand;
+import com.example.domain.member.payload.dto.MemberRefreshTokenUpdateCommand;
 import com.example.domain.member.repository.MemberRepository;
+import com.example.domain.member.repository.MemberTokenInfoProjection;
 import com.example.domain.security.port.SecurityMemberTokenPort;
 import com.example.domain.security.port.SecurityMemberTokenInfo;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
  * SecurityMemberTokenPort 어댑터 — Member 도메인이 제공
+ *
+ * <p>
+ * - 조회는 Projection으로 처리하고, 토큰 폐기(토큰 버전 회전)만 엔티티를 로드합니다.
+ * - 리프레시 토큰 갱신과 해시 CAS 회전은 엔티티를 로드하지 않고 단일 UPDATE로 처리합니다.
+ * - 리프레시 토큰 갱신은 Auditing 대신 AuditorAware로 수정자를 구해 수정일과 함께 UPDATE에 넣습니다.
+ * </p>
  */
 @Component
 @RequiredArgsConstructor
 public class SecurityMemberTokenPortAdapter implements SecurityMemberTokenPort {
 
     private final MemberRepository memberRepository;
+    private final MemberAuthCacheEvictionPort memberAuthCacheEvictionPort;
+    private final AuditorAware<String> auditorAware;
 
     @Override
     public Optional<SecurityMemberTokenInfo> findTokenInfoById(Long memberId) {
         if (memberId == null || memberId <= 0) {
             return Optional.empty();
         }
-        return memberRepository.findById(memberId)
+        return memberRepository.findTokenInfoById(memberId)
                 .map(this::toTokenInfo);
     }
 
@@ -31,17 +45,29 @@ public class SecurityMemberTokenPortAdapter implements SecurityMemberTokenPort {
         if (loginId == null || loginId.isBlank()) {
             return Optional.empty();
         }
-        return memberRepository.findByLoginId(loginId)
+        return memberRepository.findTokenInfoByLoginId(loginId)
                 .map(this::toTokenInfo);
     }
 
     @Override
-    public void updateRefreshTokenEncrypted(Long memberId, String encrypted) {
+    public void updateRefreshToken(Long memberId, String encrypted, String hash) {
         if (memberId == null || memberId <= 0) {
             return;
         }
-        memberRepository.findById(memberId)
-                .ifPresent(member -> member.updateRefreshTokenEncrypted(encrypted));
+        final String modifiedBy = auditorAware.getCurrentAuditor().orElse("SYSTEM");
+        memberRepository.updateRefreshToken(
+                MemberRefreshTokenUpdateCommand.of(memberId, encrypted, hash, LocalDateTime.now(), modifiedBy)
+        );
+    }
+
+    @Override
+    public boolean rotateRefreshTokenHash(String loginId, long tokenVersion, String currentHash, String newHash) {
+        if (!StringUtils.hasText(loginId) || !StringUtils.hasText(currentHash) || !StringUtils.hasText(newHash)) {
+            return false;
+        }
+        return memberRepository.rotateRefreshTokenHash(
+                MemberRefreshTokenRotateCommand.of(loginId, tokenVersion, currentHash, newHash)
+        ) == 1;
     }
 
     @Override
@@ -53,19 +79,20 @@ public class SecurityMemberTokenPortAdapter implements SecurityMemberTokenPort {
                 .ifPresent(member -> {
                     member.rotateTokenVersion();
                     member.invalidateRefreshTokenEncrypted();
+                    memberAuthCacheEvictionPort.evictAuthMember(member.getLoginId());
                 });
     }
 
-    private SecurityMemberTokenInfo toTokenInfo(com.example.domain.member.entity.Member member) {
+    private SecurityMemberTokenInfo toTokenInfo(MemberTokenInfoProjection projection) {
         return SecurityMemberTokenInfo.of(
-                member.getId(),
-                member.getLoginId(),
-                member.getRole(),
-                member.getNickName(),
-                member.getMemberType(),
-                member.getActive(),
-                member.getTokenVersion(),
-                member.getRefreshTokenEncrypted()
+                projection.getId(),
+                projection.getLoginId(),
+                projection.getRole(),
+                projection.getNickName(),
+                projection.getMemberType(),
+                projection.getActive(),
+                projection.getTokenVersion(),
+                projection.getRefreshTokenEncrypted()
         );
     }
 }
@@ -0,0 +1,42 @@
+package com.example.domain.security.adapter;
+
+import com.example.domain.member.support.MemberAuthCacheEvictionPort;
+import com.example.domain.security.guard.support.AccountAuthMemberCache;
+import com.example.global.cache.invalidation.CacheInvalidationPublisher;
+import com.example.global.cache.invalidation.CacheInvalidationTopic;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+@Component
+@RequiredArgsConstructor
+public class MemberAuthCacheEvictionPortAdapter implements MemberAuthCacheEvictionPort {
+
+    private final AccountAuthMemberCache accountAuthMemberCache;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    @Override
+    public void evictAuthMember(String loginId) {
+        if (!StringUtils.hasText(loginId)) {
+            return;
+        }
+
+        // 다른 노드에는 같은 트랜잭션의 NOTIFY로 커밋 시점에 전달됩니다.
+        cacheInvalidationPublisher.publish(CacheInvalidationTopic.MEMBER_AUTH_CHANGED, loginId, null);
+
+        // 커밋 전에 제거하면 다른 요청이 이전 상태를 다시 적재할 수 있으므로 커밋 이후에 제거합니다.
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            accountAuthMemberCache.invalidate(loginId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                accountAuthMemberCache.invalidate(loginId);
+            }
+        });
+    }
+}
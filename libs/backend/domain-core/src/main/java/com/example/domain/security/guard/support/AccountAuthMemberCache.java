@@ -0,0 +1,80 @@
+package com.example.domain.security.guard.support;
+
+import com.example.domain.account.payload.dto.AccountAuthMemberView;
+import com.example.global.cache.LocalCacheStats;
+import com.example.global.cache.LocalTtlCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JWT 인증 필터 전용 회원 인증 정보 로컬 캐시
+ *
+ * <p>
+ * - loginId를 키로 {@link AccountAuthMemberView}를 보관해, 토큰 검증 시 캐시 미스일 때만 DB를 조회합니다.
+ * - 토큰 버전 회전/활성 상태·권한 변경/탈퇴가 커밋되면 {@link #invalidate(String)}로 즉시 제거됩니다.
+ * - 조회 중 무효화가 끼어들면 오래된 값이 다시 적재되지 않도록 세대(generation) 값을 비교합니다.
+ * </p>
+ */
+@Component
+public class AccountAuthMemberCache {
+
+    private final LocalTtlCache<String, AccountAuthMemberView> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public AccountAuthMemberCache(
+            @Value("${app.security.auth-member-cache.max-size:10000}") final int maxSize,
+            @Value("${app.security.auth-member-cache.ttl:PT30S}") final Duration ttl
+    ) {
+        this.cache = new LocalTtlCache<>(maxSize, ttl);
+    }
+
+    public Optional<AccountAuthMemberView> find(final String loginId) {
+        if (!StringUtils.hasText(loginId)) {
+            return Optional.empty();
+        }
+        return cache.get(loginId);
+    }
+
+    /**
+     * DB 조회 직전에 현재 세대를 기록해 두고, 적재 시 {@link #putIfNotInvalidated}에 전달합니다.
+     */
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    public void putIfNotInvalidated(final AccountAuthMemberView member, final long loadedGeneration) {
+        if (member == null || !StringUtils.hasText(member.loginId())) {
+            return;
+        }
+        if (generation.get() != loadedGeneration) {
+            return;
+        }
+
+        cache.put(member.loginId(), member);
+        if (generation.get() != loadedGeneration) {
+            cache.invalidate(member.loginId());
+        }
+    }
+
+    public void invalidate(final String loginId) {
+        if (!StringUtils.hasText(loginId)) {
+            return;
+        }
+        generation.incrementAndGet();
+        cache.invalidate(loginId);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    public LocalCacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.domain.security.guard.support;
+
+import com.example.global.cache.invalidation.CacheInvalidationSubscriber;
+import com.example.global.cache.invalidation.CacheInvalidationTopic;
+import com.example.global.cache.invalidation.payload.dto.CacheInvalidationMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 노드에서 변경된 회원 인증 상태를 로컬 인증 캐시에서 제거합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountAuthMemberInvalidationSubscriber implements CacheInvalidationSubscriber {
+
+    private final AccountAuthMemberCache accountAuthMemberCache;
+
+    @Override
+    public CacheInvalidationTopic topic() {
+        return CacheInvalidationTopic.MEMBER_AUTH_CHANGED;
+    }
+
+    @Override
+    public void onInvalidated(CacheInvalidationMessage message) {
+        accountAuthMemberCache.invalidate(message.key());
+    }
+
+    @Override
+    public void onResync() {
+        accountAuthMemberCache.invalidateAll();
+    }
+}
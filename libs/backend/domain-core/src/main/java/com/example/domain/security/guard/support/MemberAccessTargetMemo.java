@@ -0,0 +1,52 @@
+package com.example.domain.security.guard.support;
+
+import com.example.global.logging.RequestContextScope;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 요청 단위 {@link MemberAccessTarget} 메모
+ *
+ * <p>
+ * - @PreAuthorize(@memberGuard.canAccessMember(#id))가 조회한 대상을 요청 속성에 기록하고,
+ *   같은 요청의 MemberStrategyFactory가 역할 판단에 재사용합니다. (대상 조회 1회)
+ * - 요청은 RequestContextScope(ScopedValue)로 찾으며, 요청 밖(배치/스케줄러)에서는 기록/조회하지 않습니다.
+ * - 인가 시점 스냅샷이므로 쓰기 경로는 역할 조건을 포함한 엔티티 조회로 다시 확인합니다.
+ * </p>
+ */
+final class MemberAccessTargetMemo {
+
+    private static final String ATTRIBUTE_NAME = MemberAccessTargetMemo.class.getName();
+
+    private MemberAccessTargetMemo() {
+    }
+
+    static Optional<MemberAccessTarget> find(final Long targetId) {
+        final Map<Long, MemberAccessTarget> targets = targets(false);
+        return targets == null ? Optional.empty() : Optional.ofNullable(targets.get(targetId));
+    }
+
+    static void store(final MemberAccessTarget target) {
+        final Map<Long, MemberAccessTarget> targets = targets(true);
+        if (targets != null && target != null && target.id() != null) {
+            targets.put(target.id(), target);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Long, MemberAccessTarget> targets(final boolean create) {
+        final HttpServletRequest request = RequestContextScope.getCurrentRequestOrNull();
+        if (request == null) {
+            return null;
+        }
+        Map<Long, MemberAccessTarget> targets = (Map<Long, MemberAccessTarget>) request.getAttribute(ATTRIBUTE_NAME);
+        if (targets == null && create) {
+            targets = new HashMap<>(4);
+            request.setAttribute(ATTRIBUTE_NAME, targets);
+        }
+        return targets;
+    }
+}
@@ -5,6 +5,10 @@ import org.springframework.stereotype.Component;
 
 import java.util.Optional;
 
+/**
+ * 회원 접근 대상(role, id, active) 조회
+ * - 같은 요청에서는 {@link MemberAccessTargetMemo}에 기록된 값을 재사용하고, 없을 때만 경량 프로젝션으로 조회합니다.
+ */
 @Component
 @RequiredArgsConstructor
 public class MemberAccessTargetResolver {
@@ -16,6 +20,13 @@ public class MemberAccessTargetResolver {
             return Optional.empty();
         }
 
-        return securityMemberAccessPort.findAccessTargetById(targetId);
+        final Optional<MemberAccessTarget> memoized = MemberAccessTargetMemo.find(targetId);
+        if (memoized.isPresent()) {
+            return memoized;
+        }
+
+        final Optional<MemberAccessTarget> target = securityMemberAccessPort.findAccessTargetById(targetId);
+        target.ifPresent(MemberAccessTargetMemo::store);
+        return target;
     }
 }
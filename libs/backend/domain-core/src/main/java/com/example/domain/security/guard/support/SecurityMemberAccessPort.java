@@ -1,10 +1,12 @@
 package com.example.domain.security.guard.support;
 
 import com.example.domain.account.enums.AccountRole;
+import com.example.domain.account.payload.dto.AccountAuthMemberBlacklistView;
 import com.example.domain.account.payload.dto.AccountAuthMemberView;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Security 도메인이 회원 접근/인증 관련 정보를 조회할 때 사용하는 Port
@@ -33,6 +35,16 @@ public interface SecurityMemberAccessPort {
      */
     Optional<AccountAuthMemberView> findActiveAuthMemberByLoginId(String loginId);
 
+    /**
+     * 로그인 ID로 활성 회원의 인증 정보와 토큰 블랙리스트 여부를 단일 쿼리로 조회합니다.
+     * tokenHash가 있으면 토큰 해시로, 없으면 tokenId(jti)로 블랙리스트를 확인합니다.
+     */
+    Optional<AccountAuthMemberBlacklistView> findActiveAuthMemberWithBlacklist(
+            String loginId,
+            String tokenHash,
+            UUID tokenId
+    );
+
     /**
      * 로그인 ID로 회원 ID를 조회합니다.
      * 로그인 실패 이벤트 발행 시 회원 식별에 사용합니다.
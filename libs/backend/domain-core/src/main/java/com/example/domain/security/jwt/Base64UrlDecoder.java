@@ -0,0 +1,76 @@
+package com.example.domain.security.jwt;
+
+import java.util.Arrays;
+
+/**
+ * 문자열 구간을 중간 복사 없이 디코딩하는 base64url(패딩 없음) 디코더
+ *
+ * <p>
+ * - compact JWS 세그먼트 전용이며, 패딩('=')이나 허용되지 않은 문자가 있으면 실패(-1/null)로 처리합니다.
+ * - 마지막 문자의 남는 비트가 0이 아닌 비정규 표기도 실패로 처리합니다.
+ *   (서명 표기가 여러 개면 토큰 해시가 달라져 해시 기준 블랙리스트를 우회할 수 있음)
+ * </p>
+ */
+final class Base64UrlDecoder {
+
+    private static final int[] DECODE_TABLE = new int[128];
+
+    static {
+        Arrays.fill(DECODE_TABLE, -1);
+        final String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            DECODE_TABLE[alphabet.charAt(i)] = i;
+        }
+    }
+
+    private Base64UrlDecoder() {
+    }
+
+    static byte[] decode(final CharSequence source, final int start, final int end) {
+        final int decodedLength = decodedLength(end - start);
+        if (decodedLength < 0) {
+            return null;
+        }
+        final byte[] out = new byte[decodedLength];
+        return decodeInto(source, start, end, out) == decodedLength ? out : null;
+    }
+
+    /**
+     * @return 디코딩된 바이트 수, 입력이 잘못되었거나 out 크기가 부족하면 -1
+     */
+    static int decodeInto(final CharSequence source, final int start, final int end, final byte[] out) {
+        final int decodedLength = decodedLength(end - start);
+        if (decodedLength < 0 || decodedLength > out.length) {
+            return -1;
+        }
+
+        int outIndex = 0;
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = start; i < end; i++) {
+            final char c = source.charAt(i);
+            final int value = c < 128 ? DECODE_TABLE[c] : -1;
+            if (value < 0) {
+                return -1;
+            }
+            bits = ((bits << 6) | value) & 0xFFF;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                out[outIndex++] = (byte) (bits >> bitCount);
+            }
+        }
+        // 마지막 문자의 남는 비트가 0이 아니면 같은 바이트를 여러 표기로 만들 수 있으므로 거부합니다. (정규 표기만 허용)
+        if (bitCount > 0 && (bits & ((1 << bitCount) - 1)) != 0) {
+            return -1;
+        }
+        return outIndex;
+    }
+
+    private static int decodedLength(final int encodedLength) {
+        if (encodedLength < 0 || encodedLength % 4 == 1) {
+            return -1;
+        }
+        return encodedLength * 3 / 4;
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.domain.security.jwt;
+
+import com.example.global.security.jwt.JwtTokenKeyProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 서버가 발급한 HMAC 서명 토큰 전용 고속 검증기
+ *
+ * <p>
+ * - compact JWS를 직접 분해해 base64url 디코딩 → HMAC 계산 → 상수 시간 비교 → 고정 claim 추출만 수행합니다.
+ * - jjwt의 범용 Claims 맵/JSON 역직렬화를 거치지 않아 요청당 할당과 CPU 비용을 줄입니다.
+ * - 헤더가 {"alg":"HS256"}(선택적으로 "typ":"JWT") 형태가 아니거나, 서명 불일치/예상 밖 claim 형식이면
+ *   Optional.empty()를 반환하고 최종 판정은 jjwt에 위임합니다. 즉, 이 검증기는 "확실히 유효한" 경우만 처리합니다.
+ * - Mac은 가상 스레드 환경에서 ThreadLocal 재사용이 되지 않으므로 소형 풀로 재사용합니다.
+ * - HMAC 검증이 꺼진 비대칭 서명 모드(EDDSA/ES256, accept-legacy-hmac=false)에서는 비활성화됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class JwtAccessTokenFastVerifier {
+
+    private static final int MAX_POOLED_BUFFERS = 64;
+    private static final int MAX_TOKEN_LENGTH = 8192;
+
+    private final Mac prototypeMac;
+    private final String expectedAlgorithm;
+    private final int macLength;
+    private final int signatureLength;
+
+    private final Queue<VerifierBuffer> bufferPool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooledBufferCount = new AtomicInteger();
+
+    // 발급 토큰의 헤더 세그먼트는 항상 동일하므로, 한 번 검증된 세그먼트는 문자열 비교로 통과시킵니다.
+    private volatile String acceptedHeaderSegment;
+
+    public JwtAccessTokenFastVerifier(final JwtTokenKeyProvider keyProvider) {
+        final SecretKey secretKey = keyProvider.getSecretKey();
+        final String algorithm = secretKey == null ? null : toJwaAlgorithm(secretKey.getAlgorithm());
+        this.prototypeMac = algorithm == null ? null : initMac(secretKey);
+        this.expectedAlgorithm = algorithm;
+        this.macLength = prototypeMac == null ? 0 : prototypeMac.getMacLength();
+        this.signatureLength = (macLength * 8 + 5) / 6;
+    }
+
+    /**
+     * 서명이 유효하고 claim 형식이 예상과 일치할 때만 claim 값을 반환합니다.
+     * 만료/발급자 등 claim 내용 검증은 호출자가 수행합니다.
+     */
+    public Optional<JwtTokenClaimValues> verify(final String token) {
+        if (prototypeMac == null || token == null || token.length() > MAX_TOKEN_LENGTH) {
+            return Optional.empty();
+        }
+
+        final int firstDot = token.indexOf('.');
+        final int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if (firstDot <= 0 || secondDot <= firstDot + 1 || token.indexOf('.', secondDot + 1) >= 0) {
+            return Optional.empty();
+        }
+        if (token.length() - secondDot - 1 != signatureLength || !isSupportedHeader(token, firstDot)) {
+            return Optional.empty();
+        }
+
+        final VerifierBuffer buffer = acquireBuffer();
+        try {
+            if (!verifySignature(buffer, token, secondDot)) {
+                return Optional.empty();
+            }
+        } finally {
+            releaseBuffer(buffer);
+        }
+
+        final byte[] payload = Base64UrlDecoder.decode(token, firstDot + 1, secondDot);
+        if (payload == null) {
+            return Optional.empty();
+        }
+        return JwtClaimScanner.scan(payload);
+    }
+
+    private boolean verifySignature(final VerifierBuffer buffer, final String token, final int signingInputLength) {
+        final byte[] signingInput = buffer.signingInput(signingInputLength);
+        for (int i = 0; i < signingInputLength; i++) {
+            final char c = token.charAt(i);
+            if (c > 0x7F) {
+                return false;
+            }
+            signingInput[i] = (byte) c;
+        }
+
+        try {
+            buffer.mac.update(signingInput, 0, signingInputLength);
+            buffer.mac.doFinal(buffer.expectedSignature, 0);
+        } catch (GeneralSecurityException | IllegalStateException ex) {
+            buffer.mac.reset();
+            return false;
+        }
+
+        final int decodedLength = Base64UrlDecoder.decodeInto(
+                token, signingInputLength + 1, token.length(), buffer.actualSignature
+        );
+        return decodedLength == macLength && MessageDigest.isEqual(buffer.expectedSignature, buffer.actualSignature);
+    }
+
+    private boolean isSupportedHeader(final String token, final int headerEnd) {
+        final String accepted = acceptedHeaderSegment;
+        if (accepted != null && accepted.length() == headerEnd && token.startsWith(accepted)) {
+            return true;
+        }
+
+        final byte[] header = Base64UrlDecoder.decode(token, 0, headerEnd);
+        if (header == null || !JwtClaimScanner.isSupportedHeader(header, expectedAlgorithm)) {
+            return false;
+        }
+        acceptedHeaderSegment = token.substring(0, headerEnd);
+        return true;
+    }
+
+    private VerifierBuffer acquireBuffer() {
+        final VerifierBuffer pooled = bufferPool.poll();
+        if (pooled != null) {
+            pooledBufferCount.decrementAndGet();
+            return pooled;
+        }
+        return new VerifierBuffer(cloneMac(), macLength);
+    }
+
+    private void releaseBuffer(final VerifierBuffer buffer) {
+        if (pooledBufferCount.incrementAndGet() > MAX_POOLED_BUFFERS) {
+            pooledBufferCount.decrementAndGet();
+            return;
+        }
+        bufferPool.offer(buffer);
+    }
+
+    private Mac cloneMac() {
+        try {
+            return (Mac) prototypeMac.clone();
+        } catch (CloneNotSupportedException ex) {
+            throw new IllegalStateException("Mac 복제를 지원하지 않는 보안 공급자입니다.", ex);
+        }
+    }
+
+    private static Mac initMac(final SecretKey secretKey) {
+        try {
+            final Mac mac = Mac.getInstance(secretKey.getAlgorithm());
+            mac.init(secretKey);
+            mac.clone();
+            return mac;
+        } catch (GeneralSecurityException | CloneNotSupportedException ex) {
+            log.warn("JWT 고속 검증기를 비활성화합니다. algorithm={}, exceptionName={}",
+                    secretKey.getAlgorithm(), ex.getClass().getSimpleName());
+            return null;
+        }
+    }
+
+    // jjwt Keys.hmacShaKeyFor는 키 길이에 따라 HS256/HS384/HS512 중 하나로 서명합니다.
+    private static String toJwaAlgorithm(final String jcaAlgorithm) {
+        return switch (jcaAlgorithm) {
+            case "HmacSHA256" -> "HS256";
+            case "HmacSHA384" -> "HS384";
+            case "HmacSHA512" -> "HS512";
+            default -> null;
+        };
+    }
+
+    private static final class VerifierBuffer {
+
+        private final Mac mac;
+        private final byte[] expectedSignature;
+        private final byte[] actualSignature;
+        private byte[] signingInput = new byte[512];
+
+        private VerifierBuffer(final Mac mac, final int macLength) {
+            this.mac = mac;
+            this.expectedSignature = new byte[macLength];
+            this.actualSignature = new byte[macLength];
+        }
+
+        private byte[] signingInput(final int length) {
+            if (signingInput.length < length) {
+                signingInput = new byte[Math.max(length, signingInput.length * 2)];
+            }
+            return signingInput;
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package com.example.domain.security.jwt;
+
+import com.example.global.security.jwt.JwtTokenClaimKeys;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 서버가 발급한 JWT 헤더/payload 전용 최소 JSON 스캐너
+ *
+ * <p>
+ * - 최상위 객체의 문자열/정수/true/false/null 값만 처리합니다.
+ * - 이스케이프 문자열, 소수/지수 숫자, 중첩 객체/배열, 중복 claim, nbf claim 등 예상 밖 형식은 모두 실패로 처리해
+ *   호출자가 jjwt로 대체 검증하도록 합니다.
+ * </p>
+ */
+final class JwtClaimScanner {
+
+    private static final byte[] KEY_SUB = ascii("sub");
+    private static final byte[] KEY_ISS = ascii("iss");
+    private static final byte[] KEY_JTI = ascii("jti");
+    private static final byte[] KEY_IAT = ascii("iat");
+    private static final byte[] KEY_EXP = ascii("exp");
+    private static final byte[] KEY_NBF = ascii("nbf");
+    private static final byte[] KEY_ROLE = ascii(JwtTokenClaimKeys.ROLE);
+    private static final byte[] KEY_TYPE = ascii(JwtTokenClaimKeys.TYPE);
+    private static final byte[] KEY_VERSION = ascii(JwtTokenClaimKeys.VERSION);
+    private static final byte[] KEY_ALG = ascii("alg");
+    private static final byte[] KEY_TYP = ascii("typ");
+    private static final byte[] TYPE_JWT = ascii("JWT");
+
+    // epoch seconds가 Instant 범위를 넘지 않도록 자릿수를 제한합니다.
+    private static final int MAX_LONG_DIGITS = 15;
+
+    private final byte[] json;
+    private int position;
+
+    // 마지막으로 읽은 값
+    private int stringStart;
+    private int stringEnd;
+    private long numberValue;
+
+    private JwtClaimScanner(final byte[] json) {
+        this.json = json;
+    }
+
+    static Optional<JwtTokenClaimValues> scan(final byte[] payload) {
+        return new JwtClaimScanner(payload).scanClaims();
+    }
+
+    /**
+     * 헤더가 alg(필수)와 typ(선택, "JWT")만 포함하고 alg가 기대값과 일치하는지 확인합니다.
+     */
+    static boolean isSupportedHeader(final byte[] header, final String expectedAlgorithm) {
+        return new JwtClaimScanner(header).scanHeader(ascii(expectedAlgorithm));
+    }
+
+    private boolean scanHeader(final byte[] expectedAlgorithm) {
+        boolean algorithmMatched = false;
+        boolean typeSeen = false;
+
+        if (!beginObject()) {
+            return false;
+        }
+        if (consume('}')) {
+            return false;
+        }
+        do {
+            if (!readString()) {
+                return false;
+            }
+            final int keyStart = stringStart;
+            final int keyEnd = stringEnd;
+            if (!consume(':') || !readString()) {
+                return false;
+            }
+
+            if (keyEquals(keyStart, keyEnd, KEY_ALG) && !algorithmMatched) {
+                algorithmMatched = keyEquals(stringStart, stringEnd, expectedAlgorithm);
+                if (!algorithmMatched) {
+                    return false;
+                }
+            } else if (keyEquals(keyStart, keyEnd, KEY_TYP) && !typeSeen) {
+                typeSeen = true;
+                if (!keyEquals(stringStart, stringEnd, TYPE_JWT)) {
+                    return false;
+                }
+            } else {
+                return false;
+            }
+        } while (consume(','));
+
+        return consume('}') && isEnd() && algorithmMatched;
+    }
+
+    private Optional<JwtTokenClaimValues> scanClaims() {
+        String subject = null;
+        String issuer = null;
+        String tokenId = null;
+        String roleValue = null;
+        String typeValue = null;
+        Long versionValue = null;
+        Instant issuedAt = null;
+        Instant expiresAt = null;
+
+        if (!beginObject()) {
+            return Optional.empty();
+        }
+        if (!consume('}')) {
+            do {
+                if (!readString()) {
+                    return Optional.empty();
+                }
+                final int keyStart = stringStart;
+                final int keyEnd = stringEnd;
+                if (!consume(':')) {
+                    return Optional.empty();
+                }
+
+                if (keyEquals(keyStart, keyEnd, KEY_SUB)) {
+                    if (subject != null || !readString()) {
+                        return Optional.empty();
+                    }
+                    subject = currentString();
+                } else if (keyEquals(keyStart, keyEnd, KEY_ISS)) {
+                    if (issuer != null || !readString()) {
+                        return Optional.empty();
+                    }
+                    issuer = currentString();
+                } else if (keyEquals(keyStart, keyEnd, KEY_JTI)) {
+                    if (tokenId != null || !readString()) {
+                        return Optional.empty();
+                    }
+                    tokenId = currentString();
+                } else if (keyEquals(keyStart, keyEnd, KEY_ROLE)) {
+                    if (roleValue != null || !readString()) {
+                        return Optional.empty();
+                    }
+                    roleValue = currentString();
+                } else if (keyEquals(keyStart, keyEnd, KEY_TYPE)) {
+                    if (typeValue != null || !readString()) {
+                        return Optional.empty();
+                    }
+                    typeValue = currentString();
+                } else if (keyEquals(keyStart, keyEnd, KEY_VERSION)) {
+                    if (versionValue != null || !readLong()) {
+                        return Optional.empty();
+                    }
+                    versionValue = numberValue;
+                } else if (keyEquals(keyStart, keyEnd, KEY_IAT)) {
+                    if (issuedAt != null || !readLong()) {
+                        return Optional.empty();
+                    }
+                    issuedAt = Instant.ofEpochSecond(numberValue);
+                } else if (keyEquals(keyStart, keyEnd, KEY_EXP)) {
+                    if (expiresAt != null || !readLong()) {
+                        return Optional.empty();
+                    }
+                    expiresAt = Instant.ofEpochSecond(numberValue);
+                } else if (keyEquals(keyStart, keyEnd, KEY_NBF) || !skipScalar()) {
+                    // nbf는 jjwt가 시각 검증을 수행하므로 고속 경로에서 처리하지 않습니다.
+                    return Optional.empty();
+                }
+            } while (consume(','));
+
+            if (!consume('}')) {
+                return Optional.empty();
+            }
+        }
+
+        if (!isEnd()) {
+            return Optional.empty();
+        }
+        return Optional.of(JwtTokenClaimValues.of(
+                subject, issuer, tokenId, roleValue, typeValue, versionValue, issuedAt, expiresAt
+        ));
+    }
+
+    private boolean beginObject() {
+        skipWhitespace();
+        return consume('{');
+    }
+
+    private boolean consume(final char expected) {
+        skipWhitespace();
+        if (position < json.length && json[position] == expected) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean isEnd() {
+        skipWhitespace();
+        return position == json.length;
+    }
+
+    private void skipWhitespace() {
+        while (position < json.length) {
+            final byte b = json[position];
+            if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                return;
+            }
+            position++;
+        }
+    }
+
+    /**
+     * 이스케이프가 없는 문자열만 허용합니다. 성공 시 stringStart/stringEnd에 내용 구간을 기록합니다.
+     */
+    private boolean readString() {
+        if (!consume('"')) {
+            return false;
+        }
+        final int start = position;
+        while (position < json.length) {
+            final byte b = json[position];
+            if (b == '"') {
+                stringStart = start;
+                stringEnd = position;
+                position++;
+                return true;
+            }
+            if (b == '\\' || (b >= 0 && b < 0x20)) {
+                return false;
+            }
+            position++;
+        }
+        return false;
+    }
+
+    private boolean readLong() {
+        skipWhitespace();
+        boolean negative = false;
+        if (position < json.length && json[position] == '-') {
+            negative = true;
+            position++;
+        }
+
+        final int digitsStart = position;
+        long value = 0L;
+        while (position < json.length && json[position] >= '0' && json[position] <= '9') {
+            value = value * 10 + (json[position] - '0');
+            position++;
+        }
+
+        final int digitCount = position - digitsStart;
+        if (digitCount == 0 || digitCount > MAX_LONG_DIGITS) {
+            return false;
+        }
+        if (digitCount > 1 && json[digitsStart] == '0') {
+            return false;
+        }
+        if (position < json.length) {
+            final byte next = json[position];
+            if (next == '.' || next == 'e' || next == 'E') {
+                return false;
+            }
+        }
+
+        numberValue = negative ? -value : value;
+        return true;
+    }
+
+    private boolean skipScalar() {
+        skipWhitespace();
+        if (position >= json.length) {
+            return false;
+        }
+        final byte b = json[position];
+        if (b == '"') {
+            return readString();
+        }
+        if (b == '-' || (b >= '0' && b <= '9')) {
+            return readLong();
+        }
+        return skipLiteral("true") || skipLiteral("false") || skipLiteral("null");
+    }
+
+    private boolean skipLiteral(final String literal) {
+        if (position + literal.length() > json.length) {
+            return false;
+        }
+        for (int i = 0; i < literal.length(); i++) {
+            if (json[position + i] != literal.charAt(i)) {
+                return false;
+            }
+        }
+        position += literal.length();
+        return true;
+    }
+
+    private boolean keyEquals(final int start, final int end, final byte[] expected) {
+        if (end - start != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (json[start + i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String currentString() {
+        return new String(json, stringStart, stringEnd - stringStart, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] ascii(final String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.domain.security.jwt;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 토큰에서 추출한 고정 claim 값
+ *
+ * <p>
+ * - jjwt Claims와 고속 검증기({@link JwtAccessTokenFastVerifier}) 결과를 같은 검증 로직에 전달하기 위한 중간 DTO입니다.
+ * </p>
+ */
+public record JwtTokenClaimValues(
+        String subject,
+        String issuer,
+        String tokenId,
+        String roleValue,
+        String typeValue,
+        Number versionValue,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+
+    public static JwtTokenClaimValues of(
+            String subject,
+            String issuer,
+            String tokenId,
+            String roleValue,
+            String typeValue,
+            Number versionValue,
+            Instant issuedAt,
+            Instant expiresAt
+    ) {
+        return new JwtTokenClaimValues(subject, issuer, tokenId, roleValue, typeValue, versionValue, issuedAt, expiresAt);
+    }
+}
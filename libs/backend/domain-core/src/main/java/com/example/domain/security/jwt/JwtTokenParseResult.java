@@ -4,9 +4,18 @@ import com.example.global.security.jwt.JwtTokenParseStatus;
 
 import java.util.Optional;
 
+/**
+ * 토큰 파싱 결과
+ *
+ * <p>
+ * - tokenDigest는 파싱 중 계산한 토큰 SHA-256 해시(hex)로, VALID일 때만 채워집니다.
+ * - 블랙리스트 해시 조회 등 후속 단계가 같은 해시를 다시 계산하지 않도록 전달합니다.
+ * </p>
+ */
 public record JwtTokenParseResult(
         JwtTokenParseStatus status,
-        JwtTokenPayload payload
+        JwtTokenPayload payload,
+        String tokenDigest
 ) {
 
     public JwtTokenParseResult {
@@ -18,11 +27,20 @@ public record JwtTokenParseResult(
         }
         if (status != JwtTokenParseStatus.VALID) {
             payload = null;
+            tokenDigest = null;
         }
     }
 
     public static JwtTokenParseResult of(JwtTokenParseStatus status, JwtTokenPayload payload) {
-        return new JwtTokenParseResult(status, payload);
+        return new JwtTokenParseResult(status, payload, null);
+    }
+
+    public static JwtTokenParseResult of(JwtTokenParseStatus status, JwtTokenPayload payload, String tokenDigest) {
+        return new JwtTokenParseResult(status, payload, tokenDigest);
+    }
+
+    public JwtTokenParseResult withTokenDigest(String tokenDigest) {
+        return new JwtTokenParseResult(status, payload, tokenDigest);
     }
 
     public Optional<JwtTokenPayload> payloadOptional() {
@@ -7,20 +7,45 @@ import com.example.global.security.jwt.JwtTokenParseStatus;
 import com.example.global.security.jwt.JwtTokenType;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.LocatorAdapter;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.security.Key;
 import java.time.Instant;
 import java.util.Date;
 import java.util.Optional;
 
 @Component
-@RequiredArgsConstructor
 public class JwtTokenParser {
 
     private final JwtTokenKeyProvider keyProvider;
+    private final JwtVerifiedTokenCache verifiedTokenCache;
+    private final JwtAccessTokenFastVerifier fastVerifier;
+    // 키 목록이 기동 시 고정되므로 파서는 한 번만 구성해 재사용합니다. (JwtParser는 thread-safe)
+    // 검증 키는 헤더 kid/alg로 선택하며, 일치하는 키가 없으면 jjwt가 예외를 던져 INVALID로 처리됩니다.
+    private final JwtParser jwtParser;
+
+    public JwtTokenParser(
+            final JwtTokenKeyProvider keyProvider,
+            final JwtVerifiedTokenCache verifiedTokenCache,
+            final JwtAccessTokenFastVerifier fastVerifier
+    ) {
+        this.keyProvider = keyProvider;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.fastVerifier = fastVerifier;
+        this.jwtParser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(final JwsHeader header) {
+                        return keyProvider.findVerificationKey(header.getAlgorithm(), header.getKeyId());
+                    }
+                })
+                .build();
+    }
 
     public Optional<JwtTokenPayload> parseToken(String token) {
         final JwtTokenParseResult result = parseTokenResult(token);
@@ -35,14 +60,19 @@ public class JwtTokenParser {
             return JwtTokenParseResult.of(JwtTokenParseStatus.INVALID, null);
         }
 
-        try {
-            final Claims claims = Jwts.parser()
-                    .verifyWith(keyProvider.getSecretKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+        final String tokenDigest = verifiedTokenCache.digest(token);
+        final Optional<JwtTokenPayload> cached = verifiedTokenCache.find(tokenDigest);
+        if (cached.isPresent()) {
+            return JwtTokenParseResult.of(JwtTokenParseStatus.VALID, cached.get(), tokenDigest);
+        }
 
-            return validateAndBuildResult(claims);
+        try {
+            // 고속 검증기가 확정하지 못한 토큰(형식 차이/서명 불일치 등)은 jjwt로 최종 판정합니다.
+            final JwtTokenClaimValues claimValues = fastVerifier.verify(token)
+                    .orElseGet(() -> toClaimValues(jwtParser.parseSignedClaims(token).getPayload()));
+            final JwtTokenParseResult result = validateAndBuildResult(claimValues).withTokenDigest(tokenDigest);
+            cacheIfVerifiedAccessToken(tokenDigest, result);
+            return result;
         } catch (ExpiredJwtException ex) {
             return JwtTokenParseResult.of(JwtTokenParseStatus.EXPIRED, null);
         } catch (Exception ex) {
@@ -50,15 +80,36 @@ public class JwtTokenParser {
         }
     }
 
-    private JwtTokenParseResult validateAndBuildResult(Claims claims) {
-        final String subject = claims.getSubject();
-        final String issuer = claims.getIssuer();
-        final String tokenId = claims.getId();
-        final String roleValue = claims.get(JwtTokenClaimKeys.ROLE, String.class);
-        final String typeValue = claims.get(JwtTokenClaimKeys.TYPE, String.class);
-        final Number versionValue = claims.get(JwtTokenClaimKeys.VERSION, Number.class);
-        final Instant issuedAt = Optional.ofNullable(claims.getIssuedAt()).map(Date::toInstant).orElse(null);
-        final Instant expiresAt = Optional.ofNullable(claims.getExpiration()).map(Date::toInstant).orElse(null);
+    // 리프레시 토큰은 회전 시 1회만 사용되므로 캐시하지 않습니다.
+    private void cacheIfVerifiedAccessToken(String tokenDigest, JwtTokenParseResult result) {
+        if (result.status() != JwtTokenParseStatus.VALID || result.payload().tokenType() != JwtTokenType.ACCESS) {
+            return;
+        }
+        verifiedTokenCache.put(tokenDigest, result.payload());
+    }
+
+    private JwtTokenClaimValues toClaimValues(Claims claims) {
+        return JwtTokenClaimValues.of(
+                claims.getSubject(),
+                claims.getIssuer(),
+                claims.getId(),
+                claims.get(JwtTokenClaimKeys.ROLE, String.class),
+                claims.get(JwtTokenClaimKeys.TYPE, String.class),
+                claims.get(JwtTokenClaimKeys.VERSION, Number.class),
+                Optional.ofNullable(claims.getIssuedAt()).map(Date::toInstant).orElse(null),
+                Optional.ofNullable(claims.getExpiration()).map(Date::toInstant).orElse(null)
+        );
+    }
+
+    private JwtTokenParseResult validateAndBuildResult(JwtTokenClaimValues claimValues) {
+        final String subject = claimValues.subject();
+        final String issuer = claimValues.issuer();
+        final String tokenId = claimValues.tokenId();
+        final String roleValue = claimValues.roleValue();
+        final String typeValue = claimValues.typeValue();
+        final Number versionValue = claimValues.versionValue();
+        final Instant issuedAt = claimValues.issuedAt();
+        final Instant expiresAt = claimValues.expiresAt();
         final Instant now = Instant.now();
 
         if (expiresAt != null && !expiresAt.isAfter(now)) {
@@ -69,7 +120,7 @@ public class JwtTokenParser {
             return JwtTokenParseResult.of(JwtTokenParseStatus.INVALID, null);
         }
 
-        return buildPayload(subject, roleValue, typeValue, versionValue, issuedAt, expiresAt);
+        return buildPayload(subject, tokenId, roleValue, typeValue, versionValue, issuedAt, expiresAt);
     }
 
     private boolean isValidClaims(String subject, String issuer, String tokenId,
@@ -88,7 +139,7 @@ public class JwtTokenParser {
                 && !issuedAt.isAfter(now);
     }
 
-    private JwtTokenParseResult buildPayload(String subject, String roleValue, String typeValue,
+    private JwtTokenParseResult buildPayload(String subject, String tokenId, String roleValue, String typeValue,
                                              Number versionValue, Instant issuedAt, Instant expiresAt) {
         final AccountRole role = AccountRole.valueOf(roleValue);
         final JwtTokenType tokenType = JwtTokenType.valueOf(typeValue);
@@ -96,7 +147,9 @@ public class JwtTokenParser {
         if (tokenVersion < 0L) {
             return JwtTokenParseResult.of(JwtTokenParseStatus.INVALID, null);
         }
-        final JwtTokenPayload payload = JwtTokenPayload.of(subject, role, tokenType, tokenVersion, issuedAt, expiresAt);
+        final JwtTokenPayload payload = JwtTokenPayload.of(
+                subject, tokenId, role, tokenType, tokenVersion, issuedAt, expiresAt
+        );
         return JwtTokenParseResult.of(JwtTokenParseStatus.VALID, payload);
     }
 }
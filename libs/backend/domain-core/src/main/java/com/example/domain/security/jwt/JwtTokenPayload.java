@@ -7,6 +7,7 @@ import java.time.Instant;
 
 public record JwtTokenPayload(
         String subject,
+        String tokenId,
         AccountRole role,
         JwtTokenType tokenType,
         long tokenVersion,
@@ -16,12 +17,13 @@ public record JwtTokenPayload(
 
     public static JwtTokenPayload of(
             String subject,
+            String tokenId,
             AccountRole role,
             JwtTokenType tokenType,
             long tokenVersion,
             Instant issuedAt,
             Instant expiresAt
     ) {
-        return new JwtTokenPayload(subject, role, tokenType, tokenVersion, issuedAt, expiresAt);
+        return new JwtTokenPayload(subject, tokenId, role, tokenType, tokenVersion, issuedAt, expiresAt);
     }
 }
@@ -0,0 +1,52 @@
+package com.example.domain.security.jwt;
+
+import com.example.global.cache.LocalCacheStats;
+import com.example.global.cache.LocalTtlCache;
+import com.example.global.utils.TokenHashUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 서명 검증을 마친 액세스 토큰 payload 로컬 캐시
+ *
+ * <p>
+ * - 같은 액세스 토큰이 TTL 동안 반복 전송되므로, 검증 결과를 보관해 HMAC 재검증과 claims 역직렬화를 생략합니다.
+ * - 키는 compact 토큰의 SHA-256 digest로, 위조 토큰이 다른 토큰의 캐시 항목에 매칭되지 않도록 충돌 내성 해시를 사용합니다.
+ * - 각 항목은 토큰 자체의 exp 시점에 만료되며, 캐시 기본 ttl을 넘지 않습니다.
+ * - 검증 실패/만료 결과는 캐시하지 않습니다.
+ * </p>
+ */
+@Component
+public class JwtVerifiedTokenCache {
+
+    private final LocalTtlCache<String, JwtTokenPayload> cache;
+
+    public JwtVerifiedTokenCache(
+            @Value("${app.jwt.verified-token-cache.max-size:20000}") final int maxSize,
+            @Value("${app.jwt.verified-token-cache.ttl:PT30M}") final Duration ttl
+    ) {
+        this.cache = new LocalTtlCache<>(maxSize, ttl);
+    }
+
+    public Optional<JwtTokenPayload> find(final String tokenDigest) {
+        return cache.get(tokenDigest)
+                .filter(payload -> payload.expiresAt().isAfter(Instant.now()));
+    }
+
+    public void put(final String tokenDigest, final JwtTokenPayload payload) {
+        final Duration remaining = Duration.between(Instant.now(), payload.expiresAt());
+        cache.put(tokenDigest, payload, remaining);
+    }
+
+    public String digest(final String token) {
+        return TokenHashUtils.sha256(token);
+    }
+
+    public LocalCacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -20,9 +20,16 @@ public interface SecurityMemberTokenPort {
     Optional<SecurityMemberTokenInfo> findTokenInfoByLoginId(String loginId);
 
     /**
-     * 리프레시 토큰 암호문을 갱신합니다.
+     * 리프레시 토큰 암호문과 키 해시를 갱신합니다.
      */
-    void updateRefreshTokenEncrypted(Long memberId, String encrypted);
+    void updateRefreshToken(Long memberId, String encrypted, String hash);
+
+    /**
+     * 저장된 리프레시 토큰 해시가 currentHash이고 토큰 버전이 일치하는 활성 회원일 때만 newHash로 교체합니다.
+     *
+     * @return 교체에 성공하면 true, 재사용/경합 패배/버전 불일치면 false
+     */
+    boolean rotateRefreshTokenHash(String loginId, long tokenVersion, String currentHash, String newHash);
 
     /**
      * 토큰 버전을 회전하고 리프레시 토큰을 무효화합니다.
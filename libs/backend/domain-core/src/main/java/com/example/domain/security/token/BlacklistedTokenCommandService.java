@@ -3,10 +3,13 @@ package com.example.domain.security.token;
 import com.example.domain.security.jwt.JwtTokenParser;
 import com.example.domain.security.jwt.JwtTokenPayload;
 import com.example.global.utils.TokenHashUtils;
-import com.example.global.security.blacklist.BlacklistedToken;
-import com.example.global.security.blacklist.BlacklistedTokenRepository;
+import com.example.global.security.blacklist.BlacklistedTokenKeyMode;
 import com.example.global.security.blacklist.payload.dto.BlacklistedTokenRegisterCommand;
+import com.example.global.security.blacklist.payload.dto.BlacklistedTokenRevocation;
+import com.example.global.security.blacklist.support.BlacklistedTokenBatchWriter;
 import com.example.global.security.blacklist.support.BlacklistedTokenChecker;
+import com.example.global.security.blacklist.support.BlacklistedTokenKeyPolicy;
+import com.example.global.security.blacklist.support.BlacklistedTokenWriteBehindQueue;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,41 +17,59 @@ import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
+/**
+ * 토큰 블랙리스트 등록
+ *
+ * <p>
+ * - 폐기는 지연 저장 대기열에 넣어 이 노드에서 즉시 차단하고, 저장은 스케줄러가 배치로 수행합니다.
+ * - 대기열이 비활성/포화이면 요청 트랜잭션에서 바로 저장합니다.
+ * - 중복 등록은 INSERT ... ON CONFLICT DO NOTHING으로 건너뛰므로 사전 조회를 하지 않습니다.
+ * </p>
+ */
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class BlacklistedTokenCommandService {
 
-    private final BlacklistedTokenRepository blacklistedTokenRepository;
     private final JwtTokenParser jwtTokenParser;
-    private final BlacklistedTokenChecker blacklistedTokenChecker;
+    private final BlacklistedTokenKeyPolicy blacklistedTokenKeyPolicy;
+    private final BlacklistedTokenWriteBehindQueue blacklistedTokenWriteBehindQueue;
+    private final BlacklistedTokenBatchWriter blacklistedTokenBatchWriter;
 
     public void blacklistToken(BlacklistedTokenRegisterCommand command) {
         if (command == null || !StringUtils.hasText(command.token())) {
             return;
         }
 
+        // 만료/위조 토큰은 인증에 사용될 수 없으므로 블랙리스트에 등록하지 않습니다.
         String token = command.token();
-        if (blacklistedTokenChecker.isBlacklisted(token)) {
-            return;
-        }
-
-        String tokenHash = TokenHashUtils.sha256(token);
         Optional<JwtTokenPayload> payload = jwtTokenParser.parseToken(token);
         if (payload.isEmpty()) {
             return;
         }
 
         JwtTokenPayload tokenPayload = payload.get();
-        LocalDateTime expiresAt = LocalDateTime.ofInstant(tokenPayload.expiresAt(), ZoneId.systemDefault());
-        BlacklistedToken entity = BlacklistedToken.of(
+        BlacklistedTokenKeyMode mode = blacklistedTokenKeyPolicy.mode();
+        String tokenHash = mode.writesTokenHash() ? TokenHashUtils.sha256(token) : null;
+        UUID tokenId = mode.writesTokenId() ? BlacklistedTokenChecker.parseTokenId(tokenPayload.tokenId()) : null;
+        if (tokenHash == null && tokenId == null) {
+            return;
+        }
+
+        BlacklistedTokenRevocation revocation = BlacklistedTokenRevocation.of(
                 tokenHash,
+                tokenId,
                 tokenPayload.tokenType(),
-                expiresAt,
+                LocalDateTime.ofInstant(tokenPayload.expiresAt(), ZoneId.systemDefault()),
                 tokenPayload.subject()
         );
-        blacklistedTokenRepository.save(entity);
+        if (blacklistedTokenWriteBehindQueue.offer(revocation)) {
+            return;
+        }
+        blacklistedTokenBatchWriter.write(List.of(revocation));
     }
 }
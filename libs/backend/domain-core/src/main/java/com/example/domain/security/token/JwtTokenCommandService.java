@@ -1,9 +1,13 @@
 package com.example.domain.security.token;
 
+import com.example.domain.account.enums.AccountRole;
+import com.example.domain.security.jwt.JwtTokenPayload;
 import com.example.domain.security.port.SecurityMemberTokenInfo;
+import com.example.global.id.UuidV7Generator;
 import com.example.global.security.jwt.JwtTokenClaimKeys;
 import com.example.global.security.jwt.JwtTokenKeyProvider;
 import com.example.global.security.jwt.JwtTokenType;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.Jwts;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -12,7 +16,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
-import java.util.UUID;
 
 @Service
 @Transactional
@@ -22,29 +25,45 @@ public class JwtTokenCommandService {
     private final JwtTokenKeyProvider keyProvider;
 
     public String generateAccessToken(SecurityMemberTokenInfo memberInfo) {
-        return generateToken(memberInfo, JwtTokenType.ACCESS, keyProvider.getProperties().accessTokenTtl());
+        return generateToken(memberInfo.loginId(), memberInfo.role(), memberInfo.tokenVersion(),
+                JwtTokenType.ACCESS, keyProvider.getProperties().accessTokenTtl());
     }
 
     public String generateRefreshToken(SecurityMemberTokenInfo memberInfo) {
-        return generateToken(memberInfo, JwtTokenType.REFRESH, keyProvider.getProperties().refreshTokenTtl());
+        return generateToken(memberInfo.loginId(), memberInfo.role(), memberInfo.tokenVersion(),
+                JwtTokenType.REFRESH, keyProvider.getProperties().refreshTokenTtl());
     }
 
-    private String generateToken(SecurityMemberTokenInfo memberInfo, JwtTokenType tokenType, Duration ttl) {
+    /**
+     * 검증된 리프레시 토큰의 subject/role/version으로 액세스 토큰을 재발급합니다.
+     * 권한 변경 시 토큰 버전이 회전되므로, 버전이 일치하는 토큰의 role은 현재 권한과 같습니다.
+     */
+    public String generateAccessToken(JwtTokenPayload refreshPayload) {
+        return generateToken(refreshPayload.subject(), refreshPayload.role(), refreshPayload.tokenVersion(),
+                JwtTokenType.ACCESS, keyProvider.getProperties().accessTokenTtl());
+    }
+
+    public String generateRefreshToken(JwtTokenPayload refreshPayload) {
+        return generateToken(refreshPayload.subject(), refreshPayload.role(), refreshPayload.tokenVersion(),
+                JwtTokenType.REFRESH, keyProvider.getProperties().refreshTokenTtl());
+    }
+
+    private String generateToken(String subject, AccountRole role, long tokenVersion, JwtTokenType tokenType, Duration ttl) {
         validateTtl(ttl, tokenType.name().toLowerCase());
         final Instant now = Instant.now();
         final Instant expiresAt = now.plus(ttl);
 
-        return Jwts.builder()
+        final JwtBuilder builder = Jwts.builder()
                 .issuer(keyProvider.getProperties().issuer())
-                .subject(memberInfo.loginId())
-                .claim(JwtTokenClaimKeys.ROLE, memberInfo.role().name())
+                .subject(subject)
+                .claim(JwtTokenClaimKeys.ROLE, role.name())
                 .claim(JwtTokenClaimKeys.TYPE, tokenType.name())
-                .claim(JwtTokenClaimKeys.VERSION, memberInfo.tokenVersion())
-                .id(UUID.randomUUID().toString())
+                .claim(JwtTokenClaimKeys.VERSION, tokenVersion)
+                .id(UuidV7Generator.next().toString())
                 .issuedAt(Date.from(now))
-                .expiration(Date.from(expiresAt))
-                .signWith(keyProvider.getSecretKey())
-                .compact();
+                .expiration(Date.from(expiresAt));
+        // 서명 모드(HMAC/EDDSA/ES256)와 kid 헤더는 키 제공자가 결정합니다.
+        return keyProvider.sign(builder).compact();
     }
 
     private void validateTtl(Duration ttl, String tokenLabel) {
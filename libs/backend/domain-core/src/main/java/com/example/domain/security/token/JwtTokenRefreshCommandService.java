@@ -11,6 +11,7 @@ import com.example.domain.security.port.SecurityMemberTokenInfo;
 import com.example.global.exception.GlobalException;
 import com.example.global.exception.enums.ErrorCode;
 import com.example.global.security.RefreshTokenCrypto;
+import com.example.global.security.RefreshTokenHasher;
 import com.example.global.security.blacklist.payload.dto.BlacklistedTokenRegisterCommand;
 import com.example.global.security.blacklist.support.BlacklistedTokenChecker;
 import com.example.global.security.jwt.JwtTokenParseStatus;
@@ -31,12 +32,19 @@ public class JwtTokenRefreshCommandService {
     private final JwtTokenParser jwtTokenParser;
     private final BlacklistedTokenCommandService blacklistedTokenCommandService;
     private final BlacklistedTokenChecker blacklistedTokenChecker;
+    private final JwtTokenRevocationCommandService jwtTokenRevocationCommandService;
     private final SecurityMemberTokenPort securityMemberTokenPort;
     private final RefreshTokenCrypto refreshTokenCrypto;
+    private final RefreshTokenHasher refreshTokenHasher;
+    private final RefreshTokenRotationPolicy refreshTokenRotationPolicy;
 
     public RefreshTokenResponse refreshTokens(RefreshTokenIssueCommand command) {
         final String refreshToken = resolveRefreshToken(command);
         final JwtTokenPayload payload = parseRefreshToken(refreshToken);
+        if (refreshTokenRotationPolicy.usesHashCompareAndSwap()) {
+            return rotateWithCompareAndSwap(payload, refreshToken);
+        }
+
         final SecurityMemberTokenInfo memberInfo = loadMemberInfoForRefresh(payload);
         validateTokenVersion(memberInfo, payload);
         validateNotBlacklisted(memberInfo, refreshToken);
@@ -44,6 +52,42 @@ public class JwtTokenRefreshCommandService {
         return reissueTokens(memberInfo, refreshToken);
     }
 
+    /**
+     * 해시 CAS 회전
+     *
+     * <p>
+     * - 회원 조회/복호화/블랙리스트 등록 없이 단일 UPDATE로 회전합니다.
+     * - 저장된 해시가 이미 교체되었다면(재사용 또는 동시 요청 경합 패배) 0건이 갱신되고, 이때만 회원을 조회해 원인을 구분합니다.
+     * - 이전 토큰은 저장된 해시와 더 이상 일치하지 않으므로 블랙리스트 없이도 재사용이 차단됩니다.
+     * </p>
+     */
+    private RefreshTokenResponse rotateWithCompareAndSwap(JwtTokenPayload payload, String refreshToken) {
+        final String accessToken = jwtTokenCommandService.generateAccessToken(payload);
+        final String newRefreshToken = jwtTokenCommandService.generateRefreshToken(payload);
+
+        final boolean rotated = securityMemberTokenPort.rotateRefreshTokenHash(
+                payload.subject(),
+                payload.tokenVersion(),
+                refreshTokenHasher.hash(refreshToken),
+                refreshTokenHasher.hash(newRefreshToken)
+        );
+        if (!rotated) {
+            throw resolveCompareAndSwapFailure(payload);
+        }
+        return RefreshTokenResponse.of(accessToken, newRefreshToken);
+    }
+
+    private GlobalException resolveCompareAndSwapFailure(JwtTokenPayload payload) {
+        // 미존재/비활성/버전 불일치는 기존 경로와 동일한 예외로 처리합니다.
+        final SecurityMemberTokenInfo memberInfo = loadMemberInfoForRefresh(payload);
+        validateTokenVersion(memberInfo, payload);
+
+        // 버전이 일치하는데 해시가 다르면 이미 회전된 토큰의 재사용으로 보고 전체 토큰을 폐기합니다.
+        // 이 메서드의 예외로 현재 트랜잭션은 롤백되므로 폐기는 별도 트랜잭션으로 커밋합니다.
+        jwtTokenRevocationCommandService.revokeOnSuspiciousRefresh(memberInfo.id(), null);
+        return new GlobalException(ErrorCode.REFRESH_TOKEN_REVOKED, "이미 폐기된 리프레시 토큰입니다.");
+    }
+
     private String resolveRefreshToken(RefreshTokenIssueCommand command) {
         if (command == null || !StringUtils.hasText(command.refreshToken())) {
             throw new GlobalException(ErrorCode.INVALID_PARAMETER, "refreshToken은 필수입니다.");
@@ -110,21 +154,18 @@ public class JwtTokenRefreshCommandService {
         final String newRefreshTokenEncrypted = refreshTokenCrypto.encrypt(newRefreshToken);
 
         blacklistedTokenCommandService.blacklistToken(BlacklistedTokenRegisterCommand.of(refreshToken));
-        securityMemberTokenPort.updateRefreshTokenEncrypted(memberInfo.id(), newRefreshTokenEncrypted);
+        securityMemberTokenPort.updateRefreshToken(
+                memberInfo.id(), newRefreshTokenEncrypted, refreshTokenHasher.hash(newRefreshToken)
+        );
 
         return RefreshTokenResponse.of(accessToken, newRefreshToken);
     }
 
-    private void revokeOnSuspiciousRefresh(SecurityMemberTokenInfo memberInfo, String refreshToken) {
-        if (memberInfo == null) {
-            return;
-        }
-        blacklistedTokenCommandService.blacklistToken(BlacklistedTokenRegisterCommand.of(refreshToken));
-        securityMemberTokenPort.revokeTokens(memberInfo.id());
-    }
-
+    // 반환한 예외로 현재 트랜잭션은 롤백되므로, 블랙리스트 등록/토큰 폐기는 별도 트랜잭션으로 커밋합니다.
     private GlobalException revokeAndCreateException(SecurityMemberTokenInfo memberInfo, String refreshToken, ErrorCode errorCode, String message) {
-        revokeOnSuspiciousRefresh(memberInfo, refreshToken);
+        if (memberInfo != null) {
+            jwtTokenRevocationCommandService.revokeOnSuspiciousRefresh(memberInfo.id(), refreshToken);
+        }
         return new GlobalException(errorCode, message);
     }
 }
@@ -7,6 +7,7 @@ import com.example.global.security.payload.SecurityLogoutCommand;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
@@ -27,6 +28,29 @@ public class JwtTokenRevocationCommandService {
         revokeMemberTokensById(command.memberId(), command.accessToken());
     }
 
+    /**
+     * 재사용/불일치가 의심되는 리프레시 토큰으로 갱신을 시도한 회원의 토큰을 폐기합니다.
+     *
+     * <p>
+     * - 호출자(리프레시 갱신)는 폐기 직후 예외를 던져 자신의 트랜잭션을 롤백하므로,
+     *   폐기는 별도 트랜잭션(REQUIRES_NEW)으로 먼저 커밋해 토큰 버전 회전이 함께 되돌려지지 않게 합니다.
+     * - refreshToken이 주어지면 블랙리스트에도 등록합니다. (HASH_CAS 회전은 해시 불일치로 이미 차단되므로 생략)
+     * </p>
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void revokeOnSuspiciousRefresh(Long memberId, String refreshToken) {
+        if (memberId == null || memberId <= 0) {
+            return;
+        }
+
+        if (StringUtils.hasText(refreshToken)) {
+            blacklistedTokenCommandService.blacklistToken(BlacklistedTokenRegisterCommand.of(refreshToken));
+        }
+
+        securityMemberTokenPort.revokeTokens(memberId);
+        log.warn("의심 리프레시 토큰으로 전체 토큰 폐기: memberId={}", memberId);
+    }
+
     private void revokeMemberTokensById(Long memberId, String accessToken) {
         if (memberId == null || memberId <= 0) {
             return;
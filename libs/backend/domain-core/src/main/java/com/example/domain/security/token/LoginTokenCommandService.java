@@ -1,13 +1,16 @@
 package com.example.domain.security.token;
 
+import com.example.domain.account.payload.dto.LoginMemberSnapshot;
 import com.example.domain.account.payload.dto.LoginMemberView;
 import com.example.domain.account.payload.response.LoginTokenResponse;
+import com.example.domain.account.support.LoginMemberSnapshotScope;
 import com.example.domain.security.token.BlacklistedTokenCommandService;
 import com.example.domain.security.port.SecurityMemberTokenPort;
 import com.example.domain.security.port.SecurityMemberTokenInfo;
 import com.example.global.exception.GlobalException;
 import com.example.global.exception.enums.ErrorCode;
 import com.example.global.security.RefreshTokenCrypto;
+import com.example.global.security.RefreshTokenHasher;
 import com.example.global.security.blacklist.payload.dto.BlacklistedTokenRegisterCommand;
 import com.example.global.security.payload.LoginTokenIssueCommand;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +26,7 @@ public class LoginTokenCommandService {
     private final SecurityMemberTokenPort securityMemberTokenPort;
     private final JwtTokenCommandService jwtTokenCommandService;
     private final RefreshTokenCrypto refreshTokenCrypto;
+    private final RefreshTokenHasher refreshTokenHasher;
     private final BlacklistedTokenCommandService blacklistedTokenCommandService;
 
     public LoginTokenResponse issueTokens(LoginTokenIssueCommand command) {
@@ -31,7 +35,7 @@ public class LoginTokenCommandService {
         final String accessToken = jwtTokenCommandService.generateAccessToken(memberInfo);
         final String refreshToken = jwtTokenCommandService.generateRefreshToken(memberInfo);
         final String refreshTokenEncrypted = refreshTokenCrypto.encrypt(refreshToken);
-        securityMemberTokenPort.updateRefreshTokenEncrypted(memberInfo.id(), refreshTokenEncrypted);
+        securityMemberTokenPort.updateRefreshToken(memberInfo.id(), refreshTokenEncrypted, refreshTokenHasher.hash(refreshToken));
 
         final LoginMemberView memberView = LoginMemberView.of(
                 memberInfo.id(),
@@ -63,11 +67,29 @@ public class LoginTokenCommandService {
         }
     }
 
+    /**
+     * 같은 로그인 요청에서 검증 단계가 조회한 스냅샷이 있으면 재사용하고, 없으면(소셜 로그인 등) 조회합니다.
+     */
     private SecurityMemberTokenInfo findMemberTokenInfo(LoginTokenIssueCommand command) {
         if (command == null || command.memberId() == null || command.memberId() <= 0) {
             throw new GlobalException(ErrorCode.MEMBER_NOT_EXIST);
         }
-        return securityMemberTokenPort.findTokenInfoById(command.memberId())
+        return LoginMemberSnapshotScope.findById(command.memberId())
+                .map(this::toTokenInfo)
+                .or(() -> securityMemberTokenPort.findTokenInfoById(command.memberId()))
                 .orElseThrow(() -> new GlobalException(ErrorCode.MEMBER_NOT_EXIST));
     }
+
+    private SecurityMemberTokenInfo toTokenInfo(LoginMemberSnapshot snapshot) {
+        return SecurityMemberTokenInfo.of(
+                snapshot.id(),
+                snapshot.loginId(),
+                snapshot.role(),
+                snapshot.nickName(),
+                snapshot.memberType(),
+                snapshot.active(),
+                snapshot.tokenVersion(),
+                snapshot.refreshTokenEncrypted()
+        );
+    }
 }
@@ -0,0 +1,18 @@
+package com.example.domain.security.token;
+
+/**
+ * 리프레시 토큰 회전 방식
+ *
+ * <p>
+ * - ENCRYPTED: 회원 조회 → 저장된 암호문 복호화/비교 → 기존 토큰 블랙리스트 등록 → 암호문 갱신 (기존 방식)
+ * - HASH_CAS: 저장된 키 해시를 조건으로 단일 UPDATE(compare-and-swap)로 회전하고, 실패 시에만 회원을 조회해 원인을 구분
+ * </p>
+ * <p>
+ * 로그인/ENCRYPTED 회전은 암호문과 키 해시를 함께 저장하므로, ENCRYPTED로 배포 후 리프레시 토큰이 한 번씩 갱신되면
+ * HASH_CAS로 전환해도 재로그인이 발생하지 않습니다. 해시가 없는 기존 회원은 CAS에 실패해 재로그인이 필요합니다.
+ * </p>
+ */
+public enum RefreshTokenRotationMode {
+    ENCRYPTED,
+    HASH_CAS
+}
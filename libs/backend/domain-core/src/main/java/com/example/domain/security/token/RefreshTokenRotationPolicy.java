@@ -0,0 +1,31 @@
+package com.example.domain.security.token;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리프레시 토큰 회전 방식 설정
+ *
+ * <p>
+ * - app.jwt.refresh-rotation-mode: ENCRYPTED / HASH_CAS (기본 ENCRYPTED)
+ * </p>
+ */
+@Component
+public class RefreshTokenRotationPolicy {
+
+    private final RefreshTokenRotationMode mode;
+
+    public RefreshTokenRotationPolicy(
+            @Value("${app.jwt.refresh-rotation-mode:ENCRYPTED}") final RefreshTokenRotationMode mode
+    ) {
+        this.mode = mode;
+    }
+
+    public RefreshTokenRotationMode mode() {
+        return mode;
+    }
+
+    public boolean usesHashCompareAndSwap() {
+        return mode == RefreshTokenRotationMode.HASH_CAS;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.domain.member.repository;
+
+import com.example.domain.member.enums.MemberActiveStatus;
+import com.example.domain.member.enums.MemberFilterType;
+import com.example.domain.member.enums.MemberOrderType;
+import com.example.domain.member.payload.dto.MemberListQuery;
+import com.querydsl.core.types.Predicate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberSpecificationTest {
+
+    private static MemberListQuery query(MemberFilterType filter, String searchWord) {
+        return new MemberListQuery(1, 10, MemberOrderType.CREATE_DESC, searchWord, filter, MemberActiveStatus.ALL);
+    }
+
+    @Test
+    @DisplayName("검색어 조건은 trigram 인덱스 식과 같은 lower(col) like 템플릿으로 생성된다")
+    void searchMember_keyword_usesLowerLikeTemplate() {
+        // Act
+        final Predicate loginId = MemberSpecification.searchMember(query(MemberFilterType.LOGIN_ID, "User"), List.of());
+        final Predicate all = MemberSpecification.searchMember(query(MemberFilterType.ALL, "User"), List.of());
+
+        // Assert
+        assertThat(loginId.toString())
+                .contains("lower(member.loginId) like %user%")
+                .doesNotContain("nickName")
+                .doesNotContainIgnoringCase("containsIc");
+        assertThat(all.toString())
+                .contains("lower(member.loginId) like %user%")
+                .contains("lower(member.nickName) like %user%")
+                .contains("||");
+    }
+
+    @Test
+    @DisplayName("LIKE 패턴 문자(%, _, \\)는 이스케이프해 일반 문자로 검색한다")
+    void toContainsPattern_escapesLikeWildcards() {
+        // Act / Assert
+        assertThat(MemberSpecification.toContainsPattern("A_b%c\\d")).isEqualTo("%a\\_b\\%c\\\\d%");
+        assertThat(MemberSpecification.toContainsPattern("닉네임")).isEqualTo("%닉네임%");
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.domain.member.repository;
+
+import com.example.domain.account.enums.AccountRole;
+import com.example.domain.member.enums.MemberActiveStatus;
+import com.example.domain.member.enums.MemberFilterType;
+import com.example.domain.member.payload.dto.MemberListQuery;
+import com.example.domain.member.payload.dto.MemberListView;
+import com.p6spy.engine.common.PreparedStatementInformation;
+import com.p6spy.engine.event.JdbcEventListener;
+import com.p6spy.engine.spy.P6DataSource;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 검색 pg_trgm 인덱스 사용 회귀 테스트 (Testcontainers PostgreSQL, Docker가 없으면 건너뜀)
+ *
+ * <p>
+ * - member 스키마는 엔티티 매핑(hbm2ddl)으로 만들고, trigram 인덱스는 docs/db/member_trgm_search.sql을 그대로 실행합니다.
+ * - 관리자 목록 조회와 같은 경로(MemberSpecification.searchMember → MemberRepositoryImpl.findOffsetPage)로 쿼리를 실행하고,
+ *   p6spy로 Hibernate가 실제로 보낸 SQL(바인딩 값 포함)을 캡처해 EXPLAIN 합니다.
+ *   (role IN, active, lower(col) like, ORDER BY created_at, LIMIT이 모두 포함된 SQL)
+ * </p>
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MemberTrigramSearchExplainTest {
+
+    private static final int ROW_COUNT = 100_000;
+    private static final int FETCH_LIMIT = 21;
+    private static final String SEARCH_WORD = "User4242";
+    // 단일 값이면 QueryDSL이 IN을 '='로 바꾸므로 관리자 목록과 같이 여러 권한을 넘깁니다.
+    private static final List<AccountRole> VISIBLE_ROLES = List.of(AccountRole.ADMIN, AccountRole.USER);
+    private static final Path TRGM_INDEX_SCRIPT = Path.of("../../../docs/db/member_trgm_search.sql");
+
+    @Container
+    private static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:16-alpine");
+
+    private static final AtomicReference<String> lastSelectSql = new AtomicReference<>();
+
+    private static EntityManagerFactory entityManagerFactory;
+
+    @BeforeAll
+    static void setUp() throws SQLException, IOException {
+        final DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()
+        );
+        entityManagerFactory = createEntityManagerFactory(capturingDataSource(dataSource));
+
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    insert into member (member_id, login_id, nick_name, password, active, role, member_type,
+                                        token_version, created_at, modified_at)
+                    select g,
+                           'user' || g || '@example.com',
+                           '닉네임' || md5(g::text),
+                           'encoded',
+                           case when g %% 10 = 0 then 'INACTIVE' else 'ACTIVE' end,
+                           case when g %% 100 = 0 then 'ADMIN' else 'USER' end,
+                           'GENERAL',
+                           0,
+                           now() - make_interval(secs => g),
+                           now()
+                    from generate_series(1, %d) as g
+                    """.formatted(ROW_COUNT));
+            for (String ddl : readStatements(TRGM_INDEX_SCRIPT)) {
+                statement.execute(ddl);
+            }
+            statement.execute("analyze member");
+        }
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (entityManagerFactory != null) {
+            entityManagerFactory.close();
+        }
+    }
+
+    @Test
+    @DisplayName("로그인 아이디 부분 검색의 실제 생성 SQL은 trigram GIN 인덱스(Bitmap Index Scan)를 사용한다")
+    void explain_loginIdSearch_usesTrigramIndex() throws SQLException {
+        // Arrange
+        final MemberListQuery query = new MemberListQuery(1, 20, null, SEARCH_WORD, MemberFilterType.LOGIN_ID, MemberActiveStatus.ACTIVE);
+
+        // Act
+        final List<MemberListView> rows = fetchFirstPage(query);
+        final String plan = explain(lastSelectSql.get());
+
+        // Assert
+        assertThat(rows).extracting(MemberListView::loginId).contains("user4242@example.com");
+        assertThat(lastSelectSql.get())
+                .contains(" in (")
+                .contains("lower(")
+                .contains("order by")
+                .contains("'%user4242%'");
+        assertThat(plan)
+                .contains("Bitmap Index Scan on idx_member_login_id_trgm")
+                .doesNotContain("Seq Scan on member");
+    }
+
+    @Test
+    @DisplayName("ALL 검색(OR)의 실제 생성 SQL은 두 trigram 인덱스를 BitmapOr로 합친다")
+    void explain_allSearch_usesBitmapOr() throws SQLException {
+        // Arrange
+        final MemberListQuery query = new MemberListQuery(1, 20, null, SEARCH_WORD, MemberFilterType.ALL, MemberActiveStatus.ACTIVE);
+
+        // Act
+        fetchFirstPage(query);
+        final String plan = explain(lastSelectSql.get());
+
+        // Assert
+        assertThat(plan)
+                .contains("BitmapOr")
+                .contains("idx_member_login_id_trgm")
+                .contains("idx_member_nick_name_trgm")
+                .doesNotContain("Seq Scan on member");
+    }
+
+    private static List<MemberListView> fetchFirstPage(MemberListQuery query) {
+        final EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            final MemberRepositoryImpl repository = new MemberRepositoryImpl(new JPAQueryFactory(entityManager));
+            return repository.findOffsetPage(
+                    MemberSpecification.searchMember(query, VISIBLE_ROLES), false, 0L, FETCH_LIMIT
+            );
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private static String explain(String sql) throws SQLException {
+        try (Connection connection = POSTGRES.createConnection("");
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("explain " + sql)) {
+            final StringBuilder plan = new StringBuilder();
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1)).append('\n');
+            }
+            return plan.toString();
+        }
+    }
+
+    // 운영과 같은 물리 이름 규칙(camelCase → snake_case)으로 member 스키마를 생성합니다.
+    private static EntityManagerFactory createEntityManagerFactory(P6DataSource dataSource) {
+        final LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.example.domain.member.entity");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create",
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName()
+        ));
+        factoryBean.afterPropertiesSet();
+        return factoryBean.getObject();
+    }
+
+    // Hibernate가 실행한 마지막 SELECT를 바인딩 값이 채워진 형태로 보관합니다.
+    private static P6DataSource capturingDataSource(DriverManagerDataSource dataSource) {
+        final P6DataSource p6DataSource = new P6DataSource(dataSource);
+        p6DataSource.setJdbcEventListenerFactory(() -> new JdbcEventListener() {
+            @Override
+            public void onAfterExecuteQuery(PreparedStatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+                lastSelectSql.set(statementInformation.getSqlWithValues());
+            }
+        });
+        return p6DataSource;
+    }
+
+    // 주석 줄을 제외하고 ';' 단위로 나눕니다. (CREATE EXTENSION / CREATE INDEX CONCURRENTLY / 검증용 EXPLAIN)
+    private static List<String> readStatements(Path script) throws IOException {
+        final String body = Files.readAllLines(script, StandardCharsets.UTF_8).stream()
+                .filter(line -> !line.strip().startsWith("--"))
+                .collect(Collectors.joining("\n"));
+        return Arrays.stream(body.split(";"))
+                .map(String::strip)
+                .filter(statement -> !statement.isEmpty())
+                .toList();
+    }
+}
@@ -1,7 +1,7 @@
 package com.example.domain.member.service;
 
 import com.example.domain.account.enums.AccountRole;
-import com.example.domain.member.repository.MemberRepository;
+import com.example.domain.security.guard.support.MemberAccessTargetResolver;
 import com.example.global.exception.GlobalException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,12 +25,12 @@ class MemberStrategyFactoryTest {
     private ApplicationContext applicationContext;
 
     @Mock
-    private MemberRepository memberRepository;
+    private MemberAccessTargetResolver memberAccessTargetResolver;
 
     @BeforeEach
     void setUp() {
         // init()을 호출하지 않으므로 내부 commandServiceMap/queryServiceMap은 비어 있다
-        memberStrategyFactory = new MemberStrategyFactory(applicationContext, memberRepository);
+        memberStrategyFactory = new MemberStrategyFactory(applicationContext, memberAccessTargetResolver);
     }
 
     @Test
@@ -92,7 +92,7 @@ class MemberStrategyFactoryTest {
     void getCommandServiceByMemberId_not_found_throws_GlobalException() {
         // Arrange
         final Long memberId = 999L;
-        given(memberRepository.findById(memberId)).willReturn(Optional.empty());
+        given(memberAccessTargetResolver.resolve(memberId)).willReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> memberStrategyFactory.getCommandServiceByMemberId(memberId))
@@ -8,6 +8,7 @@ import com.example.domain.member.payload.dto.MemberCreateCommand;
 import com.example.domain.member.payload.dto.MemberRoleUpdateCommand;
 import com.example.domain.member.repository.MemberRepository;
 import com.example.domain.member.support.MemberActivityPublishPort;
+import com.example.domain.member.support.MemberAuthCacheEvictionPort;
 import com.example.domain.member.support.MemberImageStoragePort;
 import com.example.domain.member.support.MemberPermissionCheckPort;
 import com.example.domain.member.support.MemberSocialCleanupPort;
@@ -57,6 +58,9 @@ class AdminMemberCommandServiceTest {
     @Mock
     private MemberActivityPublishPort memberActivityPublishPort;
 
+    @Mock
+    private MemberAuthCacheEvictionPort memberAuthCacheEvictionPort;
+
     @Mock
     private MemberTokenRevocationPort memberTokenRevocationPort;
 
@@ -157,4 +161,27 @@ class AdminMemberCommandServiceTest {
                 .isInstanceOf(GlobalException.class)
                 .hasMessageContaining("자신의 등급은 변경할 수 없습니다.");
     }
+
+    @Test
+    @DisplayName("updateMemberRole 성공 시 토큰 버전을 회전하고 인증 회원 캐시를 무효화한다")
+    void updateMemberRole_success_evicts_auth_member_cache() {
+        // Arrange
+        final Long memberId = 2L;
+        final MemberRoleUpdateCommand command = MemberRoleUpdateCommand.of(memberId, AccountRole.SUPER_ADMIN);
+        final Member member = Member.from(
+                MemberCreateCommand.of("admin", "adminNick", "password", AccountRole.ADMIN, MemberType.GENERAL),
+                "encodedPw"
+        );
+        final long previousTokenVersion = member.getTokenVersion();
+        given(memberPermissionCheckPort.isSameMember(memberId)).willReturn(false);
+        given(memberRepository.findByIdAndRoleIn(eq(memberId), any())).willReturn(Optional.of(member));
+
+        // Act
+        adminMemberCommandService.updateMemberRole(command);
+
+        // Assert
+        assertThat(member.getRole()).isEqualTo(AccountRole.SUPER_ADMIN);
+        assertThat(member.getTokenVersion()).isGreaterThan(previousTokenVersion);
+        verify(memberAuthCacheEvictionPort).evictAuthMember("admin");
+    }
 }
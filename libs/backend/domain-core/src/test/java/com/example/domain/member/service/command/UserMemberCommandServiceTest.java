@@ -7,6 +7,7 @@ import com.example.domain.member.enums.MemberType;
 import com.example.domain.member.payload.dto.MemberCreateCommand;
 import com.example.domain.member.repository.MemberRepository;
 import com.example.domain.member.support.MemberActivityPublishPort;
+import com.example.domain.member.support.MemberAuthCacheEvictionPort;
 import com.example.domain.member.support.MemberImageStoragePort;
 import com.example.domain.member.support.MemberSocialCleanupPort;
 import com.example.domain.member.support.MemberUniquenessSupport;
@@ -53,6 +54,9 @@ class UserMemberCommandServiceTest {
     @Mock
     private MemberActivityPublishPort memberActivityPublishPort;
 
+    @Mock
+    private MemberAuthCacheEvictionPort memberAuthCacheEvictionPort;
+
     @Test
     @DisplayName("getSupportedRoles는 USER만 반환한다")
     void getSupportedRoles_returns_user() {
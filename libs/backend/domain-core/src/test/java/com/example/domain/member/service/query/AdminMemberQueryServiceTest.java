@@ -0,0 +1,137 @@
+package com.example.domain.member.service.query;
+
+import com.example.domain.account.enums.AccountRole;
+import com.example.domain.contract.enums.ApiAccountRole;
+import com.example.domain.contract.enums.ApiMemberOrderType;
+import com.example.domain.member.enums.MemberOrderType;
+import com.example.domain.member.enums.MemberType;
+import com.example.domain.member.payload.dto.MemberCursorListQuery;
+import com.example.domain.member.payload.dto.MemberDetailQuery;
+import com.example.domain.member.payload.dto.MemberDetailView;
+import com.example.domain.member.payload.dto.MemberListCursor;
+import com.example.domain.member.payload.dto.MemberListView;
+import com.example.domain.member.payload.request.MemberListRequest;
+import com.example.domain.member.payload.response.DetailMemberResponse;
+import com.example.domain.member.payload.response.MemberCursorPageResponse;
+import com.example.domain.member.repository.MemberRepository;
+import com.example.global.exception.GlobalException;
+import com.example.global.pagination.PageCountResolver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AdminMemberQueryServiceTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    @InjectMocks
+    private AdminMemberQueryService adminMemberQueryService;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private PageCountResolver pageCountResolver;
+
+    private static MemberListView row(long id) {
+        return MemberListView.of(id, "admin" + id, "관리자" + id, AccountRole.ADMIN, MemberType.GENERAL, BASE_TIME.plusMinutes(id));
+    }
+
+    private static MemberCursorListQuery query(Integer size, String cursor) {
+        final MemberListRequest request = MemberListRequest.of(
+                ApiAccountRole.ADMIN, null, size, ApiMemberOrderType.CREATE_DESC, "", null, null
+        );
+        return MemberCursorListQuery.from(request, cursor);
+    }
+
+    @Test
+    @DisplayName("첫 페이지는 size + 1건을 최신순으로 읽고, 남은 행이 있으면 다음 커서만 반환한다")
+    void getCursorList_firstPage_returnsNextCursorOnly() {
+        // Arrange
+        given(memberRepository.findSeekPage(any(), eq(false), eq(3)))
+                .willReturn(List.of(row(3L), row(2L), row(1L)));
+
+        // Act
+        final MemberCursorPageResponse response = adminMemberQueryService.getCursorList(query(2, null));
+
+        // Assert
+        assertThat(response.content()).extracting(row -> row.profile().id()).containsExactly(3L, 2L);
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.hasPrevious()).isFalse();
+        assertThat(MemberListCursor.decode(response.nextCursor()))
+                .isEqualTo(MemberListCursor.of(MemberOrderType.CREATE_DESC, false, BASE_TIME.plusMinutes(2), 2L));
+    }
+
+    @Test
+    @DisplayName("이전 페이지 커서는 정렬을 뒤집어 읽은 뒤 원래 순서로 되돌려 반환한다")
+    void getCursorList_backwardCursor_reversesRows() {
+        // Arrange
+        final String cursor = MemberListCursor.of(MemberOrderType.CREATE_DESC, true, BASE_TIME.plusMinutes(3), 3L).encode();
+        given(memberRepository.findSeekPage(any(), eq(true), eq(3))).willReturn(List.of(row(4L), row(5L)));
+
+        // Act
+        final MemberCursorPageResponse response = adminMemberQueryService.getCursorList(query(2, cursor));
+
+        // Assert
+        assertThat(response.content()).extracting(row -> row.profile().id()).containsExactly(5L, 4L);
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.hasPrevious()).isFalse();
+        assertThat(MemberListCursor.decode(response.nextCursor()).memberId()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("형식이 깨졌거나 정렬 기준이 다른 커서는 조회 없이 GlobalException이 발생한다")
+    void getCursorList_invalidCursor_throwsGlobalException() {
+        // Arrange
+        final String ascCursor = MemberListCursor.of(MemberOrderType.CREATE_ASC, false, BASE_TIME, 1L).encode();
+
+        // Act & Assert
+        assertThatThrownBy(() -> adminMemberQueryService.getCursorList(query(2, "not-a-cursor")))
+                .isInstanceOf(GlobalException.class);
+        assertThatThrownBy(() -> adminMemberQueryService.getCursorList(query(2, ascCursor)))
+                .isInstanceOf(GlobalException.class);
+        verify(memberRepository, never()).findSeekPage(any(), anyBoolean(), anyInt());
+    }
+
+    @Test
+    @DisplayName("상세 조회는 엔티티 대신 지원 권한 조건의 DTO Projection으로 응답을 만든다")
+    void getDetail_usesDetailViewProjection() {
+        // Arrange
+        final MemberDetailView view = MemberDetailView.of(
+                7L, "admin7", "관리자7", AccountRole.ADMIN, MemberType.GENERAL,
+                BASE_TIME, "SYSTEM", BASE_TIME.plusDays(1), "superAdmin"
+        );
+        given(memberRepository.findDetailView(7L, List.of(AccountRole.ADMIN, AccountRole.SUPER_ADMIN)))
+                .willReturn(Optional.of(view));
+
+        // Act
+        final DetailMemberResponse response = adminMemberQueryService.getDetail(MemberDetailQuery.of(7L));
+
+        // Assert
+        assertThat(response.profile().id()).isEqualTo(7L);
+        assertThat(response.profile().loginId()).isEqualTo("admin7");
+        assertThat(response.profile().role()).isEqualTo(ApiAccountRole.ADMIN);
+        assertThat(response.profile().modifiedBy()).isEqualTo("superAdmin");
+        verify(memberRepository, never()).findByIdAndRoleIn(anyLong(), anyList());
+    }
+}
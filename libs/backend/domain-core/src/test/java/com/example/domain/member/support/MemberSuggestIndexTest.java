@@ -0,0 +1,118 @@
+package com.example.domain.member.support;
+
+import com.example.domain.account.enums.AccountRole;
+import com.example.domain.member.enums.MemberActiveStatus;
+import com.example.domain.member.payload.dto.MemberSuggestEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberSuggestIndexTest {
+
+    private static final List<AccountRole> USER_ROLES = List.of(AccountRole.USER);
+
+    @Test
+    @DisplayName("대소문자 구분 없이 로그인 아이디/닉네임 접두어로 찾고, 한 회원은 한 번만 반환한다")
+    void suggest_prefixMatch_returnsDistinctMembers() {
+        // Arrange
+        final MemberSuggestIndex index = new MemberSuggestIndex();
+        index.upsert(MemberSuggestEntry.of(1L, "UserAlpha", "userAlphaNick", AccountRole.USER, MemberActiveStatus.ACTIVE));
+        index.upsert(MemberSuggestEntry.of(2L, "userBeta", "베타", AccountRole.USER, MemberActiveStatus.ACTIVE));
+        index.upsert(MemberSuggestEntry.of(3L, "admin1", "userAdmin", AccountRole.ADMIN, MemberActiveStatus.ACTIVE));
+        index.upsert(MemberSuggestEntry.of(4L, "guest", "게스트", AccountRole.USER, MemberActiveStatus.ACTIVE));
+
+        // Act
+        final List<MemberSuggestEntry> result = index.suggest("USER", USER_ROLES, MemberActiveStatus.ALL, 10);
+        final List<MemberSuggestEntry> limited = index.suggest("user", USER_ROLES, MemberActiveStatus.ALL, 1);
+
+        // Assert
+        assertThat(result).extracting(MemberSuggestEntry::memberId).containsExactly(1L, 2L);
+        assertThat(limited).extracting(MemberSuggestEntry::memberId).containsExactly(1L);
+        assertThat(index.suggest("베", USER_ROLES, MemberActiveStatus.ALL, 10))
+                .extracting(MemberSuggestEntry::memberId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("수정/탈퇴 이벤트로 다시 색인하면 이전 키는 더 이상 찾지 않고 활성 조건으로 거른다")
+    void upsert_changedMember_replacesPreviousKeys() {
+        // Arrange
+        final MemberSuggestIndex index = new MemberSuggestIndex();
+        index.upsert(MemberSuggestEntry.of(1L, "user1", "oldNick", AccountRole.USER, MemberActiveStatus.ACTIVE));
+
+        // Act
+        index.upsert(MemberSuggestEntry.of(1L, "user1_20260101000000", "newNick", AccountRole.USER, MemberActiveStatus.INACTIVE));
+
+        // Assert
+        assertThat(index.suggest("old", USER_ROLES, MemberActiveStatus.ALL, 10)).isEmpty();
+        assertThat(index.suggest("new", USER_ROLES, MemberActiveStatus.ACTIVE, 10)).isEmpty();
+        assertThat(index.suggest("new", USER_ROLES, MemberActiveStatus.INACTIVE, 10))
+                .extracting(MemberSuggestEntry::loginId).containsExactly("user1_20260101000000");
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기동 적재는 이벤트로 먼저 반영된 회원을 덮어쓰지 않고, 삭제하면 색인에서 빠진다")
+    void putIfAbsent_keepsNewerEntry_andRemoveDropsKeys() {
+        // Arrange
+        final MemberSuggestIndex index = new MemberSuggestIndex();
+        index.upsert(MemberSuggestEntry.of(1L, "user1", "newNick", AccountRole.USER, MemberActiveStatus.ACTIVE));
+
+        // Act
+        index.putIfAbsent(MemberSuggestEntry.of(1L, "user1", "staleNick", AccountRole.USER, MemberActiveStatus.ACTIVE));
+        index.putIfAbsent(MemberSuggestEntry.of(2L, "user2", "nick2", AccountRole.USER, MemberActiveStatus.ACTIVE));
+        index.remove(2L);
+
+        // Assert
+        assertThat(index.suggest("stale", USER_ROLES, MemberActiveStatus.ALL, 10)).isEmpty();
+        assertThat(index.suggest("user", USER_ROLES, MemberActiveStatus.ALL, 10))
+                .extracting(MemberSuggestEntry::nickName).containsExactly("newNick");
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("압축(packed) 이후 변경은 이전 packed 키를 숨기고, packed/최근 변경 키를 합쳐 키 순서로 반환한다")
+    void suggest_afterCompaction_mergesPackedAndRecentKeys() {
+        // Arrange
+        final MemberSuggestIndex index = new MemberSuggestIndex();
+        index.putIfAbsent(MemberSuggestEntry.of(1L, "userA", "nickA", AccountRole.USER, MemberActiveStatus.ACTIVE));
+        index.putIfAbsent(MemberSuggestEntry.of(2L, "userC", "nickC", AccountRole.USER, MemberActiveStatus.ACTIVE));
+        index.markReady();
+
+        // Act
+        index.upsert(MemberSuggestEntry.of(3L, "userB", "nickB", AccountRole.USER, MemberActiveStatus.ACTIVE));
+        index.upsert(MemberSuggestEntry.of(2L, "userC", "renamed", AccountRole.USER, MemberActiveStatus.ACTIVE));
+
+        // Assert
+        assertThat(index.suggest("user", USER_ROLES, MemberActiveStatus.ALL, 10))
+                .extracting(MemberSuggestEntry::memberId).containsExactly(1L, 3L, 2L);
+        assertThat(index.suggest("nick", USER_ROLES, MemberActiveStatus.ALL, 10))
+                .extracting(MemberSuggestEntry::memberId).containsExactly(1L, 3L);
+        assertThat(index.suggest("renamed", USER_ROLES, MemberActiveStatus.ALL, 10))
+                .extracting(MemberSuggestEntry::memberId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("재동기화를 위해 비우면 준비 전 상태가 되고, 다시 적재하면 새 값으로 찾는다")
+    void reset_clearsIndex_untilReloaded() {
+        // Arrange
+        final MemberSuggestIndex index = new MemberSuggestIndex();
+        index.putIfAbsent(MemberSuggestEntry.of(1L, "user1", "staleNick", AccountRole.USER, MemberActiveStatus.ACTIVE));
+        index.markReady();
+
+        // Act
+        index.reset();
+        final boolean readyAfterReset = index.isReady();
+        index.putIfAbsent(MemberSuggestEntry.of(1L, "user1", "freshNick", AccountRole.USER, MemberActiveStatus.ACTIVE));
+        index.markReady();
+
+        // Assert
+        assertThat(readyAfterReset).isFalse();
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.suggest("stale", USER_ROLES, MemberActiveStatus.ALL, 10)).isEmpty();
+        assertThat(index.suggest("fresh", USER_ROLES, MemberActiveStatus.ALL, 10))
+                .extracting(MemberSuggestEntry::memberId).containsExactly(1L);
+    }
+}
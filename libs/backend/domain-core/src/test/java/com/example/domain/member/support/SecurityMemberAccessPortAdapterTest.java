@@ -0,0 +1,120 @@
+package com.example.domain.member.support;
+
+import com.example.domain.account.enums.AccountRole;
+import com.example.domain.account.payload.dto.AccountAuthMemberView;
+import com.example.domain.member.enums.MemberActiveStatus;
+import com.example.domain.member.enums.MemberType;
+import com.example.domain.member.repository.AuthMemberViewProjection;
+import com.example.domain.member.repository.MemberAccessTargetProjection;
+import com.example.domain.member.repository.MemberRepository;
+import com.example.domain.security.guard.support.MemberAccessTarget;
+import com.example.global.security.blacklist.support.BlacklistedTokenHashStoragePolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 인증/인가 경로에서 Member 엔티티를 로드하지 않는지 검증합니다.
+ * 엔티티 반환 메서드(findById/findByLoginId/findByIdAndRoleIn)가 호출되지 않으면 영속성 컨텍스트에 Member가 적재되지 않습니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class SecurityMemberAccessPortAdapterTest {
+
+    @InjectMocks
+    private SecurityMemberAccessPortAdapter securityMemberAccessPortAdapter;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private BlacklistedTokenHashStoragePolicy blacklistedTokenHashStoragePolicy;
+
+    @Test
+    @DisplayName("로그인 ID 인증 조회는 활성 회원 Projection만 사용하고 엔티티를 로드하지 않는다")
+    void findActiveAuthMemberByLoginId_uses_projection_without_entity() {
+        // Arrange
+        final AuthMemberViewProjection projection = mock(AuthMemberViewProjection.class);
+        given(projection.getId()).willReturn(1L);
+        given(projection.getLoginId()).willReturn("member01");
+        given(projection.getPassword()).willReturn("encoded");
+        given(projection.getNickName()).willReturn("nick");
+        given(projection.getRole()).willReturn(AccountRole.USER);
+        given(projection.getMemberType()).willReturn(MemberType.GENERAL);
+        given(projection.getActive()).willReturn(MemberActiveStatus.ACTIVE);
+        given(projection.getTokenVersion()).willReturn(3L);
+        given(memberRepository.findAuthViewByLoginIdAndActive("member01", MemberActiveStatus.ACTIVE))
+                .willReturn(Optional.of(projection));
+
+        // Act
+        final Optional<AccountAuthMemberView> result =
+                securityMemberAccessPortAdapter.findActiveAuthMemberByLoginId("member01");
+
+        // Assert
+        assertThat(result).isPresent();
+        assertThat(result.get().id()).isEqualTo(1L);
+        assertThat(result.get().tokenVersion()).isEqualTo(3L);
+        verify(memberRepository, never()).findByLoginId(any());
+    }
+
+    @Test
+    @DisplayName("접근 대상 조회는 Projection을 사용하고 엔티티를 로드하지 않는다")
+    void findAccessTargetByIdAndRoleIn_uses_projection_without_entity() {
+        // Arrange
+        final MemberAccessTargetProjection projection = mock(MemberAccessTargetProjection.class);
+        given(projection.getId()).willReturn(7L);
+        given(projection.getRole()).willReturn(AccountRole.ADMIN);
+        given(projection.getActive()).willReturn(MemberActiveStatus.ACTIVE);
+        given(memberRepository.findAccessTargetByIdAndRoleIn(7L, List.of(AccountRole.ADMIN)))
+                .willReturn(Optional.of(projection));
+
+        // Act
+        final Optional<MemberAccessTarget> result =
+                securityMemberAccessPortAdapter.findAccessTargetByIdAndRoleIn(7L, List.of(AccountRole.ADMIN));
+
+        // Assert
+        assertThat(result).contains(MemberAccessTarget.of(AccountRole.ADMIN, 7L, MemberActiveStatus.ACTIVE));
+        verify(memberRepository, never()).findByIdAndRoleIn(anyLong(), anyList());
+        verify(memberRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("로그인 ID로 회원 ID만 조회하고 엔티티를 로드하지 않는다")
+    void findMemberIdByLoginId_uses_scalar_query_without_entity() {
+        // Arrange
+        given(memberRepository.findIdByLoginId("member01")).willReturn(Optional.of(1L));
+
+        // Act
+        final Optional<Long> result = securityMemberAccessPortAdapter.findMemberIdByLoginId("member01");
+
+        // Assert
+        assertThat(result).contains(1L);
+        verify(memberRepository, never()).findByLoginId(any());
+    }
+
+    @Test
+    @DisplayName("빈 로그인 ID는 조회 없이 빈 값을 반환한다")
+    void findActiveAuthMemberByLoginId_blank_returns_empty() {
+        // Act
+        final Optional<AccountAuthMemberView> result =
+                securityMemberAccessPortAdapter.findActiveAuthMemberByLoginId(" ");
+
+        // Assert
+        assertThat(result).isEmpty();
+        verify(memberRepository, never()).findAuthViewByLoginIdAndActive(any(), any());
+    }
+}
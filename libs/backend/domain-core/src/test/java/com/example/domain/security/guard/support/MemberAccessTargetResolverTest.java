@@ -0,0 +1,63 @@
+package com.example.domain.security.guard.support;
+
+import com.example.domain.account.enums.AccountRole;
+import com.example.domain.member.enums.MemberActiveStatus;
+import com.example.global.logging.RequestContextScope;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MemberAccessTargetResolverTest {
+
+    private static final MemberAccessTarget TARGET = MemberAccessTarget.of(AccountRole.USER, 7L, MemberActiveStatus.ACTIVE);
+
+    @Mock
+    private SecurityMemberAccessPort securityMemberAccessPort;
+
+    @InjectMocks
+    private MemberAccessTargetResolver memberAccessTargetResolver;
+
+    @Test
+    @DisplayName("같은 요청 안에서는 가드가 조회한 대상을 재사용해 포트를 한 번만 호출한다")
+    void resolve_sameRequest_queriesOnce() throws Exception {
+        // Arrange
+        given(securityMemberAccessPort.findAccessTargetById(7L)).willReturn(Optional.of(TARGET));
+
+        // Act
+        final Optional<MemberAccessTarget> second = RequestContextScope.withRequest(new MockHttpServletRequest()).call(() -> {
+            memberAccessTargetResolver.resolve(7L);
+            return memberAccessTargetResolver.resolve(7L);
+        });
+
+        // Assert
+        assertThat(second).contains(TARGET);
+        verify(securityMemberAccessPort, times(1)).findAccessTargetById(7L);
+    }
+
+    @Test
+    @DisplayName("요청 밖이거나 요청이 다르면 매번 조회한다")
+    void resolve_outsideOrDifferentRequest_queriesEachTime() throws Exception {
+        // Arrange
+        given(securityMemberAccessPort.findAccessTargetById(7L)).willReturn(Optional.of(TARGET));
+
+        // Act
+        memberAccessTargetResolver.resolve(7L);
+        RequestContextScope.withRequest(new MockHttpServletRequest()).call(() -> memberAccessTargetResolver.resolve(7L));
+        RequestContextScope.withRequest(new MockHttpServletRequest()).call(() -> memberAccessTargetResolver.resolve(7L));
+
+        // Assert
+        verify(securityMemberAccessPort, times(3)).findAccessTargetById(7L);
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.domain.security.jwt;
+
+import com.example.domain.account.enums.AccountRole;
+import com.example.global.security.jwt.JwtProperties;
+import com.example.global.security.jwt.JwtTokenClaimKeys;
+import com.example.global.security.jwt.JwtTokenKeyProvider;
+import com.example.global.security.jwt.JwtTokenType;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtAccessTokenFastVerifierTest {
+
+    private static final String ISSUER = "issuer";
+    private static final String SECRET = "a-very-long-secret-key-for-testing-at-least-32-chars";
+
+    private final JwtTokenKeyProvider keyProvider = new JwtTokenKeyProvider(
+            JwtProperties.of(ISSUER, SECRET, Duration.ofMinutes(30), Duration.ofDays(7))
+    );
+    private final JwtAccessTokenFastVerifier fastVerifier = new JwtAccessTokenFastVerifier(keyProvider);
+
+    @Test
+    @DisplayName("jjwt로 발급한 토큰은 jjwt 파싱 결과와 동일한 claim 값을 추출한다")
+    void verify_issued_tokens_matches_jjwt_claims() {
+        for (final JwtTokenType tokenType : JwtTokenType.values()) {
+            for (final AccountRole role : AccountRole.values()) {
+                // Arrange
+                final String token = baseBuilder(role, tokenType, 7L).compact();
+                final Claims claims = Jwts.parser().verifyWith(keyProvider.getSecretKey()).build()
+                        .parseSignedClaims(token).getPayload();
+
+                // Act
+                final Optional<JwtTokenClaimValues> result = fastVerifier.verify(token);
+
+                // Assert
+                assertThat(result).isPresent();
+                final JwtTokenClaimValues values = result.get();
+                assertThat(values.subject()).isEqualTo(claims.getSubject());
+                assertThat(values.issuer()).isEqualTo(claims.getIssuer());
+                assertThat(values.tokenId()).isEqualTo(claims.getId());
+                assertThat(values.roleValue()).isEqualTo(claims.get(JwtTokenClaimKeys.ROLE, String.class));
+                assertThat(values.typeValue()).isEqualTo(claims.get(JwtTokenClaimKeys.TYPE, String.class));
+                assertThat(values.versionValue().longValue())
+                        .isEqualTo(claims.get(JwtTokenClaimKeys.VERSION, Number.class).longValue());
+                assertThat(values.issuedAt()).isEqualTo(claims.getIssuedAt().toInstant());
+                assertThat(values.expiresAt()).isEqualTo(claims.getExpiration().toInstant());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("비ASCII subject도 jjwt와 동일하게 추출한다")
+    void verify_non_ascii_subject_matches_jjwt() {
+        // Arrange
+        final String token = baseBuilder(AccountRole.USER, JwtTokenType.ACCESS, 1L).subject("사용자1").compact();
+
+        // Act
+        final Optional<JwtTokenClaimValues> result = fastVerifier.verify(token);
+
+        // Assert
+        assertThat(result).map(JwtTokenClaimValues::subject).contains("사용자1");
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 고속 경로에서 통과하지 않는다")
+    void verify_tampered_signature_returns_empty() {
+        // Arrange
+        final String token = baseBuilder(AccountRole.USER, JwtTokenType.ACCESS, 1L).compact();
+        final int signatureStart = token.lastIndexOf('.') + 1;
+        final char replaced = token.charAt(signatureStart) == 'A' ? 'B' : 'A';
+        final String tampered = token.substring(0, signatureStart) + replaced + token.substring(signatureStart + 1);
+
+        // Act & Assert
+        assertThat(fastVerifier.verify(tampered)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("서명 마지막 문자의 남는 비트만 바꾼 비정규 표기는 같은 서명 바이트여도 통과하지 않는다")
+    void verify_non_canonical_signature_last_char_returns_empty() {
+        // Arrange
+        final String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        final String token = baseBuilder(AccountRole.USER, JwtTokenType.ACCESS, 1L).compact();
+        final int signatureStart = token.lastIndexOf('.') + 1;
+        final char last = token.charAt(token.length() - 1);
+        // HS256 서명 32바이트는 43자이며 마지막 문자의 하위 2비트는 버려집니다.
+        final char altered = alphabet.charAt(alphabet.indexOf(last) ^ 1);
+        final String nonCanonical = token.substring(0, token.length() - 1) + altered;
+
+        // Act & Assert
+        assertThat(Base64.getUrlDecoder().decode(nonCanonical.substring(signatureStart)))
+                .isEqualTo(Base64.getUrlDecoder().decode(token.substring(signatureStart)));
+        assertThat(fastVerifier.verify(token)).isPresent();
+        assertThat(fastVerifier.verify(nonCanonical)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("payload가 변조된 토큰은 고속 경로에서 통과하지 않는다")
+    void verify_tampered_payload_returns_empty() {
+        // Arrange
+        final String token = baseBuilder(AccountRole.USER, JwtTokenType.ACCESS, 1L).compact();
+        final String[] parts = token.split("\\.");
+        final String forgedPayload = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                        .replace("\"USER\"", "\"ADMIN\"")
+                        .getBytes(StandardCharsets.UTF_8)
+        );
+
+        // Act & Assert
+        assertThat(fastVerifier.verify(parts[0] + "." + forgedPayload + "." + parts[2])).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명한 토큰은 고속 경로에서 통과하지 않는다")
+    void verify_other_key_returns_empty() {
+        // Arrange
+        final JwtTokenKeyProvider otherKeyProvider = new JwtTokenKeyProvider(
+                JwtProperties.of(ISSUER, SECRET + "-other", Duration.ofMinutes(30), Duration.ofDays(7))
+        );
+        final String token = baseBuilder(AccountRole.USER, JwtTokenType.ACCESS, 1L)
+                .signWith(otherKeyProvider.getSecretKey())
+                .compact();
+
+        // Act & Assert
+        assertThat(fastVerifier.verify(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("nbf 등 고속 경로가 처리하지 않는 claim이 있으면 jjwt로 위임한다")
+    void verify_unsupported_claims_returns_empty() {
+        // Arrange
+        final String withNotBefore = baseBuilder(AccountRole.USER, JwtTokenType.ACCESS, 1L)
+                .notBefore(Date.from(Instant.now()))
+                .compact();
+        final String withNestedClaim = baseBuilder(AccountRole.USER, JwtTokenType.ACCESS, 1L)
+                .claim("scope", List.of("read"))
+                .compact();
+
+        // Act & Assert
+        assertThat(fastVerifier.verify(withNotBefore)).isEmpty();
+        assertThat(fastVerifier.verify(withNestedClaim)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 토큰은 예외 없이 empty를 반환한다")
+    void verify_malformed_token_returns_empty() {
+        // Act & Assert
+        assertThat(fastVerifier.verify(null)).isEmpty();
+        assertThat(fastVerifier.verify("")).isEmpty();
+        assertThat(fastVerifier.verify("a.b")).isEmpty();
+        assertThat(fastVerifier.verify("a.b.c.d")).isEmpty();
+        assertThat(fastVerifier.verify("..")).isEmpty();
+        assertThat(fastVerifier.verify("!!!.???.***")).isEmpty();
+    }
+
+    private JwtBuilder baseBuilder(AccountRole role, JwtTokenType tokenType, long tokenVersion) {
+        final Instant now = Instant.now();
+        return Jwts.builder()
+                .issuer(ISSUER)
+                .subject("user1")
+                .claim(JwtTokenClaimKeys.ROLE, role.name())
+                .claim(JwtTokenClaimKeys.TYPE, tokenType.name())
+                .claim(JwtTokenClaimKeys.VERSION, tokenVersion)
+                .id(UUID.randomUUID().toString())
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plus(Duration.ofMinutes(10))))
+                .signWith(keyProvider.getSecretKey());
+    }
+}
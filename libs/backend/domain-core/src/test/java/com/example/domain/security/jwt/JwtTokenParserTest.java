@@ -0,0 +1,215 @@
+package com.example.domain.security.jwt;
+
+import com.example.domain.account.enums.AccountRole;
+import com.example.global.security.jwt.JwtProperties;
+import com.example.global.security.jwt.JwtSigningAlgorithm;
+import com.example.global.security.jwt.JwtSigningProperties;
+import com.example.global.security.jwt.JwtTokenClaimKeys;
+import com.example.global.security.jwt.JwtTokenKeyProvider;
+import com.example.global.security.jwt.JwtTokenParseStatus;
+import com.example.global.security.jwt.JwtTokenType;
+import com.example.global.utils.TokenHashUtils;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenParserTest {
+
+    private static final String ISSUER = "issuer";
+    private static final String SECRET = "a-very-long-secret-key-for-testing-at-least-32-chars";
+
+    private final JwtTokenKeyProvider keyProvider = new JwtTokenKeyProvider(
+            JwtProperties.of(ISSUER, SECRET, Duration.ofMinutes(30), Duration.ofDays(7))
+    );
+    private final JwtVerifiedTokenCache verifiedTokenCache = new JwtVerifiedTokenCache(100, Duration.ofMinutes(30));
+    private final JwtTokenParser jwtTokenParser = new JwtTokenParser(
+            keyProvider, verifiedTokenCache, new JwtAccessTokenFastVerifier(keyProvider)
+    );
+
+    @Test
+    @DisplayName("유효한 액세스 토큰은 VALID와 payload를 반환한다")
+    void parseTokenResult_valid_access_token_returns_payload() {
+        // Arrange
+        final String token = createToken(JwtTokenType.ACCESS, Instant.now().plus(Duration.ofMinutes(10)));
+
+        // Act
+        final JwtTokenParseResult result = jwtTokenParser.parseTokenResult(token);
+
+        // Assert
+        assertThat(result.status()).isEqualTo(JwtTokenParseStatus.VALID);
+        assertThat(result.payload().subject()).isEqualTo("user1");
+        assertThat(result.payload().role()).isEqualTo(AccountRole.USER);
+        assertThat(result.payload().tokenVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("같은 액세스 토큰을 다시 파싱하면 캐시된 payload를 반환한다")
+    void parseTokenResult_repeated_access_token_hits_cache() {
+        // Arrange
+        final String token = createToken(JwtTokenType.ACCESS, Instant.now().plus(Duration.ofMinutes(10)));
+        final JwtTokenPayload first = jwtTokenParser.parseTokenResult(token).payload();
+
+        // Act
+        final JwtTokenPayload second = jwtTokenParser.parseTokenResult(token).payload();
+
+        // Assert
+        assertThat(second).isSameAs(first);
+        assertThat(verifiedTokenCache.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("파싱 결과는 캐시 적중 여부와 무관하게 토큰 SHA-256 해시를 함께 반환한다")
+    void parseTokenResult_valid_token_carries_token_digest() {
+        // Arrange
+        final String token = createToken(JwtTokenType.ACCESS, Instant.now().plus(Duration.ofMinutes(10)));
+        final String expectedDigest = TokenHashUtils.sha256(token);
+
+        // Act
+        final JwtTokenParseResult miss = jwtTokenParser.parseTokenResult(token);
+        final JwtTokenParseResult hit = jwtTokenParser.parseTokenResult(token);
+
+        // Assert
+        assertThat(miss.tokenDigest()).isEqualTo(expectedDigest);
+        assertThat(hit.tokenDigest()).isEqualTo(expectedDigest);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰은 검증 결과를 캐시하지 않는다")
+    void parseTokenResult_refresh_token_is_not_cached() {
+        // Arrange
+        final String token = createToken(JwtTokenType.REFRESH, Instant.now().plus(Duration.ofDays(1)));
+
+        // Act
+        final JwtTokenParseResult result = jwtTokenParser.parseTokenResult(token);
+
+        // Assert
+        assertThat(result.status()).isEqualTo(JwtTokenParseStatus.VALID);
+        assertThat(verifiedTokenCache.stats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 INVALID를 반환하고 캐시하지 않는다")
+    void parseTokenResult_tampered_signature_returns_invalid() {
+        // Arrange
+        final String token = createToken(JwtTokenType.ACCESS, Instant.now().plus(Duration.ofMinutes(10)));
+        final String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        // Act
+        final JwtTokenParseResult result = jwtTokenParser.parseTokenResult(tampered);
+
+        // Assert
+        assertThat(result.status()).isEqualTo(JwtTokenParseStatus.INVALID);
+        assertThat(verifiedTokenCache.stats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 EXPIRED를 반환한다")
+    void parseTokenResult_expired_token_returns_expired() {
+        // Arrange
+        final String token = createToken(JwtTokenType.ACCESS, Instant.now().minusSeconds(1));
+
+        // Act
+        final JwtTokenParseResult result = jwtTokenParser.parseTokenResult(token);
+
+        // Assert
+        assertThat(result.status()).isEqualTo(JwtTokenParseStatus.EXPIRED);
+    }
+
+    @Test
+    @DisplayName("EdDSA 모드는 kid로 검증 키를 선택해 교체 전 키로 서명된 토큰도 검증한다")
+    void parseTokenResult_eddsa_selectsKeyByKid() throws Exception {
+        // Arrange
+        final KeyPair previous = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        final KeyPair active = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        final JwtTokenParser parser = eddsaParser(previous, active, false);
+        final String previousToken = createAsymmetricToken(previous.getPrivate(), "k1");
+        final String activeToken = createAsymmetricToken(active.getPrivate(), "k2");
+
+        // Act
+        final JwtTokenParseResult previousResult = parser.parseTokenResult(previousToken);
+        final JwtTokenParseResult activeResult = parser.parseTokenResult(activeToken);
+
+        // Assert
+        assertThat(previousResult.status()).isEqualTo(JwtTokenParseStatus.VALID);
+        assertThat(activeResult.status()).isEqualTo(JwtTokenParseStatus.VALID);
+    }
+
+    @Test
+    @DisplayName("EdDSA 모드에서 kid가 다르거나, HMAC 허용이 꺼졌는데 HMAC 토큰이면 INVALID를 반환한다")
+    void parseTokenResult_eddsa_unknownKidOrLegacyHmac_returnsInvalid() throws Exception {
+        // Arrange
+        final KeyPair previous = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        final KeyPair active = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        final JwtTokenParser parser = eddsaParser(previous, active, false);
+        final String wrongKidToken = createAsymmetricToken(active.getPrivate(), "k1");
+        final String unknownKidToken = createAsymmetricToken(active.getPrivate(), "k3");
+        final String hmacToken = createToken(JwtTokenType.ACCESS, Instant.now().plus(Duration.ofMinutes(10)));
+
+        // Act / Assert
+        assertThat(parser.parseTokenResult(wrongKidToken).status()).isEqualTo(JwtTokenParseStatus.INVALID);
+        assertThat(parser.parseTokenResult(unknownKidToken).status()).isEqualTo(JwtTokenParseStatus.INVALID);
+        assertThat(parser.parseTokenResult(hmacToken).status()).isEqualTo(JwtTokenParseStatus.INVALID);
+    }
+
+    private JwtTokenParser eddsaParser(KeyPair previous, KeyPair active, boolean acceptLegacyHmac) {
+        final Base64.Encoder encoder = Base64.getEncoder();
+        final JwtTokenKeyProvider eddsaKeyProvider = new JwtTokenKeyProvider(
+                JwtProperties.of(ISSUER, SECRET, Duration.ofMinutes(30), Duration.ofDays(7)),
+                JwtSigningProperties.of(JwtSigningAlgorithm.EDDSA, "k2", List.of(
+                        JwtSigningProperties.Key.of("k1", null, encoder.encodeToString(previous.getPublic().getEncoded())),
+                        JwtSigningProperties.Key.of("k2",
+                                encoder.encodeToString(active.getPrivate().getEncoded()),
+                                encoder.encodeToString(active.getPublic().getEncoded()))
+                ), acceptLegacyHmac)
+        );
+        return new JwtTokenParser(
+                eddsaKeyProvider,
+                new JwtVerifiedTokenCache(100, Duration.ofMinutes(30)),
+                new JwtAccessTokenFastVerifier(eddsaKeyProvider)
+        );
+    }
+
+    private String createAsymmetricToken(PrivateKey privateKey, String kid) {
+        return Jwts.builder()
+                .header().keyId(kid).and()
+                .issuer(ISSUER)
+                .subject("user1")
+                .claim(JwtTokenClaimKeys.ROLE, AccountRole.USER.name())
+                .claim(JwtTokenClaimKeys.TYPE, JwtTokenType.ACCESS.name())
+                .claim(JwtTokenClaimKeys.VERSION, 3L)
+                .id(UUID.randomUUID().toString())
+                .issuedAt(Date.from(Instant.now().minusSeconds(1)))
+                .expiration(Date.from(Instant.now().plus(Duration.ofMinutes(10))))
+                .signWith(privateKey, Jwts.SIG.EdDSA)
+                .compact();
+    }
+
+    private String createToken(JwtTokenType tokenType, Instant expiresAt) {
+        final Instant issuedAt = expiresAt.isAfter(Instant.now())
+                ? Instant.now().minusSeconds(1)
+                : expiresAt.minus(Duration.ofMinutes(10));
+        return Jwts.builder()
+                .issuer(ISSUER)
+                .subject("user1")
+                .claim(JwtTokenClaimKeys.ROLE, AccountRole.USER.name())
+                .claim(JwtTokenClaimKeys.TYPE, tokenType.name())
+                .claim(JwtTokenClaimKeys.VERSION, 3L)
+                .id(UUID.randomUUID().toString())
+                .issuedAt(Date.from(issuedAt))
+                .expiration(Date.from(expiresAt))
+                .signWith(keyProvider.getSecretKey())
+                .compact();
+    }
+}
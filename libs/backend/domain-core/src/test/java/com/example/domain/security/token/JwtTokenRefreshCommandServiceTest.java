@@ -0,0 +1,288 @@
+package com.example.domain.security.token;
+
+import com.example.domain.account.enums.AccountRole;
+import com.example.domain.account.payload.response.RefreshTokenResponse;
+import com.example.domain.member.enums.MemberActiveStatus;
+import com.example.domain.member.enums.MemberType;
+import com.example.domain.security.jwt.JwtTokenParseResult;
+import com.example.domain.security.jwt.JwtTokenParser;
+import com.example.domain.security.jwt.JwtTokenPayload;
+import com.example.domain.security.port.SecurityMemberTokenInfo;
+import com.example.domain.security.port.SecurityMemberTokenPort;
+import com.example.global.exception.GlobalException;
+import com.example.global.exception.enums.ErrorCode;
+import com.example.global.security.RefreshTokenCrypto;
+import com.example.global.security.RefreshTokenHasher;
+import com.example.global.security.blacklist.support.BlacklistedTokenChecker;
+import com.example.global.security.jwt.JwtProperties;
+import com.example.global.security.jwt.JwtTokenParseStatus;
+import com.example.global.security.jwt.JwtTokenType;
+import com.example.global.security.payload.RefreshTokenIssueCommand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * HASH_CAS 회전 모드 검증
+ *
+ * <p>
+ * 회원 행은 {@link InMemoryMemberTokenPort}로 대체합니다.
+ * 행 단위 UPDATE의 원자성을 AtomicReference compareAndSet으로 재현해, 동시 요청 중 하나만 회전에 성공하는지 확인합니다.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+class JwtTokenRefreshCommandServiceTest {
+
+    private static final String SECRET = "a-very-long-secret-key-for-testing-at-least-32-chars";
+    private static final String LOGIN_ID = "member01";
+    private static final String CURRENT_REFRESH_TOKEN = "current-refresh-token";
+
+    @Mock
+    private JwtTokenCommandService jwtTokenCommandService;
+
+    @Mock
+    private JwtTokenParser jwtTokenParser;
+
+    @Mock
+    private BlacklistedTokenCommandService blacklistedTokenCommandService;
+
+    @Mock
+    private BlacklistedTokenChecker blacklistedTokenChecker;
+
+    private RefreshTokenHasher refreshTokenHasher;
+    private InMemoryMemberTokenPort memberTokenPort;
+    private JwtTokenRefreshCommandService jwtTokenRefreshCommandService;
+
+    @BeforeEach
+    void setUp() {
+        final JwtProperties properties = JwtProperties.of("issuer", SECRET, Duration.ofHours(1), Duration.ofDays(7));
+        refreshTokenHasher = new RefreshTokenHasher(properties);
+        memberTokenPort = new InMemoryMemberTokenPort(3L, refreshTokenHasher.hash(CURRENT_REFRESH_TOKEN));
+        jwtTokenRefreshCommandService = new JwtTokenRefreshCommandService(
+                jwtTokenCommandService,
+                jwtTokenParser,
+                blacklistedTokenCommandService,
+                blacklistedTokenChecker,
+                new JwtTokenRevocationCommandService(blacklistedTokenCommandService, memberTokenPort),
+                memberTokenPort,
+                new RefreshTokenCrypto(properties),
+                refreshTokenHasher,
+                new RefreshTokenRotationPolicy(RefreshTokenRotationMode.HASH_CAS)
+        );
+    }
+
+    @Test
+    @DisplayName("저장된 해시와 일치하면 회원 조회/블랙리스트 등록 없이 단일 UPDATE로 회전한다")
+    void refreshTokens_hashMatches_rotatesWithoutLookup() {
+        // Arrange
+        givenParsedRefreshToken(3L);
+        given(jwtTokenCommandService.generateAccessToken(any(JwtTokenPayload.class))).willReturn("new-access-token");
+        given(jwtTokenCommandService.generateRefreshToken(any(JwtTokenPayload.class))).willReturn("new-refresh-token");
+
+        // Act
+        final RefreshTokenResponse response =
+                jwtTokenRefreshCommandService.refreshTokens(RefreshTokenIssueCommand.of(CURRENT_REFRESH_TOKEN));
+
+        // Assert
+        assertThat(response.accessToken()).isEqualTo("new-access-token");
+        assertThat(response.refreshToken()).isEqualTo("new-refresh-token");
+        assertThat(memberTokenPort.storedHash()).isEqualTo(refreshTokenHasher.hash("new-refresh-token"));
+        assertThat(memberTokenPort.lookupCount()).isZero();
+        verifyNoInteractions(blacklistedTokenCommandService, blacklistedTokenChecker);
+    }
+
+    @Test
+    @DisplayName("이미 회전된 토큰을 다시 사용하면 전체 토큰을 폐기하고 REFRESH_TOKEN_REVOKED를 반환한다")
+    void refreshTokens_reusedToken_revokes() {
+        // Arrange
+        givenParsedRefreshToken(3L);
+        given(jwtTokenCommandService.generateAccessToken(any(JwtTokenPayload.class))).willReturn("new-access-token");
+        given(jwtTokenCommandService.generateRefreshToken(any(JwtTokenPayload.class))).willReturn("new-refresh-token");
+        memberTokenPort.overwriteHash(refreshTokenHasher.hash("rotated-refresh-token"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> jwtTokenRefreshCommandService.refreshTokens(RefreshTokenIssueCommand.of(CURRENT_REFRESH_TOKEN)))
+                .isInstanceOf(GlobalException.class)
+                .extracting(ex -> ((GlobalException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.REFRESH_TOKEN_REVOKED);
+        assertThat(memberTokenPort.revokeCount()).isEqualTo(1);
+        assertThat(memberTokenPort.storedHash()).isNull();
+    }
+
+    @Test
+    @DisplayName("토큰 버전이 다르면 폐기 없이 REFRESH_TOKEN_INVALID를 반환한다")
+    void refreshTokens_versionMismatch_invalidWithoutRevoke() {
+        // Arrange
+        givenParsedRefreshToken(2L);
+        given(jwtTokenCommandService.generateAccessToken(any(JwtTokenPayload.class))).willReturn("new-access-token");
+        given(jwtTokenCommandService.generateRefreshToken(any(JwtTokenPayload.class))).willReturn("new-refresh-token");
+
+        // Act & Assert
+        assertThatThrownBy(() -> jwtTokenRefreshCommandService.refreshTokens(RefreshTokenIssueCommand.of(CURRENT_REFRESH_TOKEN)))
+                .isInstanceOf(GlobalException.class)
+                .extracting(ex -> ((GlobalException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.REFRESH_TOKEN_INVALID);
+        assertThat(memberTokenPort.revokeCount()).isZero();
+        verify(blacklistedTokenCommandService, never()).blacklistToken(any());
+    }
+
+    @Test
+    @DisplayName("같은 리프레시 토큰으로 동시에 N번 갱신하면 정확히 하나만 성공하고 나머지는 재사용으로 처리된다")
+    void refreshTokens_concurrentRequests_exactlyOneWins() throws Exception {
+        // Arrange
+        final int requestCount = 16;
+        final AtomicInteger issuedSequence = new AtomicInteger();
+        givenParsedRefreshToken(3L);
+        given(jwtTokenCommandService.generateAccessToken(any(JwtTokenPayload.class))).willReturn("new-access-token");
+        given(jwtTokenCommandService.generateRefreshToken(any(JwtTokenPayload.class)))
+                .willAnswer(invocation -> "new-refresh-token-" + issuedSequence.incrementAndGet());
+
+        final ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+        final CountDownLatch startSignal = new CountDownLatch(1);
+        final List<Future<RefreshTokenResponse>> futures = new ArrayList<>();
+
+        // Act
+        try {
+            for (int i = 0; i < requestCount; i++) {
+                futures.add(executor.submit(() -> {
+                    startSignal.await();
+                    return jwtTokenRefreshCommandService.refreshTokens(RefreshTokenIssueCommand.of(CURRENT_REFRESH_TOKEN));
+                }));
+            }
+            startSignal.countDown();
+
+            int successCount = 0;
+            int failureCount = 0;
+            for (Future<RefreshTokenResponse> future : futures) {
+                try {
+                    future.get(10, TimeUnit.SECONDS);
+                    successCount++;
+                } catch (ExecutionException ex) {
+                    assertThat(ex.getCause()).isInstanceOf(GlobalException.class);
+                    failureCount++;
+                }
+            }
+
+            // Assert
+            assertThat(successCount).isEqualTo(1);
+            assertThat(failureCount).isEqualTo(requestCount - 1);
+            assertThat(memberTokenPort.successfulRotationCount()).isEqualTo(1);
+            // 패배한 요청은 재사용으로 판단해 폐기하거나, 폐기 이후라면 버전 불일치로 거절됩니다.
+            assertThat(memberTokenPort.revokeCount()).isBetween(1, requestCount - 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void givenParsedRefreshToken(long tokenVersion) {
+        final Instant now = Instant.now();
+        final JwtTokenPayload payload = JwtTokenPayload.of(
+                LOGIN_ID, "token-id", AccountRole.USER, JwtTokenType.REFRESH, tokenVersion, now, now.plusSeconds(600)
+        );
+        given(jwtTokenParser.parseTokenResult(CURRENT_REFRESH_TOKEN))
+                .willReturn(JwtTokenParseResult.of(JwtTokenParseStatus.VALID, payload));
+    }
+
+    /**
+     * 회원 1명의 토큰 상태(버전, 해시)를 하나의 원자 참조로 보관해 행 단위 UPDATE를 흉내 냅니다.
+     */
+    private static final class InMemoryMemberTokenPort implements SecurityMemberTokenPort {
+
+        private static final long MEMBER_ID = 1L;
+
+        private final AtomicReference<TokenState> state;
+        private final AtomicInteger successfulRotationCount = new AtomicInteger();
+        private final AtomicInteger revokeCount = new AtomicInteger();
+        private final AtomicInteger lookupCount = new AtomicInteger();
+
+        private InMemoryMemberTokenPort(long tokenVersion, String refreshTokenHash) {
+            this.state = new AtomicReference<>(new TokenState(tokenVersion, refreshTokenHash));
+        }
+
+        @Override
+        public Optional<SecurityMemberTokenInfo> findTokenInfoById(Long memberId) {
+            return findTokenInfoByLoginId(LOGIN_ID);
+        }
+
+        @Override
+        public Optional<SecurityMemberTokenInfo> findTokenInfoByLoginId(String loginId) {
+            lookupCount.incrementAndGet();
+            return Optional.of(SecurityMemberTokenInfo.of(
+                    MEMBER_ID, LOGIN_ID, AccountRole.USER, "nick", MemberType.GENERAL,
+                    MemberActiveStatus.ACTIVE, state.get().tokenVersion(), null
+            ));
+        }
+
+        @Override
+        public void updateRefreshToken(Long memberId, String encrypted, String hash) {
+            state.updateAndGet(current -> new TokenState(current.tokenVersion(), hash));
+        }
+
+        @Override
+        public boolean rotateRefreshTokenHash(String loginId, long tokenVersion, String currentHash, String newHash) {
+            final TokenState current = state.get();
+            if (current.tokenVersion() != tokenVersion || !currentHash.equals(current.refreshTokenHash())) {
+                return false;
+            }
+            final boolean rotated = state.compareAndSet(current, new TokenState(tokenVersion, newHash));
+            if (rotated) {
+                successfulRotationCount.incrementAndGet();
+            }
+            return rotated;
+        }
+
+        @Override
+        public void revokeTokens(Long memberId) {
+            revokeCount.incrementAndGet();
+            state.updateAndGet(current -> new TokenState(current.tokenVersion() + 1, null));
+        }
+
+        private void overwriteHash(String hash) {
+            updateRefreshToken(MEMBER_ID, null, hash);
+        }
+
+        private String storedHash() {
+            return state.get().refreshTokenHash();
+        }
+
+        private int successfulRotationCount() {
+            return successfulRotationCount.get();
+        }
+
+        private int revokeCount() {
+            return revokeCount.get();
+        }
+
+        private int lookupCount() {
+            return lookupCount.get();
+        }
+    }
+
+    private record TokenState(long tokenVersion, String refreshTokenHash) {
+    }
+}
@@ -0,0 +1,305 @@
+package com.example.domain.security.token;
+
+import com.example.domain.account.enums.AccountRole;
+import com.example.domain.member.enums.MemberActiveStatus;
+import com.example.domain.member.enums.MemberType;
+import com.example.domain.security.jwt.JwtTokenParseResult;
+import com.example.domain.security.jwt.JwtTokenParser;
+import com.example.domain.security.jwt.JwtTokenPayload;
+import com.example.domain.security.port.SecurityMemberTokenInfo;
+import com.example.domain.security.port.SecurityMemberTokenPort;
+import com.example.global.exception.GlobalException;
+import com.example.global.exception.enums.ErrorCode;
+import com.example.global.security.RefreshTokenCrypto;
+import com.example.global.security.RefreshTokenHasher;
+import com.example.global.security.blacklist.support.BlacklistedTokenChecker;
+import com.example.global.security.jwt.JwtProperties;
+import com.example.global.security.jwt.JwtTokenParseStatus;
+import com.example.global.security.jwt.JwtTokenType;
+import com.example.global.security.payload.RefreshTokenIssueCommand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+
+/**
+ * 리프레시 갱신 실패 시 토큰 폐기 커밋 검증 (트랜잭션 프록시 포함)
+ *
+ * <p>
+ * 실제 @Transactional 프록시로 서비스를 감싸고, 회원 행 쓰기는 트랜잭션 커밋 시에만 반영되는
+ * {@link TransactionalMemberTokenPort}로 대체합니다.
+ * 갱신 요청 트랜잭션이 GlobalException으로 롤백되어도 토큰 버전 회전은 커밋되어야 합니다.
+ * </p>
+ */
+@SpringJUnitConfig(JwtTokenRefreshRevocationTransactionTest.Config.class)
+class JwtTokenRefreshRevocationTransactionTest {
+
+    private static final String SECRET = "a-very-long-secret-key-for-testing-at-least-32-chars";
+    private static final JwtProperties PROPERTIES =
+            JwtProperties.of("issuer", SECRET, Duration.ofHours(1), Duration.ofDays(7));
+    private static final String LOGIN_ID = "member01";
+    private static final String CURRENT_REFRESH_TOKEN = "current-refresh-token";
+    private static final long TOKEN_VERSION = 3L;
+
+    // @Transactional 클래스의 목은 컨텍스트에서 프록시로 감싸질 수 있으므로, 스텁/초기화는 원본 목에 직접 수행합니다.
+    private static final JwtTokenParser jwtTokenParser = mock(JwtTokenParser.class);
+    private static final JwtTokenCommandService jwtTokenCommandService = mock(JwtTokenCommandService.class);
+    private static final BlacklistedTokenCommandService blacklistedTokenCommandService = mock(BlacklistedTokenCommandService.class);
+    private static final BlacklistedTokenChecker blacklistedTokenChecker = mock(BlacklistedTokenChecker.class);
+    private static final RefreshTokenRotationPolicy refreshTokenRotationPolicy = mock(RefreshTokenRotationPolicy.class);
+
+    @Autowired
+    private JwtTokenRefreshCommandService jwtTokenRefreshCommandService;
+
+    @Autowired
+    private TransactionalMemberTokenPort memberTokenPort;
+
+    @Autowired
+    private RefreshTokenHasher refreshTokenHasher;
+
+    @BeforeEach
+    void setUp() {
+        reset(jwtTokenParser, jwtTokenCommandService, blacklistedTokenCommandService, blacklistedTokenChecker, refreshTokenRotationPolicy);
+        final Instant now = Instant.now();
+        final JwtTokenPayload payload = JwtTokenPayload.of(
+                LOGIN_ID, "token-id", AccountRole.USER, JwtTokenType.REFRESH, TOKEN_VERSION, now, now.plusSeconds(600)
+        );
+        given(jwtTokenParser.parseTokenResult(CURRENT_REFRESH_TOKEN))
+                .willReturn(JwtTokenParseResult.of(JwtTokenParseStatus.VALID, payload));
+        given(jwtTokenCommandService.generateAccessToken(any(JwtTokenPayload.class))).willReturn("new-access-token");
+        given(jwtTokenCommandService.generateRefreshToken(any(JwtTokenPayload.class))).willReturn("new-refresh-token");
+    }
+
+    @Test
+    @DisplayName("HASH_CAS 회전에서 재사용이 감지되면 요청 트랜잭션이 롤백되어도 토큰 버전 회전은 커밋된다")
+    void refreshTokens_compareAndSwapFailure_commitsRevocation() {
+        // Arrange
+        given(refreshTokenRotationPolicy.usesHashCompareAndSwap()).willReturn(true);
+        memberTokenPort.reset(TOKEN_VERSION, refreshTokenHasher.hash("rotated-refresh-token"), null);
+
+        // Act & Assert
+        assertThatThrownBy(() -> jwtTokenRefreshCommandService.refreshTokens(RefreshTokenIssueCommand.of(CURRENT_REFRESH_TOKEN)))
+                .isInstanceOf(GlobalException.class)
+                .extracting(ex -> ((GlobalException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.REFRESH_TOKEN_REVOKED);
+        assertThat(memberTokenPort.committedTokenVersion()).isEqualTo(TOKEN_VERSION + 1);
+        assertThat(memberTokenPort.committedHash()).isNull();
+    }
+
+    @Test
+    @DisplayName("암호문 비교 회전에서 저장 토큰과 다르면 요청 트랜잭션이 롤백되어도 토큰 버전 회전은 커밋된다")
+    void refreshTokens_storedTokenMismatch_commitsRevocation() {
+        // Arrange
+        given(refreshTokenRotationPolicy.usesHashCompareAndSwap()).willReturn(false);
+        given(blacklistedTokenChecker.isBlacklisted(CURRENT_REFRESH_TOKEN)).willReturn(false);
+        memberTokenPort.reset(
+                TOKEN_VERSION,
+                refreshTokenHasher.hash("rotated-refresh-token"),
+                new RefreshTokenCrypto(PROPERTIES).encrypt("rotated-refresh-token")
+        );
+
+        // Act & Assert
+        assertThatThrownBy(() -> jwtTokenRefreshCommandService.refreshTokens(RefreshTokenIssueCommand.of(CURRENT_REFRESH_TOKEN)))
+                .isInstanceOf(GlobalException.class)
+                .extracting(ex -> ((GlobalException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.REFRESH_TOKEN_INVALID);
+        assertThat(memberTokenPort.committedTokenVersion()).isEqualTo(TOKEN_VERSION + 1);
+        assertThat(memberTokenPort.committedHash()).isNull();
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class Config {
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new InMemoryTransactionManager();
+        }
+
+        @Bean
+        TransactionalMemberTokenPort memberTokenPort() {
+            return new TransactionalMemberTokenPort();
+        }
+
+        @Bean
+        RefreshTokenHasher refreshTokenHasher() {
+            return new RefreshTokenHasher(PROPERTIES);
+        }
+
+        @Bean
+        JwtTokenRevocationCommandService jwtTokenRevocationCommandService(TransactionalMemberTokenPort memberTokenPort) {
+            return new JwtTokenRevocationCommandService(blacklistedTokenCommandService, memberTokenPort);
+        }
+
+        @Bean
+        JwtTokenRefreshCommandService jwtTokenRefreshCommandService(
+                JwtTokenRevocationCommandService jwtTokenRevocationCommandService,
+                TransactionalMemberTokenPort memberTokenPort,
+                RefreshTokenHasher refreshTokenHasher
+        ) {
+            return new JwtTokenRefreshCommandService(
+                    jwtTokenCommandService,
+                    jwtTokenParser,
+                    blacklistedTokenCommandService,
+                    blacklistedTokenChecker,
+                    jwtTokenRevocationCommandService,
+                    memberTokenPort,
+                    new RefreshTokenCrypto(PROPERTIES),
+                    refreshTokenHasher,
+                    refreshTokenRotationPolicy
+            );
+        }
+    }
+
+    /**
+     * 커밋/롤백만 구분하는 최소 트랜잭션 매니저
+     * - 현재 트랜잭션 표식을 스레드에 바인딩해 REQUIRES_NEW 시 기존 트랜잭션을 일시 중단/재개합니다.
+     */
+    private static final class InMemoryTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new InMemoryTransaction(TransactionSynchronizationManager.getResource(this));
+        }
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return ((InMemoryTransaction) transaction).marker != null;
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            final Object marker = new Object();
+            ((InMemoryTransaction) transaction).marker = marker;
+            TransactionSynchronizationManager.bindResource(this, marker);
+        }
+
+        @Override
+        protected Object doSuspend(Object transaction) {
+            ((InMemoryTransaction) transaction).marker = null;
+            return TransactionSynchronizationManager.unbindResource(this);
+        }
+
+        @Override
+        protected void doResume(Object transaction, Object suspendedResources) {
+            TransactionSynchronizationManager.bindResource(this, suspendedResources);
+        }
+
+        @Override
+        protected void doSetRollbackOnly(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doCleanupAfterCompletion(Object transaction) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(this);
+        }
+
+        private static final class InMemoryTransaction {
+
+            private Object marker;
+
+            private InMemoryTransaction(Object marker) {
+                this.marker = marker;
+            }
+        }
+    }
+
+    /**
+     * 회원 1명의 토큰 상태를 보관하며, 쓰기는 현재 트랜잭션이 커밋될 때만 반영합니다.
+     */
+    static final class TransactionalMemberTokenPort implements SecurityMemberTokenPort {
+
+        private static final long MEMBER_ID = 1L;
+
+        private final AtomicReference<TokenState> committed = new AtomicReference<>();
+
+        private void reset(long tokenVersion, String refreshTokenHash, String refreshTokenEncrypted) {
+            committed.set(new TokenState(tokenVersion, refreshTokenHash, refreshTokenEncrypted));
+        }
+
+        @Override
+        public Optional<SecurityMemberTokenInfo> findTokenInfoById(Long memberId) {
+            return findTokenInfoByLoginId(LOGIN_ID);
+        }
+
+        @Override
+        public Optional<SecurityMemberTokenInfo> findTokenInfoByLoginId(String loginId) {
+            final TokenState state = committed.get();
+            return Optional.of(SecurityMemberTokenInfo.of(
+                    MEMBER_ID, LOGIN_ID, AccountRole.USER, "nick", MemberType.GENERAL,
+                    MemberActiveStatus.ACTIVE, state.tokenVersion(), state.refreshTokenEncrypted()
+            ));
+        }
+
+        @Override
+        public void updateRefreshToken(Long memberId, String encrypted, String hash) {
+            applyOnCommit(current -> new TokenState(current.tokenVersion(), hash, encrypted));
+        }
+
+        @Override
+        public boolean rotateRefreshTokenHash(String loginId, long tokenVersion, String currentHash, String newHash) {
+            final TokenState current = committed.get();
+            if (current.tokenVersion() != tokenVersion || !currentHash.equals(current.refreshTokenHash())) {
+                return false;
+            }
+            applyOnCommit(state -> new TokenState(state.tokenVersion(), newHash, state.refreshTokenEncrypted()));
+            return true;
+        }
+
+        @Override
+        public void revokeTokens(Long memberId) {
+            applyOnCommit(current -> new TokenState(current.tokenVersion() + 1, null, null));
+        }
+
+        private void applyOnCommit(UnaryOperator<TokenState> write) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    committed.updateAndGet(write);
+                }
+            });
+        }
+
+        private long committedTokenVersion() {
+            return committed.get().tokenVersion();
+        }
+
+        private String committedHash() {
+            return committed.get().refreshTokenHash();
+        }
+
+        private record TokenState(long tokenVersion, String refreshTokenHash, String refreshTokenEncrypted) {
+        }
+    }
+}
@@ -1,9 +1,16 @@
 plugins {
     `java-library`
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 dependencies {
     api(project(":libs:backend:common"))
+
+    // 캐시 무효화 리스너(LISTEN/NOTIFY)가 PGConnection API를 사용합니다. 런타임 드라이버는 루트에서 제공합니다.
+    compileOnly("org.postgresql:postgresql")
+
+    // 토큰 폐기 지연 저장 대기열 메트릭(MeterBinder). 버전은 Spring Boot BOM을 따릅니다.
+    implementation("io.micrometer:micrometer-core")
 }
 
 tasks.named<org.springframework.boot.gradle.tasks.bundling.BootJar>("bootJar") {
@@ -13,3 +20,11 @@ tasks.named<org.springframework.boot.gradle.tasks.bundling.BootJar>("bootJar") {
 tasks.named<Jar>("jar") {
     enabled = true
 }
+
+// 암호화/해시/ID 발급 경로 마이크로벤치마크: ./gradlew :libs:backend:global-core:jmh
+jmh {
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    profilers.add("gc")
+}
@@ -0,0 +1,59 @@
+package com.example.global.id;
+
+import com.example.global.utils.TraceIdUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * jti/추적 ID/PK 발급 경로 벤치마크
+ *
+ * <p>
+ * - legacy*: UUID.randomUUID() 기반 기존 구현(공유 SecureRandom, 36자 문자열 후 substring)입니다.
+ * - v7*: 현재 {@link UuidV7Generator}, {@link TraceIdUtils#createTraceId()} 구현입니다.
+ * - 4스레드로 공유 난수원/CAS 경합을 함께 측정하고, gc 프로파일러로 호출당 할당량을 비교합니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class IdGeneratorBenchmark {
+
+    @Benchmark
+    public UUID legacyRandomUuid() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public UUID v7Uuid() {
+        return UuidV7Generator.next();
+    }
+
+    @Benchmark
+    public String legacyJti() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public String v7Jti() {
+        return UuidV7Generator.next().toString();
+    }
+
+    @Benchmark
+    public String legacyTraceId() {
+        return UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Benchmark
+    public String v7TraceId() {
+        return TraceIdUtils.createTraceId();
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.global.security;
+
+import com.example.global.security.jwt.JwtProperties;
+import com.example.global.utils.TokenHashUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import javax.crypto.Cipher;
+import javax.crypto.KDF;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.HKDFParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 해시/리프레시 토큰 암복호화 경로 벤치마크
+ *
+ * <p>
+ * - legacy*: 풀 도입 전 구현(호출마다 getInstance, 중간 배열, HexFormat/Base64)을 그대로 옮긴 기준선입니다.
+ * - pooled*: 현재 {@link TokenHashUtils}, {@link RefreshTokenCrypto} 구현입니다.
+ * - gc 프로파일러의 gc.alloc.rate.norm(B/op)으로 호출당 할당량을 비교합니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class CryptoPrimitivesBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-must-be-at-least-32-bytes";
+    private static final int IV_LENGTH = 12;
+
+    private String token;
+    private String encrypted;
+    private RefreshTokenCrypto refreshTokenCrypto;
+    private SecretKey legacyKey;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Setup
+    public void setUp() throws Exception {
+        // 실제 JWT와 비슷한 길이(약 300자)의 ASCII 토큰
+        token = "eyJhbGciOiJIUzI1NiJ9." + "a".repeat(220) + "." + "b".repeat(43);
+        refreshTokenCrypto = new RefreshTokenCrypto(
+                JwtProperties.of("benchmark", SECRET, Duration.ofMinutes(30), Duration.ofDays(14))
+        );
+        encrypted = refreshTokenCrypto.encrypt(token);
+
+        final HKDFParameterSpec parameters = HKDFParameterSpec.ofExtract()
+                .addIKM(SECRET.getBytes(StandardCharsets.UTF_8))
+                .addSalt("gyun-refresh-token".getBytes(StandardCharsets.UTF_8))
+                .thenExpand("refresh-token-aes-gcm-key".getBytes(StandardCharsets.UTF_8), 32);
+        legacyKey = new SecretKeySpec(KDF.getInstance("HKDF-SHA256").deriveData(parameters), "AES");
+    }
+
+    @Benchmark
+    public String legacySha256Hex() throws Exception {
+        final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Benchmark
+    public String pooledSha256Hex() {
+        return TokenHashUtils.sha256(token);
+    }
+
+    @Benchmark
+    public String legacyEncrypt() throws Exception {
+        final byte[] iv = new byte[IV_LENGTH];
+        secureRandom.nextBytes(iv);
+        final Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, legacyKey, new GCMParameterSpec(128, iv));
+        final byte[] cipherText = cipher.doFinal(token.getBytes(StandardCharsets.UTF_8));
+        final byte[] combined = new byte[IV_LENGTH + cipherText.length];
+        System.arraycopy(iv, 0, combined, 0, IV_LENGTH);
+        System.arraycopy(cipherText, 0, combined, IV_LENGTH, cipherText.length);
+        return Base64.getEncoder().encodeToString(combined);
+    }
+
+    @Benchmark
+    public String pooledEncrypt() {
+        return refreshTokenCrypto.encrypt(token);
+    }
+
+    @Benchmark
+    public String legacyDecrypt() throws Exception {
+        final byte[] combined = Base64.getDecoder().decode(encrypted);
+        final byte[] iv = Arrays.copyOfRange(combined, 0, IV_LENGTH);
+        final byte[] cipherText = Arrays.copyOfRange(combined, IV_LENGTH, combined.length);
+        final Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, legacyKey, new GCMParameterSpec(128, iv));
+        return new String(cipher.doFinal(cipherText), StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String pooledDecrypt() {
+        return refreshTokenCrypto.decrypt(encrypted);
+    }
+}
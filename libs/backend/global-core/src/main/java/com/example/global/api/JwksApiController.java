@@ -0,0 +1,52 @@
+package com.example.global.api;
+
+import com.example.global.security.jwt.JwtJwkSet;
+import com.example.global.security.jwt.JwtTokenKeyProvider;
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/**
+ * JWT 검증 공개키(JWKS) 제공
+ *
+ * <p>
+ * - 엣지 프록시/게이트웨이가 kid로 검증 키를 찾아 JVM을 거치지 않고 토큰을 검증할 수 있도록 공개합니다.
+ * - 표준 형식이어야 하므로 RestApiResponse로 감싸지 않고 JWKS JSON을 그대로 반환합니다.
+ * - 본문/ETag는 기동 시 한 번 만들며, public max-age + stale-while-revalidate로 캐시하고 If-None-Match에는 304로 응답합니다.
+ * - HMAC 모드에서는 빈 키 목록을 반환합니다. (대칭키는 공개하지 않음)
+ * </p>
+ */
+@PreAuthorize("permitAll()")
+@RestController
+public class JwksApiController {
+
+    public static final String JWKS_PATH = "/.well-known/jwks.json";
+    private static final MediaType JWK_SET_MEDIA_TYPE = MediaType.parseMediaType("application/jwk-set+json");
+
+    private final JwtJwkSet jwkSet;
+    private final CacheControl cacheControl;
+
+    public JwksApiController(final JwtTokenKeyProvider keyProvider) {
+        final Duration maxAge = keyProvider.getSigningProperties().jwksMaxAge();
+        this.jwkSet = JwtJwkSet.of(keyProvider.getPublicKeys());
+        this.cacheControl = CacheControl.maxAge(maxAge)
+                .cachePublic()
+                .staleWhileRevalidate(maxAge);
+    }
+
+    @Operation(summary = "JWT 검증 공개키(JWKS) 조회")
+    @GetMapping(JWKS_PATH)
+    public ResponseEntity<String> jwks() {
+        return ResponseEntity.ok()
+                .contentType(JWK_SET_MEDIA_TYPE)
+                .cacheControl(cacheControl)
+                .eTag(jwkSet.etag())
+                .body(jwkSet.json());
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.global.cache;
+
+/**
+ * 로컬 캐시 통계 스냅샷
+ *
+ * <p>
+ * - evictionCount: TTL 만료 또는 용량 초과로 제거된 항목 수
+ * - invalidationCount: 상태 변경 등으로 명시적으로 무효화된 항목 수
+ * </p>
+ */
+public record LocalCacheStats(
+        long hitCount,
+        long missCount,
+        long evictionCount,
+        long invalidationCount,
+        int size
+) {
+
+    public static LocalCacheStats of(
+            final long hitCount,
+            final long missCount,
+            final long evictionCount,
+            final long invalidationCount,
+            final int size
+    ) {
+        return new LocalCacheStats(hitCount, missCount, evictionCount, invalidationCount, size);
+    }
+
+    public double hitRate() {
+        final long requestCount = hitCount + missCount;
+        if (requestCount == 0) {
+            return 0.0d;
+        }
+        return (double) hitCount / requestCount;
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.global.cache;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 노드 로컬 TTL 캐시
+ *
+ * <p>
+ * - 최대 크기(maxSize)와 만료 시간(ttl)을 함께 적용하는 경량 인메모리 캐시입니다.
+ * - 외부 캐시 라이브러리 없이 {@link ConcurrentHashMap} 기반으로 동작하며, 가상 스레드 환경에서도 락 없이 조회합니다.
+ * - 용량 초과 시 만료 항목을 먼저 정리하고, 그래도 부족하면 만료가 임박한 항목부터 제거합니다.
+ * - hit/miss/eviction 카운터를 {@link LocalCacheStats}로 제공합니다.
+ * </p>
+ */
+public class LocalTtlCache<K, V> {
+
+    /**
+     * 용량 초과 시 한 번에 maxSize의 90%까지 줄여 정리 빈도를 낮춥니다.
+     */
+    private static final double SHRINK_TARGET_RATIO = 0.9d;
+
+    private final ConcurrentHashMap<K, CacheEntry<V>> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+
+    public LocalTtlCache(final int maxSize, final Duration ttl) {
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    LocalTtlCache(final int maxSize, final Duration ttl, final LongSupplier nanoClock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize는 0보다 커야 합니다.");
+        }
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            throw new IllegalArgumentException("ttl은 0보다 커야 합니다.");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public Optional<V> get(final K key) {
+        if (key == null) {
+            return Optional.empty();
+        }
+
+        final CacheEntry<V> entry = entries.get(key);
+        if (entry == null) {
+            missCount.increment();
+            return Optional.empty();
+        }
+
+        if (entry.isExpired(nanoClock.getAsLong())) {
+            if (entries.remove(key, entry)) {
+                evictionCount.increment();
+            }
+            missCount.increment();
+            return Optional.empty();
+        }
+
+        hitCount.increment();
+        return Optional.of(entry.value());
+    }
+
+    public void put(final K key, final V value) {
+        store(key, value, ttlNanos);
+    }
+
+    /**
+     * 항목별 만료 시간을 지정해 저장합니다.
+     * 전달된 ttl이 캐시 기본 ttl보다 길면 기본 ttl을 적용합니다.
+     */
+    public void put(final K key, final V value, final Duration ttl) {
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            return;
+        }
+        store(key, value, Math.min(ttl.toNanos(), ttlNanos));
+    }
+
+    public void invalidate(final K key) {
+        if (key == null) {
+            return;
+        }
+        if (entries.remove(key) != null) {
+            invalidationCount.increment();
+        }
+    }
+
+    public void invalidateAll() {
+        final int size = entries.size();
+        entries.clear();
+        invalidationCount.add(size);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public LocalCacheStats stats() {
+        return LocalCacheStats.of(
+                hitCount.sum(),
+                missCount.sum(),
+                evictionCount.sum(),
+                invalidationCount.sum(),
+                entries.size()
+        );
+    }
+
+    private void store(final K key, final V value, final long entryTtlNanos) {
+        if (key == null || value == null) {
+            return;
+        }
+
+        entries.put(key, new CacheEntry<>(value, nanoClock.getAsLong() + entryTtlNanos));
+        if (entries.size() > maxSize) {
+            shrink();
+        }
+    }
+
+    private synchronized void shrink() {
+        if (entries.size() <= maxSize) {
+            return;
+        }
+
+        removeExpiredEntries();
+        final int targetSize = (int) (maxSize * SHRINK_TARGET_RATIO);
+        if (entries.size() <= targetSize) {
+            return;
+        }
+
+        entries.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().expiresAtNanos()))
+                .limit(Math.max(0, entries.size() - targetSize))
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(this::evict);
+    }
+
+    private void removeExpiredEntries() {
+        final long now = nanoClock.getAsLong();
+        entries.forEach((key, entry) -> {
+            if (entry.isExpired(now) && entries.remove(key, entry)) {
+                evictionCount.increment();
+            }
+        });
+    }
+
+    private void evict(final K key) {
+        if (entries.remove(key) != null) {
+            evictionCount.increment();
+        }
+    }
+
+    private record CacheEntry<V>(V value, long expiresAtNanos) {
+
+        private boolean isExpired(final long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.global.cache.invalidation;
+
+import com.example.global.cache.invalidation.payload.dto.CacheInvalidationMessage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캐시 무효화 이벤트 추격 조회 및 구독자 전달
+ *
+ * <p>
+ * - 수신 위치는 시퀀스가 아니라 커밋 완료 경계 xid(committedXid)입니다.
+ *   추격 조회마다 먼저 pg_snapshot_xmin을 읽고, committedXid 이상 트랜잭션이 발행한 이벤트를 조회한 뒤 경계를 전진시킵니다.
+ *   경계 아래 트랜잭션은 모두 종료되었으므로 커밋 지연 시간이나 노드 간 시계 차이와 무관하게 이벤트를 놓치지 않습니다.
+ * - 경계 이상이지만 이미 커밋되어 보이는 이벤트도 바로 전달합니다. (장기 트랜잭션이 경계를 붙잡아도 전달이 늦어지지 않음)
+ *   이 이벤트는 경계가 지나갈 때까지 다시 조회되므로, 전달한 시퀀스를 기억해 중복 전달을 막습니다. (중복 자체는 허용)
+ * - 보관 기간보다 오래 추격하지 못했으면 구독자에게 전체 재동기화를 요청합니다.
+ * - 리스너 스레드 하나에서만 호출되므로 동기화하지 않습니다.
+ * </p>
+ */
+@Slf4j
+final class CacheInvalidationDispatcher {
+
+    static final int CATCH_UP_BATCH_SIZE = 500;
+
+    private final CacheInvalidationEventRepository cacheInvalidationEventRepository;
+    private final Map<CacheInvalidationTopic, List<CacheInvalidationSubscriber>> subscribers;
+    private final Duration retention;
+
+    // 전달한 시퀀스 → 발행 트랜잭션 xid (경계가 xid를 지나면 다시 조회되지 않으므로 제거)
+    private final Map<Long, Long> recentlyDispatched = new HashMap<>();
+    private Long committedXid;
+    private LocalDateTime lastCatchUpAt;
+
+    CacheInvalidationDispatcher(
+            final CacheInvalidationEventRepository cacheInvalidationEventRepository,
+            final List<CacheInvalidationSubscriber> subscribers,
+            final Duration retention
+    ) {
+        this.cacheInvalidationEventRepository = cacheInvalidationEventRepository;
+        this.subscribers = groupByTopic(subscribers);
+        this.retention = retention;
+    }
+
+    boolean isInitialized() {
+        return committedXid != null;
+    }
+
+    /**
+     * 기동 시 로컬 캐시는 비어 있으므로 이미 종료된 트랜잭션의 이벤트는 무시하고 현재 경계부터 수신합니다.
+     */
+    void initialize(final LocalDateTime now) {
+        committedXid = findCommittedXidHorizon();
+        lastCatchUpAt = now;
+    }
+
+    Long committedXid() {
+        return committedXid;
+    }
+
+    boolean isCatchUpDue(final LocalDateTime now, final Duration interval) {
+        return lastCatchUpAt.plus(interval).isBefore(now);
+    }
+
+    void catchUp(final LocalDateTime now) {
+        if (lastCatchUpAt.plus(retention).isBefore(now)) {
+            log.warn("[CACHE_INVALIDATION] 보관 기간 이상 수신 공백, 전체 재동기화: lastCatchUpAt={}", lastCatchUpAt);
+            subscribers.values().stream().flatMap(List::stream).forEach(this::resyncQuietly);
+        }
+
+        // 조회 전에 경계를 읽어야 경계 아래 트랜잭션이 발행한 이벤트가 이후 조회에 모두 보입니다.
+        final long horizon = findCommittedXidHorizon();
+        long afterSequence = 0L;
+        List<CacheInvalidationEventRow> rows;
+        do {
+            rows = cacheInvalidationEventRepository.findRowsFromXid(committedXid, afterSequence, CATCH_UP_BATCH_SIZE);
+            rows.forEach(this::dispatchOnce);
+            if (!rows.isEmpty()) {
+                afterSequence = rows.getLast().getSequence();
+            }
+        } while (rows.size() == CATCH_UP_BATCH_SIZE);
+
+        committedXid = Math.max(committedXid, horizon);
+        recentlyDispatched.values().removeIf(xid -> xid < committedXid);
+        lastCatchUpAt = now;
+    }
+
+    private void dispatchOnce(final CacheInvalidationEventRow row) {
+        if (recentlyDispatched.putIfAbsent(row.getSequence(), Long.parseLong(row.getCreatedXid())) != null) {
+            return;
+        }
+
+        final CacheInvalidationTopic topic = resolveTopic(row);
+        if (topic == null) {
+            return;
+        }
+
+        final CacheInvalidationMessage message = CacheInvalidationMessage.of(
+                row.getSequence(), topic, row.getCacheKey(), row.getExpiresAt()
+        );
+        for (CacheInvalidationSubscriber subscriber : subscribers.getOrDefault(topic, List.of())) {
+            try {
+                subscriber.onInvalidated(message);
+            } catch (RuntimeException e) {
+                log.warn("[CACHE_INVALIDATION] 구독자 처리 실패: topic={}, sequence={}, subscriber={}, exceptionName={}",
+                        topic, message.sequence(), subscriber.getClass().getSimpleName(),
+                        e.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    // 배포 중 다른 버전 노드가 발행한, 이 노드가 모르는 토픽은 건너뜁니다.
+    private CacheInvalidationTopic resolveTopic(final CacheInvalidationEventRow row) {
+        try {
+            return CacheInvalidationTopic.valueOf(row.getTopic());
+        } catch (IllegalArgumentException e) {
+            log.warn("[CACHE_INVALIDATION] 알 수 없는 토픽: topic={}, sequence={}", row.getTopic(), row.getSequence());
+            return null;
+        }
+    }
+
+    private long findCommittedXidHorizon() {
+        return Long.parseLong(cacheInvalidationEventRepository.findCommittedXidHorizon());
+    }
+
+    private void resyncQuietly(final CacheInvalidationSubscriber subscriber) {
+        try {
+            subscriber.onResync();
+        } catch (RuntimeException e) {
+            log.warn("[CACHE_INVALIDATION] 구독자 재동기화 실패: subscriber={}, exceptionName={}",
+                    subscriber.getClass().getSimpleName(), e.getClass().getSimpleName(), e);
+        }
+    }
+
+    private static Map<CacheInvalidationTopic, List<CacheInvalidationSubscriber>> groupByTopic(
+            final List<CacheInvalidationSubscriber> subscribers
+    ) {
+        final Map<CacheInvalidationTopic, List<CacheInvalidationSubscriber>> grouped =
+                new EnumMap<>(CacheInvalidationTopic.class);
+        subscribers.forEach(subscriber ->
+                grouped.computeIfAbsent(subscriber.topic(), topic -> new ArrayList<>()).add(subscriber));
+        return grouped;
+    }
+}
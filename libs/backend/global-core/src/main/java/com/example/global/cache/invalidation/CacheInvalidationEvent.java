@@ -0,0 +1,71 @@
+package com.example.global.cache.invalidation;
+
+import com.example.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시 무효화 이벤트 로그
+ *
+ * <p>
+ * - 구독자의 수신 위치는 발행 트랜잭션 xid(created_xid)와 커밋 완료 경계(pg_snapshot_xmin)이며,
+ *   NOTIFY를 놓친 노드는 이 경계 이후 추격 조회로 복구합니다. (at-least-once, 커밋 지연/노드 간 시계와 무관)
+ * - id(시퀀스)는 조회 페이지 키와 중복 전달 제거에만 사용합니다.
+ * - 무효화는 멱등이므로 중복 수신을 허용합니다.
+ * - 보관 기간이 지난 이벤트는 CacheInvalidationEventCleanupScheduler가 삭제합니다.
+ * </p>
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "cache_invalidation_event",
+        comment = "캐시 무효화 이벤트",
+        indexes = @Index(name = "idx_cache_invalidation_event_created_xid", columnList = "created_xid")
+)
+public class CacheInvalidationEvent extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "cache_invalidation_event_id", comment = "이벤트 시퀀스")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50, comment = "무효화 토픽")
+    private CacheInvalidationTopic topic;
+
+    @Column(name = "cache_key", nullable = false, comment = "무효화 대상 키")
+    private String cacheKey;
+
+    @Column(comment = "무효화 대상 만료 시각")
+    private LocalDateTime expiresAt;
+
+    /**
+     * [중요] 발행 트랜잭션 xid(xid8)를 DB 기본값으로 기록합니다. 애플리케이션은 값을 쓰지 않습니다.
+     * - 전환 절차는 docs/db/cache_invalidation_event_xid_sync.sql 참고
+     */
+    @Column(
+            name = "created_xid",
+            columnDefinition = "xid8 default pg_current_xact_id()",
+            insertable = false,
+            updatable = false,
+            comment = "발행 트랜잭션 xid (추격 조회 기준)"
+    )
+    private String createdXid;
+
+    public static CacheInvalidationEvent of(
+            final CacheInvalidationTopic topic,
+            final String cacheKey,
+            final LocalDateTime expiresAt
+    ) {
+        final CacheInvalidationEvent event = new CacheInvalidationEvent();
+        event.topic = topic;
+        event.cacheKey = cacheKey;
+        event.expiresAt = expiresAt;
+        return event;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.global.cache.invalidation;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CacheInvalidationEventRepository extends JpaRepository<CacheInvalidationEvent, Long> {
+
+    /**
+     * 현재 스냅샷의 커밋 완료 경계(xmin)를 반환합니다.
+     * 이 값보다 작은 xid의 트랜잭션은 모두 종료되었으므로, 이후 조회에서 커밋된 이벤트가 빠짐없이 보입니다.
+     */
+    @Query(value = "select cast(pg_snapshot_xmin(pg_current_snapshot()) as text)", nativeQuery = true)
+    String findCommittedXidHorizon();
+
+    /**
+     * 추격 조회: fromXid 이상 트랜잭션이 발행해 현재 보이는 이벤트입니다.
+     * - afterSequence 기준 keyset 페이지로, 호출자가 배치 크기보다 작은 페이지가 나올 때까지 순회합니다.
+     * - xid8 비교는 네이티브 쿼리로 수행합니다.
+     */
+    @Query(value = """
+            select e.cache_invalidation_event_id as "sequence",
+                   e.topic                       as "topic",
+                   e.cache_key                   as "cacheKey",
+                   e.expires_at                  as "expiresAt",
+                   cast(e.created_xid as text)   as "createdXid"
+            from cache_invalidation_event e
+            where e.created_xid >= cast(cast(:fromXid as text) as xid8)
+              and e.cache_invalidation_event_id > :afterSequence
+            order by e.cache_invalidation_event_id asc
+            limit :limit
+            """, nativeQuery = true)
+    List<CacheInvalidationEventRow> findRowsFromXid(
+            @Param("fromXid") long fromXid,
+            @Param("afterSequence") long afterSequence,
+            @Param("limit") int limit
+    );
+
+    @Transactional
+    @Modifying
+    @Query("delete from CacheInvalidationEvent e where e.createdAt < :createdBefore")
+    int deleteCreatedBefore(@Param("createdBefore") LocalDateTime createdBefore);
+}
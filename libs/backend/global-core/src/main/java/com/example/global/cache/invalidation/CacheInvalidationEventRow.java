@@ -0,0 +1,19 @@
+package com.example.global.cache.invalidation;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시 무효화 이벤트 추격 조회(네이티브 쿼리) Projection
+ */
+public interface CacheInvalidationEventRow {
+
+    Long getSequence();
+
+    String getTopic();
+
+    String getCacheKey();
+
+    LocalDateTime getExpiresAt();
+
+    String getCreatedXid();
+}
@@ -0,0 +1,157 @@
+package com.example.global.cache.invalidation;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * PostgreSQL LISTEN/NOTIFY 기반 캐시 무효화 리스너
+ *
+ * <p>
+ * - 커넥션 풀과 분리된 전용 커넥션으로 LISTEN하며, 끊기면 재연결합니다.
+ * - NOTIFY는 깨우기 신호로만 사용하고, 실제 메시지는 {@link CacheInvalidationDispatcher}가 커밋 완료 경계(xid) 기준으로 조회해 전달합니다.
+ * - 재연결 직후와 주기적으로도 추격 조회를 수행해 연결 단절/NOTIFY 유실 구간을 복구합니다. (at-least-once)
+ * </p>
+ */
+@Slf4j
+@Component
+public class CacheInvalidationListener {
+
+    private static final Pattern CHANNEL_PATTERN = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+    private final CacheInvalidationDispatcher dispatcher;
+    private final boolean enabled;
+    private final String channel;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final Duration pollTimeout;
+    private final Duration catchUpInterval;
+    private final Duration reconnectDelay;
+
+    private volatile boolean running;
+    private volatile Thread worker;
+
+    public CacheInvalidationListener(
+            final CacheInvalidationEventRepository cacheInvalidationEventRepository,
+            final List<CacheInvalidationSubscriber> subscribers,
+            @Value("${app.cache.invalidation.enabled:true}") final boolean enabled,
+            @Value("${app.cache.invalidation.channel:cache_invalidation}") final String channel,
+            @Value("${spring.datasource.url:}") final String url,
+            @Value("${spring.datasource.username:}") final String username,
+            @Value("${spring.datasource.password:}") final String password,
+            @Value("${app.cache.invalidation.poll-timeout:PT1S}") final Duration pollTimeout,
+            @Value("${app.cache.invalidation.catch-up-interval:PT30S}") final Duration catchUpInterval,
+            @Value("${app.cache.invalidation.reconnect-delay:PT5S}") final Duration reconnectDelay,
+            @Value("${app.cache.invalidation.retention:PT1H}") final Duration retention
+    ) {
+        if (!CHANNEL_PATTERN.matcher(channel).matches()) {
+            throw new IllegalArgumentException("캐시 무효화 채널 이름이 올바르지 않습니다: " + channel);
+        }
+        this.dispatcher = new CacheInvalidationDispatcher(
+                cacheInvalidationEventRepository, subscribers, retention
+        );
+        this.enabled = enabled;
+        this.channel = channel;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.pollTimeout = pollTimeout;
+        this.catchUpInterval = catchUpInterval;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || running || !url.startsWith("jdbc:postgresql:")) {
+            return;
+        }
+        running = true;
+        worker = Thread.ofPlatform()
+                .name("cache-invalidation-listener")
+                .daemon(true)
+                .start(this::run);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        final Thread current = worker;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try (Connection connection = openListenConnection()) {
+                if (!dispatcher.isInitialized()) {
+                    dispatcher.initialize(now());
+                }
+                log.info("[CACHE_INVALIDATION] LISTEN 시작: channel={}, committedXid={}",
+                        channel, dispatcher.committedXid());
+                // LISTEN 이후에 추격 조회해야 그 사이 커밋된 이벤트를 놓치지 않습니다.
+                dispatcher.catchUp(now());
+                listen(connection.unwrap(PGConnection.class));
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("[CACHE_INVALIDATION] 리스너 연결 실패, 재연결 대기: delay={}, exceptionName={}",
+                        reconnectDelay, e.getClass().getSimpleName(), e);
+                sleepQuietly(reconnectDelay);
+            }
+        }
+    }
+
+    private Connection openListenConnection() throws SQLException {
+        final Connection connection = DriverManager.getConnection(url, username, password);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + channel);
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+
+    private void listen(final PGConnection connection) throws SQLException {
+        final int timeoutMillis = (int) Math.max(1L, pollTimeout.toMillis());
+        while (running) {
+            final PGNotification[] notifications = connection.getNotifications(timeoutMillis);
+            final LocalDateTime now = now();
+            // 여러 알림이 한 번에 도착해도 추격 조회 한 번으로 모두 처리합니다.
+            if ((notifications != null && notifications.length > 0) || dispatcher.isCatchUpDue(now, catchUpInterval)) {
+                dispatcher.catchUp(now);
+            }
+        }
+    }
+
+    private void sleepQuietly(final Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(ZoneId.systemDefault());
+    }
+}
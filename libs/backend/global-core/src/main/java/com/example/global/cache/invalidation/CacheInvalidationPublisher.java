@@ -0,0 +1,54 @@
+package com.example.global.cache.invalidation;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시 무효화 발행기
+ *
+ * <p>
+ * - 호출자의 트랜잭션 안에서 이벤트 행을 저장하고 pg_notify를 실행합니다.
+ * - PostgreSQL은 NOTIFY를 커밋 시점에 전달하고 롤백 시 폐기하므로, 별도 afterCommit 훅 없이 "커밋 이후 발행"이 보장됩니다.
+ * - NOTIFY payload는 이벤트 시퀀스만 담는 깨우기 신호이며, 실제 내용은 구독 노드가 추격 조회로 읽습니다.
+ * </p>
+ */
+@Component
+public class CacheInvalidationPublisher {
+
+    private final CacheInvalidationEventRepository cacheInvalidationEventRepository;
+    private final EntityManager entityManager;
+    private final boolean enabled;
+    private final String channel;
+
+    public CacheInvalidationPublisher(
+            final CacheInvalidationEventRepository cacheInvalidationEventRepository,
+            final EntityManager entityManager,
+            @Value("${app.cache.invalidation.enabled:true}") final boolean enabled,
+            @Value("${app.cache.invalidation.channel:cache_invalidation}") final String channel
+    ) {
+        this.cacheInvalidationEventRepository = cacheInvalidationEventRepository;
+        this.entityManager = entityManager;
+        this.enabled = enabled;
+        this.channel = channel;
+    }
+
+    @Transactional
+    public void publish(final CacheInvalidationTopic topic, final String key, final LocalDateTime expiresAt) {
+        if (!enabled || topic == null || !StringUtils.hasText(key)) {
+            return;
+        }
+
+        final CacheInvalidationEvent event = cacheInvalidationEventRepository.save(
+                CacheInvalidationEvent.of(topic, key, expiresAt)
+        );
+        entityManager.createNativeQuery("select pg_notify(:channel, :payload)")
+                .setParameter("channel", channel)
+                .setParameter("payload", String.valueOf(event.getId()))
+                .getSingleResult();
+    }
+}
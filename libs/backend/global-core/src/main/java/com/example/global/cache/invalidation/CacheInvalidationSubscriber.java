@@ -0,0 +1,26 @@
+package com.example.global.cache.invalidation;
+
+import com.example.global.cache.invalidation.payload.dto.CacheInvalidationMessage;
+
+/**
+ * 캐시 무효화 구독자
+ *
+ * <p>
+ * - 같은 메시지가 두 번 이상 전달될 수 있으므로 구현은 멱등이어야 합니다.
+ * - 발행 노드 자신에게도 전달됩니다.
+ * - 리스너 스레드에서 호출되므로 블로킹 I/O 없이 로컬 항목 제거만 수행합니다.
+ * </p>
+ */
+public interface CacheInvalidationSubscriber {
+
+    CacheInvalidationTopic topic();
+
+    void onInvalidated(CacheInvalidationMessage message);
+
+    /**
+     * 보관 기간 이상 이벤트를 수신하지 못해 개별 무효화를 보장할 수 없을 때 호출됩니다.
+     * 로컬 캐시 전체를 비우는 등 보수적으로 처리합니다.
+     */
+    default void onResync() {
+    }
+}
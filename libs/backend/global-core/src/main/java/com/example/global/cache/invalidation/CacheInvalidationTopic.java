@@ -0,0 +1,34 @@
+package com.example.global.cache.invalidation;
+
+import lombok.Getter;
+
+/**
+ * 노드 간 로컬 캐시 무효화 토픽
+ */
+@Getter
+public enum CacheInvalidationTopic {
+
+    /**
+     * 회원 인증 상태 변경 (토큰 버전 회전, 권한/상태/비밀번호 변경, 탈퇴)
+     * - key: 로그인 ID
+     */
+    MEMBER_AUTH_CHANGED("member-auth-changed"),
+
+    /**
+     * 토큰 블랙리스트 등록
+     * - key: 토큰 해시(hex) 또는 jti(UUID 문자열), expiresAt: 토큰 만료 시각
+     */
+    TOKEN_BLACKLISTED("token-blacklisted"),
+
+    /**
+     * 회원 자동완성 색인 대상 변경 (가입, 로그인 아이디/닉네임/권한/상태 변경, 탈퇴)
+     * - key: 회원 고유 번호(memberId)
+     */
+    MEMBER_SUGGEST_CHANGED("member-suggest-changed");
+
+    private final String value;
+
+    CacheInvalidationTopic(String value) {
+        this.value = value;
+    }
+}
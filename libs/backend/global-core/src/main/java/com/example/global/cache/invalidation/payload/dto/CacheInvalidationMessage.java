@@ -0,0 +1,24 @@
+package com.example.global.cache.invalidation.payload.dto;
+
+import com.example.global.cache.invalidation.CacheInvalidationTopic;
+
+import java.time.LocalDateTime;
+
+/**
+ * 구독자에게 전달되는 캐시 무효화 메시지
+ */
+public record CacheInvalidationMessage(
+        Long sequence,
+        CacheInvalidationTopic topic,
+        String key,
+        LocalDateTime expiresAt
+) {
+    public static CacheInvalidationMessage of(
+            final Long sequence,
+            final CacheInvalidationTopic topic,
+            final String key,
+            final LocalDateTime expiresAt
+    ) {
+        return new CacheInvalidationMessage(sequence, topic, key, expiresAt);
+    }
+}
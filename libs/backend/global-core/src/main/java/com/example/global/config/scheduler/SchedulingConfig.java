@@ -0,0 +1,14 @@
+package com.example.global.config.scheduler;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * {@code @Scheduled} 작업 활성화 설정
+ * <p>
+ * - 블랙리스트 만료 정리, 블랙리스트 인덱스 증분 동기화 스케줄러가 이 설정에 의존합니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
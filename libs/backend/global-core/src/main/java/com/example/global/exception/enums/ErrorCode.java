@@ -30,6 +30,8 @@ public enum ErrorCode {
     REFRESH_TOKEN_INVALID("1007", "유효하지 않은 리프레시 토큰입니다."),
     REFRESH_TOKEN_EXPIRED("1008", "리프레시 토큰이 만료되었습니다."),
     REFRESH_TOKEN_REVOKED("1009", "이미 폐기된 리프레시 토큰입니다."),
+    LOGIN_OVERLOADED("1010", "로그인 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
+    LOGIN_THROTTLED("1011", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
     // === MEMBER (1100) ===
     MEMBER_NOT_EXIST("1101", "존재하지 않는 회원입니다."),
@@ -21,6 +21,8 @@ public class HttpStatusResolver {
                  REFRESH_TOKEN_EXPIRED,
                  REFRESH_TOKEN_REVOKED -> HttpStatus.UNAUTHORIZED;
             case METHOD_NOT_SUPPORTED -> HttpStatus.METHOD_NOT_ALLOWED;
+            case LOGIN_THROTTLED -> HttpStatus.TOO_MANY_REQUESTS;
+            case LOGIN_OVERLOADED -> HttpStatus.SERVICE_UNAVAILABLE;
             case INTERNAL_SERVER_ERROR, DATA_ACCESS_ERROR, FAILED -> HttpStatus.INTERNAL_SERVER_ERROR;
             default -> HttpStatus.BAD_REQUEST;
         };
@@ -0,0 +1,114 @@
+package com.example.global.pagination;
+
+import com.example.global.cache.LocalTtlCache;
+import com.example.global.pagination.enums.PageCountStrategy;
+import com.example.global.pagination.enums.TotalCountType;
+import com.example.global.pagination.payload.PageCountQuery;
+import com.example.global.payload.response.PageResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * 목록 조회 전체 건수 계산 전략
+ *
+ * <p>
+ * - 목록은 항상 size + 1건을 읽어 다음 페이지 여부를 판단합니다. ({@link #fetchLimit(Pageable)})
+ * - 마지막 페이지(다음 행 없음)면 offset + 행 수가 곧 전체 건수이므로 count를 실행하지 않습니다.
+ * - 그 외에는 app.pagination.count-strategy에 따라 계산합니다.
+ *   - AUTO: 조건 없는 조회는 pg_class 추정치(estimate-min-rows 이상일 때), 조건 있는 조회는 조건 지문별 count를 cache-ttl 동안 재사용
+ *   - EXACT: 매 요청 count
+ *   - HAS_NEXT: count 없이 hasNext만 제공
+ * </p>
+ * <p>
+ * 설정 (app.pagination.*)
+ * - count-strategy: 기본 AUTO
+ * - count-cache-ttl: 조건별 count 캐시 시간 (기본 PT10S)
+ * - count-cache-max-size: 조건별 count 캐시 크기 (기본 1000)
+ * - estimate-min-rows: 추정치를 쓰는 최소 행 수, 작은 테이블은 정확한 count가 충분히 빠름 (기본 100000)
+ * </p>
+ */
+@Component
+public class PageCountResolver {
+
+    private final TableRowEstimator tableRowEstimator;
+    private final PageCountStrategy strategy;
+    private final long estimateMinRows;
+    private final LocalTtlCache<String, Long> exactCountCache;
+
+    public PageCountResolver(
+            final TableRowEstimator tableRowEstimator,
+            @Value("${app.pagination.count-strategy:AUTO}") final PageCountStrategy strategy,
+            @Value("${app.pagination.count-cache-ttl:PT10S}") final Duration countCacheTtl,
+            @Value("${app.pagination.count-cache-max-size:1000}") final int countCacheMaxSize,
+            @Value("${app.pagination.estimate-min-rows:100000}") final long estimateMinRows
+    ) {
+        this.tableRowEstimator = tableRowEstimator;
+        this.strategy = strategy != null ? strategy : PageCountStrategy.AUTO;
+        this.estimateMinRows = estimateMinRows;
+        this.exactCountCache = new LocalTtlCache<>(countCacheMaxSize, countCacheTtl);
+    }
+
+    /**
+     * 다음 페이지 판단용으로 1건 더 읽을 행 수
+     */
+    public int fetchLimit(final Pageable pageable) {
+        return pageable.getPageSize() + 1;
+    }
+
+    /**
+     * size + 1건까지 읽은 행으로 페이지 응답을 만듭니다. 필요할 때만 전체 건수를 계산합니다.
+     */
+    public <T> PageResponse<T> toPage(final List<T> fetched, final Pageable pageable, final PageCountQuery countQuery) {
+        final int size = pageable.getPageSize();
+        final boolean hasNext = fetched.size() > size;
+        final List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+        final long seen = pageable.getOffset() + content.size();
+        final int page = pageable.getPageNumber() + 1;
+
+        // 마지막 페이지: 빈 페이지가 아니거나 첫 페이지면 지금까지 본 행 수가 전체 건수입니다.
+        if (!hasNext && (!content.isEmpty() || pageable.getOffset() == 0)) {
+            return PageResponse.of(content, page, size, seen, false, TotalCountType.EXACT);
+        }
+
+        return switch (strategy) {
+            case HAS_NEXT -> PageResponse.of(content, page, size, null, hasNext, TotalCountType.NONE);
+            case EXACT -> PageResponse.of(content, page, size, countQuery.exactCounter().getAsLong(), hasNext, TotalCountType.EXACT);
+            case AUTO -> resolveAuto(content, page, size, seen, hasNext, countQuery);
+        };
+    }
+
+    private <T> PageResponse<T> resolveAuto(
+            final List<T> content,
+            final int page,
+            final int size,
+            final long seen,
+            final boolean hasNext,
+            final PageCountQuery countQuery
+    ) {
+        if (!countQuery.isFiltered()) {
+            final OptionalLong estimated = tableRowEstimator.estimate(countQuery.tableName());
+            if (estimated.isPresent() && estimated.getAsLong() >= estimateMinRows) {
+                // 통계가 오래돼 실제로 본 행보다 작게 나오면 최소한 본 행 수(+ 다음 행)는 보장합니다.
+                final long total = Math.max(estimated.getAsLong(), hasNext ? seen + 1 : seen);
+                return PageResponse.of(content, page, size, total, hasNext, TotalCountType.ESTIMATED);
+            }
+        }
+
+        // 지문은 캐시 키로만 쓰이고 캐시 크기가 제한되므로 해시 없이 그대로 사용합니다.
+        final String cacheKey = countQuery.tableName() + ":" + countQuery.fingerprint();
+        final Long cached = exactCountCache.get(cacheKey).orElse(null);
+        final long total;
+        if (cached != null) {
+            total = cached;
+        } else {
+            total = countQuery.exactCounter().getAsLong();
+            exactCountCache.put(cacheKey, total);
+        }
+        return PageResponse.of(content, page, size, Math.max(total, hasNext ? seen + 1 : seen), hasNext, TotalCountType.EXACT);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.global.pagination;
+
+import com.example.global.cache.LocalTtlCache;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * 테이블 행 수 추정기 (PostgreSQL pg_class.reltuples)
+ *
+ * <p>
+ * - 파티션 테이블은 부모 reltuples가 비어 있으므로 하위 파티션(pg_inherits) 값을 합산합니다.
+ * - ANALYZE 전(reltuples &lt;= 0)이거나 조회에 실패하면 empty를 반환하고, 호출자가 정확한 count로 대체합니다.
+ * - 값은 estimate-ttl 동안 노드 로컬에 캐시합니다. (통계 자체가 autovacuum 주기로만 갱신됨)
+ * - 조회는 별도 읽기 전용 트랜잭션(REQUIRES_NEW)에서 실행합니다. PostgreSQL은 구문 실패 시 트랜잭션 전체를 중단시키므로,
+ *   호출자 트랜잭션에서 실행하면 예외를 잡아도 이후 목록/count 쿼리가 모두 실패합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class TableRowEstimator {
+
+    private static final String ESTIMATE_SQL = """
+            select cast(coalesce(sum(case when c.reltuples > 0 then c.reltuples else 0 end), 0) as bigint)
+            from pg_class c
+            where c.oid = to_regclass(?1)
+               or c.oid in (select i.inhrelid from pg_inherits i where i.inhparent = to_regclass(?1))
+            """;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate estimateTransaction;
+    private final LocalTtlCache<String, Long> cache;
+
+    public TableRowEstimator(
+            final EntityManager entityManager,
+            final PlatformTransactionManager transactionManager,
+            @Value("${app.pagination.estimate-ttl:PT1M}") final Duration estimateTtl
+    ) {
+        this.entityManager = entityManager;
+        this.estimateTransaction = new TransactionTemplate(transactionManager);
+        this.estimateTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.estimateTransaction.setReadOnly(true);
+        this.cache = new LocalTtlCache<>(64, estimateTtl);
+    }
+
+    public OptionalLong estimate(final String tableName) {
+        final Long cached = cache.get(tableName).orElse(null);
+        if (cached != null) {
+            return cached > 0 ? OptionalLong.of(cached) : OptionalLong.empty();
+        }
+
+        final long estimated = query(tableName);
+        cache.put(tableName, estimated);
+        return estimated > 0 ? OptionalLong.of(estimated) : OptionalLong.empty();
+    }
+
+    private long query(final String tableName) {
+        try {
+            final Object result = estimateTransaction.execute(status -> entityManager.createNativeQuery(ESTIMATE_SQL)
+                    .setParameter(1, tableName)
+                    .getSingleResult());
+            return result instanceof Number number ? number.longValue() : 0L;
+        } catch (RuntimeException e) {
+            log.warn("[PAGE_COUNT] 행 수 추정 실패, 정확한 count로 대체: tableName={}, exceptionName={}",
+                    tableName, e.getClass().getSimpleName());
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.global.pagination.enums;
+
+/**
+ * 목록 조회 전체 건수 계산 방식 (app.pagination.count-strategy)
+ */
+public enum PageCountStrategy {
+
+    /**
+     * 조건 없는 조회는 통계 추정치(pg_class.reltuples), 조건 있는 조회는 조건별로 짧게 캐시한 정확한 count
+     */
+    AUTO,
+
+    /**
+     * 매 요청 정확한 count (기존 동작)
+     */
+    EXACT,
+
+    /**
+     * count 없이 limit + 1건으로 다음 페이지 존재 여부만 판단
+     */
+    HAS_NEXT
+}
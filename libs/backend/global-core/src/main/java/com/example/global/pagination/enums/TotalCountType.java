@@ -0,0 +1,22 @@
+package com.example.global.pagination.enums;
+
+/**
+ * 목록 응답의 전체 건수(totalElements) 성격
+ */
+public enum TotalCountType {
+
+    /**
+     * 정확한 건수 (조건별 캐시 사용 시 cache-ttl 이내의 값)
+     */
+    EXACT,
+
+    /**
+     * 테이블 통계 기반 추정치
+     */
+    ESTIMATED,
+
+    /**
+     * 건수를 계산하지 않음 (hasNext만 제공)
+     */
+    NONE
+}
@@ -0,0 +1,38 @@
+package com.example.global.pagination.payload;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 전체 건수 계산 요청 DTO
+ *
+ * <p>
+ * - tableName: 추정치 조회 대상 테이블 (파티션 테이블이면 부모 테이블)
+ * - fingerprint: 조건 식별값 (null이면 조건 없는 전체 조회)
+ * - exactCounter: 정확한 count 쿼리 (필요할 때만 실행)
+ * </p>
+ */
+public record PageCountQuery(
+        String tableName,
+        String fingerprint,
+        LongSupplier exactCounter
+) {
+
+    public static PageCountQuery unfiltered(final String tableName, final LongSupplier exactCounter) {
+        return of(tableName, null, exactCounter);
+    }
+
+    public static PageCountQuery filtered(final String tableName, final String fingerprint, final LongSupplier exactCounter) {
+        return of(tableName, fingerprint, exactCounter);
+    }
+
+    private static PageCountQuery of(final String tableName, final String fingerprint, final LongSupplier exactCounter) {
+        if (tableName == null || tableName.isBlank() || exactCounter == null) {
+            throw new IllegalArgumentException("tableName/exactCounter는 필수입니다.");
+        }
+        return new PageCountQuery(tableName, fingerprint, exactCounter);
+    }
+
+    public boolean isFiltered() {
+        return fingerprint != null;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.global.payload.response;
+
+import com.example.global.pagination.enums.TotalCountType;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 페이지 목록 응답
+ *
+ * <p>
+ * - page는 1부터 시작합니다.
+ * - totalCountType이 NONE이면 totalElements/totalPages는 null이며 hasNext로만 다음 페이지를 판단합니다.
+ * - ESTIMATED면 totalElements는 테이블 통계 기반 추정치입니다.
+ * </p>
+ */
+public record PageResponse<T>(
+        List<T> content,
+        int page,
+        int size,
+        Long totalElements,
+        Integer totalPages,
+        boolean hasNext,
+        TotalCountType totalCountType
+) {
+
+    public static <T> PageResponse<T> of(
+            final List<T> content,
+            final int page,
+            final int size,
+            final Long totalElements,
+            final boolean hasNext,
+            final TotalCountType totalCountType
+    ) {
+        final Integer totalPages = totalElements == null || size < 1
+                ? null
+                : (int) Math.ceil((double) totalElements / size);
+        return new PageResponse<>(
+                content == null ? List.of() : List.copyOf(content),
+                page,
+                size,
+                totalElements,
+                totalPages,
+                hasNext,
+                totalCountType
+        );
+    }
+
+    public <R> PageResponse<R> map(final Function<? super T, ? extends R> mapper) {
+        return new PageResponse<>(
+                content.stream().<R>map(mapper).toList(),
+                page,
+                size,
+                totalElements,
+                totalPages,
+                hasNext,
+                totalCountType
+        );
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.global.scheduler;
+
+import com.example.global.security.blacklist.service.command.BlacklistedTokenDigestBackfillCommandService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 블랙리스트 토큰 다이제스트 백필 스케줄러
+ *
+ * <p>
+ * - DUAL 전환 후 기존 행이 모두 채워질 때까지 주기적으로 조금씩 백필합니다.
+ * - 남은 행이 없으면 조회 한 번으로 끝나므로 BINARY 전환 후에도 그대로 두어도 됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlacklistedTokenDigestBackfillScheduler {
+
+    private final BlacklistedTokenDigestBackfillCommandService blacklistedTokenDigestBackfillCommandService;
+
+    @Scheduled(
+            fixedDelayString = "${app.jwt.blacklist-digest-backfill.interval:PT1M}",
+            initialDelayString = "${app.jwt.blacklist-digest-backfill.interval:PT1M}"
+    )
+    public void backfill() {
+        try {
+            final long backfilledCount = blacklistedTokenDigestBackfillCommandService.backfill();
+            if (backfilledCount > 0) {
+                log.info("[BLACKLIST_DIGEST_BACKFILL] 다이제스트 백필: backfilledCount={}", backfilledCount);
+            }
+        } catch (RuntimeException e) {
+            log.warn("[BLACKLIST_DIGEST_BACKFILL] 다이제스트 백필 실패: exceptionName={}", e.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.global.scheduler;
+
+import com.example.global.security.blacklist.payload.dto.BlacklistedTokenIndexDelta;
+import com.example.global.security.blacklist.payload.dto.BlacklistedTokenIndexQuery;
+import com.example.global.security.blacklist.service.query.BlacklistedTokenQueryService;
+import com.example.global.security.blacklist.support.BlacklistedTokenIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 노드 로컬 블랙리스트 인덱스 동기화 스케줄러
+ *
+ * <p>
+ * - 기동 완료 시 만료되지 않은 전체 항목을 스트리밍으로 적재합니다.
+ * - 이후 created_xid 기준 증분 폴링으로 다른 노드에서 등록된 항목을 반영합니다.
+ *   하한은 직전 조회의 커밋 완료 경계(pg_snapshot_xmin)이므로 늦은 커밋/노드 간 시계 차이로 누락되지 않습니다.
+ * - 주기적으로 전체 재적재해 만료 항목이 누적된 Bloom 필터를 새로 구성합니다.
+ * - 동기화 실패 시 기존 인덱스를 유지하며, 적재 전이면 판정은 DB 조회로 대체됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlacklistedTokenIndexScheduler {
+
+    private final BlacklistedTokenQueryService blacklistedTokenQueryService;
+    private final BlacklistedTokenIndex blacklistedTokenIndex;
+
+    // 기동 적재와 적재 전 폴링이 겹치면 진행 중 등록 기록이 서로 덮이므로 전체 재적재는 한 번에 하나만 수행합니다.
+    private final AtomicBoolean reloading = new AtomicBoolean(false);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reloadAll();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.jwt.blacklist-index.poll-interval:PT5S}",
+            initialDelayString = "${app.jwt.blacklist-index.poll-interval:PT5S}"
+    )
+    public void pollDelta() {
+        if (!blacklistedTokenIndex.isEnabled()) {
+            return;
+        }
+
+        final Long syncedXid = blacklistedTokenIndex.syncedXid();
+        if (syncedXid == null) {
+            reloadAll();
+            return;
+        }
+
+        try {
+            final BlacklistedTokenIndexDelta delta = blacklistedTokenQueryService.findIndexDelta(
+                    BlacklistedTokenIndexQuery.delta(syncedXid, now())
+            );
+            blacklistedTokenIndex.applyDelta(delta.entries(), delta.syncedXid());
+        } catch (RuntimeException e) {
+            log.warn("[BLACKLIST_INDEX] 증분 동기화 실패: syncedXid={}, exceptionName={}",
+                    syncedXid, e.getClass().getSimpleName(), e);
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.jwt.blacklist-index.full-reload-interval:PT1H}",
+            initialDelayString = "${app.jwt.blacklist-index.full-reload-interval:PT1H}"
+    )
+    public void reloadAll() {
+        if (!blacklistedTokenIndex.isEnabled() || !reloading.compareAndSet(false, true)) {
+            return;
+        }
+
+        // 스냅샷 조회 전에 시작해야 조회~교체 사이에 이 노드에서 등록된 키가 교체 시 합쳐집니다.
+        final BlacklistedTokenIndex.Reload reload = blacklistedTokenIndex.beginReload();
+        try {
+            final long syncedXid = blacklistedTokenQueryService.streamIndexEntries(
+                    BlacklistedTokenIndexQuery.all(now()),
+                    reload::add
+            );
+            blacklistedTokenIndex.completeReload(reload, syncedXid);
+        } catch (RuntimeException e) {
+            blacklistedTokenIndex.abortReload();
+            log.warn("[BLACKLIST_INDEX] 전체 적재 실패: exceptionName={}", e.getClass().getSimpleName(), e);
+        } finally {
+            reloading.set(false);
+        }
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.global.scheduler;
+
+import com.example.global.security.blacklist.service.command.BlacklistedTokenPartitionCommandService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 블랙리스트 일 단위 파티션 사전 생성 스케줄러
+ *
+ * <p>
+ * - 기동 완료 시와 매일 정리 스케줄(기본 03:00) 이전에 누락된 파티션을 생성합니다.
+ * - CREATE TABLE IF NOT EXISTS로 생성하며, 여러 노드가 동시에 생성하다 한쪽이 실패해도 다음 실행에서 다시 확인합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlacklistedTokenPartitionScheduler {
+
+    private final BlacklistedTokenPartitionCommandService blacklistedTokenPartitionCommandService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        precreate();
+    }
+
+    @Scheduled(cron = "${app.jwt.blacklist-partition.precreate-cron:0 30 2 * * *}")
+    public void precreate() {
+        try {
+            final int createdCount = blacklistedTokenPartitionCommandService.ensurePartitions();
+            if (createdCount > 0) {
+                log.info("[BLACKLIST_PARTITION] 파티션 사전 생성: createdCount={}", createdCount);
+            }
+        } catch (RuntimeException e) {
+            log.warn("[BLACKLIST_PARTITION] 파티션 사전 생성 실패: exceptionName={}", e.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.global.scheduler;
+
+import com.example.global.security.blacklist.service.command.BlacklistedTokenWriteBehindCommandService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 토큰 폐기 지연 저장 스케줄러
+ *
+ * <p>
+ * - 짧은 주기로 대기열을 비웁니다. 대기열이 비어 있으면 DB에 접근하지 않습니다.
+ * - 실패한 배치는 대기열로 되돌아가 다음 주기에 재시도됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlacklistedTokenWriteBehindScheduler {
+
+    private final BlacklistedTokenWriteBehindCommandService blacklistedTokenWriteBehindCommandService;
+
+    @Scheduled(fixedDelayString = "${app.jwt.blacklist-write-behind.flush-interval:PT0.2S}")
+    public void flush() {
+        try {
+            final int flushedCount = blacklistedTokenWriteBehindCommandService.flush();
+            if (flushedCount > 0) {
+                log.debug("[BLACKLIST_WRITE_BEHIND] 폐기 저장: flushedCount={}", flushedCount);
+            }
+        } catch (RuntimeException e) {
+            log.warn("[BLACKLIST_WRITE_BEHIND] 폐기 저장 실패, 다음 주기에 재시도: exceptionName={}",
+                    e.getClass().getSimpleName(), e);
+        }
+    }
+}
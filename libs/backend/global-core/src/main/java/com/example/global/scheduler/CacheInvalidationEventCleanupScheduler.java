@@ -0,0 +1,50 @@
+package com.example.global.scheduler;
+
+import com.example.global.cache.invalidation.CacheInvalidationEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 보관 기간이 지난 캐시 무효화 이벤트 정리 스케줄러
+ *
+ * <p>
+ * - 보관 기간은 리스너의 재동기화 기준(app.cache.invalidation.retention)과 같은 값을 사용합니다.
+ * - 여러 노드에서 동시에 실행되어도 같은 조건의 삭제이므로 안전합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class CacheInvalidationEventCleanupScheduler {
+
+    private final CacheInvalidationEventRepository cacheInvalidationEventRepository;
+    private final Duration retention;
+
+    public CacheInvalidationEventCleanupScheduler(
+            final CacheInvalidationEventRepository cacheInvalidationEventRepository,
+            @Value("${app.cache.invalidation.retention:PT1H}") final Duration retention
+    ) {
+        this.cacheInvalidationEventRepository = cacheInvalidationEventRepository;
+        this.retention = retention;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.cache.invalidation.cleanup-interval:PT10M}",
+            initialDelayString = "${app.cache.invalidation.cleanup-interval:PT10M}"
+    )
+    public void cleanup() {
+        try {
+            final int deleted = cacheInvalidationEventRepository.deleteCreatedBefore(
+                    LocalDateTime.now(ZoneId.systemDefault()).minus(retention)
+            );
+            log.debug("[CACHE_INVALIDATION] 만료 이벤트 정리: deleted={}", deleted);
+        } catch (RuntimeException e) {
+            log.warn("[CACHE_INVALIDATION] 만료 이벤트 정리 실패: exceptionName={}", e.getClass().getSimpleName(), e);
+        }
+    }
+}
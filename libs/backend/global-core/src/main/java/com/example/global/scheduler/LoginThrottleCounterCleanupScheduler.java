@@ -0,0 +1,47 @@
+package com.example.global.scheduler;
+
+import com.example.global.security.throttle.LoginThrottleCounterRepository;
+import com.example.global.security.throttle.support.LoginThrottlePolicy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 로그인 시도 제한 공유 카운터 정리 스케줄러
+ *
+ * <p>
+ * - DATABASE 모드에서만 동작하며, 윈도우 2개보다 오래 갱신되지 않은 카운터(더 이상 한도에 영향 없음)를 삭제합니다.
+ * - 여러 노드에서 동시에 실행되어도 같은 조건의 삭제이므로 안전합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoginThrottleCounterCleanupScheduler {
+
+    private final LoginThrottleCounterRepository loginThrottleCounterRepository;
+    private final LoginThrottlePolicy loginThrottlePolicy;
+
+    @Scheduled(
+            fixedDelayString = "${app.security.login-throttle.cleanup-interval:PT10M}",
+            initialDelayString = "${app.security.login-throttle.cleanup-interval:PT10M}"
+    )
+    public void cleanup() {
+        if (!loginThrottlePolicy.usesDatabase()) {
+            return;
+        }
+
+        try {
+            final int deleted = loginThrottleCounterRepository.deleteUpdatedBefore(
+                    LocalDateTime.now(ZoneId.systemDefault()).minus(loginThrottlePolicy.counterRetention())
+            );
+            log.debug("[LOGIN_THROTTLE] 만료 카운터 정리: deleted={}", deleted);
+        } catch (RuntimeException e) {
+            log.warn("[LOGIN_THROTTLE] 만료 카운터 정리 실패: exceptionName={}", e.getClass().getSimpleName(), e);
+        }
+    }
+}
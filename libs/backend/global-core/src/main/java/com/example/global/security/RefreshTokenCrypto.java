@@ -1,5 +1,7 @@
 package com.example.global.security;
 
+import com.example.global.crypto.CryptoEncoding;
+import com.example.global.crypto.CryptoObjectPool;
 import com.example.global.security.jwt.JwtProperties;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -10,14 +12,24 @@ import javax.crypto.SecretKey;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.HKDFParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
-import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Arrays;
-import java.util.Base64;
 
+/**
+ * 리프레시 토큰 AES-GCM 암호화기
+ *
+ * <p>
+ * - 저장 형식: Base64(IV 12바이트 + 암호문 + 태그 16바이트)
+ * - Cipher.getInstance(공급자 조회)와 IV/암호문/Base64 중간 배열을 호출마다 만들지 않도록,
+ *   Cipher와 작업 버퍼를 한 묶음으로 {@link CryptoObjectPool}에서 재사용합니다.
+ * - GCM은 같은 키/IV 재사용이 금지되므로 init은 매 호출 새 IV로 수행합니다.
+ * - 예외가 발생한 작업 묶음은 Cipher 상태를 보장할 수 없으므로 풀에 반납하지 않고 버립니다.
+ * </p>
+ */
 @Component
 public class RefreshTokenCrypto {
 
@@ -29,9 +41,12 @@ public class RefreshTokenCrypto {
     private static final int KEY_LENGTH_BYTES = 32;
     private static final byte[] KEY_DERIVATION_SALT = "gyun-refresh-token".getBytes(StandardCharsets.UTF_8);
     private static final byte[] KEY_DERIVATION_INFO = "refresh-token-aes-gcm-key".getBytes(StandardCharsets.UTF_8);
+    private static final int TAG_LENGTH_BYTES = TAG_LENGTH_BIT / 8;
+    private static final int MAX_IDLE = 64;
 
     private final SecretKey secretKey;
     private final SecureRandom secureRandom = new SecureRandom();
+    private final CryptoObjectPool<CipherContext> contextPool = CryptoObjectPool.of(CipherContext::new, MAX_IDLE);
 
     public RefreshTokenCrypto(final JwtProperties jwtProperties) {
         this.secretKey = new SecretKeySpec(deriveKeyMaterial(jwtProperties.secret()), AES_ALGORITHM);
@@ -61,18 +76,23 @@ public class RefreshTokenCrypto {
         }
 
         try {
-            final byte[] iv = new byte[IV_LENGTH];
-            secureRandom.nextBytes(iv);
-
-            final Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(TAG_LENGTH_BIT, iv));
-            final byte[] cipherText = cipher.doFinal(refreshToken.getBytes(StandardCharsets.UTF_8));
-
-            final ByteBuffer buffer = ByteBuffer.allocate(iv.length + cipherText.length);
-            buffer.put(iv);
-            buffer.put(cipherText);
-
-            return Base64.getEncoder().encodeToString(buffer.array());
+            final CipherContext context = contextPool.acquire();
+            final int plainLength = context.writePlainText(refreshToken);
+            final int combinedLength = IV_LENGTH + plainLength + TAG_LENGTH_BYTES;
+            final byte[] combined = context.combined(combinedLength);
+
+            secureRandom.nextBytes(context.iv);
+            System.arraycopy(context.iv, 0, combined, 0, IV_LENGTH);
+            context.cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(TAG_LENGTH_BIT, context.iv));
+            final int cipherTextLength = context.cipher.doFinal(context.plainText, 0, plainLength, combined, IV_LENGTH);
+
+            final byte[] encoded = context.encoded(CryptoEncoding.base64Length(IV_LENGTH + cipherTextLength));
+            final int encodedLength = CryptoEncoding.encodeBase64(combined, 0, IV_LENGTH + cipherTextLength, encoded, 0);
+            final String result = CryptoEncoding.asciiString(encoded, 0, encodedLength);
+
+            context.clearPlainText(plainLength);
+            contextPool.release(context);
+            return result;
         } catch (final Exception e) {
             throw new IllegalStateException("리프레시 토큰 암호화에 실패했습니다.", e);
         }
@@ -83,24 +103,90 @@ public class RefreshTokenCrypto {
             return "";
         }
 
+        final int decodedLength = CryptoEncoding.decodedBase64Length(encryptedRefreshToken);
+        if (decodedLength < 0) {
+            throw new IllegalStateException("리프레시 토큰 복호화에 실패했습니다.");
+        }
+        if (decodedLength <= IV_LENGTH) {
+            throw new IllegalStateException("리프레시 토큰 암호문 형식이 올바르지 않습니다.");
+        }
+
         try {
-            final byte[] combined = Base64.getDecoder().decode(encryptedRefreshToken);
-            if (combined.length <= IV_LENGTH) {
-                throw new IllegalStateException("리프레시 토큰 암호문 형식이 올바르지 않습니다.");
+            final CipherContext context = contextPool.acquire();
+            final byte[] combined = context.combined(decodedLength);
+            if (CryptoEncoding.decodeBase64(encryptedRefreshToken, combined) != decodedLength) {
+                contextPool.release(context);
+                throw new IllegalStateException("리프레시 토큰 복호화에 실패했습니다.");
             }
 
-            final byte[] iv = Arrays.copyOfRange(combined, 0, IV_LENGTH);
-            final byte[] cipherText = Arrays.copyOfRange(combined, IV_LENGTH, combined.length);
-
-            final Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-            cipher.init(Cipher.DECRYPT_MODE, secretKey, new GCMParameterSpec(TAG_LENGTH_BIT, iv));
-            final byte[] plainText = cipher.doFinal(cipherText);
+            context.cipher.init(Cipher.DECRYPT_MODE, secretKey, new GCMParameterSpec(TAG_LENGTH_BIT, combined, 0, IV_LENGTH));
+            final byte[] plainText = context.plainText(decodedLength - IV_LENGTH);
+            final int plainLength = context.cipher.doFinal(combined, IV_LENGTH, decodedLength - IV_LENGTH, plainText, 0);
+            final String result = new String(plainText, 0, plainLength, StandardCharsets.UTF_8);
 
-            return new String(plainText, StandardCharsets.UTF_8);
+            context.clearPlainText(plainLength);
+            contextPool.release(context);
+            return result;
         } catch (final IllegalStateException e) {
             throw e;
         } catch (final Exception e) {
             throw new IllegalStateException("리프레시 토큰 복호화에 실패했습니다.", e);
         }
     }
+
+    private static Cipher newCipher() {
+        try {
+            return Cipher.getInstance(TRANSFORMATION);
+        } catch (final GeneralSecurityException e) {
+            throw new IllegalStateException("리프레시 토큰 Cipher 생성에 실패했습니다.", e);
+        }
+    }
+
+    private static final class CipherContext {
+
+        private final Cipher cipher = newCipher();
+        private final byte[] iv = new byte[IV_LENGTH];
+        private byte[] plainText = new byte[512];
+        private byte[] combined = new byte[512];
+        private byte[] encoded = new byte[768];
+
+        /**
+         * 토큰을 plainText 버퍼에 UTF-8로 기록하고 길이를 반환합니다. JWT는 ASCII이므로 대부분 추가 할당이 없습니다.
+         */
+        private int writePlainText(final String value) {
+            final int asciiLength = CryptoEncoding.copyAscii(value, plainText(value.length()));
+            if (asciiLength >= 0) {
+                return asciiLength;
+            }
+            final byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            System.arraycopy(utf8, 0, plainText(utf8.length), 0, utf8.length);
+            return utf8.length;
+        }
+
+        private byte[] plainText(final int length) {
+            if (plainText.length < length) {
+                plainText = new byte[Math.max(length, plainText.length * 2)];
+            }
+            return plainText;
+        }
+
+        private byte[] combined(final int length) {
+            if (combined.length < length) {
+                combined = new byte[Math.max(length, combined.length * 2)];
+            }
+            return combined;
+        }
+
+        private byte[] encoded(final int length) {
+            if (encoded.length < length) {
+                encoded = new byte[Math.max(length, encoded.length * 2)];
+            }
+            return encoded;
+        }
+
+        // 풀에 남는 버퍼에 평문 토큰이 남지 않도록 지웁니다.
+        private void clearPlainText(final int length) {
+            Arrays.fill(plainText, 0, length, (byte) 0);
+        }
+    }
 }
@@ -0,0 +1,118 @@
+package com.example.global.security;
+
+import com.example.global.crypto.CryptoEncoding;
+import com.example.global.crypto.CryptoObjectPool;
+import com.example.global.security.jwt.JwtProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.KDF;
+import javax.crypto.Mac;
+import javax.crypto.spec.HKDFParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+
+/**
+ * 리프레시 토큰 키 해시(HMAC-SHA256) 생성기
+ *
+ * <p>
+ * - 회원 테이블에 현재 리프레시 토큰의 해시만 보관하고, 회전 시 해시 비교를 UPDATE 조건으로 사용하기 위한 용도입니다.
+ * - 키는 JWT secret에서 HKDF로 파생하며, 암호화 키({@link RefreshTokenCrypto})와 다른 info를 사용해 분리합니다.
+ * - 같은 토큰은 항상 같은 값(hex 64자)을 반환하므로 DB에서 동등 비교가 가능합니다.
+ * - Mac과 작업 버퍼는 {@link CryptoObjectPool}에서 재사용하며, 결과 문자열 외 추가 할당이 없습니다. (ASCII 토큰 기준)
+ * </p>
+ */
+@Component
+public class RefreshTokenHasher {
+
+    private static final String KDF_ALGORITHM = "HKDF-SHA256";
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final int KEY_LENGTH_BYTES = 32;
+    private static final byte[] KEY_DERIVATION_SALT = "gyun-refresh-token".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] KEY_DERIVATION_INFO = "refresh-token-hmac-sha256-key".getBytes(StandardCharsets.UTF_8);
+    private static final int MAC_LENGTH = 32;
+    private static final int MAX_IDLE = 64;
+
+    private final SecretKeySpec macKey;
+    private final CryptoObjectPool<MacContext> contextPool;
+
+    public RefreshTokenHasher(final JwtProperties jwtProperties) {
+        this.macKey = new SecretKeySpec(deriveKeyMaterial(jwtProperties.secret()), MAC_ALGORITHM);
+        this.contextPool = CryptoObjectPool.of(() -> new MacContext(initMac(macKey)), MAX_IDLE);
+        // 키/알고리즘 오류는 첫 요청이 아닌 기동 시점에 드러나도록 미리 하나 만들어 둡니다.
+        contextPool.release(contextPool.acquire());
+    }
+
+    private static byte[] deriveKeyMaterial(final String secret) {
+        if (!StringUtils.hasText(secret)) {
+            throw new IllegalStateException("리프레시 토큰 해시 키 시드(secret)가 비어 있습니다.");
+        }
+
+        try {
+            final HKDFParameterSpec parameters = HKDFParameterSpec.ofExtract()
+                    .addIKM(secret.getBytes(StandardCharsets.UTF_8))
+                    .addSalt(KEY_DERIVATION_SALT)
+                    .thenExpand(KEY_DERIVATION_INFO, KEY_LENGTH_BYTES);
+
+            return KDF.getInstance(KDF_ALGORITHM).deriveData(parameters);
+        } catch (final GeneralSecurityException e) {
+            throw new IllegalStateException("리프레시 토큰 해시 키 생성에 실패했습니다.", e);
+        }
+    }
+
+    private static Mac initMac(final SecretKeySpec key) {
+        try {
+            final Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (final GeneralSecurityException e) {
+            throw new IllegalStateException("리프레시 토큰 해시 초기화에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 리프레시 토큰의 키 해시(hex)를 반환합니다. 비어 있으면 빈 문자열을 반환합니다.
+     */
+    public String hash(final String refreshToken) {
+        if (!StringUtils.hasText(refreshToken)) {
+            return "";
+        }
+
+        final MacContext context = contextPool.acquire();
+        final int asciiLength = CryptoEncoding.copyAscii(refreshToken, context.input(refreshToken.length()));
+        if (asciiLength >= 0) {
+            context.mac.update(context.input, 0, asciiLength);
+        } else {
+            context.mac.update(refreshToken.getBytes(StandardCharsets.UTF_8));
+        }
+        try {
+            context.mac.doFinal(context.output, 0);
+        } catch (final GeneralSecurityException e) {
+            throw new IllegalStateException("리프레시 토큰 해시 계산에 실패했습니다.", e);
+        }
+        CryptoEncoding.encodeHex(context.output, 0, MAC_LENGTH, context.hex, 0);
+        final String hash = CryptoEncoding.asciiString(context.hex, 0, context.hex.length);
+        contextPool.release(context);
+        return hash;
+    }
+
+    private static final class MacContext {
+
+        private final Mac mac;
+        private final byte[] output = new byte[MAC_LENGTH];
+        private final byte[] hex = new byte[CryptoEncoding.hexLength(MAC_LENGTH)];
+        private byte[] input = new byte[512];
+
+        private MacContext(final Mac mac) {
+            this.mac = mac;
+        }
+
+        private byte[] input(final int length) {
+            if (input.length < length) {
+                input = new byte[Math.max(length, input.length * 2)];
+            }
+            return input;
+        }
+    }
+}
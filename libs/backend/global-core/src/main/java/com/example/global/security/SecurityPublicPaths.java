@@ -17,7 +17,9 @@ public final class SecurityPublicPaths {
             "/sw.js",
             "/",
             "/favicon.ico",
-            "/favicon.svg"
+            "/favicon.svg",
+            // JWT 검증 공개키(JWKS) - 엣지 프록시가 인증 없이 조회합니다.
+            "/.well-known/jwks.json"
     };
 
     public static final String[] PUBLIC_API_URLS = {
@@ -1,6 +1,8 @@
 package com.example.global.security.blacklist;
 
 import com.example.global.entity.BaseTimeEntity;
+import com.example.global.id.UuidV7;
+import com.example.global.security.blacklist.support.BlacklistedTokenDigestConverter;
 import com.example.global.security.jwt.JwtTokenType;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -11,31 +13,93 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
+@Table(
+        name = "blacklisted_token",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_blacklisted_token_token_hash", columnNames = {"token_hash", "expires_at"}),
+                @UniqueConstraint(name = "uk_blacklisted_token_token_digest", columnNames = {"token_digest", "expires_at"}),
+                @UniqueConstraint(name = "uk_blacklisted_token_token_id", columnNames = {"token_id", "expires_at"})
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class BlacklistedToken extends BaseTimeEntity {
 
+    /**
+     * [중요] blacklisted_token은 expires_at 일 단위 파티션 테이블로 운영할 수 있습니다.
+     * - 전환 절차는 docs/db/blacklisted_token_partitioning.sql 참고
+     * - 파티션 테이블의 유니크 제약은 파티션 키를 포함해야 하므로 (token_hash, expires_at) / (token_id, expires_at)로 정의합니다.
+     *   같은 토큰은 항상 같은 exp를 가지므로 토큰 단위 전역 유일성은 그대로 유지됩니다.
+     * - 엔티티는 부모 테이블만 매핑하며, 파티션 생성/삭제는 BlacklistedTokenPartitionManager가 담당합니다.
+     */
+
+    /**
+     * 시간 순서 UUIDv7 - 새 행이 PK 인덱스 오른쪽 끝에 추가되어 랜덤 UUID 대비 페이지 분할이 줄어듭니다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "blacklisted_token_id", columnDefinition = "uuid", comment = "블랙리스트 토큰 ID")
     private UUID id;
 
-    @Column(name = "token_hash", length = 64, nullable = false, unique = true, comment = "폐기된 토큰 해시(SHA-256)")
+    /**
+     * [중요] JTI 모드에서는 token_hash 없이 token_id만 저장합니다.
+     * - 전환 절차는 docs/db/blacklisted_token_jti_migration.sql 참고
+     */
+    @Column(name = "token_hash", length = 64, comment = "폐기된 토큰 해시(SHA-256)")
     private String tokenHash;
 
+    /**
+     * [중요] token_hash와 같은 SHA-256 값을 32바이트(bytea)로 저장합니다. 애플리케이션에서는 hex 문자열로 다룹니다.
+     * - 저장/조회 여부는 app.jwt.blacklist-hash-storage(HEX/DUAL/BINARY)를 따릅니다.
+     * - 전환/백필 절차와 HASH 인덱스 옵션은 docs/db/blacklisted_token_digest_migration.sql 참고
+     */
+    @Convert(converter = BlacklistedTokenDigestConverter.class)
+    @Column(name = "token_digest", columnDefinition = "bytea", comment = "폐기된 토큰 해시(SHA-256, 32바이트)")
+    private String tokenDigest;
+
+    @Column(name = "token_id", columnDefinition = "uuid", comment = "폐기된 토큰 jti")
+    private UUID tokenId;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20, comment = "토큰 타입")
     private JwtTokenType tokenType;
 
-    @Column(nullable = false, comment = "토큰 만료 시각")
+    @Column(name = "expires_at", nullable = false, comment = "토큰 만료 시각 (파티션 키)")
     private LocalDateTime expiresAt;
 
     @Column(length = 100, comment = "토큰 소유자")
     private String subject;
 
-    public static BlacklistedToken of(final String tokenHash, final JwtTokenType tokenType, final LocalDateTime expiresAt, final String subject) {
+    /**
+     * [중요] 등록 트랜잭션 xid(xid8)를 DB 기본값으로 기록합니다. 애플리케이션은 값을 쓰지 않습니다.
+     * - 노드 로컬 인덱스 증분 폴링은 created_at 대신 이 값과 커밋 완료 경계(pg_snapshot_xmin)로 조회해
+     *   늦게 커밋된 행이나 노드 간 시계 차이로 누락되지 않습니다.
+     * - 전환 절차는 docs/db/blacklisted_token_index_xid_sync.sql 참고
+     */
+    @Column(
+            name = "created_xid",
+            columnDefinition = "xid8 default pg_current_xact_id()",
+            insertable = false,
+            updatable = false,
+            comment = "등록 트랜잭션 xid (증분 폴링 기준)"
+    )
+    private String createdXid;
+
+    public static BlacklistedToken of(
+            final String tokenHash,
+            final String tokenDigest,
+            final UUID tokenId,
+            final JwtTokenType tokenType,
+            final LocalDateTime expiresAt,
+            final String subject
+    ) {
+        if (tokenHash == null && tokenDigest == null && tokenId == null) {
+            throw new IllegalArgumentException("tokenHash, tokenDigest, tokenId 중 하나는 필수입니다.");
+        }
         final BlacklistedToken blacklistedToken = new BlacklistedToken();
         blacklistedToken.tokenHash = tokenHash;
+        blacklistedToken.tokenDigest = tokenDigest;
+        blacklistedToken.tokenId = tokenId;
         blacklistedToken.tokenType = tokenType;
         blacklistedToken.expiresAt = expiresAt;
         blacklistedToken.subject = subject;
@@ -0,0 +1,14 @@
+package com.example.global.security.blacklist;
+
+/**
+ * 블랙리스트 만료 토큰 정리 방식
+ *
+ * <p>
+ * - DELETE: expires_at 조건 단일 DELETE (파티션 전환 전 테이블)
+ * - PARTITION_DROP: 모든 행이 만료된 일 단위 파티션을 DETACH 후 DROP
+ * </p>
+ */
+public enum BlacklistedTokenCleanupMode {
+    DELETE,
+    PARTITION_DROP
+}
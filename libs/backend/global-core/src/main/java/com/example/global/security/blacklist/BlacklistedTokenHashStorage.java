@@ -0,0 +1,32 @@
+package com.example.global.security.blacklist;
+
+/**
+ * 블랙리스트 토큰 해시 저장 형식
+ *
+ * <p>
+ * - HEX: SHA-256 hex 64자를 token_hash(varchar)에 저장/조회 (기존 방식)
+ * - DUAL: token_hash와 token_digest(bytea 32바이트)를 함께 저장하고, 조회는 token_hash로 수행 (전환 기간)
+ * - BINARY: token_digest로만 저장/조회
+ * </p>
+ * <p>
+ * 전환 순서: HEX → DUAL 배포 → 백필(BlacklistedTokenDigestBackfillCommandService) 완료 → BINARY 전환
+ * (키 방식이 JTI면 해시를 저장하지 않으므로 이 설정은 영향이 없습니다.)
+ * </p>
+ */
+public enum BlacklistedTokenHashStorage {
+    HEX,
+    DUAL,
+    BINARY;
+
+    public boolean writesHex() {
+        return this != BINARY;
+    }
+
+    public boolean writesDigest() {
+        return this != HEX;
+    }
+
+    public boolean readsDigest() {
+        return this == BINARY;
+    }
+}
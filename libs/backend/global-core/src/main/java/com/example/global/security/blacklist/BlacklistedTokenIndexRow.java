@@ -0,0 +1,18 @@
+package com.example.global.security.blacklist;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 노드 로컬 블랙리스트 인덱스 증분 조회(네이티브 쿼리) Projection
+ */
+public interface BlacklistedTokenIndexRow {
+
+    String getTokenHash();
+
+    UUID getTokenId();
+
+    LocalDateTime getExpiresAt();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,36 @@
+package com.example.global.security.blacklist;
+
+/**
+ * 블랙리스트 키 방식
+ *
+ * <p>
+ * - HASH: 토큰 전체의 SHA-256 해시(token_hash)로 등록/조회 (기존 방식)
+ * - DUAL: token_hash와 jti(token_id)를 함께 등록하고, 조회는 token_hash로 수행 (전환 기간)
+ * - JTI: jti(token_id)로만 등록/조회하며, 서명·만료 검증을 통과한 토큰만 조회
+ * </p>
+ * <p>
+ * 전환 순서: HASH → DUAL 배포 → 리프레시 토큰 TTL 경과(해시 전용 행 만료) → JTI 전환
+ * (해시에서 jti를 역산할 수 없으므로 기존 행은 백필하지 않고 만료로 자연 정리합니다.)
+ * </p>
+ */
+public enum BlacklistedTokenKeyMode {
+    HASH,
+    DUAL,
+    JTI;
+
+    public boolean writesTokenHash() {
+        return this != JTI;
+    }
+
+    public boolean writesTokenId() {
+        return this != HASH;
+    }
+
+    public boolean readsTokenHash() {
+        return this != JTI;
+    }
+
+    public boolean readsTokenId() {
+        return this == JTI;
+    }
+}
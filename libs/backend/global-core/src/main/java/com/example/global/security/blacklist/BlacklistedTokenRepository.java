@@ -1,13 +1,24 @@
 package com.example.global.security.blacklist;
 
 import com.example.global.security.blacklist.payload.dto.BlacklistedTokenCleanupCommand;
+import com.example.global.security.blacklist.payload.dto.BlacklistedTokenDigestBackfillCommand;
+import com.example.global.security.blacklist.payload.dto.BlacklistedTokenDigestQuery;
 import com.example.global.security.blacklist.payload.dto.BlacklistedTokenHashQuery;
+import com.example.global.security.blacklist.payload.dto.BlacklistedTokenIdQuery;
+import com.example.global.security.blacklist.payload.dto.BlacklistedTokenIndexEntry;
+import com.example.global.security.blacklist.payload.dto.BlacklistedTokenIndexQuery;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface BlacklistedTokenRepository extends JpaRepository<BlacklistedToken, UUID> {
 
@@ -18,6 +29,118 @@ public interface BlacklistedTokenRepository extends JpaRepository<BlacklistedTok
             """)
     boolean existsByTokenHash(@Param("query") BlacklistedTokenHashQuery query);
 
+    /**
+     * BINARY 저장 형식 전용 조회입니다. byte[]를 그대로 bytea 파라미터로 바인딩하기 위해 네이티브 쿼리를 사용합니다.
+     */
+    @Query(value = """
+            select exists(select 1 from blacklisted_token bt where bt.token_digest = :#{#query.tokenDigest})
+            """, nativeQuery = true)
+    boolean existsByTokenDigest(@Param("query") BlacklistedTokenDigestQuery query);
+
+    @Query("""
+            select case when count(bt) > 0 then true else false end
+            from BlacklistedToken bt
+            where bt.tokenId = :#{#query.tokenId}
+            """)
+    boolean existsByTokenId(@Param("query") BlacklistedTokenIdQuery query);
+
+    /**
+     * 현재 스냅샷의 커밋 완료 경계(xmin)를 반환합니다.
+     * 이 값보다 작은 xid의 트랜잭션은 모두 종료되었으므로, 이후 조회에서 커밋된 행이 빠짐없이 보입니다.
+     */
+    @Query(value = "select cast(pg_snapshot_xmin(pg_current_snapshot()) as text)", nativeQuery = true)
+    String findCommittedXidHorizon();
+
+    /**
+     * 전체 적재용 스트리밍 조회입니다. (트랜잭션 안에서 호출하고 반드시 close)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000")
+    })
+    @Query("""
+            select new com.example.global.security.blacklist.payload.dto.BlacklistedTokenIndexEntry(
+                bt.tokenHash, bt.tokenId, bt.expiresAt, bt.createdAt
+            )
+            from BlacklistedToken bt
+            where bt.expiresAt > :#{#query.notExpiredAt}
+            """)
+    Stream<BlacklistedTokenIndexEntry> streamActiveIndexEntries(@Param("query") BlacklistedTokenIndexQuery query);
+
+    /**
+     * BINARY 저장 형식 전용 전체 적재입니다. token_digest는 변환기를 거쳐 hex 문자열로 반환됩니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000")
+    })
+    @Query("""
+            select new com.example.global.security.blacklist.payload.dto.BlacklistedTokenIndexEntry(
+                bt.tokenDigest, bt.tokenId, bt.expiresAt, bt.createdAt
+            )
+            from BlacklistedToken bt
+            where bt.expiresAt > :#{#query.notExpiredAt}
+            """)
+    Stream<BlacklistedTokenIndexEntry> streamActiveDigestIndexEntries(@Param("query") BlacklistedTokenIndexQuery query);
+
+    /**
+     * 증분 조회: [fromXid, toXid) 트랜잭션이 등록한 항목입니다. xid8 비교는 네이티브 쿼리로 수행합니다.
+     */
+    @Query(value = """
+            select bt.token_hash as "tokenHash",
+                   bt.token_id   as "tokenId",
+                   bt.expires_at as "expiresAt",
+                   bt.created_at as "createdAt"
+            from blacklisted_token bt
+            where bt.created_xid >= cast(cast(:#{#query.fromXid} as text) as xid8)
+              and bt.created_xid < cast(cast(:#{#query.toXid} as text) as xid8)
+              and bt.expires_at > :#{#query.notExpiredAt}
+            """, nativeQuery = true)
+    List<BlacklistedTokenIndexRow> findIndexRowsCommittedBetween(@Param("query") BlacklistedTokenIndexQuery query);
+
+    /**
+     * BINARY 저장 형식 전용 증분 조회입니다. 인덱스 키와 같은 hex 문자열로 변환해 반환합니다.
+     */
+    @Query(value = """
+            select encode(bt.token_digest, 'hex') as "tokenHash",
+                   bt.token_id                    as "tokenId",
+                   bt.expires_at                  as "expiresAt",
+                   bt.created_at                  as "createdAt"
+            from blacklisted_token bt
+            where bt.created_xid >= cast(cast(:#{#query.fromXid} as text) as xid8)
+              and bt.created_xid < cast(cast(:#{#query.toXid} as text) as xid8)
+              and bt.expires_at > :#{#query.notExpiredAt}
+            """, nativeQuery = true)
+    List<BlacklistedTokenIndexRow> findDigestIndexRowsCommittedBetween(@Param("query") BlacklistedTokenIndexQuery query);
+
+    /**
+     * token_hash만 있는 행 일부에 token_digest를 채우고 갱신 행 수를 반환합니다.
+     * <p>
+     * - 배치마다 별도 트랜잭션으로 짧게 커밋해 행 잠금과 WAL 버스트를 제한합니다.
+     * - SKIP LOCKED로 여러 노드가 동시에 실행해도 같은 행을 두고 대기하지 않습니다.
+     * </p>
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            update blacklisted_token
+            set token_digest = decode(token_hash, 'hex')
+            where blacklisted_token_id in (
+                select bt.blacklisted_token_id
+                from blacklisted_token bt
+                where bt.token_digest is null
+                  and bt.token_hash is not null
+                  and bt.expires_at > :#{#command.notExpiredAt}
+                limit :#{#command.batchSize}
+                for update skip locked
+            )
+            """, nativeQuery = true)
+    int backfillTokenDigests(@Param("command") BlacklistedTokenDigestBackfillCommand command);
+
+    /**
+     * 파티션 전환 전 테이블 전용 정리입니다. 파티션 테이블은 BlacklistedTokenPartitionManager로 파티션 단위 삭제합니다.
+     */
+    @Transactional
     @Modifying
     @Query("""
             delete from BlacklistedToken bt
@@ -0,0 +1,34 @@
+package com.example.global.security.blacklist.payload.dto;
+
+import com.example.global.security.blacklist.BlacklistedTokenCleanupMode;
+
+import java.time.LocalDateTime;
+
+/**
+ * 블랙리스트 만료 토큰 정리 결과 DTO
+ *
+ * <p>
+ * - removedCount: DELETE는 삭제 행 수, PARTITION_DROP은 제거된 파티션의 추정 행 수(pg_class.reltuples 합)
+ * - walBytes: 정리 전후 WAL 위치 차이 (측정 실패 시 -1, 동시 쓰기분이 포함된 근사값)
+ * </p>
+ */
+public record BlacklistedTokenCleanupResult(
+        BlacklistedTokenCleanupMode mode,
+        LocalDateTime cutoffAt,
+        long removedCount,
+        int droppedPartitionCount,
+        long walBytes,
+        long elapsedMs
+) {
+
+    public static BlacklistedTokenCleanupResult of(
+            final BlacklistedTokenCleanupMode mode,
+            final LocalDateTime cutoffAt,
+            final long removedCount,
+            final int droppedPartitionCount,
+            final long walBytes,
+            final long elapsedMs
+    ) {
+        return new BlacklistedTokenCleanupResult(mode, cutoffAt, removedCount, droppedPartitionCount, walBytes, elapsedMs);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.global.security.blacklist.payload.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 블랙리스트 토큰 다이제스트 백필 배치용 Command DTO
+ *
+ * <p>
+ * - notExpiredAt 이전에 만료된 행은 곧 정리되므로 백필하지 않습니다.
+ * </p>
+ */
+public record BlacklistedTokenDigestBackfillCommand(
+        LocalDateTime notExpiredAt,
+        int batchSize
+) {
+
+    public static BlacklistedTokenDigestBackfillCommand of(final LocalDateTime notExpiredAt, final int batchSize) {
+        if (notExpiredAt == null) {
+            throw new IllegalArgumentException("notExpiredAt은 필수입니다.");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize는 1 이상이어야 합니다.");
+        }
+        return new BlacklistedTokenDigestBackfillCommand(notExpiredAt, batchSize);
+    }
+}
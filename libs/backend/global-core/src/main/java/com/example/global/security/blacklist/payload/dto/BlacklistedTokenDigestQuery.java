@@ -0,0 +1,16 @@
+package com.example.global.security.blacklist.payload.dto;
+
+/**
+ * 블랙리스트 토큰 다이제스트(bytea) 조회용 Query DTO
+ */
+public record BlacklistedTokenDigestQuery(
+        byte[] tokenDigest
+) {
+
+    public static BlacklistedTokenDigestQuery of(final byte[] tokenDigest) {
+        if (tokenDigest == null || tokenDigest.length == 0) {
+            throw new IllegalArgumentException("tokenDigest는 필수입니다.");
+        }
+        return new BlacklistedTokenDigestQuery(tokenDigest);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.global.security.blacklist.payload.dto;
+
+import java.util.UUID;
+
+/**
+ * 블랙리스트 토큰 jti 조회용 Query DTO
+ */
+public record BlacklistedTokenIdQuery(
+        UUID tokenId
+) {
+
+    public static BlacklistedTokenIdQuery of(final UUID tokenId) {
+        if (tokenId == null) {
+            throw new IllegalArgumentException("tokenId는 필수입니다.");
+        }
+        return new BlacklistedTokenIdQuery(tokenId);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.global.security.blacklist.payload.dto;
+
+import java.util.List;
+
+/**
+ * 노드 로컬 블랙리스트 인덱스 증분 조회 결과 DTO
+ *
+ * <p>
+ * - syncedXid: 이번 조회의 커밋 완료 경계 xid이며, 다음 증분 조회의 하한으로 사용합니다.
+ * </p>
+ */
+public record BlacklistedTokenIndexDelta(
+        List<BlacklistedTokenIndexEntry> entries,
+        long syncedXid
+) {
+
+    public static BlacklistedTokenIndexDelta of(final List<BlacklistedTokenIndexEntry> entries, final long syncedXid) {
+        return new BlacklistedTokenIndexDelta(entries == null ? List.of() : List.copyOf(entries), syncedXid);
+    }
+}
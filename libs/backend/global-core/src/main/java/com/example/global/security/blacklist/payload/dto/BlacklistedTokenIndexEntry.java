@@ -0,0 +1,24 @@
+package com.example.global.security.blacklist.payload.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 노드 로컬 블랙리스트 인덱스 적재용 조회 결과 DTO
+ */
+public record BlacklistedTokenIndexEntry(
+        String tokenHash,
+        UUID tokenId,
+        LocalDateTime expiresAt,
+        LocalDateTime createdAt
+) {
+
+    public static BlacklistedTokenIndexEntry of(
+            final String tokenHash,
+            final UUID tokenId,
+            final LocalDateTime expiresAt,
+            final LocalDateTime createdAt
+    ) {
+        return new BlacklistedTokenIndexEntry(tokenHash, tokenId, expiresAt, createdAt);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.global.security.blacklist.payload.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 노드 로컬 블랙리스트 인덱스 적재용 Query DTO
+ *
+ * <p>
+ * - fromXid: 이 xid 이상(포함)인 트랜잭션이 등록한 항목만 조회 (null이면 전체 적재)
+ * - toXid: 이 xid 미만인 트랜잭션이 등록한 항목만 조회 (조회 직전 커밋 완료 경계, 전체 적재면 null)
+ * - notExpiredAt: 이 시각 이후에 만료되는 항목만 조회
+ * </p>
+ */
+public record BlacklistedTokenIndexQuery(
+        Long fromXid,
+        Long toXid,
+        LocalDateTime notExpiredAt
+) {
+
+    public static BlacklistedTokenIndexQuery all(final LocalDateTime notExpiredAt) {
+        if (notExpiredAt == null) {
+            throw new IllegalArgumentException("notExpiredAt은 필수입니다.");
+        }
+        return new BlacklistedTokenIndexQuery(null, null, notExpiredAt);
+    }
+
+    public static BlacklistedTokenIndexQuery delta(final Long fromXid, final LocalDateTime notExpiredAt) {
+        if (fromXid == null || notExpiredAt == null) {
+            throw new IllegalArgumentException("fromXid, notExpiredAt은 필수입니다.");
+        }
+        return new BlacklistedTokenIndexQuery(fromXid, null, notExpiredAt);
+    }
+
+    /**
+     * 상한(커밋 완료 경계)을 지정한 증분 조회 조건을 반환합니다.
+     */
+    public BlacklistedTokenIndexQuery until(final long toXid) {
+        return new BlacklistedTokenIndexQuery(fromXid, toXid, notExpiredAt);
+    }
+
+    public boolean isFullLoad() {
+        return fromXid == null;
+    }
+}
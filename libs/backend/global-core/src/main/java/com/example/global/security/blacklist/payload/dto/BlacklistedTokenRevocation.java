@@ -0,0 +1,54 @@
+package com.example.global.security.blacklist.payload.dto;
+
+import com.example.global.security.jwt.JwtTokenType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 지연 저장(write-behind) 대기 중인 토큰 폐기 DTO
+ *
+ * <p>
+ * - tokenHash/tokenId는 키 방식(HASH/DUAL/JTI)에 따라 하나만 있을 수 있습니다.
+ * - attempts: 저장 실패 후 재시도한 횟수
+ * </p>
+ */
+public record BlacklistedTokenRevocation(
+        String tokenHash,
+        UUID tokenId,
+        JwtTokenType tokenType,
+        LocalDateTime expiresAt,
+        String subject,
+        int attempts
+) {
+
+    public static BlacklistedTokenRevocation of(
+            final String tokenHash,
+            final UUID tokenId,
+            final JwtTokenType tokenType,
+            final LocalDateTime expiresAt,
+            final String subject
+    ) {
+        return new BlacklistedTokenRevocation(tokenHash, tokenId, tokenType, expiresAt, subject, 0);
+    }
+
+    public BlacklistedTokenRevocation nextAttempt() {
+        return new BlacklistedTokenRevocation(tokenHash, tokenId, tokenType, expiresAt, subject, attempts + 1);
+    }
+
+    /**
+     * 노드 로컬 판정에 쓰는 키 (토큰 해시 hex, jti UUID 문자열)
+     */
+    public List<String> keys() {
+        final List<String> keys = new ArrayList<>(2);
+        if (tokenHash != null) {
+            keys.add(tokenHash);
+        }
+        if (tokenId != null) {
+            keys.add(tokenId.toString());
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.global.security.blacklist.payload.dto;
+
+/**
+ * 토큰 폐기 지연 저장 통계 DTO
+ *
+ * <p>
+ * - queueDepth: 저장 대기 중인 폐기 수
+ * - pendingKeyCount: 저장 전 노드 로컬에서 차단 중인 키 수
+ * - fallbackCount: 대기열이 가득 차 요청 트랜잭션에서 바로 저장한 수
+ * - droppedCount: 재시도 한도를 넘겨 저장을 포기한 수 (로컬 차단은 만료까지 유지)
+ * </p>
+ */
+public record BlacklistedTokenWriteBehindStats(
+        int queueDepth,
+        int pendingKeyCount,
+        long enqueuedCount,
+        long persistedCount,
+        long fallbackCount,
+        long retriedCount,
+        long droppedCount
+) {
+
+    public static BlacklistedTokenWriteBehindStats of(
+            final int queueDepth,
+            final int pendingKeyCount,
+            final long enqueuedCount,
+            final long persistedCount,
+            final long fallbackCount,
+            final long retriedCount,
+            final long droppedCount
+    ) {
+        return new BlacklistedTokenWriteBehindStats(
+                queueDepth, pendingKeyCount, enqueuedCount, persistedCount, fallbackCount, retriedCount, droppedCount
+        );
+    }
+}
@@ -1,29 +1,103 @@
 package com.example.global.security.blacklist.service.command;
 
+import com.example.global.security.blacklist.BlacklistedTokenCleanupMode;
 import com.example.global.security.blacklist.BlacklistedTokenRepository;
 import com.example.global.security.blacklist.payload.dto.BlacklistedTokenCleanupCommand;
+import com.example.global.security.blacklist.payload.dto.BlacklistedTokenCleanupResult;
 import com.example.global.security.blacklist.support.BlacklistedTokenCleanupLogWriter;
+import com.example.global.security.blacklist.support.BlacklistedTokenPartitionManager;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.List;
 
+/**
+ * 블랙리스트 만료 토큰 정리
+ *
+ * <p>
+ * - 파티션 테이블이면 모든 행이 만료된 일 단위 파티션(오늘 이전)을 DETACH CONCURRENTLY/DROP합니다.
+ *   행 단위 DELETE가 없어 WAL/인덱스 팽창이 거의 없고, 분리 중에도 부모 테이블 조회/INSERT는 막히지 않습니다.
+ * - 파티션 전환 전이면 기존 단일 DELETE로 정리합니다.
+ * - 파티션별로 따로 실행해, 잠금 획득 실패(lock_timeout) 등으로 한 파티션이 실패해도 나머지는 계속 정리합니다.
+ *   중단된 분리는 다음 정리에서 마무리(FINALIZE)됩니다.
+ * </p>
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class BlacklistedTokenCleanupCommandService {
 
+    private static final long UNKNOWN_WAL_BYTES = -1L;
+
     private final BlacklistedTokenRepository blacklistedTokenRepository;
+    private final BlacklistedTokenPartitionManager blacklistedTokenPartitionManager;
     private final BlacklistedTokenCleanupLogWriter cleanupLogWriter;
 
-    @Transactional
-    public void cleanupExpiredTokens() {
+    public BlacklistedTokenCleanupResult cleanupExpiredTokens() {
         final long startedAt = System.currentTimeMillis();
         final LocalDateTime now = LocalDateTime.now(ZoneId.systemDefault());
-        final long deletedCount = blacklistedTokenRepository.deleteExpiredTokens(BlacklistedTokenCleanupCommand.of(now));
+        final String walStartLsn = readWalInsertLsn();
+
+        final BlacklistedTokenCleanupMode mode;
+        final long removedCount;
+        int droppedPartitionCount = 0;
+        if (blacklistedTokenPartitionManager.isPartitioned()) {
+            mode = BlacklistedTokenCleanupMode.PARTITION_DROP;
+            long estimatedRows = 0L;
+            for (LocalDate day : findExpiredPartitionDays(now.toLocalDate())) {
+                try {
+                    estimatedRows += blacklistedTokenPartitionManager.detachAndDropPartition(day);
+                    droppedPartitionCount++;
+                } catch (RuntimeException e) {
+                    log.warn("[BLACKLIST_CLEANUP] 파티션 정리 실패: day={}, exceptionName={}",
+                            day, e.getClass().getSimpleName(), e);
+                }
+            }
+            removedCount = estimatedRows;
+        } else {
+            mode = BlacklistedTokenCleanupMode.DELETE;
+            removedCount = blacklistedTokenRepository.deleteExpiredTokens(BlacklistedTokenCleanupCommand.of(now));
+        }
+
+        final long walBytes = measureWalBytes(walStartLsn);
         final long elapsedMs = Math.max(0, System.currentTimeMillis() - startedAt);
+        final BlacklistedTokenCleanupResult result = BlacklistedTokenCleanupResult.of(
+                mode, now, removedCount, droppedPartitionCount, walBytes, elapsedMs
+        );
+        cleanupLogWriter.logCleanup(result);
+        return result;
+    }
+
+    // 파티션 범위 상한(다음날 00:00)이 오늘 00:00 이하인 파티션만 모든 행이 만료된 상태입니다.
+    private List<LocalDate> findExpiredPartitionDays(final LocalDate today) {
+        return blacklistedTokenPartitionManager.findPartitionDays().stream()
+                .filter(day -> day.isBefore(today))
+                .sorted()
+                .toList();
+    }
+
+    private String readWalInsertLsn() {
+        try {
+            return blacklistedTokenPartitionManager.currentWalInsertLsn();
+        } catch (RuntimeException e) {
+            log.debug("[BLACKLIST_CLEANUP] WAL 위치 조회 실패: exceptionName={}", e.getClass().getSimpleName());
+            return null;
+        }
+    }
 
-        cleanupLogWriter.logCleanup(now, deletedCount, elapsedMs);
+    private long measureWalBytes(final String walStartLsn) {
+        if (walStartLsn == null) {
+            return UNKNOWN_WAL_BYTES;
+        }
+        try {
+            return blacklistedTokenPartitionManager.walBytesSince(walStartLsn);
+        } catch (RuntimeException e) {
+            log.debug("[BLACKLIST_CLEANUP] WAL 발생량 조회 실패: exceptionName={}", e.getClass().getSimpleName());
+            return UNKNOWN_WAL_BYTES;
+        }
     }
 }
@@ -0,0 +1,63 @@
+package com.example.global.security.blacklist.service.command;
+
+import com.example.global.security.blacklist.BlacklistedTokenRepository;
+import com.example.global.security.blacklist.payload.dto.BlacklistedTokenDigestBackfillCommand;
+import com.example.global.security.blacklist.support.BlacklistedTokenHashStoragePolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 블랙리스트 토큰 다이제스트(bytea) 온라인 백필
+ *
+ * <p>
+ * - DUAL/BINARY 저장 형식에서 token_hash만 있는 기존 행에 token_digest를 배치 단위로 채웁니다.
+ * - 서비스 레벨 트랜잭션을 열지 않고 배치마다 커밋하므로, 실행 중에도 등록/조회가 긴 잠금을 기다리지 않습니다.
+ * - 한 번 실행에 최대 배치 수를 제한해 스케줄 주기마다 조금씩 진행하며, 남은 행이 없으면 바로 종료합니다.
+ * </p>
+ */
+@Service
+public class BlacklistedTokenDigestBackfillCommandService {
+
+    private final BlacklistedTokenRepository blacklistedTokenRepository;
+    private final BlacklistedTokenHashStoragePolicy blacklistedTokenHashStoragePolicy;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public BlacklistedTokenDigestBackfillCommandService(
+            final BlacklistedTokenRepository blacklistedTokenRepository,
+            final BlacklistedTokenHashStoragePolicy blacklistedTokenHashStoragePolicy,
+            @Value("${app.jwt.blacklist-digest-backfill.batch-size:1000}") final int batchSize,
+            @Value("${app.jwt.blacklist-digest-backfill.max-batches-per-run:50}") final int maxBatchesPerRun
+    ) {
+        this.blacklistedTokenRepository = blacklistedTokenRepository;
+        this.blacklistedTokenHashStoragePolicy = blacklistedTokenHashStoragePolicy;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxBatchesPerRun = Math.max(1, maxBatchesPerRun);
+    }
+
+    /**
+     * 백필한 행 수를 반환합니다. HEX 저장 형식이면 아무 작업도 하지 않습니다.
+     */
+    public long backfill() {
+        if (!blacklistedTokenHashStoragePolicy.writesDigest()) {
+            return 0L;
+        }
+
+        final BlacklistedTokenDigestBackfillCommand command = BlacklistedTokenDigestBackfillCommand.of(
+                LocalDateTime.now(ZoneId.systemDefault()),
+                batchSize
+        );
+        long backfilledCount = 0L;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            final int updatedCount = blacklistedTokenRepository.backfillTokenDigests(command);
+            backfilledCount += updatedCount;
+            if (updatedCount < batchSize) {
+                break;
+            }
+        }
+        return backfilledCount;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.global.security.blacklist.service.command;
+
+import com.example.global.security.blacklist.support.BlacklistedTokenPartitionManager;
+import com.example.global.security.jwt.JwtProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 블랙리스트 일 단위 파티션 사전 생성
+ *
+ * <p>
+ * - 블랙리스트 등록 토큰의 expires_at은 최대 토큰 TTL 이내이므로, 오늘부터 (최대 TTL + 여유 일수)까지 파티션을 유지합니다.
+ * - 파티션이 없으면 INSERT가 실패하므로 기본(default) 파티션 대신 여유 일수를 두어 사전 생성합니다.
+ *   (default 파티션이 있으면 새 파티션 생성 시 default 전체 스캔이 필요해집니다.)
+ * - 파티션 테이블이 아니면 아무 작업도 하지 않습니다.
+ * </p>
+ */
+@Service
+public class BlacklistedTokenPartitionCommandService {
+
+    private final BlacklistedTokenPartitionManager blacklistedTokenPartitionManager;
+    private final long horizonDays;
+
+    public BlacklistedTokenPartitionCommandService(
+            final BlacklistedTokenPartitionManager blacklistedTokenPartitionManager,
+            final JwtProperties jwtProperties,
+            @Value("${app.jwt.blacklist-partition.precreate-margin-days:7}") final int marginDays
+    ) {
+        this.blacklistedTokenPartitionManager = blacklistedTokenPartitionManager;
+        this.horizonDays = ceilDays(maxTtl(jwtProperties)) + Math.max(1, marginDays);
+    }
+
+    /**
+     * 누락된 파티션을 생성하고 생성한 개수를 반환합니다.
+     */
+    public int ensurePartitions() {
+        if (!blacklistedTokenPartitionManager.isPartitioned()) {
+            return 0;
+        }
+
+        final LocalDate today = LocalDate.now(ZoneId.systemDefault());
+        final Set<LocalDate> existingDays = new HashSet<>(blacklistedTokenPartitionManager.findPartitionDays());
+        int createdCount = 0;
+        for (LocalDate day = today; !day.isAfter(today.plusDays(horizonDays)); day = day.plusDays(1)) {
+            if (existingDays.contains(day)) {
+                continue;
+            }
+            blacklistedTokenPartitionManager.createPartition(day);
+            createdCount++;
+        }
+        return createdCount;
+    }
+
+    private static Duration maxTtl(final JwtProperties jwtProperties) {
+        final Duration accessTtl = jwtProperties.accessTokenTtl() == null ? Duration.ZERO : jwtProperties.accessTokenTtl();
+        final Duration refreshTtl = jwtProperties.refreshTokenTtl() == null ? Duration.ZERO : jwtProperties.refreshTokenTtl();
+        return accessTtl.compareTo(refreshTtl) >= 0 ? accessTtl : refreshTtl;
+    }
+
+    private static long ceilDays(final Duration duration) {
+        final long days = duration.toDays();
+        return duration.equals(Duration.ofDays(days)) ? days : days + 1;
+    }
+}
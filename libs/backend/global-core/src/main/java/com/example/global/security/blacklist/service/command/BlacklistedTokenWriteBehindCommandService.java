@@ -0,0 +1,85 @@
+package com.example.global.security.blacklist.service.command;
+
+import com.example.global.security.blacklist.payload.dto.BlacklistedTokenRevocation;
+import com.example.global.security.blacklist.support.BlacklistedTokenBatchWriter;
+import com.example.global.security.blacklist.support.BlacklistedTokenWriteBehindQueue;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 토큰 폐기 지연 저장 처리
+ *
+ * <p>
+ * - 대기열을 batch-size 단위로 꺼내 배치마다 별도 트랜잭션(multi-row INSERT)으로 저장합니다.
+ * - 실패한 배치는 대기열 앞쪽으로 되돌리고 이번 주기를 끝냅니다. (다음 주기가 자연스러운 백오프)
+ * - 정상 종료 시 남은 폐기를 모두 저장합니다. 비정상 종료로 대기열이 유실되더라도
+ *   로그아웃은 같은 요청에서 토큰 버전을 동기 회전하므로 해당 토큰은 버전 검증에서 거부됩니다.
+ * </p>
+ * <p>
+ * 설정 (app.jwt.blacklist-write-behind.*)
+ * - batch-size: INSERT 한 문장의 최대 행 수 (기본 200)
+ * - max-batches-per-run: 한 주기에 저장할 최대 배치 수 (기본 20)
+ * </p>
+ */
+@Slf4j
+@Service
+public class BlacklistedTokenWriteBehindCommandService {
+
+    private final BlacklistedTokenWriteBehindQueue blacklistedTokenWriteBehindQueue;
+    private final BlacklistedTokenBatchWriter blacklistedTokenBatchWriter;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public BlacklistedTokenWriteBehindCommandService(
+            final BlacklistedTokenWriteBehindQueue blacklistedTokenWriteBehindQueue,
+            final BlacklistedTokenBatchWriter blacklistedTokenBatchWriter,
+            @Value("${app.jwt.blacklist-write-behind.batch-size:200}") final int batchSize,
+            @Value("${app.jwt.blacklist-write-behind.max-batches-per-run:20}") final int maxBatchesPerRun
+    ) {
+        this.blacklistedTokenWriteBehindQueue = blacklistedTokenWriteBehindQueue;
+        this.blacklistedTokenBatchWriter = blacklistedTokenBatchWriter;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxBatchesPerRun = Math.max(1, maxBatchesPerRun);
+    }
+
+    /**
+     * 대기 중인 폐기를 저장하고 저장한 건수를 반환합니다.
+     */
+    public int flush() {
+        int flushedCount = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            final List<BlacklistedTokenRevocation> revocations = blacklistedTokenWriteBehindQueue.poll(batchSize);
+            if (revocations.isEmpty()) {
+                break;
+            }
+            try {
+                blacklistedTokenBatchWriter.write(revocations);
+            } catch (RuntimeException e) {
+                blacklistedTokenWriteBehindQueue.retry(revocations);
+                throw e;
+            }
+            blacklistedTokenWriteBehindQueue.complete(revocations);
+            flushedCount += revocations.size();
+        }
+        blacklistedTokenWriteBehindQueue.removeExpiredPendingKeys();
+        return flushedCount;
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            while (!blacklistedTokenWriteBehindQueue.isEmpty()) {
+                if (flush() == 0) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("[BLACKLIST_WRITE_BEHIND] 종료 전 저장 실패: remaining={}, exceptionName={}",
+                    blacklistedTokenWriteBehindQueue.stats().queueDepth(), e.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -1,19 +1,36 @@
 package com.example.global.security.blacklist.service.query;
 
+import com.example.global.security.blacklist.BlacklistedTokenIndexRow;
+import com.example.global.security.blacklist.BlacklistedTokenRepository;
 import com.example.global.security.blacklist.payload.dto.BlacklistedTokenCheckQuery;
+import com.example.global.security.blacklist.payload.dto.BlacklistedTokenIndexDelta;
+import com.example.global.security.blacklist.payload.dto.BlacklistedTokenIndexEntry;
+import com.example.global.security.blacklist.payload.dto.BlacklistedTokenIndexQuery;
 import com.example.global.security.blacklist.support.BlacklistedTokenChecker;
+import com.example.global.security.blacklist.support.BlacklistedTokenHashStoragePolicy;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
 @Service
 @RequiredArgsConstructor
 public class BlacklistedTokenQueryService {
 
     private final BlacklistedTokenChecker blacklistedTokenChecker;
+    private final BlacklistedTokenRepository blacklistedTokenRepository;
+    private final BlacklistedTokenHashStoragePolicy blacklistedTokenHashStoragePolicy;
 
-    @Transactional(readOnly = true)
+    /**
+     * 매 요청마다 호출되는 경로이므로 서비스 레벨 트랜잭션을 열지 않습니다.
+     * <p>
+     * - 로컬 인덱스에서 판정되면 커넥션을 점유하지 않고, Bloom 양성일 때만 Repository 기본 읽기 트랜잭션으로 조회합니다.
+     * </p>
+     */
     public boolean isBlacklisted(final BlacklistedTokenCheckQuery query) {
         if (query == null || !StringUtils.hasText(query.token())) {
             return false;
@@ -21,4 +38,62 @@ public class BlacklistedTokenQueryService {
 
         return blacklistedTokenChecker.isBlacklisted(query.token());
     }
+
+    /**
+     * 전체 적재: 커밋 완료 경계를 먼저 읽은 뒤 만료되지 않은 전체 항목을 스트리밍으로 전달합니다.
+     * <p>
+     * - 경계보다 작은 xid의 행은 모두 이후 스냅샷에 보이므로, 반환한 경계부터 증분 폴링하면 누락이 없습니다.
+     * - 전체 행을 List로 모으지 않고 fetch size 단위로 읽어 consumer에 넘깁니다.
+     * </p>
+     *
+     * @return 다음 증분 폴링 하한(xid)
+     */
+    @Transactional(readOnly = true)
+    public long streamIndexEntries(
+            final BlacklistedTokenIndexQuery query,
+            final Consumer<BlacklistedTokenIndexEntry> consumer
+    ) {
+        final long syncedXid = findCommittedXidHorizon();
+
+        // 인덱스 키는 저장 형식과 무관하게 hex 문자열이며, 조회 컬럼만 저장 형식을 따릅니다.
+        try (Stream<BlacklistedTokenIndexEntry> entries = blacklistedTokenHashStoragePolicy.readsDigest()
+                ? blacklistedTokenRepository.streamActiveDigestIndexEntries(query)
+                : blacklistedTokenRepository.streamActiveIndexEntries(query)) {
+            entries.forEach(consumer);
+        }
+        return syncedXid;
+    }
+
+    /**
+     * 증분 조회: 직전 경계 이후 ~ 현재 커밋 완료 경계 이전 트랜잭션이 등록한 항목을 반환합니다.
+     * 커밋 시각/노드 시계와 무관하게, 경계 안의 트랜잭션은 모두 종료되었으므로 늦게 커밋된 행도 누락되지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    public BlacklistedTokenIndexDelta findIndexDelta(final BlacklistedTokenIndexQuery query) {
+        if (query == null || query.isFullLoad()) {
+            throw new IllegalArgumentException("증분 조회에는 fromXid가 필요합니다.");
+        }
+
+        final long syncedXid = findCommittedXidHorizon();
+        final BlacklistedTokenIndexQuery bounded = query.until(syncedXid);
+        final List<BlacklistedTokenIndexRow> rows = blacklistedTokenHashStoragePolicy.readsDigest()
+                ? blacklistedTokenRepository.findDigestIndexRowsCommittedBetween(bounded)
+                : blacklistedTokenRepository.findIndexRowsCommittedBetween(bounded);
+
+        return BlacklistedTokenIndexDelta.of(
+                rows.stream()
+                        .map(row -> BlacklistedTokenIndexEntry.of(
+                                row.getTokenHash(),
+                                row.getTokenId(),
+                                row.getExpiresAt(),
+                                row.getCreatedAt()
+                        ))
+                        .toList(),
+                syncedXid
+        );
+    }
+
+    private long findCommittedXidHorizon() {
+        return Long.parseLong(blacklistedTokenRepository.findCommittedXidHorizon());
+    }
 }
@@ -0,0 +1,119 @@
+package com.example.global.security.blacklist.support;
+
+import com.example.global.cache.invalidation.CacheInvalidationPublisher;
+import com.example.global.cache.invalidation.CacheInvalidationTopic;
+import com.example.global.id.UuidV7Generator;
+import com.example.global.security.blacklist.payload.dto.BlacklistedTokenIndexEntry;
+import com.example.global.security.blacklist.payload.dto.BlacklistedTokenRevocation;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 블랙리스트 토큰 multi-row INSERT 저장기
+ *
+ * <p>
+ * - 배치 전체를 INSERT ... VALUES (...), (...) ON CONFLICT DO NOTHING 한 문장으로 저장합니다.
+ *   이미 등록된 토큰은 유니크 제약에서 조용히 건너뛰므로 저장 전 중복 조회를 하지 않습니다.
+ * - 저장 형식(HEX/DUAL/BINARY)에 따라 token_hash / token_digest(decode hex)를 채우고, PK는 UUIDv7로 생성합니다.
+ * - 같은 트랜잭션에서 다른 노드용 무효화 이벤트를 발행하고, 커밋 후 현재 노드 인덱스에 반영합니다.
+ * - 호출자 트랜잭션이 있으면 참여합니다. (대기열 포화 시 요청 트랜잭션에서 동기 저장)
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class BlacklistedTokenBatchWriter {
+
+    private static final String INSERT_PREFIX = """
+            insert into blacklisted_token (
+                blacklisted_token_id, token_hash, token_digest, token_id, token_type, expires_at, subject,
+                created_at, created_by, modified_at, last_modified_by
+            ) values
+            """;
+    private static final String INSERT_SUFFIX = " on conflict do nothing";
+    private static final int PARAMETERS_PER_ROW = 11;
+
+    private final EntityManager entityManager;
+    private final BlacklistedTokenHashStoragePolicy blacklistedTokenHashStoragePolicy;
+    private final BlacklistedTokenIndex blacklistedTokenIndex;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    /**
+     * @return 실제로 추가된 행 수 (이미 등록된 토큰 제외)
+     */
+    @Transactional
+    public int write(final List<BlacklistedTokenRevocation> batch) {
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        final LocalDateTime now = LocalDateTime.now(ZoneId.systemDefault());
+        final Query query = entityManager.createNativeQuery(buildInsertSql(batch.size()));
+        int position = 1;
+        for (BlacklistedTokenRevocation revocation : batch) {
+            bindRow(query, position, revocation, now);
+            position += PARAMETERS_PER_ROW;
+        }
+        final int insertedCount = query.executeUpdate();
+
+        for (BlacklistedTokenRevocation revocation : batch) {
+            // 현재 노드는 커밋 직후 로컬 인덱스로, 다른 노드는 커밋 시점 NOTIFY로 반영합니다. (누락 시 증분 폴링으로 보정)
+            blacklistedTokenIndex.registerAfterCommit(BlacklistedTokenIndexEntry.of(
+                    revocation.tokenHash(), revocation.tokenId(), revocation.expiresAt(), now
+            ));
+            revocation.keys().forEach(key ->
+                    cacheInvalidationPublisher.publish(CacheInvalidationTopic.TOKEN_BLACKLISTED, key, revocation.expiresAt()));
+        }
+        return insertedCount;
+    }
+
+    private void bindRow(
+            final Query query,
+            final int position,
+            final BlacklistedTokenRevocation revocation,
+            final LocalDateTime now
+    ) {
+        final String tokenHash = revocation.tokenHash();
+        query.setParameter(position, UuidV7Generator.next().toString());
+        query.setParameter(position + 1, blacklistedTokenHashStoragePolicy.writesHex() ? tokenHash : null);
+        query.setParameter(position + 2, blacklistedTokenHashStoragePolicy.writesDigest() ? tokenHash : null);
+        query.setParameter(position + 3, revocation.tokenId() == null ? null : revocation.tokenId().toString());
+        query.setParameter(position + 4, revocation.tokenType().name());
+        query.setParameter(position + 5, revocation.expiresAt());
+        query.setParameter(position + 6, revocation.subject());
+        query.setParameter(position + 7, now);
+        query.setParameter(position + 8, revocation.subject());
+        query.setParameter(position + 9, now);
+        query.setParameter(position + 10, revocation.subject());
+    }
+
+    // null 바인딩 시 타입 추론이 실패하지 않도록 모든 문자열/UUID 파라미터에 명시적 캐스트를 둡니다.
+    private static String buildInsertSql(final int rowCount) {
+        final StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rowCount * 260).append(INSERT_PREFIX);
+        int position = 1;
+        for (int row = 0; row < rowCount; row++) {
+            if (row > 0) {
+                sql.append(",\n");
+            }
+            sql.append("(cast(?").append(position).append(" as uuid), ")
+                    .append("cast(?").append(position + 1).append(" as varchar), ")
+                    .append("decode(cast(?").append(position + 2).append(" as varchar), 'hex'), ")
+                    .append("cast(?").append(position + 3).append(" as uuid), ")
+                    .append("cast(?").append(position + 4).append(" as varchar), ")
+                    .append("cast(?").append(position + 5).append(" as timestamp), ")
+                    .append("cast(?").append(position + 6).append(" as varchar), ")
+                    .append("cast(?").append(position + 7).append(" as timestamp), ")
+                    .append("cast(?").append(position + 8).append(" as varchar), ")
+                    .append("cast(?").append(position + 9).append(" as timestamp), ")
+                    .append("cast(?").append(position + 10).append(" as varchar))");
+            position += PARAMETERS_PER_ROW;
+        }
+        return sql.append(INSERT_SUFFIX).toString();
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.global.security.blacklist.support;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 블랙리스트 키(토큰 해시/jti) 전용 Bloom 필터
+ *
+ * <p>
+ * - 키(토큰 해시 hex 또는 jti 문자열)를 64비트 FNV-1a + 믹싱 함수로 두 번 해시해 double hashing 합니다.
+ * - 비트 배열은 {@link AtomicLongArray}로 관리해 조회는 락 없이, 추가는 CAS로 처리합니다.
+ * - 삭제를 지원하지 않으므로 만료 항목 정리는 전체 재구성으로 처리합니다.
+ * </p>
+ */
+final class BlacklistedTokenBloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    private BlacklistedTokenBloomFilter(final long bitSize, final int hashCount) {
+        this.bits = new AtomicLongArray((int) ((bitSize + 63) >>> 6));
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * 예상 항목 수와 허용 오탐률로 비트 수(m)와 해시 수(k)를 계산해 생성합니다.
+     * <p>
+     * m = -n * ln(p) / (ln 2)^2, k = m / n * ln 2
+     * </p>
+     */
+    static BlacklistedTokenBloomFilter create(final int expectedInsertions, final double falsePositiveRate) {
+        final int n = Math.max(1, expectedInsertions);
+        final double p = Math.min(Math.max(falsePositiveRate, 1e-9), 0.5d);
+
+        final long bitSize = Math.max(64L, (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2))));
+        final int hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+        return new BlacklistedTokenBloomFilter(bitSize, hashCount);
+    }
+
+    void put(final String key) {
+        final long h1 = firstHash(key);
+        final long h2 = secondHash(h1);
+        for (int i = 0; i < hashCount; i++) {
+            setBit(Math.floorMod(h1 + i * h2, bitSize));
+        }
+    }
+
+    boolean mightContain(final String key) {
+        final long h1 = firstHash(key);
+        final long h2 = secondHash(h1);
+        for (int i = 0; i < hashCount; i++) {
+            if (!getBit(Math.floorMod(h1 + i * h2, bitSize))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void setBit(final long bitIndex) {
+        final int wordIndex = (int) (bitIndex >>> 6);
+        final long mask = 1L << bitIndex;
+        long current;
+        do {
+            current = bits.get(wordIndex);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(wordIndex, current, current | mask));
+    }
+
+    private boolean getBit(final long bitIndex) {
+        return (bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) != 0;
+    }
+
+    private static long firstHash(final String key) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    // h2가 짝수면 일부 비트만 순환할 수 있으므로 홀수로 보정합니다.
+    private static long secondHash(final long firstHash) {
+        return mix(firstHash ^ GOLDEN_RATIO) | 1L;
+    }
+
+    // MurmurHash3 fmix64
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
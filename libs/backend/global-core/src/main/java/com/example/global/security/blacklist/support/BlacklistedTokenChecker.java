@@ -2,16 +2,23 @@ package com.example.global.security.blacklist.support;
 
 import com.example.global.utils.TokenHashUtils;
 import com.example.global.security.blacklist.BlacklistedTokenRepository;
+import com.example.global.security.blacklist.payload.dto.BlacklistedTokenDigestQuery;
 import com.example.global.security.blacklist.payload.dto.BlacklistedTokenHashQuery;
+import com.example.global.security.blacklist.payload.dto.BlacklistedTokenIdQuery;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.util.UUID;
+
 @Component
 @RequiredArgsConstructor
 public class BlacklistedTokenChecker {
 
     private final BlacklistedTokenRepository blacklistedTokenRepository;
+    private final BlacklistedTokenIndex blacklistedTokenIndex;
+    private final BlacklistedTokenHashStoragePolicy blacklistedTokenHashStoragePolicy;
+    private final BlacklistedTokenWriteBehindQueue blacklistedTokenWriteBehindQueue;
 
     public boolean isBlacklisted(final String token) {
         if (!StringUtils.hasText(token)) {
@@ -19,6 +26,71 @@ public class BlacklistedTokenChecker {
         }
 
         final String tokenHash = TokenHashUtils.sha256(token);
+        final BlacklistedTokenLocalVerdict verdict = checkLocally(tokenHash);
+        if (verdict != BlacklistedTokenLocalVerdict.UNKNOWN) {
+            return verdict == BlacklistedTokenLocalVerdict.BLACKLISTED;
+        }
+
+        if (blacklistedTokenHashStoragePolicy.readsDigest()) {
+            return blacklistedTokenRepository.existsByTokenDigest(
+                    BlacklistedTokenDigestQuery.of(BlacklistedTokenHashStoragePolicy.toDigest(tokenHash))
+            );
+        }
         return blacklistedTokenRepository.existsByTokenHash(BlacklistedTokenHashQuery.of(tokenHash));
     }
+
+    /**
+     * 서명/만료 검증을 통과한 토큰의 jti로 블랙리스트 여부를 확인합니다.
+     * 토큰 해시 계산이 필요 없으며, jti가 UUID 형식이 아니면 서버 발급 토큰이 아니므로 차단합니다.
+     */
+    public boolean isBlacklistedByTokenId(final String tokenId) {
+        final UUID parsedTokenId = parseTokenId(tokenId);
+        if (parsedTokenId == null) {
+            return true;
+        }
+
+        final BlacklistedTokenLocalVerdict verdict = checkLocally(parsedTokenId.toString());
+        if (verdict != BlacklistedTokenLocalVerdict.UNKNOWN) {
+            return verdict == BlacklistedTokenLocalVerdict.BLACKLISTED;
+        }
+
+        return blacklistedTokenRepository.existsByTokenId(BlacklistedTokenIdQuery.of(parsedTokenId));
+    }
+
+    /**
+     * 로컬 인덱스만으로 판정합니다. UNKNOWN이면 호출자가 DB로 확인해야 합니다.
+     *
+     * @param key 토큰 해시(hex) 또는 정규화된 jti(UUID 문자열)
+     */
+    public BlacklistedTokenLocalVerdict checkLocally(final String key) {
+        // 저장 대기 중인 폐기는 인덱스 준비 여부와 무관하게 이 노드에서 즉시 차단합니다.
+        if (blacklistedTokenWriteBehindQueue.isPending(key)) {
+            return BlacklistedTokenLocalVerdict.BLACKLISTED;
+        }
+        if (!blacklistedTokenIndex.isReady()) {
+            return BlacklistedTokenLocalVerdict.UNKNOWN;
+        }
+        if (blacklistedTokenIndex.containsExact(key)) {
+            return BlacklistedTokenLocalVerdict.BLACKLISTED;
+        }
+        // Bloom 필터 음성이면 DB 조회 없이 블랙리스트 아님으로 확정합니다.
+        if (!blacklistedTokenIndex.mightContain(key)) {
+            return BlacklistedTokenLocalVerdict.NOT_BLACKLISTED;
+        }
+        return BlacklistedTokenLocalVerdict.UNKNOWN;
+    }
+
+    /**
+     * jti를 UUID로 해석합니다. 형식이 맞지 않으면 null을 반환합니다.
+     */
+    public static UUID parseTokenId(final String tokenId) {
+        if (!StringUtils.hasText(tokenId)) {
+            return null;
+        }
+        try {
+            return UUID.fromString(tokenId);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
 }
@@ -1,31 +1,39 @@
 package com.example.global.security.blacklist.support;
 
+import com.example.global.security.blacklist.payload.dto.BlacklistedTokenCleanupResult;
 import com.example.global.utils.TraceIdUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
-
 @Slf4j
 @Component
 public class BlacklistedTokenCleanupLogWriter {
 
-    public void logCleanup(final LocalDateTime cutoffAt, final long deletedCount, final long elapsedMs) {
+    /**
+     * 정리 방식(DELETE / PARTITION_DROP)별 소요 시간과 WAL 발생량을 함께 기록해 두 방식의 쓰기 증폭을 비교할 수 있도록 합니다.
+     */
+    public void logCleanup(final BlacklistedTokenCleanupResult result) {
         log.info(
                 """
                         [BLACKLIST_CLEANUP]
                         traceId={}
                         target={}
+                        mode={}
                         cutoffAt={}
-                        deletedCount={}
+                        removedCount={}
+                        droppedPartitionCount={}
+                        walBytes={}
                         elapsedMs={}
                         result={}
                         """.stripTrailing(),
                 TraceIdUtils.resolveTraceId(),
                 "BLACKLISTED_TOKEN",
-                cutoffAt,
-                deletedCount,
-                elapsedMs,
+                result.mode(),
+                result.cutoffAt(),
+                result.removedCount(),
+                result.droppedPartitionCount(),
+                result.walBytes(),
+                result.elapsedMs(),
                 "SUCCESS"
         );
     }
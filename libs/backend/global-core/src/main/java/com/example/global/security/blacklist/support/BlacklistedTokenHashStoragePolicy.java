@@ -0,0 +1,54 @@
+package com.example.global.security.blacklist.support;
+
+import com.example.global.security.blacklist.BlacklistedTokenHashStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HexFormat;
+
+/**
+ * 블랙리스트 토큰 해시 저장 형식 설정
+ *
+ * <p>
+ * - app.jwt.blacklist-hash-storage: HEX / DUAL / BINARY (기본 HEX)
+ * - 등록(BlacklistedTokenCommandService), 조회(BlacklistedTokenChecker, JWT 인증 단일 쿼리), 백필이 같은 설정을 공유합니다.
+ * - 노드 로컬 인덱스와 무효화 메시지는 형식과 무관하게 hex 문자열을 키로 사용합니다.
+ * </p>
+ */
+@Component
+public class BlacklistedTokenHashStoragePolicy {
+
+    private final BlacklistedTokenHashStorage storage;
+
+    public BlacklistedTokenHashStoragePolicy(
+            @Value("${app.jwt.blacklist-hash-storage:HEX}") final BlacklistedTokenHashStorage storage
+    ) {
+        this.storage = storage;
+    }
+
+    public BlacklistedTokenHashStorage storage() {
+        return storage;
+    }
+
+    public boolean writesHex() {
+        return storage.writesHex();
+    }
+
+    public boolean writesDigest() {
+        return storage.writesDigest();
+    }
+
+    /**
+     * DB 조회를 token_digest(bytea)로 해야 하는지 여부 (BINARY)
+     */
+    public boolean readsDigest() {
+        return storage.readsDigest();
+    }
+
+    /**
+     * hex 토큰 해시를 DB 조회용 32바이트 다이제스트로 변환합니다.
+     */
+    public static byte[] toDigest(final String tokenHash) {
+        return HexFormat.of().parseHex(tokenHash);
+    }
+}
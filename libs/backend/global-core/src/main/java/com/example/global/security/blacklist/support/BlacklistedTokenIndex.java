@@ -0,0 +1,243 @@
+package com.example.global.security.blacklist.support;
+
+import com.example.global.security.blacklist.payload.dto.BlacklistedTokenIndexEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드 로컬 블랙리스트 인덱스
+ *
+ * <p>
+ * - Bloom 필터와 만료 시각 기반 정확 키 집합을 함께 유지해, 대부분의 "블랙리스트 아님" 판정을 DB 없이 처리합니다.
+ * - 키는 토큰 해시(hex) 또는 jti(UUID 문자열)이며, 두 형식은 겹치지 않으므로 같은 집합에 보관합니다.
+ * - 정확 집합은 최대 크기까지만 보관하고, 초과 항목은 Bloom 필터에만 등록해 DB 확인으로 위임합니다.
+ * - 기동 시 전체 적재 후 created_xid(커밋 완료 경계) 기준 증분 폴링으로 다른 노드의 등록 내역을 반영합니다.
+ * - 전체 재적재는 새 버퍼에 스트리밍으로 채운 뒤 교체하며, 적재 시작 이후 등록된 키는 교체 시 함께 합칩니다.
+ * - 적재 전(ready=false)에는 판정하지 않으며, 호출자는 DB 조회로 대체해야 합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class BlacklistedTokenIndex {
+
+    private final boolean enabled;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+    private final int maxExactEntries;
+
+    private volatile ConcurrentHashMap<String, LocalDateTime> exactEntries = new ConcurrentHashMap<>();
+    private volatile BlacklistedTokenBloomFilter bloomFilter;
+    private volatile boolean ready;
+    private volatile Long syncedXid;
+
+    /**
+     * 전체 재적재 진행 중 등록된 키 (재적재 중이 아니면 null). 교체 시 새 인덱스에 합칩니다.
+     */
+    private ConcurrentHashMap<String, LocalDateTime> registeredDuringReload;
+    private int lastLoadedCount;
+
+    public BlacklistedTokenIndex(
+            @Value("${app.jwt.blacklist-index.enabled:true}") final boolean enabled,
+            @Value("${app.jwt.blacklist-index.expected-insertions:100000}") final int expectedInsertions,
+            @Value("${app.jwt.blacklist-index.false-positive-rate:0.01}") final double falsePositiveRate,
+            @Value("${app.jwt.blacklist-index.max-exact-entries:50000}") final int maxExactEntries
+    ) {
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.maxExactEntries = maxExactEntries;
+        this.bloomFilter = BlacklistedTokenBloomFilter.create(expectedInsertions, falsePositiveRate);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * 정확 집합에 존재하고 아직 만료되지 않았으면 블랙리스트로 확정합니다.
+     */
+    public boolean containsExact(final String key) {
+        final LocalDateTime expiresAt = exactEntries.get(key);
+        return expiresAt != null && expiresAt.isAfter(now());
+    }
+
+    /**
+     * false이면 블랙리스트가 아님이 확정되고, true이면 DB 확인이 필요합니다.
+     */
+    public boolean mightContain(final String key) {
+        return bloomFilter.mightContain(key);
+    }
+
+    /**
+     * 전체 재적재를 시작합니다. DB 스냅샷을 읽기 전에 호출해야 이후 등록된 키가 교체 시 누락되지 않습니다.
+     * Bloom 필터는 직전 적재 건수의 2배(최소 expectedInsertions)로 구성합니다.
+     */
+    public synchronized Reload beginReload() {
+        registeredDuringReload = new ConcurrentHashMap<>();
+        return new Reload(BlacklistedTokenBloomFilter.create(
+                Math.max(expectedInsertions, lastLoadedCount * 2),
+                falsePositiveRate
+        ));
+    }
+
+    /**
+     * 재적재 버퍼로 인덱스를 교체합니다. 만료 항목이 누적된 Bloom 필터도 이 시점에 새로 구성됩니다.
+     *
+     * @param reload    beginReload()로 시작해 전체 항목을 채운 버퍼
+     * @param syncedXid 스냅샷 조회 직전의 커밋 완료 경계 xid (다음 증분 폴링 하한)
+     */
+    public synchronized void completeReload(final Reload reload, final long syncedXid) {
+        // 스냅샷 조회와 교체 사이에 이 노드에서 등록된 키를 합쳐야 방금 폐기된 토큰이 음성으로 판정되지 않습니다.
+        final int mergedCount = registeredDuringReload != null ? registeredDuringReload.size() : 0;
+        if (registeredDuringReload != null) {
+            registeredDuringReload.forEach(reload::put);
+        }
+        registeredDuringReload = null;
+
+        // Bloom 필터를 먼저 완성한 뒤 교체해야 교체 중에도 음성 판정이 누락되지 않습니다.
+        bloomFilter = reload.bloomFilter;
+        exactEntries = reload.exactEntries;
+        lastLoadedCount = reload.loadedCount;
+        this.syncedXid = syncedXid;
+        ready = true;
+
+        log.info("[BLACKLIST_INDEX] 전체 적재 완료: entries={}, mergedDuringReload={}, exactEntries={}",
+                reload.loadedCount, mergedCount, exactEntries.size());
+    }
+
+    /**
+     * 재적재 실패 시 진행 중 등록 기록을 버립니다. 기존 인덱스는 그대로 유지됩니다.
+     */
+    public synchronized void abortReload() {
+        registeredDuringReload = null;
+    }
+
+    /**
+     * 증분 폴링 결과를 반영하고 만료된 정확 집합 항목을 정리합니다.
+     *
+     * @param entries   직전 경계 이후 커밋된 신규 항목
+     * @param syncedXid 이번 조회의 커밋 완료 경계 xid (다음 증분 폴링 하한)
+     */
+    public synchronized void applyDelta(final List<BlacklistedTokenIndexEntry> entries, final long syncedXid) {
+        entries.forEach(this::registerEntry);
+        removeExpiredExactEntries();
+        this.syncedXid = syncedXid;
+    }
+
+    /**
+     * 다음 증분 폴링의 created_xid 하한을 반환합니다. 전체 적재 전이면 null입니다.
+     */
+    public Long syncedXid() {
+        return syncedXid;
+    }
+
+    public synchronized void register(final String key, final LocalDateTime expiresAt) {
+        if (!StringUtils.hasText(key) || expiresAt == null) {
+            return;
+        }
+        bloomFilter.put(key);
+        putExact(exactEntries, key, expiresAt);
+        if (registeredDuringReload != null) {
+            registeredDuringReload.put(key, expiresAt);
+        }
+    }
+
+    /**
+     * 현재 노드에서 등록한 블랙리스트를 커밋 이후 즉시 반영합니다.
+     * 롤백된 등록이 인덱스에 남지 않도록 트랜잭션 동기화를 사용합니다.
+     */
+    public void registerAfterCommit(final BlacklistedTokenIndexEntry entry) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            registerEntry(entry);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                registerEntry(entry);
+            }
+        });
+    }
+
+    private synchronized void registerEntry(final BlacklistedTokenIndexEntry entry) {
+        keysOf(entry).forEach(key -> register(key, entry.expiresAt()));
+    }
+
+    private List<String> keysOf(final BlacklistedTokenIndexEntry entry) {
+        final List<String> keys = new ArrayList<>(2);
+        if (StringUtils.hasText(entry.tokenHash())) {
+            keys.add(entry.tokenHash());
+        }
+        if (entry.tokenId() != null) {
+            keys.add(entry.tokenId().toString());
+        }
+        return keys;
+    }
+
+    private void putExact(
+            final ConcurrentHashMap<String, LocalDateTime> target,
+            final String key,
+            final LocalDateTime expiresAt
+    ) {
+        if (target.size() >= maxExactEntries && !target.containsKey(key)) {
+            return;
+        }
+        target.put(key, expiresAt);
+    }
+
+    private void removeExpiredExactEntries() {
+        final LocalDateTime now = now();
+        exactEntries.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(ZoneId.systemDefault());
+    }
+
+    /**
+     * 전체 재적재 버퍼
+     *
+     * <p>
+     * - 스트리밍 조회 결과를 한 건씩 받아 새 Bloom 필터/정확 집합에 채우며, 전체 행을 List로 모으지 않습니다.
+     * - 단일 스레드(재적재 스케줄러)에서만 채우고, 교체는 completeReload()가 수행합니다.
+     * </p>
+     */
+    public final class Reload {
+
+        private final BlacklistedTokenBloomFilter bloomFilter;
+        private final ConcurrentHashMap<String, LocalDateTime> exactEntries = new ConcurrentHashMap<>();
+        private int loadedCount;
+
+        private Reload(final BlacklistedTokenBloomFilter bloomFilter) {
+            this.bloomFilter = bloomFilter;
+        }
+
+        public void add(final BlacklistedTokenIndexEntry entry) {
+            if (entry == null || entry.expiresAt() == null) {
+                return;
+            }
+            keysOf(entry).forEach(key -> put(key, entry.expiresAt()));
+            loadedCount++;
+        }
+
+        private void put(final String key, final LocalDateTime expiresAt) {
+            bloomFilter.put(key);
+            putExact(exactEntries, key, expiresAt);
+        }
+    }
+}
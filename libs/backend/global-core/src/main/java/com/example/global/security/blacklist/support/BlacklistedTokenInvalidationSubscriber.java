@@ -0,0 +1,31 @@
+package com.example.global.security.blacklist.support;
+
+import com.example.global.cache.invalidation.CacheInvalidationSubscriber;
+import com.example.global.cache.invalidation.CacheInvalidationTopic;
+import com.example.global.cache.invalidation.payload.dto.CacheInvalidationMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 노드에서 등록된 블랙리스트를 증분 폴링 주기를 기다리지 않고 로컬 인덱스에 즉시 반영합니다.
+ * 누락되더라도 BlacklistedTokenIndexScheduler의 증분 폴링이 최종적으로 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BlacklistedTokenInvalidationSubscriber implements CacheInvalidationSubscriber {
+
+    private final BlacklistedTokenIndex blacklistedTokenIndex;
+
+    @Override
+    public CacheInvalidationTopic topic() {
+        return CacheInvalidationTopic.TOKEN_BLACKLISTED;
+    }
+
+    @Override
+    public void onInvalidated(CacheInvalidationMessage message) {
+        if (!blacklistedTokenIndex.isEnabled()) {
+            return;
+        }
+        blacklistedTokenIndex.register(message.key(), message.expiresAt());
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.global.security.blacklist.support;
+
+import com.example.global.security.blacklist.BlacklistedTokenKeyMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 블랙리스트 키 방식 설정
+ *
+ * <p>
+ * - app.jwt.blacklist-key-mode: HASH / DUAL / JTI (기본 DUAL)
+ * - 등록(BlacklistedTokenCommandService)과 조회(JwtAuthMemberResolver)가 같은 설정을 공유합니다.
+ * </p>
+ */
+@Component
+public class BlacklistedTokenKeyPolicy {
+
+    private final BlacklistedTokenKeyMode mode;
+
+    public BlacklistedTokenKeyPolicy(
+            @Value("${app.jwt.blacklist-key-mode:DUAL}") final BlacklistedTokenKeyMode mode
+    ) {
+        this.mode = mode;
+    }
+
+    public BlacklistedTokenKeyMode mode() {
+        return mode;
+    }
+
+    /**
+     * 전체 토큰 해시로 블랙리스트를 확인해야 하는지 여부 (HASH/DUAL)
+     */
+    public boolean readsTokenHash() {
+        return mode.readsTokenHash();
+    }
+
+    /**
+     * jti로 블랙리스트를 확인해야 하는지 여부 (JTI)
+     */
+    public boolean readsTokenId() {
+        return mode.readsTokenId();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.global.security.blacklist.support;
+
+/**
+ * 로컬 인덱스만으로 내린 블랙리스트 판정 결과
+ */
+public enum BlacklistedTokenLocalVerdict {
+
+    /**
+     * 정확 집합 히트: DB 확인 없이 블랙리스트로 확정
+     */
+    BLACKLISTED,
+
+    /**
+     * Bloom 필터 음성: DB 확인 없이 블랙리스트 아님으로 확정
+     */
+    NOT_BLACKLISTED,
+
+    /**
+     * 인덱스 적재 전이거나 Bloom 양성: DB 확인 필요
+     */
+    UNKNOWN
+}
@@ -0,0 +1,222 @@
+package com.example.global.security.blacklist.support;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * blacklisted_token 일 단위 파티션 관리 (PostgreSQL)
+ *
+ * <p>
+ * - 파티션 이름은 blacklisted_token_pYYYYMMDD이며, 범위는 [해당일 00:00, 다음날 00:00)의 expires_at입니다.
+ * - 식별자는 날짜 포맷으로만 만들어지므로 SQL 문자열 조합에 외부 입력이 섞이지 않습니다.
+ * - 부모 테이블이 파티션 테이블이 아니면(전환 전/ddl-auto 환경) 호출자는 기존 DELETE 정리로 대체해야 합니다.
+ * - 분리는 DETACH PARTITION ... CONCURRENTLY(PostgreSQL 14 이상)로 수행합니다.
+ *   부모/파티션에 SHARE UPDATE EXCLUSIVE만 잡으므로, 대기 중에도 부모 테이블 조회(existsByTokenHash, 증분 폴링)와
+ *   write-behind INSERT가 뒤에 줄 서지 않습니다. (일반 DETACH는 ACCESS EXCLUSIVE라 대기 동안 모든 읽기/쓰기가 막힘)
+ * - CONCURRENTLY는 트랜잭션 블록 안에서 실행할 수 없으므로, 호출자 트랜잭션을 보류(NOT_SUPPORTED)하고 autocommit 커넥션에서 실행합니다.
+ * - lock_timeout 등으로 분리가 중단되면 파티션이 "분리 대기" 상태로 남으며, 다음 정리에서 FINALIZE로 마무리합니다.
+ * - DROP은 분리된 테이블만 잠그므로 부모 테이블 접근과 경합하지 않습니다.
+ * </p>
+ */
+@Component
+public class BlacklistedTokenPartitionManager {
+
+    static final String PARENT_TABLE = "blacklisted_token";
+    private static final String PARTITION_PREFIX = PARENT_TABLE + "_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private static final String ESTIMATED_ROWS_SQL = """
+            select cast(coalesce(max(greatest(c.reltuples, 0)), 0) as bigint)
+            from pg_class c
+            where c.relname = ?
+              and c.relnamespace = cast(current_schema() as regnamespace)
+            """;
+
+    // 행이 없으면 이미 분리된 상태(DROP만 남음), true면 중단된 CONCURRENTLY 분리가 남은 상태입니다.
+    private static final String DETACH_PENDING_SQL = """
+            select i.inhdetachpending
+            from pg_inherits i
+            join pg_class c on c.oid = i.inhrelid
+            join pg_class p on p.oid = i.inhparent
+            where c.relname = ?
+              and p.relname = ?
+              and c.relnamespace = cast(current_schema() as regnamespace)
+            """;
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate outsideTransaction;
+    private final long lockTimeoutMs;
+
+    public BlacklistedTokenPartitionManager(
+            final EntityManager entityManager,
+            final JdbcTemplate jdbcTemplate,
+            final PlatformTransactionManager transactionManager,
+            @Value("${app.jwt.blacklist-partition.lock-timeout:PT30S}") final Duration lockTimeout
+    ) {
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.outsideTransaction = new TransactionTemplate(transactionManager);
+        this.outsideTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+        this.lockTimeoutMs = Math.max(1L, lockTimeout.toMillis());
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isPartitioned() {
+        final Object result = entityManager.createNativeQuery("""
+                        select exists(
+                            select 1
+                            from pg_partitioned_table pt
+                            join pg_class c on c.oid = pt.partrelid
+                            where c.relname = :tableName
+                              and c.relnamespace = cast(current_schema() as regnamespace)
+                        )
+                        """)
+                .setParameter("tableName", PARENT_TABLE)
+                .getSingleResult();
+        return Boolean.TRUE.equals(result);
+    }
+
+    /**
+     * 이름 규칙(blacklisted_token_pYYYYMMDD)에 맞는 파티션의 날짜 목록을 반환합니다. 규칙 밖의 파티션은 관리하지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    public List<LocalDate> findPartitionDays() {
+        final List<?> names = entityManager.createNativeQuery("""
+                        select c.relname
+                        from pg_inherits i
+                        join pg_class c on c.oid = i.inhrelid
+                        join pg_class p on p.oid = i.inhparent
+                        where p.relname = :tableName
+                          and p.relnamespace = cast(current_schema() as regnamespace)
+                        """)
+                .setParameter("tableName", PARENT_TABLE)
+                .getResultList();
+
+        final List<LocalDate> days = new ArrayList<>(names.size());
+        for (Object name : names) {
+            final LocalDate day = parsePartitionDay(String.valueOf(name));
+            if (day != null) {
+                days.add(day);
+            }
+        }
+        return days;
+    }
+
+    @Transactional
+    public void createPartition(final LocalDate day) {
+        entityManager.createNativeQuery("""
+                        create table if not exists %s partition of %s
+                        for values from ('%s 00:00:00') to ('%s 00:00:00')
+                        """.formatted(partitionName(day), PARENT_TABLE, day, day.plusDays(1)))
+                .executeUpdate();
+    }
+
+    /**
+     * 파티션을 분리한 뒤 삭제하고, 삭제 직전 통계 기준 추정 행 수를 반환합니다.
+     * 행 단위 DELETE가 없으므로 WAL은 카탈로그 변경분만 발생합니다.
+     */
+    public long detachAndDropPartition(final LocalDate day) {
+        final String partitionName = partitionName(day);
+        final Long estimatedRows = outsideTransaction.execute(status -> jdbcTemplate.execute(
+                (ConnectionCallback<Long>) connection -> detachAndDrop(connection, partitionName)
+        ));
+        return estimatedRows == null ? 0L : estimatedRows;
+    }
+
+    private long detachAndDrop(final Connection connection, final String partitionName) throws SQLException {
+        final boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            final long estimatedRows = queryEstimatedRows(connection, partitionName);
+            final Boolean detachPending = queryDetachPending(connection, partitionName);
+
+            // 세션 단위 설정이므로 커넥션을 풀에 돌려주기 전에 되돌립니다.
+            statement.execute("set lock_timeout = %d".formatted(lockTimeoutMs));
+            try {
+                if (detachPending != null) {
+                    statement.execute("alter table %s detach partition %s %s".formatted(
+                            PARENT_TABLE, partitionName, detachPending ? "finalize" : "concurrently"
+                    ));
+                }
+                statement.execute("drop table if exists %s".formatted(partitionName));
+            } finally {
+                statement.execute("reset lock_timeout");
+            }
+            return estimatedRows;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private long queryEstimatedRows(final Connection connection, final String partitionName) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(ESTIMATED_ROWS_SQL)) {
+            statement.setString(1, partitionName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getLong(1) : 0L;
+            }
+        }
+    }
+
+    private Boolean queryDetachPending(final Connection connection, final String partitionName) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(DETACH_PENDING_SQL)) {
+            statement.setString(1, partitionName);
+            statement.setString(2, PARENT_TABLE);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getBoolean(1) : null;
+            }
+        }
+    }
+
+    /**
+     * 현재 WAL 삽입 위치를 반환합니다. 정리 전후 차이로 WAL 발생량을 비교하기 위한 용도입니다.
+     */
+    @Transactional(readOnly = true)
+    public String currentWalInsertLsn() {
+        return String.valueOf(entityManager.createNativeQuery("select cast(pg_current_wal_insert_lsn() as text)")
+                .getSingleResult());
+    }
+
+    @Transactional(readOnly = true)
+    public long walBytesSince(final String lsn) {
+        final Object result = entityManager.createNativeQuery(
+                        "select cast(pg_wal_lsn_diff(pg_current_wal_insert_lsn(), cast(:lsn as pg_lsn)) as bigint)")
+                .setParameter("lsn", lsn)
+                .getSingleResult();
+        return ((Number) result).longValue();
+    }
+
+    static String partitionName(final LocalDate day) {
+        return PARTITION_PREFIX + day.format(PARTITION_SUFFIX_FORMAT);
+    }
+
+    static LocalDate parsePartitionDay(final String partitionName) {
+        if (partitionName == null || !partitionName.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(partitionName.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX_FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
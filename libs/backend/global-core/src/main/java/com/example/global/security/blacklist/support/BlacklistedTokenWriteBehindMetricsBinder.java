@@ -0,0 +1,46 @@
+package com.example.global.security.blacklist.support;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 토큰 폐기 지연 저장 메트릭
+ * - actuator가 있는 애플리케이션에서는 자동 등록되며, 없으면 {@link BlacklistedTokenWriteBehindQueue#stats()}로 확인합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BlacklistedTokenWriteBehindMetricsBinder implements MeterBinder {
+
+    private static final String PREFIX = "auth.token.revocation";
+
+    private final BlacklistedTokenWriteBehindQueue blacklistedTokenWriteBehindQueue;
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder(PREFIX + ".queue.depth", blacklistedTokenWriteBehindQueue, queue -> queue.stats().queueDepth())
+                .description("저장 대기 중인 토큰 폐기 수")
+                .register(registry);
+        Gauge.builder(PREFIX + ".pending.keys", blacklistedTokenWriteBehindQueue, queue -> queue.stats().pendingKeyCount())
+                .description("저장 전 노드 로컬에서 차단 중인 키 수")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".enqueued", blacklistedTokenWriteBehindQueue, queue -> queue.stats().enqueuedCount())
+                .description("지연 저장 대기열에 넣은 토큰 폐기 수")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".persisted", blacklistedTokenWriteBehindQueue, queue -> queue.stats().persistedCount())
+                .description("배치로 저장한 토큰 폐기 수")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".fallback", blacklistedTokenWriteBehindQueue, queue -> queue.stats().fallbackCount())
+                .description("대기열 포화로 요청 트랜잭션에서 바로 저장한 토큰 폐기 수")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".retried", blacklistedTokenWriteBehindQueue, queue -> queue.stats().retriedCount())
+                .description("저장 실패 후 재시도한 토큰 폐기 수")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".dropped", blacklistedTokenWriteBehindQueue, queue -> queue.stats().droppedCount())
+                .description("재시도 한도를 넘겨 저장을 포기한 토큰 폐기 수")
+                .register(registry);
+    }
+}
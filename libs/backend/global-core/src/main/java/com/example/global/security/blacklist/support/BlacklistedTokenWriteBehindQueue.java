@@ -0,0 +1,151 @@
+package com.example.global.security.blacklist.support;
+
+import com.example.global.security.blacklist.payload.dto.BlacklistedTokenRevocation;
+import com.example.global.security.blacklist.payload.dto.BlacklistedTokenWriteBehindStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 토큰 폐기 지연 저장(write-behind) 대기열
+ *
+ * <p>
+ * - 로그아웃 요청은 폐기를 대기열에 넣고 키를 노드 로컬 차단 집합에 바로 등록합니다. (BlacklistedTokenChecker가 먼저 확인)
+ * - 저장은 BlacklistedTokenWriteBehindScheduler가 배치 단위 multi-row INSERT로 수행하며, 커밋 후 차단 집합에서 키를 제거합니다.
+ * - 대기열은 고정 크기이며, 가득 차면 offer가 false를 반환하고 호출자가 요청 트랜잭션에서 바로 저장합니다.
+ * - 저장 실패 시 대기열 앞쪽으로 되돌려 다음 주기에 재시도하고, max-attempts를 넘기면 포기합니다.
+ *   포기한 폐기도 만료 시각까지 로컬 차단은 유지됩니다.
+ * </p>
+ * <p>
+ * 설정 (app.jwt.blacklist-write-behind.*)
+ * - enabled: 지연 저장 사용 여부 (기본 true, false면 항상 요청 트랜잭션에서 저장)
+ * - capacity: 대기열 크기 (기본 10000)
+ * - max-attempts: 저장 재시도 한도 (기본 5)
+ * </p>
+ */
+@Slf4j
+@Component
+public class BlacklistedTokenWriteBehindQueue {
+
+    private final boolean enabled;
+    private final int maxAttempts;
+    private final LinkedBlockingDeque<BlacklistedTokenRevocation> queue;
+    private final Map<String, LocalDateTime> pendingKeys = new ConcurrentHashMap<>();
+
+    private final LongAdder enqueuedCount = new LongAdder();
+    private final LongAdder persistedCount = new LongAdder();
+    private final LongAdder fallbackCount = new LongAdder();
+    private final LongAdder retriedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+
+    public BlacklistedTokenWriteBehindQueue(
+            @Value("${app.jwt.blacklist-write-behind.enabled:true}") final boolean enabled,
+            @Value("${app.jwt.blacklist-write-behind.capacity:10000}") final int capacity,
+            @Value("${app.jwt.blacklist-write-behind.max-attempts:5}") final int maxAttempts
+    ) {
+        this.enabled = enabled;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.queue = new LinkedBlockingDeque<>(Math.max(1, capacity));
+    }
+
+    /**
+     * 폐기를 대기열에 넣고 로컬 차단을 시작합니다.
+     *
+     * @return false면 대기열 비활성/포화이므로 호출자가 바로 저장해야 합니다.
+     */
+    public boolean offer(final BlacklistedTokenRevocation revocation) {
+        if (!enabled || revocation == null) {
+            return false;
+        }
+        // 저장이 먼저 끝나 키를 지우는 경합이 없도록 차단 등록 후 대기열에 넣습니다.
+        revocation.keys().forEach(key -> pendingKeys.merge(key, revocation.expiresAt(), BlacklistedTokenWriteBehindQueue::later));
+        if (!queue.offerLast(revocation)) {
+            revocation.keys().forEach(key -> pendingKeys.remove(key, revocation.expiresAt()));
+            fallbackCount.increment();
+            return false;
+        }
+        enqueuedCount.increment();
+        return true;
+    }
+
+    /**
+     * 저장 전 로컬 차단 중인 키인지 확인합니다.
+     */
+    public boolean isPending(final String key) {
+        if (key == null) {
+            return false;
+        }
+        final LocalDateTime expiresAt = pendingKeys.get(key);
+        return expiresAt != null && expiresAt.isAfter(now());
+    }
+
+    public List<BlacklistedTokenRevocation> poll(final int maxSize) {
+        final List<BlacklistedTokenRevocation> batch = new ArrayList<>(Math.min(maxSize, queue.size()));
+        queue.drainTo(batch, maxSize);
+        return batch;
+    }
+
+    /**
+     * 저장(커밋)이 끝난 폐기의 로컬 차단을 해제합니다. 이후 판정은 인덱스/DB가 담당합니다.
+     */
+    public void complete(final List<BlacklistedTokenRevocation> batch) {
+        batch.forEach(revocation -> revocation.keys().forEach(key -> pendingKeys.remove(key, revocation.expiresAt())));
+        persistedCount.add(batch.size());
+    }
+
+    /**
+     * 저장에 실패한 배치를 대기열 앞쪽으로 되돌립니다. 한도를 넘기거나 자리가 없으면 포기합니다.
+     */
+    public void retry(final List<BlacklistedTokenRevocation> batch) {
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            final BlacklistedTokenRevocation next = batch.get(i).nextAttempt();
+            if (next.attempts() >= maxAttempts || !queue.offerFirst(next)) {
+                droppedCount.increment();
+                log.warn("[BLACKLIST_WRITE_BEHIND] 폐기 저장 포기: tokenType={}, attempts={}", next.tokenType(), next.attempts());
+                continue;
+            }
+            retriedCount.increment();
+        }
+    }
+
+    /**
+     * 저장을 포기한 뒤 남은 로컬 차단 키 중 만료된 항목을 정리합니다.
+     */
+    public void removeExpiredPendingKeys() {
+        final LocalDateTime now = now();
+        pendingKeys.entrySet().removeIf(entry -> !entry.getValue().isAfter(now));
+    }
+
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    public BlacklistedTokenWriteBehindStats stats() {
+        return BlacklistedTokenWriteBehindStats.of(
+                queue.size(),
+                pendingKeys.size(),
+                enqueuedCount.sum(),
+                persistedCount.sum(),
+                fallbackCount.sum(),
+                retriedCount.sum(),
+                droppedCount.sum()
+        );
+    }
+
+    private static LocalDateTime later(final LocalDateTime left, final LocalDateTime right) {
+        return left.isAfter(right) ? left : right;
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now(ZoneId.systemDefault());
+    }
+}
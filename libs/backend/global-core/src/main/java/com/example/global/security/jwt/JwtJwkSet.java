@@ -0,0 +1,71 @@
+package com.example.global.security.jwt;
+
+import com.example.global.crypto.Sha256Digests;
+
+import java.math.BigInteger;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+
+/**
+ * 공개 검증 키 JWKS(RFC 7517) 문서
+ *
+ * <p>
+ * - 키 설정은 기동 시 고정되므로 JSON 본문과 ETag를 한 번만 만들어 재사용합니다.
+ * - Ed25519는 OKP(RFC 8037), P-256은 EC 형식으로 기록하며, 개인키 정보는 포함하지 않습니다.
+ * </p>
+ */
+public record JwtJwkSet(String json, String etag) {
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final int ED25519_KEY_LENGTH = 32;
+    private static final int P256_COORDINATE_LENGTH = 32;
+
+    public static JwtJwkSet of(final Collection<JwtSigningKey> keys) {
+        final StringBuilder json = new StringBuilder(64 + keys.size() * 160).append("{\"keys\":[");
+        boolean first = true;
+        for (JwtSigningKey key : keys) {
+            if (!first) {
+                json.append(',');
+            }
+            appendJwk(json, key);
+            first = false;
+        }
+        final String body = json.append("]}").toString();
+        return new JwtJwkSet(body, "\"" + Sha256Digests.hex(body).substring(0, 32) + "\"");
+    }
+
+    private static void appendJwk(final StringBuilder json, final JwtSigningKey key) {
+        json.append("{\"kid\":\"").append(key.kid())
+                .append("\",\"use\":\"sig\",\"alg\":\"").append(key.algorithm().jwaName()).append('"');
+        final PublicKey publicKey = key.publicKey();
+        switch (key.algorithm()) {
+            case EDDSA -> {
+                final byte[] encoded = publicKey.getEncoded();
+                final byte[] raw = Arrays.copyOfRange(encoded, encoded.length - ED25519_KEY_LENGTH, encoded.length);
+                json.append(",\"kty\":\"OKP\",\"crv\":\"Ed25519\",\"x\":\"").append(BASE64_URL.encodeToString(raw)).append('"');
+            }
+            case ES256 -> {
+                final ECPublicKey ecPublicKey = (ECPublicKey) publicKey;
+                json.append(",\"kty\":\"EC\",\"crv\":\"P-256\",\"x\":\"")
+                        .append(BASE64_URL.encodeToString(toFixedLength(ecPublicKey.getW().getAffineX())))
+                        .append("\",\"y\":\"")
+                        .append(BASE64_URL.encodeToString(toFixedLength(ecPublicKey.getW().getAffineY())))
+                        .append('"');
+            }
+            case HMAC -> throw new IllegalStateException("HMAC 키는 JWKS로 공개할 수 없습니다.");
+        }
+        json.append('}');
+    }
+
+    // BigInteger.toByteArray()는 부호 바이트가 붙거나 앞자리 0이 빠질 수 있어 32바이트로 맞춥니다.
+    private static byte[] toFixedLength(final BigInteger value) {
+        final byte[] bytes = value.toByteArray();
+        final byte[] fixed = new byte[P256_COORDINATE_LENGTH];
+        final int copyLength = Math.min(bytes.length, P256_COORDINATE_LENGTH);
+        System.arraycopy(bytes, bytes.length - copyLength, fixed, P256_COORDINATE_LENGTH - copyLength, copyLength);
+        return fixed;
+    }
+}
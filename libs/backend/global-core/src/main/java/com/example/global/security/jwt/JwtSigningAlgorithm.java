@@ -0,0 +1,50 @@
+package com.example.global.security.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+
+/**
+ * JWT 서명 방식
+ *
+ * <p>
+ * - HMAC: app.jwt.secret에서 유도한 대칭키로 서명합니다. 서버만 검증할 수 있으며 kid를 사용하지 않습니다.
+ * - EDDSA(Ed25519), ES256(P-256): 개인키로 서명하고 공개키를 JWKS로 공개합니다. 엣지 프록시가 JVM 없이 검증할 수 있습니다.
+ * </p>
+ */
+public enum JwtSigningAlgorithm {
+
+    HMAC(null, null),
+    EDDSA("EdDSA", "Ed25519"),
+    ES256("ES256", "EC");
+
+    private final String jwaName;
+    private final String keyFactoryAlgorithm;
+
+    JwtSigningAlgorithm(final String jwaName, final String keyFactoryAlgorithm) {
+        this.jwaName = jwaName;
+        this.keyFactoryAlgorithm = keyFactoryAlgorithm;
+    }
+
+    /**
+     * JWS 헤더의 alg 값 (HMAC은 키 길이에 따라 HS256/384/512이므로 null)
+     */
+    public String jwaName() {
+        return jwaName;
+    }
+
+    public String keyFactoryAlgorithm() {
+        return keyFactoryAlgorithm;
+    }
+
+    public boolean isAsymmetric() {
+        return this != HMAC;
+    }
+
+    public SignatureAlgorithm signatureAlgorithm() {
+        return switch (this) {
+            case EDDSA -> Jwts.SIG.EdDSA;
+            case ES256 -> Jwts.SIG.ES256;
+            case HMAC -> throw new IllegalStateException("HMAC은 비대칭 서명 알고리즘이 아닙니다.");
+        };
+    }
+}
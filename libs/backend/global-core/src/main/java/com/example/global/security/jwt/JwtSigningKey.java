@@ -0,0 +1,29 @@
+package com.example.global.security.jwt;
+
+import java.security.PrivateKey;
+import java.security.PublicKey;
+
+/**
+ * kid로 식별되는 비대칭 서명 키
+ * - privateKey가 null이면 검증 전용(교체 전 키)입니다.
+ */
+public record JwtSigningKey(
+        String kid,
+        JwtSigningAlgorithm algorithm,
+        PrivateKey privateKey,
+        PublicKey publicKey
+) {
+    public static JwtSigningKey of(
+            final String kid,
+            final JwtSigningAlgorithm algorithm,
+            final PrivateKey privateKey,
+            final PublicKey publicKey
+    ) {
+        return new JwtSigningKey(kid, algorithm, privateKey, publicKey);
+    }
+
+    @Override
+    public String toString() {
+        return "JwtSigningKey[kid=" + kid + ", algorithm=" + algorithm + ", signing=" + (privateKey != null) + "]";
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.global.security.jwt;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * JWT 서명 키 설정 (app.jwt.signing.*)
+ *
+ * <p>
+ * - algorithm: HMAC(기본) / EDDSA / ES256
+ * - active-key-id: 새 토큰 서명에 사용할 kid (비대칭 모드 필수)
+ * - keys[n].kid / private-key / public-key: PKCS#8 개인키, X.509 공개키 (PEM 또는 base64 DER)
+ *   개인키가 없는 키는 검증 전용이며, 교체 후 기존 토큰이 만료될 때까지 남겨 둡니다.
+ * - accept-legacy-hmac: 비대칭 모드에서도 kid 없는 HMAC 토큰을 검증할지 여부 (기본 true, 전환 기간용)
+ * - jwks-max-age: /.well-known/jwks.json 캐시 시간 (기본 PT5M)
+ * </p>
+ * <p>
+ * 키 교체 절차
+ * 1) 새 키를 keys에 추가해 배포 (JWKS에 먼저 공개) → 2) jwks-max-age가 지난 뒤 active-key-id를 새 키로 변경
+ * → 3) 리프레시 토큰 TTL이 지난 뒤 이전 키 제거. 어느 단계에서도 기존 세션은 끊기지 않습니다.
+ * </p>
+ */
+@ConfigurationProperties(prefix = "app.jwt.signing")
+public record JwtSigningProperties(
+        JwtSigningAlgorithm algorithm,
+        String activeKeyId,
+        List<Key> keys,
+        Boolean acceptLegacyHmac,
+        Duration jwksMaxAge
+) {
+
+    private static final Duration DEFAULT_JWKS_MAX_AGE = Duration.ofMinutes(5);
+
+    public JwtSigningProperties {
+        algorithm = algorithm == null ? JwtSigningAlgorithm.HMAC : algorithm;
+        keys = keys == null ? List.of() : List.copyOf(keys);
+        acceptLegacyHmac = acceptLegacyHmac == null ? Boolean.TRUE : acceptLegacyHmac;
+        jwksMaxAge = jwksMaxAge == null || jwksMaxAge.isNegative() ? DEFAULT_JWKS_MAX_AGE : jwksMaxAge;
+    }
+
+    public static JwtSigningProperties hmac() {
+        return new JwtSigningProperties(JwtSigningAlgorithm.HMAC, null, List.of(), true, DEFAULT_JWKS_MAX_AGE);
+    }
+
+    public static JwtSigningProperties of(
+            final JwtSigningAlgorithm algorithm,
+            final String activeKeyId,
+            final List<Key> keys,
+            final boolean acceptLegacyHmac
+    ) {
+        return new JwtSigningProperties(algorithm, activeKeyId, keys, acceptLegacyHmac, DEFAULT_JWKS_MAX_AGE);
+    }
+
+    public record Key(String kid, String privateKey, String publicKey) {
+
+        public static Key of(final String kid, final String privateKey, final String publicKey) {
+            return new Key(kid, privateKey, publicKey);
+        }
+    }
+}
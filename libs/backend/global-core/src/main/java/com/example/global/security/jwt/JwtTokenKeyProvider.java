@@ -1,27 +1,161 @@
 package com.example.global.security.jwt;
 
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
+/**
+ * JWT 서명/검증 키 제공자
+ *
+ * <p>
+ * - HMAC 모드(기본): app.jwt.secret에서 유도한 단일 대칭키로 서명/검증합니다.
+ * - EDDSA/ES256 모드: active-key-id 개인키로 서명하고 헤더에 kid를 기록합니다.
+ *   검증은 헤더 kid로 키를 찾으며, 키의 알고리즘과 헤더 alg가 다르면 검증 키를 반환하지 않습니다. (알고리즘 혼동 방지)
+ * - accept-legacy-hmac이 켜져 있으면 kid 없는 HMAC 토큰도 검증해 전환 중 기존 세션을 유지합니다.
+ * </p>
+ */
 @Component
 public class JwtTokenKeyProvider {
 
     private final JwtProperties properties;
+    private final JwtSigningProperties signingProperties;
     private final SecretKey secretKey;
+    private final boolean hmacVerificationEnabled;
+    private final JwtSigningKey activeKey;
+    private final Map<String, JwtSigningKey> keysById;
 
     public JwtTokenKeyProvider(final JwtProperties properties) {
+        this(properties, JwtSigningProperties.hmac());
+    }
+
+    @Autowired
+    public JwtTokenKeyProvider(final JwtProperties properties, final JwtSigningProperties signingProperties) {
         this.properties = properties;
+        this.signingProperties = signingProperties;
         this.secretKey = Keys.hmacShaKeyFor(properties.secret().getBytes(StandardCharsets.UTF_8));
+
+        final JwtSigningAlgorithm algorithm = signingProperties.algorithm();
+        this.hmacVerificationEnabled = !algorithm.isAsymmetric() || signingProperties.acceptLegacyHmac();
+        this.keysById = algorithm.isAsymmetric() ? loadKeys(signingProperties) : Map.of();
+        this.activeKey = algorithm.isAsymmetric() ? resolveActiveKey(signingProperties, keysById) : null;
     }
 
     public JwtProperties getProperties() {
         return properties;
     }
 
+    public JwtSigningProperties getSigningProperties() {
+        return signingProperties;
+    }
+
+    /**
+     * HMAC 검증 키 (HMAC 검증이 꺼져 있으면 null)
+     */
     public SecretKey getSecretKey() {
-        return secretKey;
+        return hmacVerificationEnabled ? secretKey : null;
+    }
+
+    /**
+     * 현재 서명 키로 서명 정보를 설정합니다. (비대칭 모드면 kid 헤더 포함)
+     */
+    public JwtBuilder sign(final JwtBuilder builder) {
+        if (activeKey == null) {
+            return builder.signWith(secretKey);
+        }
+        return builder.header().keyId(activeKey.kid()).and()
+                .signWith(activeKey.privateKey(), activeKey.algorithm().signatureAlgorithm());
+    }
+
+    /**
+     * JWS 헤더(alg, kid)에 맞는 검증 키를 반환합니다. 없으면 null
+     */
+    public Key findVerificationKey(final String algorithm, final String keyId) {
+        if (!StringUtils.hasText(keyId)) {
+            return hmacVerificationEnabled && algorithm != null && algorithm.startsWith("HS") ? secretKey : null;
+        }
+        final JwtSigningKey key = keysById.get(keyId);
+        if (key == null || !key.algorithm().jwaName().equals(algorithm)) {
+            return null;
+        }
+        return key.publicKey();
+    }
+
+    /**
+     * JWKS로 공개할 키 목록 (HMAC 모드면 비어 있음)
+     */
+    public Collection<JwtSigningKey> getPublicKeys() {
+        return keysById.values();
+    }
+
+    private static Map<String, JwtSigningKey> loadKeys(final JwtSigningProperties signingProperties) {
+        final JwtSigningAlgorithm algorithm = signingProperties.algorithm();
+        final Map<String, JwtSigningKey> keys = new LinkedHashMap<>();
+        for (JwtSigningProperties.Key key : signingProperties.keys()) {
+            if (!StringUtils.hasText(key.kid()) || !StringUtils.hasText(key.publicKey())) {
+                throw new IllegalStateException("JWT 서명 키에는 kid와 public-key가 필요합니다.");
+            }
+            final PrivateKey privateKey = StringUtils.hasText(key.privateKey())
+                    ? decodePrivateKey(algorithm, key.kid(), key.privateKey())
+                    : null;
+            final PublicKey publicKey = decodePublicKey(algorithm, key.kid(), key.publicKey());
+            if (keys.putIfAbsent(key.kid(), JwtSigningKey.of(key.kid(), algorithm, privateKey, publicKey)) != null) {
+                throw new IllegalStateException("JWT 서명 키 kid가 중복되었습니다. kid=" + key.kid());
+            }
+        }
+        return Collections.unmodifiableMap(keys);
+    }
+
+    private static JwtSigningKey resolveActiveKey(
+            final JwtSigningProperties signingProperties,
+            final Map<String, JwtSigningKey> keys
+    ) {
+        final JwtSigningKey activeKey = keys.get(signingProperties.activeKeyId());
+        if (activeKey == null || activeKey.privateKey() == null) {
+            throw new IllegalStateException(
+                    "active-key-id에 해당하는 개인키가 없습니다. activeKeyId=" + signingProperties.activeKeyId());
+        }
+        return activeKey;
+    }
+
+    private static PrivateKey decodePrivateKey(final JwtSigningAlgorithm algorithm, final String kid, final String encoded) {
+        try {
+            return KeyFactory.getInstance(algorithm.keyFactoryAlgorithm())
+                    .generatePrivate(new PKCS8EncodedKeySpec(decodePem(encoded)));
+        } catch (GeneralSecurityException | IllegalArgumentException ex) {
+            throw new IllegalStateException("JWT 서명 개인키를 읽을 수 없습니다. kid=" + kid, ex);
+        }
+    }
+
+    private static PublicKey decodePublicKey(final JwtSigningAlgorithm algorithm, final String kid, final String encoded) {
+        try {
+            return KeyFactory.getInstance(algorithm.keyFactoryAlgorithm())
+                    .generatePublic(new X509EncodedKeySpec(decodePem(encoded)));
+        } catch (GeneralSecurityException | IllegalArgumentException ex) {
+            throw new IllegalStateException("JWT 검증 공개키를 읽을 수 없습니다. kid=" + kid, ex);
+        }
+    }
+
+    private static byte[] decodePem(final String encoded) {
+        final String base64 = encoded
+                .replaceAll("-----(BEGIN|END) [A-Z ]+-----", "")
+                .replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
     }
 }
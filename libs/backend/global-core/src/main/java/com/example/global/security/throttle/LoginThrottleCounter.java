@@ -0,0 +1,43 @@
+package com.example.global.security.throttle;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그인 시도 제한 공유 카운터 (DATABASE 모드 전용)
+ *
+ * <p>
+ * - 키마다 한 행이며, 현재/직전 윈도우의 시도 수만 보관합니다. (고정 크기, 시도마다 행이 늘지 않음)
+ * - 갱신은 LoginThrottleCounterRepository의 UPSERT 한 문장으로만 수행하므로 엔티티로 저장하지 않습니다.
+ * - 오래 갱신되지 않은 행은 LoginThrottleCounterCleanupScheduler가 삭제합니다.
+ * </p>
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "login_throttle_counter", comment = "로그인 시도 제한 카운터")
+public class LoginThrottleCounter {
+
+    @Id
+    @Column(name = "throttle_key", length = 200, comment = "제한 대상 키 (ip:/login: 접두사)")
+    private String throttleKey;
+
+    @Column(name = "window_index", nullable = false, comment = "현재 윈도우 번호 (epoch millis / 윈도우 길이)")
+    private long windowIndex;
+
+    @Column(name = "current_count", nullable = false, comment = "현재 윈도우 시도 수")
+    private int currentCount;
+
+    @Column(name = "previous_count", nullable = false, comment = "직전 윈도우 시도 수")
+    private int previousCount;
+
+    @Column(name = "updated_at", nullable = false, comment = "마지막 갱신 시각")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,59 @@
+package com.example.global.security.throttle;
+
+import com.example.global.security.throttle.payload.dto.LoginThrottleCounterAcquireCommand;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface LoginThrottleCounterRepository extends JpaRepository<LoginThrottleCounter, String> {
+
+    /**
+     * 슬라이딩 윈도우 시도 획득: 윈도우 회전, 한도 검사, 증가를 UPSERT 한 문장으로 처리합니다.
+     * <p>
+     * - 같은 키의 동시 요청은 행 잠금으로 직렬화되므로 노드가 여러 개여도 한도를 넘겨 허용하지 않습니다.
+     * - 한도에 도달했으면 ON CONFLICT의 WHERE 조건이 거짓이 되어 갱신하지 않습니다. (거절된 시도는 카운트하지 않음)
+     * </p>
+     *
+     * @return 1이면 허용(기록됨), 0이면 거절
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            insert into login_throttle_counter as c (throttle_key, window_index, current_count, previous_count, updated_at)
+            values (:#{#command.throttleKey}, :#{#command.windowIndex}, 1, 0, now())
+            on conflict (throttle_key) do update
+            set previous_count = case
+                                     when c.window_index = excluded.window_index then c.previous_count
+                                     when c.window_index = excluded.window_index - 1 then c.current_count
+                                     else 0
+                                 end,
+                current_count  = case
+                                     when c.window_index = excluded.window_index then c.current_count + 1
+                                     else 1
+                                 end,
+                window_index   = excluded.window_index,
+                updated_at     = excluded.updated_at
+            where (case
+                       when c.window_index = excluded.window_index then c.previous_count
+                       when c.window_index = excluded.window_index - 1 then c.current_count
+                       else 0
+                   end) * :#{#command.previousWeight}
+                  + (case when c.window_index = excluded.window_index then c.current_count else 0 end)
+                  < :#{#command.limit}
+            """, nativeQuery = true)
+    int acquire(@Param("command") LoginThrottleCounterAcquireCommand command);
+
+    @Transactional
+    @Modifying
+    @Query(value = "delete from login_throttle_counter where throttle_key = :throttleKey", nativeQuery = true)
+    int deleteByThrottleKey(@Param("throttleKey") String throttleKey);
+
+    @Transactional
+    @Modifying
+    @Query("delete from LoginThrottleCounter c where c.updatedAt < :updatedBefore")
+    int deleteUpdatedBefore(@Param("updatedBefore") LocalDateTime updatedBefore);
+}
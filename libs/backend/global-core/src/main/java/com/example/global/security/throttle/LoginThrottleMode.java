@@ -0,0 +1,14 @@
+package com.example.global.security.throttle;
+
+/**
+ * 로그인 시도 제한 카운터 저장 방식
+ *
+ * <p>
+ * - LOCAL: 노드 메모리의 슬라이딩 윈도우 카운터 (기본, DB 왕복 없음, 노드 수만큼 한도가 늘어남)
+ * - DATABASE: login_throttle_counter 테이블의 단일 UPSERT로 모든 노드가 카운터를 공유
+ * </p>
+ */
+public enum LoginThrottleMode {
+    LOCAL,
+    DATABASE
+}
@@ -0,0 +1,24 @@
+package com.example.global.security.throttle;
+
+/**
+ * 로그인 시도 제한 대상
+ *
+ * <p>
+ * - IP: 클라이언트 IP 기준 (본문 파싱 전에 검사)
+ * - LOGIN_ID: 로그인 아이디 기준 (본문 검증 후, 인증 전에 검사하며 로그인 성공 시 초기화)
+ * </p>
+ */
+public enum LoginThrottleScope {
+    IP("ip:"),
+    LOGIN_ID("login:");
+
+    private final String keyPrefix;
+
+    LoginThrottleScope(final String keyPrefix) {
+        this.keyPrefix = keyPrefix;
+    }
+
+    public String toKey(final String value) {
+        return keyPrefix + value;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.global.security.throttle.payload.dto;
+
+import com.example.global.security.throttle.LoginThrottleScope;
+
+/**
+ * 로그인 시도 제한 검사/초기화용 Command DTO
+ */
+public record LoginThrottleCommand(
+        LoginThrottleScope scope,
+        String value
+) {
+
+    public static LoginThrottleCommand of(final LoginThrottleScope scope, final String value) {
+        if (scope == null) {
+            throw new IllegalArgumentException("scope는 필수입니다.");
+        }
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("value는 필수입니다.");
+        }
+        return new LoginThrottleCommand(scope, value);
+    }
+
+    public String throttleKey() {
+        return scope.toKey(value);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.global.security.throttle.payload.dto;
+
+/**
+ * 공유 카운터 시도 획득(UPSERT)용 Command DTO
+ *
+ * <p>
+ * - previousWeight: 직전 윈도우 시도 수에 곱할 가중치 (현재 윈도우에서 남은 비율, 0~1)
+ * - limit: 가중 합계가 이 값 이상이면 카운트하지 않고 거절
+ * </p>
+ */
+public record LoginThrottleCounterAcquireCommand(
+        String throttleKey,
+        long windowIndex,
+        double previousWeight,
+        int limit
+) {
+
+    public static LoginThrottleCounterAcquireCommand of(
+            final String throttleKey,
+            final long windowIndex,
+            final double previousWeight,
+            final int limit
+    ) {
+        if (throttleKey == null || throttleKey.isBlank()) {
+            throw new IllegalArgumentException("throttleKey는 필수입니다.");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit는 1 이상이어야 합니다.");
+        }
+        return new LoginThrottleCounterAcquireCommand(throttleKey, windowIndex, previousWeight, limit);
+    }
+}
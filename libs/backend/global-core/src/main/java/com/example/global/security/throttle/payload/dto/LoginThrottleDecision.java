@@ -0,0 +1,27 @@
+package com.example.global.security.throttle.payload.dto;
+
+import com.example.global.security.throttle.LoginThrottleScope;
+
+/**
+ * 로그인 시도 제한 판정 결과
+ *
+ * <p>
+ * - 거절된 경우 scope(IP/LOGIN_ID)와 Retry-After(초)를 함께 제공합니다.
+ * </p>
+ */
+public record LoginThrottleDecision(
+        boolean allowed,
+        LoginThrottleScope scope,
+        long retryAfterSeconds
+) {
+
+    private static final LoginThrottleDecision ALLOWED = new LoginThrottleDecision(true, null, 0L);
+
+    public static LoginThrottleDecision allow() {
+        return ALLOWED;
+    }
+
+    public static LoginThrottleDecision throttled(final LoginThrottleScope scope, final long retryAfterSeconds) {
+        return new LoginThrottleDecision(false, scope, Math.max(1L, retryAfterSeconds));
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.global.security.throttle.service.command;
+
+import com.example.global.security.throttle.LoginThrottleCounterRepository;
+import com.example.global.security.throttle.LoginThrottleScope;
+import com.example.global.security.throttle.payload.dto.LoginThrottleCommand;
+import com.example.global.security.throttle.payload.dto.LoginThrottleCounterAcquireCommand;
+import com.example.global.security.throttle.payload.dto.LoginThrottleDecision;
+import com.example.global.security.throttle.support.LoginThrottlePolicy;
+import com.example.global.security.throttle.support.SlidingWindow;
+import com.example.global.security.throttle.support.SlidingWindowCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 로그인 시도 제한 (IP/로그인 아이디별 슬라이딩 윈도우)
+ *
+ * <p>
+ * - 로그인 필터가 회원 조회/BCrypt 검증 전에 호출하며, 거절된 시도는 인증 단계로 넘어가지 않습니다.
+ * - LOCAL 모드는 {@link SlidingWindowCounter}(락 없음, LRU 상한)로, DATABASE 모드는 공유 카운터 UPSERT로 판정합니다.
+ * - DATABASE 모드에서 DB 오류가 나면 로그인을 막지 않고 허용합니다. (제한 장치 장애가 전체 로그인 장애로 번지지 않도록)
+ * </p>
+ */
+@Slf4j
+@Service
+public class LoginThrottleCommandService {
+
+    private final LoginThrottleCounterRepository loginThrottleCounterRepository;
+    private final LoginThrottlePolicy loginThrottlePolicy;
+    private final Clock clock;
+    private final Map<LoginThrottleScope, SlidingWindowCounter> localCounters = new EnumMap<>(LoginThrottleScope.class);
+
+    public LoginThrottleCommandService(
+            final LoginThrottleCounterRepository loginThrottleCounterRepository,
+            final LoginThrottlePolicy loginThrottlePolicy
+    ) {
+        this(loginThrottleCounterRepository, loginThrottlePolicy, Clock.systemUTC());
+    }
+
+    LoginThrottleCommandService(
+            final LoginThrottleCounterRepository loginThrottleCounterRepository,
+            final LoginThrottlePolicy loginThrottlePolicy,
+            final Clock clock
+    ) {
+        this.loginThrottleCounterRepository = loginThrottleCounterRepository;
+        this.loginThrottlePolicy = loginThrottlePolicy;
+        this.clock = clock;
+        for (final LoginThrottleScope scope : LoginThrottleScope.values()) {
+            localCounters.put(scope, new SlidingWindowCounter(
+                    loginThrottlePolicy.window(scope),
+                    loginThrottlePolicy.maxKeys(),
+                    loginThrottlePolicy.stripes(),
+                    clock::millis
+            ));
+        }
+    }
+
+    /**
+     * 시도 1회를 기록하고 허용 여부를 반환합니다. 한도에 도달했으면 기록하지 않고 거절합니다.
+     */
+    public LoginThrottleDecision acquire(final LoginThrottleCommand command) {
+        if (!loginThrottlePolicy.enabled()) {
+            return LoginThrottleDecision.allow();
+        }
+
+        final LoginThrottleScope scope = command.scope();
+        final boolean allowed = loginThrottlePolicy.usesDatabase()
+                ? acquireShared(command)
+                : localCounters.get(scope).tryAcquire(command.throttleKey(), loginThrottlePolicy.limit(scope));
+        if (allowed) {
+            return LoginThrottleDecision.allow();
+        }
+        return LoginThrottleDecision.throttled(scope, loginThrottlePolicy.window(scope).retryAfterSeconds(clock.millis()));
+    }
+
+    /**
+     * 로그인 성공 시 로그인 아이디 카운터를 초기화합니다. (IP 카운터는 유지)
+     */
+    public void reset(final LoginThrottleCommand command) {
+        if (!loginThrottlePolicy.enabled()) {
+            return;
+        }
+
+        if (!loginThrottlePolicy.usesDatabase()) {
+            localCounters.get(command.scope()).reset(command.throttleKey());
+            return;
+        }
+        try {
+            loginThrottleCounterRepository.deleteByThrottleKey(command.throttleKey());
+        } catch (RuntimeException e) {
+            log.warn("[LOGIN_THROTTLE] 공유 카운터 초기화 실패: scope={}, exceptionName={}",
+                    command.scope(), e.getClass().getSimpleName(), e);
+        }
+    }
+
+    private boolean acquireShared(final LoginThrottleCommand command) {
+        final LoginThrottleScope scope = command.scope();
+        final SlidingWindow window = loginThrottlePolicy.window(scope);
+        final long now = clock.millis();
+        try {
+            return loginThrottleCounterRepository.acquire(LoginThrottleCounterAcquireCommand.of(
+                    command.throttleKey(),
+                    window.index(now),
+                    window.previousWeight(now),
+                    loginThrottlePolicy.limit(scope)
+            )) == 1;
+        } catch (RuntimeException e) {
+            log.warn("[LOGIN_THROTTLE] 공유 카운터 갱신 실패, 허용 처리: scope={}, exceptionName={}",
+                    scope, e.getClass().getSimpleName(), e);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.global.security.throttle.support;
+
+import com.example.global.security.throttle.LoginThrottleMode;
+import com.example.global.security.throttle.LoginThrottleScope;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 로그인 시도 제한 설정
+ *
+ * <p>
+ * 설정 (app.security.login-throttle.*)
+ * - enabled: 사용 여부 (기본 true)
+ * - mode: LOCAL / DATABASE (기본 LOCAL)
+ * - ip-limit / ip-window: IP별 허용 시도 수 / 윈도우 (기본 60 / PT1M)
+ * - login-id-limit / login-id-window: 로그인 아이디별 허용 시도 수 / 윈도우 (기본 10 / PT5M)
+ * - max-keys / stripes: LOCAL 모드 scope별 최대 키 수 / stripe 수 (기본 100000 / 16)
+ * </p>
+ */
+@Component
+public class LoginThrottlePolicy {
+
+    private final boolean enabled;
+    private final LoginThrottleMode mode;
+    private final int ipLimit;
+    private final SlidingWindow ipWindow;
+    private final int loginIdLimit;
+    private final SlidingWindow loginIdWindow;
+    private final int maxKeys;
+    private final int stripes;
+
+    public LoginThrottlePolicy(
+            @Value("${app.security.login-throttle.enabled:true}") final boolean enabled,
+            @Value("${app.security.login-throttle.mode:LOCAL}") final LoginThrottleMode mode,
+            @Value("${app.security.login-throttle.ip-limit:60}") final int ipLimit,
+            @Value("${app.security.login-throttle.ip-window:PT1M}") final Duration ipWindow,
+            @Value("${app.security.login-throttle.login-id-limit:10}") final int loginIdLimit,
+            @Value("${app.security.login-throttle.login-id-window:PT5M}") final Duration loginIdWindow,
+            @Value("${app.security.login-throttle.max-keys:100000}") final int maxKeys,
+            @Value("${app.security.login-throttle.stripes:16}") final int stripes
+    ) {
+        this.enabled = enabled;
+        this.mode = mode;
+        this.ipLimit = Math.max(1, ipLimit);
+        this.ipWindow = SlidingWindow.of(ipWindow);
+        this.loginIdLimit = Math.max(1, loginIdLimit);
+        this.loginIdWindow = SlidingWindow.of(loginIdWindow);
+        this.maxKeys = Math.max(1, maxKeys);
+        this.stripes = Math.max(1, stripes);
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    public LoginThrottleMode mode() {
+        return mode;
+    }
+
+    public boolean usesDatabase() {
+        return enabled && mode == LoginThrottleMode.DATABASE;
+    }
+
+    public int limit(final LoginThrottleScope scope) {
+        return scope == LoginThrottleScope.IP ? ipLimit : loginIdLimit;
+    }
+
+    public SlidingWindow window(final LoginThrottleScope scope) {
+        return scope == LoginThrottleScope.IP ? ipWindow : loginIdWindow;
+    }
+
+    /**
+     * DATABASE 모드에서 이 시간보다 오래 갱신되지 않은 카운터는 더 이상 한도에 영향을 주지 않습니다. (윈도우 2개)
+     */
+    public Duration counterRetention() {
+        return Duration.ofMillis(Math.max(ipWindow.windowMillis(), loginIdWindow.windowMillis()) * 2);
+    }
+
+    public int maxKeys() {
+        return maxKeys;
+    }
+
+    public int stripes() {
+        return stripes;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.global.security.throttle.support;
+
+import java.time.Duration;
+
+/**
+ * 슬라이딩 윈도우 계산 (고정 윈도우 2개 가중 합산 방식)
+ *
+ * <p>
+ * - 시각(epoch millis)을 윈도우 길이로 나눈 번호로 현재 윈도우를 정하고,
+ *   직전 윈도우 시도 수는 현재 윈도우에서 아직 지나지 않은 비율만큼만 반영합니다.
+ * - epoch 기준이므로 DATABASE 모드에서 노드가 달라도 같은 윈도우 번호를 사용합니다.
+ * </p>
+ */
+public record SlidingWindow(long windowMillis) {
+
+    public SlidingWindow {
+        if (windowMillis <= 0) {
+            throw new IllegalArgumentException("windowMillis는 0보다 커야 합니다.");
+        }
+    }
+
+    public static SlidingWindow of(final Duration window) {
+        if (window == null) {
+            throw new IllegalArgumentException("window는 필수입니다.");
+        }
+        return new SlidingWindow(window.toMillis());
+    }
+
+    public long index(final long epochMillis) {
+        return Math.floorDiv(epochMillis, windowMillis);
+    }
+
+    /**
+     * 직전 윈도우 시도 수에 곱할 가중치 (윈도우 시작 직후 1에 가깝고, 끝에서 0에 가까움)
+     */
+    public double previousWeight(final long epochMillis) {
+        return 1.0d - (double) Math.floorMod(epochMillis, windowMillis) / windowMillis;
+    }
+
+    /**
+     * 거절 시 Retry-After(초): 현재 윈도우가 끝날 때까지 남은 시간입니다. (직전 윈도우 가중치가 사라지는 시점)
+     */
+    public long retryAfterSeconds(final long epochMillis) {
+        final long remainingMillis = windowMillis - Math.floorMod(epochMillis, windowMillis);
+        return Math.max(1L, (remainingMillis + 999L) / 1000L);
+    }
+
+    /**
+     * 가중 합계가 한도 미만이면 true
+     */
+    public static boolean hasCapacity(
+            final long previousCount,
+            final long currentCount,
+            final double previousWeight,
+            final int limit
+    ) {
+        return previousCount * previousWeight + currentCount < limit;
+    }
+}
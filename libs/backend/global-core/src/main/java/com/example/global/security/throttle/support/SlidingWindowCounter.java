@@ -0,0 +1,176 @@
+package com.example.global.security.throttle.support;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 노드 로컬 슬라이딩 윈도우 카운터
+ *
+ * <p>
+ * - 키별 상태(윈도우 번호 24비트 + 현재 시도 수 20비트 + 직전 시도 수 20비트)를 long 하나에 담아 CAS로 갱신합니다. (락 없음)
+ * - 키 공간은 stripe 단위 {@link ConcurrentHashMap}으로 나누고, stripe마다 최대 크기를 넘으면
+ *   가장 오래 접근되지 않은 키부터 제거합니다. (LRU 근사, 정리 중에도 다른 stripe는 영향 없음)
+ * - 한도에 도달한 시도는 카운트하지 않으므로, 거절이 계속되어도 윈도우가 지나면 다시 허용됩니다.
+ * </p>
+ */
+public class SlidingWindowCounter {
+
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final long WINDOW_MASK = (1L << (Long.SIZE - COUNT_BITS * 2)) - 1;
+
+    /**
+     * 용량 초과 시 한 번에 stripe 최대 크기의 90%까지 줄여 정리 빈도를 낮춥니다.
+     */
+    private static final double SHRINK_TARGET_RATIO = 0.9d;
+
+    private final SlidingWindow window;
+    private final ConcurrentHashMap<String, Entry>[] stripes;
+    private final int maxKeysPerStripe;
+    private final LongSupplier epochMillisClock;
+    private final LongAdder evictionCount = new LongAdder();
+
+    public SlidingWindowCounter(final SlidingWindow window, final int maxKeys, final int stripeCount) {
+        this(window, maxKeys, stripeCount, System::currentTimeMillis);
+    }
+
+    @SuppressWarnings("unchecked")
+    public SlidingWindowCounter(
+            final SlidingWindow window,
+            final int maxKeys,
+            final int stripeCount,
+            final LongSupplier epochMillisClock
+    ) {
+        if (window == null) {
+            throw new IllegalArgumentException("window는 필수입니다.");
+        }
+        if (maxKeys <= 0) {
+            throw new IllegalArgumentException("maxKeys는 0보다 커야 합니다.");
+        }
+        final int stripeSize = Integer.highestOneBit(Math.max(1, Math.min(stripeCount, maxKeys)));
+        this.window = window;
+        this.stripes = new ConcurrentHashMap[stripeSize];
+        for (int i = 0; i < stripeSize; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+        this.maxKeysPerStripe = Math.max(1, maxKeys / stripeSize);
+        this.epochMillisClock = epochMillisClock;
+    }
+
+    /**
+     * 한도 안이면 시도 1회를 기록하고 true, 한도에 도달했으면 기록하지 않고 false를 반환합니다.
+     */
+    public boolean tryAcquire(final String key, final int limit) {
+        if (key == null || limit <= 0) {
+            return limit > 0;
+        }
+
+        final long now = epochMillisClock.getAsLong();
+        final long windowIndex = window.index(now) & WINDOW_MASK;
+        final double previousWeight = window.previousWeight(now);
+        final Entry entry = entry(key, windowIndex, now);
+
+        while (true) {
+            final long state = entry.state.get();
+            final long stateWindow = state >>> (COUNT_BITS * 2);
+            long current = (state >>> COUNT_BITS) & COUNT_MASK;
+            long previous = state & COUNT_MASK;
+            if (stateWindow != windowIndex) {
+                previous = ((stateWindow + 1) & WINDOW_MASK) == windowIndex ? current : 0L;
+                current = 0L;
+            }
+
+            if (!SlidingWindow.hasCapacity(previous, current, previousWeight, limit)) {
+                return false;
+            }
+
+            final long next = pack(windowIndex, Math.min(current + 1, COUNT_MASK), previous);
+            if (entry.state.compareAndSet(state, next)) {
+                return true;
+            }
+        }
+    }
+
+    public void reset(final String key) {
+        if (key != null) {
+            stripe(key).remove(key);
+        }
+    }
+
+    public long retryAfterSeconds() {
+        return window.retryAfterSeconds(epochMillisClock.getAsLong());
+    }
+
+    public int size() {
+        int size = 0;
+        for (final ConcurrentHashMap<String, Entry> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    public long evictionCount() {
+        return evictionCount.sum();
+    }
+
+    private Entry entry(final String key, final long windowIndex, final long now) {
+        final ConcurrentHashMap<String, Entry> stripe = stripe(key);
+        Entry entry = stripe.get(key);
+        if (entry == null) {
+            entry = stripe.computeIfAbsent(key, ignored -> new Entry(pack(windowIndex, 0L, 0L)));
+            if (stripe.size() > maxKeysPerStripe) {
+                shrink(stripe, key);
+            }
+        }
+        entry.lastAccessMillis = now;
+        return entry;
+    }
+
+    private ConcurrentHashMap<String, Entry> stripe(final String key) {
+        final int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private void shrink(final ConcurrentHashMap<String, Entry> stripe, final String retainedKey) {
+        synchronized (stripe) {
+            if (stripe.size() <= maxKeysPerStripe) {
+                return;
+            }
+
+            final int targetSize = Math.max(1, (int) (maxKeysPerStripe * SHRINK_TARGET_RATIO));
+            stripe.entrySet().stream()
+                    .filter(entry -> !entry.getKey().equals(retainedKey))
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccessMillis))
+                    .limit(Math.max(0, stripe.size() - targetSize))
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(evictedKey -> {
+                        if (stripe.remove(evictedKey) != null) {
+                            evictionCount.increment();
+                        }
+                    });
+        }
+    }
+
+    private static long pack(final long windowIndex, final long current, final long previous) {
+        return (windowIndex << (COUNT_BITS * 2)) | (current << COUNT_BITS) | previous;
+    }
+
+    private static final class Entry {
+
+        private final AtomicLong state;
+
+        /**
+         * LRU 근사용 마지막 접근 시각입니다. 정확한 순서가 필요하지 않으므로 CAS 없이 덮어씁니다.
+         */
+        private volatile long lastAccessMillis;
+
+        private Entry(final long initialState) {
+            this.state = new AtomicLong(initialState);
+        }
+    }
+}
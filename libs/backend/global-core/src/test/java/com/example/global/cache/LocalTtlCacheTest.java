@@ -0,0 +1,104 @@
+package com.example.global.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalTtlCacheTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    @DisplayName("저장한 값은 TTL 이내에 조회되고 hit로 집계된다")
+    void get_within_ttl_returns_value() {
+        // Arrange
+        final LocalTtlCache<String, String> cache = new LocalTtlCache<>(10, Duration.ofSeconds(30), nanoTime::get);
+        cache.put("user1", "value");
+
+        // Act
+        nanoTime.addAndGet(Duration.ofSeconds(29).toNanos());
+
+        // Assert
+        assertThat(cache.get("user1")).contains("value");
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 값은 조회되지 않고 eviction으로 집계된다")
+    void get_after_ttl_returns_empty() {
+        // Arrange
+        final LocalTtlCache<String, String> cache = new LocalTtlCache<>(10, Duration.ofSeconds(30), nanoTime::get);
+        cache.put("user1", "value");
+
+        // Act
+        nanoTime.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // Assert
+        assertThat(cache.get("user1")).isEmpty();
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+        assertThat(cache.stats().evictionCount()).isEqualTo(1);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("항목별 TTL은 캐시 기본 TTL을 넘지 않는다")
+    void put_with_longer_ttl_is_capped_by_default_ttl() {
+        // Arrange
+        final LocalTtlCache<String, String> cache = new LocalTtlCache<>(10, Duration.ofSeconds(30), nanoTime::get);
+        cache.put("user1", "value", Duration.ofMinutes(10));
+
+        // Act
+        nanoTime.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        // Assert
+        assertThat(cache.get("user1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 만료가 임박한 항목부터 제거된다")
+    void put_over_max_size_evicts_oldest_entries() {
+        // Arrange
+        final LocalTtlCache<String, String> cache = new LocalTtlCache<>(10, Duration.ofSeconds(30), nanoTime::get);
+        for (int i = 0; i < 10; i++) {
+            cache.put("user" + i, "value" + i);
+            nanoTime.incrementAndGet();
+        }
+
+        // Act
+        cache.put("user10", "value10");
+
+        // Assert
+        assertThat(cache.size()).isEqualTo(9);
+        assertThat(cache.get("user0")).isEmpty();
+        assertThat(cache.get("user10")).contains("value10");
+        assertThat(cache.stats().evictionCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("invalidate는 항목을 제거하고 invalidation으로 집계된다")
+    void invalidate_removes_entry() {
+        // Arrange
+        final LocalTtlCache<String, String> cache = new LocalTtlCache<>(10, Duration.ofSeconds(30), nanoTime::get);
+        cache.put("user1", "value");
+
+        // Act
+        cache.invalidate("user1");
+
+        // Assert
+        assertThat(cache.get("user1")).isEmpty();
+        assertThat(cache.stats().invalidationCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("maxSize가 0 이하이면 IllegalArgumentException이 발생한다")
+    void constructor_non_positive_max_size_throws_exception() {
+        // Act & Assert
+        assertThatThrownBy(() -> new LocalTtlCache<String, String>(0, Duration.ofSeconds(30)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.global.cache.invalidation;
+
+import com.example.global.cache.invalidation.payload.dto.CacheInvalidationMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationDispatcherTest {
+
+    private static final Duration RETENTION = Duration.ofHours(1);
+    private static final long INITIAL_XID = 100L;
+
+    @Mock
+    private CacheInvalidationEventRepository cacheInvalidationEventRepository;
+
+    @Mock
+    private CacheInvalidationSubscriber memberSubscriber;
+
+    @Mock
+    private CacheInvalidationSubscriber blacklistSubscriber;
+
+    private CacheInvalidationDispatcher dispatcher;
+    private LocalDateTime startedAt;
+
+    @BeforeEach
+    void setUp() {
+        given(memberSubscriber.topic()).willReturn(CacheInvalidationTopic.MEMBER_AUTH_CHANGED);
+        given(blacklistSubscriber.topic()).willReturn(CacheInvalidationTopic.TOKEN_BLACKLISTED);
+        dispatcher = new CacheInvalidationDispatcher(
+                cacheInvalidationEventRepository,
+                List.of(memberSubscriber, blacklistSubscriber),
+                RETENTION
+        );
+
+        startedAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        given(cacheInvalidationEventRepository.findCommittedXidHorizon()).willReturn(String.valueOf(INITIAL_XID));
+        dispatcher.initialize(startedAt);
+    }
+
+    @Test
+    @DisplayName("수신 경계 이후 트랜잭션의 이벤트를 토픽별 구독자에게 전달하고 경계를 커밋 완료 xid로 전진시킨다")
+    void catchUp_dispatches_by_topic_and_advances_committed_xid() {
+        // Arrange
+        given(cacheInvalidationEventRepository.findCommittedXidHorizon()).willReturn("105");
+        given(cacheInvalidationEventRepository.findRowsFromXid(eq(INITIAL_XID), eq(0L), anyInt())).willReturn(List.of(
+                row(11L, CacheInvalidationTopic.MEMBER_AUTH_CHANGED, "member01", 101L),
+                row(12L, CacheInvalidationTopic.TOKEN_BLACKLISTED, "hash", 102L)
+        ));
+
+        // Act
+        dispatcher.catchUp(startedAt.plusSeconds(1));
+
+        // Assert
+        verify(memberSubscriber).onInvalidated(message(11L, CacheInvalidationTopic.MEMBER_AUTH_CHANGED, "member01"));
+        verify(blacklistSubscriber).onInvalidated(message(12L, CacheInvalidationTopic.TOKEN_BLACKLISTED, "hash"));
+        verify(memberSubscriber, never()).onInvalidated(message(12L, CacheInvalidationTopic.TOKEN_BLACKLISTED, "hash"));
+        assertThat(dispatcher.committedXid()).isEqualTo(105L);
+    }
+
+    @Test
+    @DisplayName("작은 시퀀스로 늦게 커밋된 이벤트는 커밋 지연 시간과 무관하게 다음 추격에서 전달하고, 경계 위 이벤트는 한 번만 전달한다")
+    void catchUp_late_commit_dispatched_once_regardless_of_delay() {
+        // Arrange
+        final CacheInvalidationEventRow visibleAboveHorizon = row(12L, CacheInvalidationTopic.MEMBER_AUTH_CHANGED, "member01", 103L);
+        final CacheInvalidationEventRow lateCommitted = row(11L, CacheInvalidationTopic.MEMBER_AUTH_CHANGED, "member02", 101L);
+        // xid 101 트랜잭션이 열려 있는 동안 경계는 101에 머뭅니다.
+        given(cacheInvalidationEventRepository.findCommittedXidHorizon()).willReturn("101", "104");
+        given(cacheInvalidationEventRepository.findRowsFromXid(eq(INITIAL_XID), eq(0L), anyInt()))
+                .willReturn(List.of(visibleAboveHorizon));
+        given(cacheInvalidationEventRepository.findRowsFromXid(eq(101L), eq(0L), anyInt()))
+                .willReturn(List.of(lateCommitted, visibleAboveHorizon));
+
+        // Act
+        dispatcher.catchUp(startedAt.plusSeconds(1));
+        dispatcher.catchUp(startedAt.plusMinutes(5));
+
+        // Assert
+        verify(memberSubscriber, times(1)).onInvalidated(message(12L, CacheInvalidationTopic.MEMBER_AUTH_CHANGED, "member01"));
+        verify(memberSubscriber, times(1)).onInvalidated(message(11L, CacheInvalidationTopic.MEMBER_AUTH_CHANGED, "member02"));
+        assertThat(dispatcher.committedXid()).isEqualTo(104L);
+    }
+
+    @Test
+    @DisplayName("추격 대상이 배치 크기를 넘으면 시퀀스 keyset으로 페이지를 넘겨 최신 이벤트까지 전달한다")
+    void catchUp_pages_through_rows() {
+        // Arrange
+        final List<CacheInvalidationEventRow> firstPage = LongStream.rangeClosed(1, CacheInvalidationDispatcher.CATCH_UP_BATCH_SIZE)
+                .mapToObj(sequence -> row(sequence, CacheInvalidationTopic.MEMBER_AUTH_CHANGED, "member" + sequence, 101L))
+                .toList();
+        final long lastOfFirstPage = CacheInvalidationDispatcher.CATCH_UP_BATCH_SIZE;
+        given(cacheInvalidationEventRepository.findRowsFromXid(eq(INITIAL_XID), eq(0L), anyInt())).willReturn(firstPage);
+        given(cacheInvalidationEventRepository.findRowsFromXid(eq(INITIAL_XID), eq(lastOfFirstPage), anyInt()))
+                .willReturn(List.of(row(lastOfFirstPage + 1, CacheInvalidationTopic.TOKEN_BLACKLISTED, "hash", 102L)));
+
+        // Act
+        dispatcher.catchUp(startedAt.plusSeconds(1));
+
+        // Assert
+        verify(blacklistSubscriber).onInvalidated(message(lastOfFirstPage + 1, CacheInvalidationTopic.TOKEN_BLACKLISTED, "hash"));
+        verify(memberSubscriber, times(CacheInvalidationDispatcher.CATCH_UP_BATCH_SIZE)).onInvalidated(any());
+    }
+
+    @Test
+    @DisplayName("보관 기간 이상 추격하지 못했으면 모든 구독자에게 전체 재동기화를 요청한다")
+    void catchUp_after_retention_gap_requests_resync() {
+        // Arrange
+        given(cacheInvalidationEventRepository.findRowsFromXid(anyLong(), anyLong(), anyInt())).willReturn(List.of());
+
+        // Act
+        dispatcher.catchUp(startedAt.plus(RETENTION).plusSeconds(1));
+
+        // Assert
+        verify(memberSubscriber).onResync();
+        verify(blacklistSubscriber).onResync();
+    }
+
+    @Test
+    @DisplayName("구독자 처리 중 예외가 발생해도 다음 메시지 전달을 계속한다")
+    void catchUp_subscriber_failure_does_not_stop_dispatch() {
+        // Arrange
+        final CacheInvalidationMessage failing = message(11L, CacheInvalidationTopic.MEMBER_AUTH_CHANGED, "member01");
+        given(cacheInvalidationEventRepository.findCommittedXidHorizon()).willReturn("103");
+        given(cacheInvalidationEventRepository.findRowsFromXid(anyLong(), anyLong(), anyInt())).willReturn(List.of(
+                row(11L, CacheInvalidationTopic.MEMBER_AUTH_CHANGED, "member01", 101L),
+                row(12L, CacheInvalidationTopic.MEMBER_AUTH_CHANGED, "member02", 102L)
+        ));
+        doThrow(new IllegalStateException("boom")).when(memberSubscriber).onInvalidated(failing);
+
+        // Act
+        dispatcher.catchUp(startedAt.plusSeconds(1));
+
+        // Assert
+        verify(memberSubscriber).onInvalidated(message(12L, CacheInvalidationTopic.MEMBER_AUTH_CHANGED, "member02"));
+        assertThat(dispatcher.committedXid()).isEqualTo(103L);
+    }
+
+    private CacheInvalidationMessage message(long sequence, CacheInvalidationTopic topic, String key) {
+        return CacheInvalidationMessage.of(sequence, topic, key, null);
+    }
+
+    private CacheInvalidationEventRow row(long sequence, CacheInvalidationTopic topic, String key, long createdXid) {
+        return new TestEventRow(sequence, topic.name(), key, String.valueOf(createdXid));
+    }
+
+    private record TestEventRow(Long sequence, String topic, String cacheKey, String createdXid)
+            implements CacheInvalidationEventRow {
+
+        @Override
+        public Long getSequence() {
+            return sequence;
+        }
+
+        @Override
+        public String getTopic() {
+            return topic;
+        }
+
+        @Override
+        public String getCacheKey() {
+            return cacheKey;
+        }
+
+        @Override
+        public LocalDateTime getExpiresAt() {
+            return null;
+        }
+
+        @Override
+        public String getCreatedXid() {
+            return createdXid;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.global.pagination;
+
+import com.example.global.pagination.enums.PageCountStrategy;
+import com.example.global.pagination.enums.TotalCountType;
+import com.example.global.pagination.payload.PageCountQuery;
+import com.example.global.payload.response.PageResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class PageCountResolverTest {
+
+    @Mock
+    private TableRowEstimator tableRowEstimator;
+
+    private PageCountResolver resolver(final PageCountStrategy strategy) {
+        return new PageCountResolver(tableRowEstimator, strategy, Duration.ofSeconds(10), 100, 1000L);
+    }
+
+    private static LongSupplier counting(final AtomicInteger calls, final long total) {
+        return () -> {
+            calls.incrementAndGet();
+            return total;
+        };
+    }
+
+    @Test
+    @DisplayName("다음 행이 없는 마지막 페이지는 count 없이 offset + 행 수를 정확한 건수로 반환한다")
+    void toPage_lastPage_skipsCount() {
+        // Arrange
+        final AtomicInteger countCalls = new AtomicInteger();
+        final PageCountQuery countQuery = PageCountQuery.filtered("member_log", "loginId=user", counting(countCalls, 999L));
+
+        // Act
+        final PageResponse<String> page = resolver(PageCountStrategy.EXACT)
+                .toPage(List.of("a", "b"), PageRequest.of(2, 10), countQuery);
+
+        // Assert
+        assertThat(page.totalElements()).isEqualTo(22L);
+        assertThat(page.totalCountType()).isEqualTo(TotalCountType.EXACT);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(countCalls).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("AUTO 전략에서 조건 없는 조회는 통계 추정치를, 조건 있는 조회는 캐시한 count를 재사용한다")
+    void toPage_auto_usesEstimateOrCachedCount() {
+        // Arrange
+        final PageCountResolver resolver = resolver(PageCountStrategy.AUTO);
+        final List<String> fetched = List.of("a", "b", "c");
+        final AtomicInteger countCalls = new AtomicInteger();
+        given(tableRowEstimator.estimate("member_log")).willReturn(OptionalLong.of(5_000_000L));
+
+        // Act
+        final PageResponse<String> unfiltered = resolver.toPage(fetched, PageRequest.of(0, 2),
+                PageCountQuery.unfiltered("member_log", counting(countCalls, 1L)));
+        final PageResponse<String> first = resolver.toPage(fetched, PageRequest.of(0, 2),
+                PageCountQuery.filtered("member_log", "logType=LOGIN", counting(countCalls, 42L)));
+        final PageResponse<String> second = resolver.toPage(fetched, PageRequest.of(1, 2),
+                PageCountQuery.filtered("member_log", "logType=LOGIN", counting(countCalls, 43L)));
+
+        // Assert
+        assertThat(unfiltered.totalCountType()).isEqualTo(TotalCountType.ESTIMATED);
+        assertThat(unfiltered.totalElements()).isEqualTo(5_000_000L);
+        assertThat(unfiltered.content()).containsExactly("a", "b");
+        assertThat(first.totalCountType()).isEqualTo(TotalCountType.EXACT);
+        assertThat(first.totalElements()).isEqualTo(42L);
+        assertThat(second.totalElements()).isEqualTo(42L);
+        assertThat(countCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("HAS_NEXT 전략은 count 없이 다음 페이지 여부만 반환한다")
+    void toPage_hasNext_returnsNoTotal() {
+        // Arrange
+        final AtomicInteger countCalls = new AtomicInteger();
+
+        // Act
+        final PageResponse<String> page = resolver(PageCountStrategy.HAS_NEXT).toPage(
+                List.of("a", "b", "c"), PageRequest.of(0, 2), PageCountQuery.unfiltered("member_log", counting(countCalls, 1L))
+        );
+
+        // Assert
+        assertThat(page.totalCountType()).isEqualTo(TotalCountType.NONE);
+        assertThat(page.totalElements()).isNull();
+        assertThat(page.totalPages()).isNull();
+        assertThat(page.hasNext()).isTrue();
+        assertThat(countCalls).hasValue(0);
+        verifyNoInteractions(tableRowEstimator);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.global.pagination;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TableRowEstimatorTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private Query query;
+
+    private final TransactionStatus status = mock(TransactionStatus.class);
+    private TableRowEstimator estimator;
+
+    @BeforeEach
+    void setUp() {
+        estimator = new TableRowEstimator(entityManager, transactionManager, Duration.ofMinutes(1));
+        given(transactionManager.getTransaction(any())).willReturn(status);
+        given(entityManager.createNativeQuery(anyString())).willReturn(query);
+        given(query.setParameter(anyInt(), any())).willReturn(query);
+    }
+
+    @Test
+    @DisplayName("추정 쿼리는 호출자 트랜잭션과 분리된 읽기 전용 REQUIRES_NEW 트랜잭션에서 실행한다")
+    void estimate_runs_in_separate_read_only_transaction() {
+        // Arrange
+        given(query.getSingleResult()).willReturn(150_000L);
+
+        // Act
+        final OptionalLong estimated = estimator.estimate("member_log");
+
+        // Assert
+        assertThat(estimated).hasValue(150_000L);
+        final ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertThat(definition.getValue().getPropagationBehavior()).isEqualTo(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        assertThat(definition.getValue().isReadOnly()).isTrue();
+        verify(transactionManager).commit(status);
+    }
+
+    @Test
+    @DisplayName("추정 쿼리가 실패하면 분리된 트랜잭션만 롤백하고 empty를 반환한다")
+    void estimate_failure_rolls_back_only_separate_transaction() {
+        // Arrange
+        given(query.getSingleResult()).willThrow(new PersistenceException("relation does not exist"));
+
+        // Act
+        final OptionalLong estimated = estimator.estimate("missing_table");
+
+        // Assert
+        assertThat(estimated).isEmpty();
+        verify(transactionManager).rollback(status);
+        verify(transactionManager, never()).commit(status);
+    }
+}
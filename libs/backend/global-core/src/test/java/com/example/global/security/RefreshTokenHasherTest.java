@@ -0,0 +1,47 @@
+package com.example.global.security;
+
+import com.example.global.security.jwt.JwtProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RefreshTokenHasherTest {
+
+    private static final String SECRET = "a-very-long-secret-key-for-testing-at-least-32-chars";
+
+    private RefreshTokenHasher createHasher(final String secret) {
+        final JwtProperties props = JwtProperties.of("issuer", secret, Duration.ofHours(1), Duration.ofDays(7));
+        return new RefreshTokenHasher(props);
+    }
+
+    @Test
+    void hash_blank_returns_empty() {
+        final RefreshTokenHasher hasher = createHasher(SECRET);
+        assertThat(hasher.hash(null)).isEmpty();
+        assertThat(hasher.hash("   ")).isEmpty();
+    }
+
+    @Test
+    void hash_same_token_is_deterministic_64_hex() {
+        final RefreshTokenHasher hasher = createHasher(SECRET);
+        final String hash = hasher.hash("my-refresh-token");
+        assertThat(hash).hasSize(64).matches("[0-9a-f]+");
+        assertThat(hasher.hash("my-refresh-token")).isEqualTo(hash);
+    }
+
+    @Test
+    void hash_different_secret_produces_different_hash() {
+        final String hash1 = createHasher(SECRET).hash("my-refresh-token");
+        final String hash2 = createHasher(SECRET + "-rotated").hash("my-refresh-token");
+        assertThat(hash1).isNotEqualTo(hash2);
+    }
+
+    @Test
+    void construction_with_blank_secret_throws_exception() {
+        assertThatThrownBy(() -> createHasher("   "))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
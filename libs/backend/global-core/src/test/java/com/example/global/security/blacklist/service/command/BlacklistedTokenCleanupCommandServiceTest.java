@@ -0,0 +1,124 @@
+package com.example.global.security.blacklist.service.command;
+
+import com.example.global.security.blacklist.BlacklistedTokenCleanupMode;
+import com.example.global.security.blacklist.BlacklistedTokenRepository;
+import com.example.global.security.blacklist.payload.dto.BlacklistedTokenCleanupResult;
+import com.example.global.security.blacklist.support.BlacklistedTokenCleanupLogWriter;
+import com.example.global.security.blacklist.support.BlacklistedTokenPartitionManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BlacklistedTokenCleanupCommandServiceTest {
+
+    @InjectMocks
+    private BlacklistedTokenCleanupCommandService blacklistedTokenCleanupCommandService;
+
+    @Mock
+    private BlacklistedTokenRepository blacklistedTokenRepository;
+
+    @Mock
+    private BlacklistedTokenPartitionManager blacklistedTokenPartitionManager;
+
+    @Mock
+    private BlacklistedTokenCleanupLogWriter cleanupLogWriter;
+
+    @Test
+    @DisplayName("파티션 테이블이면 오늘 이전 파티션만 DETACH/DROP하고 DELETE는 실행하지 않는다")
+    void cleanupExpiredTokens_partitioned_dropsPastPartitionsOnly() {
+        // Arrange
+        final LocalDate today = LocalDate.now(ZoneId.systemDefault());
+        given(blacklistedTokenPartitionManager.currentWalInsertLsn()).willReturn("0/16B3748");
+        given(blacklistedTokenPartitionManager.walBytesSince("0/16B3748")).willReturn(512L);
+        given(blacklistedTokenPartitionManager.isPartitioned()).willReturn(true);
+        given(blacklistedTokenPartitionManager.findPartitionDays())
+                .willReturn(List.of(today, today.minusDays(1), today.plusDays(1), today.minusDays(2)));
+        given(blacklistedTokenPartitionManager.detachAndDropPartition(today.minusDays(2))).willReturn(100L);
+        given(blacklistedTokenPartitionManager.detachAndDropPartition(today.minusDays(1))).willReturn(200L);
+
+        // Act
+        final BlacklistedTokenCleanupResult result = blacklistedTokenCleanupCommandService.cleanupExpiredTokens();
+
+        // Assert
+        assertThat(result.mode()).isEqualTo(BlacklistedTokenCleanupMode.PARTITION_DROP);
+        assertThat(result.droppedPartitionCount()).isEqualTo(2);
+        assertThat(result.removedCount()).isEqualTo(300L);
+        assertThat(result.walBytes()).isEqualTo(512L);
+        verify(blacklistedTokenPartitionManager, never()).detachAndDropPartition(today);
+        verify(blacklistedTokenPartitionManager, never()).detachAndDropPartition(today.plusDays(1));
+        verify(blacklistedTokenRepository, never()).deleteExpiredTokens(any());
+        verify(cleanupLogWriter).logCleanup(result);
+    }
+
+    @Test
+    @DisplayName("한 파티션 정리가 실패해도 나머지 파티션은 계속 정리한다")
+    void cleanupExpiredTokens_partitionFailure_continuesWithRemaining() {
+        // Arrange
+        final LocalDate today = LocalDate.now(ZoneId.systemDefault());
+        given(blacklistedTokenPartitionManager.currentWalInsertLsn()).willReturn("0/16B3748");
+        given(blacklistedTokenPartitionManager.walBytesSince("0/16B3748")).willReturn(256L);
+        given(blacklistedTokenPartitionManager.isPartitioned()).willReturn(true);
+        given(blacklistedTokenPartitionManager.findPartitionDays())
+                .willReturn(List.of(today.minusDays(2), today.minusDays(1)));
+        given(blacklistedTokenPartitionManager.detachAndDropPartition(today.minusDays(2)))
+                .willThrow(new IllegalStateException("lock timeout"));
+        given(blacklistedTokenPartitionManager.detachAndDropPartition(today.minusDays(1))).willReturn(50L);
+
+        // Act
+        final BlacklistedTokenCleanupResult result = blacklistedTokenCleanupCommandService.cleanupExpiredTokens();
+
+        // Assert
+        assertThat(result.droppedPartitionCount()).isEqualTo(1);
+        assertThat(result.removedCount()).isEqualTo(50L);
+    }
+
+    @Test
+    @DisplayName("파티션 테이블이 아니면 기존 DELETE로 정리한다")
+    void cleanupExpiredTokens_notPartitioned_fallsBackToDelete() {
+        // Arrange
+        given(blacklistedTokenPartitionManager.currentWalInsertLsn()).willReturn("0/16B3748");
+        given(blacklistedTokenPartitionManager.walBytesSince("0/16B3748")).willReturn(4096L);
+        given(blacklistedTokenPartitionManager.isPartitioned()).willReturn(false);
+        given(blacklistedTokenRepository.deleteExpiredTokens(any())).willReturn(30L);
+
+        // Act
+        final BlacklistedTokenCleanupResult result = blacklistedTokenCleanupCommandService.cleanupExpiredTokens();
+
+        // Assert
+        assertThat(result.mode()).isEqualTo(BlacklistedTokenCleanupMode.DELETE);
+        assertThat(result.removedCount()).isEqualTo(30L);
+        assertThat(result.droppedPartitionCount()).isZero();
+        assertThat(result.walBytes()).isEqualTo(4096L);
+        verify(blacklistedTokenPartitionManager, never()).findPartitionDays();
+    }
+
+    @Test
+    @DisplayName("WAL 위치를 조회할 수 없으면 walBytes를 -1로 기록하고 정리는 계속한다")
+    void cleanupExpiredTokens_walUnavailable_reportsUnknown() {
+        // Arrange
+        given(blacklistedTokenPartitionManager.currentWalInsertLsn()).willThrow(new IllegalStateException("denied"));
+        given(blacklistedTokenPartitionManager.isPartitioned()).willReturn(false);
+        given(blacklistedTokenRepository.deleteExpiredTokens(any())).willReturn(0L);
+
+        // Act
+        final BlacklistedTokenCleanupResult result = blacklistedTokenCleanupCommandService.cleanupExpiredTokens();
+
+        // Assert
+        assertThat(result.walBytes()).isEqualTo(-1L);
+        verify(blacklistedTokenPartitionManager, never()).walBytesSince(any());
+    }
+}
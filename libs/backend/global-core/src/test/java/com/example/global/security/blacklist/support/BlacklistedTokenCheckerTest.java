@@ -1,7 +1,9 @@
 package com.example.global.security.blacklist.support;
 
 import com.example.global.security.blacklist.BlacklistedTokenRepository;
+import com.example.global.security.blacklist.payload.dto.BlacklistedTokenDigestQuery;
 import com.example.global.security.blacklist.payload.dto.BlacklistedTokenHashQuery;
+import com.example.global.security.blacklist.payload.dto.BlacklistedTokenIdQuery;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,8 +11,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.UUID;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -24,6 +30,15 @@ class BlacklistedTokenCheckerTest {
     @Mock
     private BlacklistedTokenRepository blacklistedTokenRepository;
 
+    @Mock
+    private BlacklistedTokenIndex blacklistedTokenIndex;
+
+    @Mock
+    private BlacklistedTokenHashStoragePolicy blacklistedTokenHashStoragePolicy;
+
+    @Mock
+    private BlacklistedTokenWriteBehindQueue blacklistedTokenWriteBehindQueue;
+
     @Test
     @DisplayName("빈 문자열 토큰은 블랙리스트 확인 없이 false를 반환한다")
     void isBlacklisted_blank_returns_false() {
@@ -80,4 +95,156 @@ class BlacklistedTokenCheckerTest {
         assertThat(result).isFalse();
         verify(blacklistedTokenRepository).existsByTokenHash(any(BlacklistedTokenHashQuery.class));
     }
+
+    @Test
+    @DisplayName("로컬 인덱스의 Bloom 필터가 음성이면 DB 조회 없이 false를 반환한다")
+    void isBlacklisted_bloom_negative_returns_false_without_repository() {
+        // Arrange
+        final String token = "valid-access-token";
+        given(blacklistedTokenIndex.isReady()).willReturn(true);
+        given(blacklistedTokenIndex.containsExact(anyString())).willReturn(false);
+        given(blacklistedTokenIndex.mightContain(anyString())).willReturn(false);
+
+        // Act
+        final boolean result = blacklistedTokenChecker.isBlacklisted(token);
+
+        // Assert
+        assertThat(result).isFalse();
+        verify(blacklistedTokenRepository, never()).existsByTokenHash(any());
+    }
+
+    @Test
+    @DisplayName("로컬 인덱스 정확 집합에 존재하면 DB 조회 없이 true를 반환한다")
+    void isBlacklisted_exact_hit_returns_true_without_repository() {
+        // Arrange
+        final String token = "revoked-access-token";
+        given(blacklistedTokenIndex.isReady()).willReturn(true);
+        given(blacklistedTokenIndex.containsExact(anyString())).willReturn(true);
+
+        // Act
+        final boolean result = blacklistedTokenChecker.isBlacklisted(token);
+
+        // Assert
+        assertThat(result).isTrue();
+        verify(blacklistedTokenRepository, never()).existsByTokenHash(any());
+    }
+
+    @Test
+    @DisplayName("Bloom 필터가 양성이면 DB에서 최종 확인한다")
+    void isBlacklisted_bloom_positive_falls_through_to_repository() {
+        // Arrange
+        final String token = "valid-access-token";
+        given(blacklistedTokenIndex.isReady()).willReturn(true);
+        given(blacklistedTokenIndex.containsExact(anyString())).willReturn(false);
+        given(blacklistedTokenIndex.mightContain(anyString())).willReturn(true);
+        given(blacklistedTokenRepository.existsByTokenHash(any(BlacklistedTokenHashQuery.class)))
+                .willReturn(false);
+
+        // Act
+        final boolean result = blacklistedTokenChecker.isBlacklisted(token);
+
+        // Assert
+        assertThat(result).isFalse();
+        verify(blacklistedTokenRepository).existsByTokenHash(any(BlacklistedTokenHashQuery.class));
+    }
+
+    @Test
+    @DisplayName("jti가 UUID 형식이 아니면 DB 조회 없이 true를 반환한다")
+    void isBlacklistedByTokenId_invalid_uuid_returns_true() {
+        // Arrange
+        final String tokenId = "not-a-uuid";
+
+        // Act
+        final boolean result = blacklistedTokenChecker.isBlacklistedByTokenId(tokenId);
+
+        // Assert
+        assertThat(result).isTrue();
+        verify(blacklistedTokenRepository, never()).existsByTokenId(any());
+    }
+
+    @Test
+    @DisplayName("jti가 로컬 인덱스 정확 집합에 존재하면 DB 조회 없이 true를 반환한다")
+    void isBlacklistedByTokenId_exact_hit_returns_true_without_repository() {
+        // Arrange
+        final String tokenId = UUID.randomUUID().toString();
+        given(blacklistedTokenIndex.isReady()).willReturn(true);
+        given(blacklistedTokenIndex.containsExact(tokenId)).willReturn(true);
+
+        // Act
+        final boolean result = blacklistedTokenChecker.isBlacklistedByTokenId(tokenId);
+
+        // Assert
+        assertThat(result).isTrue();
+        verify(blacklistedTokenRepository, never()).existsByTokenId(any());
+    }
+
+    @Test
+    @DisplayName("jti 조회 시 Bloom 필터가 음성이면 DB 조회 없이 false를 반환한다")
+    void isBlacklistedByTokenId_bloom_negative_returns_false_without_repository() {
+        // Arrange
+        final String tokenId = UUID.randomUUID().toString();
+        given(blacklistedTokenIndex.isReady()).willReturn(true);
+        given(blacklistedTokenIndex.containsExact(tokenId)).willReturn(false);
+        given(blacklistedTokenIndex.mightContain(tokenId)).willReturn(false);
+
+        // Act
+        final boolean result = blacklistedTokenChecker.isBlacklistedByTokenId(tokenId);
+
+        // Assert
+        assertThat(result).isFalse();
+        verify(blacklistedTokenRepository, never()).existsByTokenId(any());
+    }
+
+    @Test
+    @DisplayName("인덱스 적재 전이면 jti로 DB에서 확인한다")
+    void isBlacklistedByTokenId_index_not_ready_queries_repository() {
+        // Arrange
+        final String tokenId = UUID.randomUUID().toString();
+        given(blacklistedTokenIndex.isReady()).willReturn(false);
+        given(blacklistedTokenRepository.existsByTokenId(any(BlacklistedTokenIdQuery.class)))
+                .willReturn(true);
+
+        // Act
+        final boolean result = blacklistedTokenChecker.isBlacklistedByTokenId(tokenId);
+
+        // Assert
+        assertThat(result).isTrue();
+        verify(blacklistedTokenRepository).existsByTokenId(any(BlacklistedTokenIdQuery.class));
+    }
+
+    @Test
+    @DisplayName("BINARY 저장 형식이면 32바이트 다이제스트로 DB에서 확인한다")
+    void isBlacklisted_binary_storage_queries_digest() {
+        // Arrange
+        final String token = "valid-access-token";
+        given(blacklistedTokenHashStoragePolicy.readsDigest()).willReturn(true);
+        given(blacklistedTokenRepository.existsByTokenDigest(any(BlacklistedTokenDigestQuery.class)))
+                .willReturn(true);
+
+        // Act
+        final boolean result = blacklistedTokenChecker.isBlacklisted(token);
+
+        // Assert
+        assertThat(result).isTrue();
+        verify(blacklistedTokenRepository).existsByTokenDigest(
+                argThat(query -> query.tokenDigest().length == 32)
+        );
+        verify(blacklistedTokenRepository, never()).existsByTokenHash(any());
+    }
+
+    @Test
+    @DisplayName("저장 대기 중인 jti는 인덱스 적재 전이어도 DB 조회 없이 차단한다")
+    void isBlacklistedByTokenId_pending_write_behind_returns_true() {
+        // Arrange
+        final String tokenId = UUID.randomUUID().toString();
+        given(blacklistedTokenWriteBehindQueue.isPending(tokenId)).willReturn(true);
+
+        // Act
+        final boolean result = blacklistedTokenChecker.isBlacklistedByTokenId(tokenId);
+
+        // Assert
+        assertThat(result).isTrue();
+        verify(blacklistedTokenIndex, never()).isReady();
+        verify(blacklistedTokenRepository, never()).existsByTokenId(any());
+    }
 }
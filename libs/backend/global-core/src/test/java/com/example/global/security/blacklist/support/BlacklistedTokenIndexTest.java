@@ -0,0 +1,124 @@
+package com.example.global.security.blacklist.support;
+
+import com.example.global.security.blacklist.payload.dto.BlacklistedTokenIndexEntry;
+import com.example.global.utils.TokenHashUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BlacklistedTokenIndexTest {
+
+    private final BlacklistedTokenIndex blacklistedTokenIndex = new BlacklistedTokenIndex(true, 1000, 0.01, 100);
+
+    private void load(final List<BlacklistedTokenIndexEntry> entries, final long syncedXid) {
+        final BlacklistedTokenIndex.Reload reload = blacklistedTokenIndex.beginReload();
+        entries.forEach(reload::add);
+        blacklistedTokenIndex.completeReload(reload, syncedXid);
+    }
+
+    @Test
+    @DisplayName("전체 적재 전에는 ready가 false이다")
+    void isReady_before_completeReload_returns_false() {
+        // Act & Assert
+        assertThat(blacklistedTokenIndex.isReady()).isFalse();
+        assertThat(blacklistedTokenIndex.syncedXid()).isNull();
+    }
+
+    @Test
+    @DisplayName("전체 적재한 항목은 정확 집합과 Bloom 필터 모두에서 조회된다")
+    void completeReload_registers_entries() {
+        // Arrange
+        final String tokenHash = TokenHashUtils.sha256("revoked-token");
+        final LocalDateTime loadedAt = LocalDateTime.now();
+
+        // Act
+        load(List.of(BlacklistedTokenIndexEntry.of(tokenHash, null, loadedAt.plusHours(1), loadedAt)), 100L);
+
+        // Assert
+        assertThat(blacklistedTokenIndex.isReady()).isTrue();
+        assertThat(blacklistedTokenIndex.containsExact(tokenHash)).isTrue();
+        assertThat(blacklistedTokenIndex.mightContain(tokenHash)).isTrue();
+        assertThat(blacklistedTokenIndex.syncedXid()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 해시는 대부분 Bloom 필터에서 음성으로 판정된다")
+    void mightContain_unknown_hashes_mostly_negative() {
+        // Arrange
+        final LocalDateTime now = LocalDateTime.now();
+        final List<BlacklistedTokenIndexEntry> entries = IntStream.range(0, 1000)
+                .mapToObj(i -> BlacklistedTokenIndexEntry.of(TokenHashUtils.sha256("revoked-" + i), null, now.plusHours(1), now))
+                .toList();
+        load(entries, 100L);
+
+        // Act
+        final long falsePositiveCount = IntStream.range(0, 10_000)
+                .mapToObj(i -> TokenHashUtils.sha256("active-" + i))
+                .filter(blacklistedTokenIndex::mightContain)
+                .count();
+
+        // Assert
+        assertThat(entries).allMatch(entry -> blacklistedTokenIndex.mightContain(entry.tokenHash()));
+        assertThat(falsePositiveCount).isLessThan(300);
+    }
+
+    @Test
+    @DisplayName("만료된 항목은 정확 집합에서 블랙리스트로 확정되지 않는다")
+    void containsExact_expired_entry_returns_false() {
+        // Arrange
+        final String tokenHash = TokenHashUtils.sha256("expired-token");
+        final LocalDateTime now = LocalDateTime.now();
+
+        // Act
+        load(List.of(), 100L);
+        blacklistedTokenIndex.register(tokenHash, now.minusSeconds(1));
+
+        // Assert
+        assertThat(blacklistedTokenIndex.containsExact(tokenHash)).isFalse();
+    }
+
+    @Test
+    @DisplayName("정확 집합이 최대 크기를 넘으면 Bloom 필터에만 등록된다")
+    void register_over_max_exact_entries_keeps_bloom_only() {
+        // Arrange
+        final LocalDateTime now = LocalDateTime.now();
+        load(List.of(), 100L);
+        IntStream.range(0, 100)
+                .forEach(i -> blacklistedTokenIndex.register(TokenHashUtils.sha256("revoked-" + i), now.plusHours(1)));
+        final String overflowHash = TokenHashUtils.sha256("overflow-token");
+
+        // Act
+        blacklistedTokenIndex.register(overflowHash, now.plusHours(1));
+
+        // Assert
+        assertThat(blacklistedTokenIndex.containsExact(overflowHash)).isFalse();
+        assertThat(blacklistedTokenIndex.mightContain(overflowHash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("재적재 스냅샷 조회 후 교체 전에 등록된 키는 교체된 인덱스에도 남는다")
+    void completeReload_keeps_keys_registered_during_reload() {
+        // Arrange
+        final LocalDateTime now = LocalDateTime.now();
+        final String loadedHash = TokenHashUtils.sha256("loaded-token");
+        final String revokedDuringReload = TokenHashUtils.sha256("revoked-during-reload");
+        load(List.of(), 100L);
+        final BlacklistedTokenIndex.Reload reload = blacklistedTokenIndex.beginReload();
+        reload.add(BlacklistedTokenIndexEntry.of(loadedHash, null, now.plusHours(1), now));
+
+        // Act
+        blacklistedTokenIndex.register(revokedDuringReload, now.plusHours(1));
+        blacklistedTokenIndex.completeReload(reload, 200L);
+
+        // Assert
+        assertThat(blacklistedTokenIndex.mightContain(revokedDuringReload)).isTrue();
+        assertThat(blacklistedTokenIndex.containsExact(revokedDuringReload)).isTrue();
+        assertThat(blacklistedTokenIndex.containsExact(loadedHash)).isTrue();
+        assertThat(blacklistedTokenIndex.syncedXid()).isEqualTo(200L);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.global.security.blacklist.support;
+
+import com.example.global.security.blacklist.payload.dto.BlacklistedTokenRevocation;
+import com.example.global.security.jwt.JwtTokenType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BlacklistedTokenWriteBehindQueueTest {
+
+    private static BlacklistedTokenRevocation revocation(final String tokenHash) {
+        return BlacklistedTokenRevocation.of(
+                tokenHash, UUID.randomUUID(), JwtTokenType.ACCESS, LocalDateTime.now().plusMinutes(30), "user01"
+        );
+    }
+
+    @Test
+    @DisplayName("대기열에 넣은 폐기는 저장 전까지 로컬 차단되고, 저장이 끝나면 차단이 해제된다")
+    void offer_thenComplete_releasesPendingKeys() {
+        // Arrange
+        final BlacklistedTokenWriteBehindQueue queue = new BlacklistedTokenWriteBehindQueue(true, 10, 5);
+        final BlacklistedTokenRevocation revocation = revocation("a".repeat(64));
+
+        // Act
+        final boolean accepted = queue.offer(revocation);
+        final boolean pendingBeforeFlush = queue.isPending(revocation.tokenId().toString());
+        final List<BlacklistedTokenRevocation> batch = queue.poll(10);
+        queue.complete(batch);
+
+        // Assert
+        assertThat(accepted).isTrue();
+        assertThat(pendingBeforeFlush).isTrue();
+        assertThat(batch).containsExactly(revocation);
+        assertThat(queue.isPending(revocation.tokenHash())).isFalse();
+        assertThat(queue.stats().persistedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 false를 반환하고 로컬 차단을 남기지 않는다")
+    void offer_full_returnsFalseWithoutPendingKey() {
+        // Arrange
+        final BlacklistedTokenWriteBehindQueue queue = new BlacklistedTokenWriteBehindQueue(true, 1, 5);
+        queue.offer(revocation("a".repeat(64)));
+        final BlacklistedTokenRevocation overflow = revocation("b".repeat(64));
+
+        // Act
+        final boolean accepted = queue.offer(overflow);
+
+        // Assert
+        assertThat(accepted).isFalse();
+        assertThat(queue.isPending(overflow.tokenHash())).isFalse();
+        assertThat(queue.stats().fallbackCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장 실패 배치는 앞쪽으로 되돌리고, 재시도 한도를 넘기면 포기하되 로컬 차단은 유지한다")
+    void retry_exceedsMaxAttempts_dropsButKeepsPendingKey() {
+        // Arrange
+        final BlacklistedTokenWriteBehindQueue queue = new BlacklistedTokenWriteBehindQueue(true, 10, 2);
+        final BlacklistedTokenRevocation revocation = revocation("a".repeat(64));
+        queue.offer(revocation);
+
+        // Act
+        queue.retry(queue.poll(10));
+        final List<BlacklistedTokenRevocation> retried = queue.poll(10);
+        queue.retry(retried);
+
+        // Assert
+        assertThat(retried).singleElement().extracting(BlacklistedTokenRevocation::attempts).isEqualTo(1);
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.stats().droppedCount()).isEqualTo(1);
+        assertThat(queue.isPending(revocation.tokenHash())).isTrue();
+    }
+}
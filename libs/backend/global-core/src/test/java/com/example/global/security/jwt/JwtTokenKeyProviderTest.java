@@ -0,0 +1,94 @@
+package com.example.global.security.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtTokenKeyProviderTest {
+
+    private static final JwtProperties PROPERTIES = JwtProperties.of(
+            "issuer", "a-very-long-secret-key-for-testing-at-least-32-chars", Duration.ofMinutes(30), Duration.ofDays(7)
+    );
+
+    @Test
+    @DisplayName("ES256 모드는 kid와 alg가 모두 일치할 때만 검증 키를 반환하고, 기본 HMAC 토큰 허용 여부를 따른다")
+    void findVerificationKey_es256_matchesKidAndAlgorithm() throws Exception {
+        // Arrange
+        final KeyPair keyPair = ecKeyPair();
+        final JwtTokenKeyProvider provider = new JwtTokenKeyProvider(PROPERTIES, JwtSigningProperties.of(
+                JwtSigningAlgorithm.ES256, "k1", List.of(key("k1", keyPair)), true
+        ));
+
+        // Act / Assert
+        assertThat(provider.findVerificationKey("ES256", "k1")).isEqualTo(keyPair.getPublic());
+        assertThat(provider.findVerificationKey("HS256", "k1")).isNull();
+        assertThat(provider.findVerificationKey("ES256", "k2")).isNull();
+        assertThat(provider.findVerificationKey("HS256", null)).isSameAs(provider.getSecretKey()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("JWKS에는 모든 키의 공개 정보만 담기고 HMAC 모드는 빈 목록이다")
+    void jwkSet_containsPublicKeysOnly() throws Exception {
+        // Arrange
+        final KeyPair active = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        final KeyPair previous = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        final JwtTokenKeyProvider provider = new JwtTokenKeyProvider(PROPERTIES, JwtSigningProperties.of(
+                JwtSigningAlgorithm.EDDSA, "k2",
+                List.of(JwtSigningProperties.Key.of("k1", null, encode(previous.getPublic().getEncoded())), key("k2", active)),
+                false
+        ));
+
+        // Act
+        final JwtJwkSet jwkSet = JwtJwkSet.of(provider.getPublicKeys());
+        final JwtJwkSet emptySet = JwtJwkSet.of(new JwtTokenKeyProvider(PROPERTIES).getPublicKeys());
+
+        // Assert
+        assertThat(jwkSet.json())
+                .contains("\"kid\":\"k1\"", "\"kid\":\"k2\"", "\"kty\":\"OKP\"", "\"crv\":\"Ed25519\"", "\"alg\":\"EdDSA\"")
+                .doesNotContain("\"d\"");
+        assertThat(jwkSet.etag()).startsWith("\"").endsWith("\"");
+        assertThat(emptySet.json()).isEqualTo("{\"keys\":[]}");
+        assertThat(provider.getSecretKey()).isNull();
+    }
+
+    @Test
+    @DisplayName("active-key-id에 개인키가 없으면 기동 시 실패한다")
+    void constructor_activeKeyWithoutPrivateKey_throws() throws Exception {
+        // Arrange
+        final KeyPair keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        final JwtSigningProperties signingProperties = JwtSigningProperties.of(
+                JwtSigningAlgorithm.EDDSA, "k1",
+                List.of(JwtSigningProperties.Key.of("k1", null, encode(keyPair.getPublic().getEncoded()))),
+                true
+        );
+
+        // Act / Assert
+        assertThatThrownBy(() -> new JwtTokenKeyProvider(PROPERTIES, signingProperties))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static KeyPair ecKeyPair() throws Exception {
+        final KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+
+    private static JwtSigningProperties.Key key(final String kid, final KeyPair keyPair) {
+        return JwtSigningProperties.Key.of(
+                kid, encode(keyPair.getPrivate().getEncoded()), encode(keyPair.getPublic().getEncoded())
+        );
+    }
+
+    private static String encode(final byte[] encoded) {
+        return Base64.getEncoder().encodeToString(encoded);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.global.security.throttle.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowCounterTest {
+
+    private final AtomicLong epochMillis = new AtomicLong(Duration.ofDays(1).toMillis());
+
+    @Test
+    @DisplayName("한도까지 허용하고, 거절된 시도는 카운트하지 않는다")
+    void tryAcquire_untilLimit_thenRejectsWithoutCounting() {
+        // Arrange
+        final SlidingWindowCounter counter = counter(Duration.ofMinutes(1), 100, 4);
+
+        // Act
+        final boolean first = counter.tryAcquire("ip:1.1.1.1", 2);
+        final boolean second = counter.tryAcquire("ip:1.1.1.1", 2);
+        final boolean third = counter.tryAcquire("ip:1.1.1.1", 2);
+        final boolean otherKey = counter.tryAcquire("ip:2.2.2.2", 2);
+
+        // Assert
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(otherKey).isTrue();
+    }
+
+    @Test
+    @DisplayName("직전 윈도우 시도 수는 현재 윈도우에서 남은 비율만큼만 반영된다")
+    void tryAcquire_nextWindow_weightsPreviousCount() {
+        // Arrange
+        final SlidingWindowCounter counter = counter(Duration.ofMinutes(1), 100, 4);
+        for (int i = 0; i < 4; i++) {
+            counter.tryAcquire("login:user1", 4);
+        }
+
+        // Act: 다음 윈도우의 절반 지점 (직전 4회 × 0.5 = 2)
+        epochMillis.addAndGet(Duration.ofSeconds(90).toMillis());
+        final boolean first = counter.tryAcquire("login:user1", 4);
+        final boolean second = counter.tryAcquire("login:user1", 4);
+        final boolean third = counter.tryAcquire("login:user1", 4);
+
+        // Assert
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+    }
+
+    @Test
+    @DisplayName("최대 키 수를 넘으면 가장 오래 접근되지 않은 키부터 제거한다")
+    void tryAcquire_overMaxKeys_evictsLeastRecentlyUsed() {
+        // Arrange
+        final SlidingWindowCounter counter = counter(Duration.ofMinutes(1), 10, 1);
+        for (int i = 0; i < 10; i++) {
+            counter.tryAcquire("ip:" + i, 1);
+            epochMillis.incrementAndGet();
+        }
+        counter.tryAcquire("ip:0", 1);
+        epochMillis.incrementAndGet();
+
+        // Act
+        counter.tryAcquire("ip:10", 1);
+
+        // Assert
+        assertThat(counter.size()).isEqualTo(9);
+        assertThat(counter.evictionCount()).isEqualTo(2);
+        assertThat(counter.tryAcquire("ip:0", 1)).isFalse();
+        assertThat(counter.tryAcquire("ip:1", 1)).isTrue();
+    }
+
+    @Test
+    @DisplayName("reset 후에는 다시 한도까지 허용한다")
+    void reset_clearsCounter() {
+        // Arrange
+        final SlidingWindowCounter counter = counter(Duration.ofMinutes(5), 100, 4);
+        counter.tryAcquire("login:user1", 1);
+
+        // Act
+        counter.reset("login:user1");
+
+        // Assert
+        assertThat(counter.tryAcquire("login:user1", 1)).isTrue();
+        assertThat(counter.retryAfterSeconds()).isEqualTo(300L);
+    }
+
+    private SlidingWindowCounter counter(final Duration window, final int maxKeys, final int stripes) {
+        return new SlidingWindowCounter(SlidingWindow.of(window), maxKeys, stripes, epochMillis::get);
+    }
+}
@@ -5,6 +5,9 @@ plugins {
 dependencies {
     implementation(project(":libs:backend:global-core"))
     implementation(project(":libs:backend:domain-core"))
+
+    // 비밀번호 검증 수용 제어 메트릭(MeterBinder). 버전은 Spring Boot BOM을 따릅니다.
+    implementation("io.micrometer:micrometer-core")
 }
 
 tasks.named<org.springframework.boot.gradle.tasks.bundling.BootJar>("bootJar") {
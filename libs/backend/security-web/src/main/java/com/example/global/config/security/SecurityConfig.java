@@ -12,7 +12,13 @@ import com.example.global.security.handler.CustomAuthFailureHandler;
 import com.example.global.security.handler.CustomAuthSuccessHandler;
 import com.example.global.security.handler.CustomAuthenticationEntryPoint;
 import com.example.global.security.jwt.JwtProperties;
+import com.example.global.security.jwt.JwtSigningProperties;
+import com.example.global.security.password.AdmissionControlledPasswordEncoder;
+import com.example.global.security.password.PasswordHashingCostCalibrator;
+import com.example.global.security.password.PasswordVerificationExecutor;
+import com.example.global.security.service.command.PrincipalPasswordUpgradeCommandService;
 import com.example.global.security.service.query.PrincipalDetailsQueryService;
+import com.example.global.security.throttle.service.command.LoginThrottleCommandService;
 import com.example.global.utils.RequestUriUtils;
 import com.example.global.utils.TraceIdUtils;
 import jakarta.servlet.http.HttpServletRequest;
@@ -28,6 +34,7 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -36,11 +43,12 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.List;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(prePostEnabled = true)
-@EnableConfigurationProperties(JwtProperties.class)
+@EnableConfigurationProperties({JwtProperties.class, JwtSigningProperties.class})
 public class SecurityConfig {
 
     /**
@@ -76,18 +84,37 @@ public class SecurityConfig {
         return isJsonLoginApiRequest(request);
     }
 
+    /**
+     * 기동 시 보정한 strength의 BCrypt를 {bcrypt} 접두사로 인코딩합니다.
+     * <p>
+     * - 접두사 없는 기존 해시는 기본 BCrypt로 검증하고, upgradeEncoding이 true를 반환해 로그인 성공 시 재인코딩됩니다.
+     * - {bcrypt} 해시라도 보정된 strength보다 약하면 재인코딩됩니다. (더 강한 해시는 낮추지 않습니다.)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingCostCalibrator passwordHashingCostCalibrator) {
+        final String encodingId = "bcrypt";
+        final int strength = passwordHashingCostCalibrator.calibration().strength();
+        final DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(
+                encodingId,
+                Map.of(encodingId, new BCryptPasswordEncoder(strength))
+        );
+        passwordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return passwordEncoder;
     }
 
+    /**
+     * 로그인 비밀번호 검증은 전용 실행기에서 수용 제어를 거칩니다. (대기 한도 초과 시 503 + Retry-After)
+     */
     @Bean
     public DaoAuthenticationProvider daoAuthenticationProvider(
             PrincipalDetailsQueryService principalDetailsService,
-            PasswordEncoder passwordEncoder
+            PasswordEncoder passwordEncoder,
+            PasswordVerificationExecutor passwordVerificationExecutor,
+            PrincipalPasswordUpgradeCommandService passwordUpgradeCommandService
     ) {
         final DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider(principalDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder);
+        authProvider.setPasswordEncoder(new AdmissionControlledPasswordEncoder(passwordEncoder, passwordVerificationExecutor));
+        authProvider.setUserDetailsPasswordService(passwordUpgradeCommandService);
         authProvider.setHideUserNotFoundExceptions(false);
         return authProvider;
     }
@@ -100,11 +127,13 @@ public class SecurityConfig {
             CustomAccessDeniedHandler accessDeniedHandler, CustomAuthenticationEntryPoint entryPoint,
             JsonBodyLoginRequestParser parser, JsonBodyLoginRequestValidator validator,
             JsonBodyLoginErrorWriter errorWriter, AuthenticationConfiguration authConfig,
-            JwtAuthenticationFilter jwtFilter
+            JwtAuthenticationFilter jwtFilter, LoginThrottleCommandService loginThrottleCommandService
     ) throws Exception {
         configureBasePolicy(http);
 
-        final var loginFilter = createJsonBodyLoginFilter(parser, validator, errorWriter, authConfig, successHandler, failureHandler);
+        final var loginFilter = createJsonBodyLoginFilter(
+                parser, validator, errorWriter, loginThrottleCommandService, authConfig, successHandler, failureHandler
+        );
         http.addFilterBefore(loginFilter, UsernamePasswordAuthenticationFilter.class);
         http.addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
 
@@ -130,11 +159,14 @@ public class SecurityConfig {
             JsonBodyLoginRequestParser parser,
             JsonBodyLoginRequestValidator validator,
             JsonBodyLoginErrorWriter errorWriter,
+            LoginThrottleCommandService loginThrottleCommandService,
             AuthenticationConfiguration authConfig,
             CustomAuthSuccessHandler successHandler,
             CustomAuthFailureHandler failureHandler
     ) throws Exception {
-        final JsonBodyLoginAuthenticationFilter filter = new JsonBodyLoginAuthenticationFilter(parser, validator, errorWriter);
+        final JsonBodyLoginAuthenticationFilter filter = new JsonBodyLoginAuthenticationFilter(
+                parser, validator, errorWriter, loginThrottleCommandService
+        );
         filter.setAuthenticationManager(authConfig.getAuthenticationManager());
         filter.setAuthenticationSuccessHandler(successHandler);
         filter.setAuthenticationFailureHandler(failureHandler);
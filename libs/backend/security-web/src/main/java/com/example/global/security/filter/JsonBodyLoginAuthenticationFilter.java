@@ -1,5 +1,6 @@
 package com.example.global.security.filter;
 
+import com.example.domain.account.support.LoginMemberSnapshotScope;
 import com.example.global.exception.enums.ErrorCode;
 import com.example.global.payload.response.ApiErrorDetail;
 import com.example.global.security.filter.support.JsonBodyLoginErrorWriter;
@@ -7,6 +8,16 @@ import com.example.global.security.filter.support.JsonBodyLoginRequestParser;
 import com.example.global.security.filter.support.JsonBodyLoginRequestValidator;
 import com.example.global.security.filter.support.LoginRequestParseResult;
 import com.example.global.security.filter.support.LoginRequestValidationResult;
+import com.example.global.security.filter.support.LoginThrottledException;
+import com.example.global.security.throttle.LoginThrottleScope;
+import com.example.global.security.throttle.payload.dto.LoginThrottleCommand;
+import com.example.global.security.throttle.payload.dto.LoginThrottleDecision;
+import com.example.global.security.throttle.service.command.LoginThrottleCommandService;
+import com.example.global.utils.ClientIpExtractor;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +27,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -27,6 +39,11 @@ import java.util.List;
  * 관리자: {@link com.example.domain.account.payload.request.AccountAdminLoginRequest})의
  * Bean Validation 및 {@link com.example.domain.account.validator.LoginAccountValidator}를 적용합니다.
  * - 인증 성공/실패 처리는 기존 CustomAuthSuccessHandler/CustomAuthFailureHandler에 위임합니다.
+ * - 인증 전에 IP(본문 파싱 전)와 로그인 아이디(형식 검증 후, 계정 조회 전) 순서로 시도 제한을 검사하며,
+ * 한도를 넘은 시도는 회원 조회/비밀번호 검증 없이 {@link LoginThrottledException}으로 실패 처리합니다.
+ * 존재하지 않는 아이디로의 시도도 계정 조회 전에 같은 한도로 차단됩니다.
+ * - 인증 요청 구간을 {@link LoginMemberSnapshotScope}로 감싸, 검증 단계에서 조회한 회원을
+ * UserDetailsService/토큰 발급이 재사용합니다. (로그인 1건당 회원 SELECT 1회)
  * </p>
  */
 @Slf4j
@@ -40,11 +57,13 @@ public class JsonBodyLoginAuthenticationFilter extends UsernamePasswordAuthentic
     private final JsonBodyLoginRequestParser requestParser;
     private final JsonBodyLoginRequestValidator requestValidator;
     private final JsonBodyLoginErrorWriter errorWriter;
+    private final LoginThrottleCommandService loginThrottleCommandService;
 
     public JsonBodyLoginAuthenticationFilter(
             JsonBodyLoginRequestParser requestParser,
             JsonBodyLoginRequestValidator requestValidator,
-            JsonBodyLoginErrorWriter errorWriter
+            JsonBodyLoginErrorWriter errorWriter,
+            LoginThrottleCommandService loginThrottleCommandService
     ) {
         if (requestParser == null) {
             throw new IllegalArgumentException("requestParser는 필수입니다.");
@@ -55,10 +74,35 @@ public class JsonBodyLoginAuthenticationFilter extends UsernamePasswordAuthentic
         if (errorWriter == null) {
             throw new IllegalArgumentException("errorWriter는 필수입니다.");
         }
+        if (loginThrottleCommandService == null) {
+            throw new IllegalArgumentException("loginThrottleCommandService는 필수입니다.");
+        }
 
         this.requestParser = requestParser;
         this.requestValidator = requestValidator;
         this.errorWriter = errorWriter;
+        this.loginThrottleCommandService = loginThrottleCommandService;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        if (!(request instanceof HttpServletRequest httpRequest)
+                || !(response instanceof HttpServletResponse httpResponse)
+                || !requiresAuthentication(httpRequest, httpResponse)) {
+            super.doFilter(request, response, chain);
+            return;
+        }
+
+        try {
+            LoginMemberSnapshotScope.open().call(() -> {
+                super.doFilter(request, response, chain);
+                return null;
+            });
+        } catch (final IOException | ServletException | RuntimeException e) {
+            throw e;
+        } catch (final Exception e) {
+            throw new ServletException("로그인 컨텍스트 바인딩 중 오류가 발생했습니다.", e);
+        }
     }
 
     @Override
@@ -77,6 +121,8 @@ public class JsonBodyLoginAuthenticationFilter extends UsernamePasswordAuthentic
             return null;
         }
 
+        acquireThrottle(LoginThrottleScope.IP, ClientIpExtractor.extract(request));
+
         final LoginRequestValidationResult validationResult = parseAndValidate(request, response);
         if (validationResult == null) {
             return null;
@@ -92,12 +138,21 @@ public class JsonBodyLoginAuthenticationFilter extends UsernamePasswordAuthentic
             return null;
         }
 
-        final LoginRequestValidationResult validationResult = requestValidator.validate(parseResult.loginRequest());
+        final LoginRequestValidationResult requestResult = requestValidator.validateRequest(parseResult.loginRequest());
+
+        if (requestResult.loginId() != null) {
+            request.setAttribute(REQUEST_ATTRIBUTE_LOGIN_ID, requestResult.loginId());
+        }
 
-        if (validationResult.loginId() != null) {
-            request.setAttribute(REQUEST_ATTRIBUTE_LOGIN_ID, validationResult.loginId());
+        if (requestResult.hasErrors()) {
+            errorWriter.writeBadRequest(request, response, ErrorCode.INPUT_VALUE_INVALID, requestResult.errors());
+            return null;
         }
 
+        // 계정 조회(LoginAccountValidator) 전에 검사해, 한도를 넘은 시도는 DB에 닿지 않도록 합니다.
+        acquireThrottle(LoginThrottleScope.LOGIN_ID, requestResult.loginId());
+
+        final LoginRequestValidationResult validationResult = requestValidator.validateAccount(requestResult);
         if (validationResult.hasErrors()) {
             errorWriter.writeBadRequest(request, response, ErrorCode.INPUT_VALUE_INVALID, validationResult.errors());
             return null;
@@ -106,6 +161,28 @@ public class JsonBodyLoginAuthenticationFilter extends UsernamePasswordAuthentic
         return validationResult;
     }
 
+    @Override
+    protected void successfulAuthentication(
+            HttpServletRequest request, HttpServletResponse response,
+            FilterChain chain, Authentication authResult
+    ) throws IOException, ServletException {
+        final Object loginId = request.getAttribute(REQUEST_ATTRIBUTE_LOGIN_ID);
+        if (loginId instanceof String value && !value.isBlank()) {
+            loginThrottleCommandService.reset(LoginThrottleCommand.of(LoginThrottleScope.LOGIN_ID, value));
+        }
+        super.successfulAuthentication(request, response, chain, authResult);
+    }
+
+    private void acquireThrottle(LoginThrottleScope scope, String value) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        final LoginThrottleDecision decision = loginThrottleCommandService.acquire(LoginThrottleCommand.of(scope, value));
+        if (!decision.allowed()) {
+            throw new LoginThrottledException(decision.scope(), decision.retryAfterSeconds());
+        }
+    }
+
     private Authentication authenticateCredentials(HttpServletRequest request, LoginRequestValidationResult result) {
         final UsernamePasswordAuthenticationToken authRequest = UsernamePasswordAuthenticationToken.unauthenticated(
                 result.loginId(), result.password()
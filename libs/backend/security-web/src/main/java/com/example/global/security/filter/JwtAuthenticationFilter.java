@@ -1,16 +1,15 @@
 package com.example.global.security.filter;
 
 import com.example.domain.account.payload.dto.AccountAuthMemberView;
-import com.example.domain.member.payload.dto.MemberLoginIdQuery;
 import com.example.domain.security.guard.PrincipalDetails;
+import com.example.domain.security.jwt.JwtTokenParseResult;
 import com.example.domain.security.jwt.JwtTokenParser;
 import com.example.domain.security.jwt.JwtTokenPayload;
 import com.example.global.security.SecurityContextManager;
-import com.example.global.security.blacklist.payload.dto.BlacklistedTokenCheckQuery;
-import com.example.global.security.blacklist.service.query.BlacklistedTokenQueryService;
+import com.example.global.security.filter.support.JwtAuthMemberResolver;
 import com.example.global.security.jwt.AccessTokenResolver;
+import com.example.global.security.jwt.JwtTokenParseStatus;
 import com.example.global.security.jwt.JwtTokenType;
-import com.example.global.security.service.query.MemberAuthQueryService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -31,8 +30,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenParser jwtTokenParser;
     private final AccessTokenResolver accessTokenResolver;
-    private final BlacklistedTokenQueryService blacklistedTokenQueryService;
-    private final MemberAuthQueryService memberAuthQueryService;
+    private final JwtAuthMemberResolver jwtAuthMemberResolver;
     private final SecurityContextManager securityContextManager;
 
     @Override
@@ -52,12 +50,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         final String token = tokenOptional.get();
-        if (blacklistedTokenQueryService.isBlacklisted(BlacklistedTokenCheckQuery.of(token))) {
-            securityContextManager.clearContext();
-            filterChain.doFilter(request, response);
-            return;
-        }
-
         if (!authenticate(token)) {
             securityContextManager.clearContext();
         }
@@ -66,19 +58,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     private boolean authenticate(String token) {
-        final Optional<JwtTokenPayload> payloadOptional = jwtTokenParser.parseToken(token);
-        if (payloadOptional.isEmpty()) {
+        final JwtTokenParseResult parseResult = jwtTokenParser.parseTokenResult(token);
+        if (parseResult.status() != JwtTokenParseStatus.VALID) {
             return false;
         }
 
-        final JwtTokenPayload payload = payloadOptional.get();
+        final JwtTokenPayload payload = parseResult.payload();
         if (payload.tokenType() != JwtTokenType.ACCESS || !StringUtils.hasText(payload.subject())) {
             return false;
         }
 
-        final Optional<AccountAuthMemberView> memberOptional = memberAuthQueryService.findActiveMemberForAuthentication(
-                MemberLoginIdQuery.of(payload.subject())
-        );
+        // 블랙리스트 판정과 회원 조회를 함께 처리합니다. (로컬 캐시/인덱스 미스 시 단일 쿼리)
+        // 토큰 해시는 파싱 단계에서 계산한 값을 그대로 넘겨 요청당 SHA-256을 한 번만 수행합니다.
+        final Optional<AccountAuthMemberView> memberOptional = jwtAuthMemberResolver.resolve(payload, parseResult.tokenDigest());
         if (memberOptional.isEmpty()) {
             return false;
         }
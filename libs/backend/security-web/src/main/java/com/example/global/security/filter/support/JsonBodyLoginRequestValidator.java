@@ -35,6 +35,18 @@ public class JsonBodyLoginRequestValidator {
     }
 
     public LoginRequestValidationResult validate(Object loginRequest) {
+        final LoginRequestValidationResult requestResult = validateRequest(loginRequest);
+        if (requestResult.hasErrors()) {
+            return requestResult;
+        }
+        return validateAccount(requestResult);
+    }
+
+    /**
+     * 요청 형식만 검증합니다. (Bean Validation, DB 조회 없음)
+     * 로그인 아이디 시도 제한은 이 단계 직후, 계정 조회 전에 검사합니다.
+     */
+    public LoginRequestValidationResult validateRequest(Object loginRequest) {
         if (loginRequest == null) {
             final List<ApiErrorDetail> errors = List.of(ApiErrorDetail.of("body", "요청 값이 비어있습니다."));
             return LoginRequestValidationResult.of(null, null, null, null, errors);
@@ -45,12 +57,17 @@ public class JsonBodyLoginRequestValidator {
         final String password = extractPassword(strategy, loginRequest);
 
         final List<ApiErrorDetail> beanErrors = executeBeanValidation(loginRequest);
-        if (!beanErrors.isEmpty()) {
-            return LoginRequestValidationResult.of(loginRequest, strategy, loginId, password, beanErrors);
-        }
+        return LoginRequestValidationResult.of(loginRequest, strategy, loginId, password, beanErrors);
+    }
 
-        final List<ApiErrorDetail> customErrors = executeCustomValidation(loginRequest, strategy);
-        return LoginRequestValidationResult.of(loginRequest, strategy, loginId, password, customErrors);
+    /**
+     * 형식 검증을 통과한 요청의 계정 상태를 검증합니다. ({@link LoginAccountValidator}, 회원 조회 포함)
+     */
+    public LoginRequestValidationResult validateAccount(LoginRequestValidationResult requestResult) {
+        final List<ApiErrorDetail> customErrors = executeCustomValidation(requestResult.loginRequest(), requestResult.strategy());
+        return LoginRequestValidationResult.of(
+                requestResult.loginRequest(), requestResult.strategy(), requestResult.loginId(), requestResult.password(), customErrors
+        );
     }
 
     private List<ApiErrorDetail> executeBeanValidation(Object loginRequest) {
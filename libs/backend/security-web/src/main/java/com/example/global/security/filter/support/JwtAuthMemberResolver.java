@@ -0,0 +1,112 @@
+package com.example.global.security.filter.support;
+
+import com.example.domain.account.payload.dto.AccountAuthMemberBlacklistView;
+import com.example.domain.account.payload.dto.AccountAuthMemberView;
+import com.example.domain.member.payload.dto.MemberAuthLookupQuery;
+import com.example.domain.member.payload.dto.MemberLoginIdQuery;
+import com.example.domain.security.guard.support.AccountAuthMemberCache;
+import com.example.domain.security.jwt.JwtTokenPayload;
+import com.example.global.security.blacklist.support.BlacklistedTokenChecker;
+import com.example.global.security.blacklist.support.BlacklistedTokenKeyPolicy;
+import com.example.global.security.blacklist.support.BlacklistedTokenLocalVerdict;
+import com.example.global.security.service.query.MemberAuthQueryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JWT 인증 필터에서 토큰 subject에 해당하는 회원 인증 정보를 해석하는 컴포넌트
+ *
+ * <p>
+ * - 블랙리스트 판정과 회원 조회를 함께 처리해, DB가 필요한 경우에도 단일 쿼리(커넥션 1회 체크아웃)로 끝냅니다.
+ * - 로컬 블랙리스트 인덱스와 회원 캐시로 모두 판정되면 DB 조회 없이 인증을 마칩니다.
+ * - 토큰 버전이 캐시보다 높으면 캐시가 뒤처진 것으로 보고 DB에서 다시 조회합니다.
+ * - 토큰 버전이 캐시보다 낮으면 이미 폐기된 토큰이므로 캐시 값을 그대로 반환해 필터에서 거부되도록 합니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtAuthMemberResolver {
+
+    private final AccountAuthMemberCache accountAuthMemberCache;
+    private final MemberAuthQueryService memberAuthQueryService;
+    private final BlacklistedTokenChecker blacklistedTokenChecker;
+    private final BlacklistedTokenKeyPolicy blacklistedTokenKeyPolicy;
+
+    /**
+     * 블랙리스트에 등록되지 않은 토큰이면 회원 인증 정보를 반환합니다.
+     *
+     * @param payload     서명/만료 검증을 통과한 ACCESS 토큰 payload
+     * @param tokenDigest 파싱 단계에서 계산한 토큰 SHA-256 해시 (HASH/DUAL 모드의 블랙리스트 키)
+     */
+    public Optional<AccountAuthMemberView> resolve(JwtTokenPayload payload, String tokenDigest) {
+        if (payload == null) {
+            return Optional.empty();
+        }
+
+        final MemberAuthLookupQuery lookupQuery = toLookupQuery(payload, tokenDigest);
+        if (lookupQuery == null) {
+            // 블랙리스트 키를 만들 수 없으면(해시 누락, jti가 UUID 형식이 아님) 서버 발급 토큰으로 볼 수 없으므로 차단합니다.
+            return Optional.empty();
+        }
+
+        final BlacklistedTokenLocalVerdict verdict = blacklistedTokenChecker.checkLocally(lookupKey(lookupQuery));
+        if (verdict == BlacklistedTokenLocalVerdict.BLACKLISTED) {
+            return Optional.empty();
+        }
+        if (verdict == BlacklistedTokenLocalVerdict.NOT_BLACKLISTED) {
+            return resolveMember(payload);
+        }
+
+        return loadWithBlacklistAndCache(lookupQuery);
+    }
+
+    private Optional<AccountAuthMemberView> resolveMember(JwtTokenPayload payload) {
+        final Optional<AccountAuthMemberView> cached = accountAuthMemberCache.find(payload.subject());
+        if (cached.isPresent() && cached.get().tokenVersion() >= payload.tokenVersion()) {
+            return cached;
+        }
+
+        return loadAndCache(payload.subject());
+    }
+
+    private Optional<AccountAuthMemberView> loadAndCache(String loginId) {
+        final long generation = accountAuthMemberCache.currentGeneration();
+        final Optional<AccountAuthMemberView> loaded = memberAuthQueryService.findActiveMemberForAuthentication(
+                MemberLoginIdQuery.of(loginId)
+        );
+        loaded.ifPresent(member -> accountAuthMemberCache.putIfNotInvalidated(member, generation));
+        return loaded;
+    }
+
+    private Optional<AccountAuthMemberView> loadWithBlacklistAndCache(MemberAuthLookupQuery lookupQuery) {
+        final long generation = accountAuthMemberCache.currentGeneration();
+        final Optional<AccountAuthMemberBlacklistView> loaded = memberAuthQueryService.findActiveMemberWithBlacklist(
+                lookupQuery
+        );
+        if (loaded.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // 블랙리스트 여부와 무관하게 회원 정보는 최신 값이므로 캐시에 반영합니다.
+        final AccountAuthMemberView member = loaded.get().member();
+        accountAuthMemberCache.putIfNotInvalidated(member, generation);
+        return loaded.get().blacklisted() ? Optional.empty() : Optional.of(member);
+    }
+
+    private MemberAuthLookupQuery toLookupQuery(JwtTokenPayload payload, String tokenDigest) {
+        if (blacklistedTokenKeyPolicy.readsTokenHash()) {
+            return StringUtils.hasText(tokenDigest) ? MemberAuthLookupQuery.of(payload.subject(), tokenDigest, null) : null;
+        }
+
+        final UUID tokenId = BlacklistedTokenChecker.parseTokenId(payload.tokenId());
+        return tokenId == null ? null : MemberAuthLookupQuery.of(payload.subject(), null, tokenId);
+    }
+
+    private String lookupKey(MemberAuthLookupQuery lookupQuery) {
+        return lookupQuery.tokenHash() != null ? lookupQuery.tokenHash() : lookupQuery.tokenId().toString();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.global.security.filter.support;
+
+import com.example.global.security.throttle.LoginThrottleScope;
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * 로그인 시도 제한 초과 예외
+ *
+ * <p>
+ * - JsonBodyLoginAuthenticationFilter가 인증(회원 조회/BCrypt 검증) 전에 던지므로 자격 증명은 검증되지 않은 상태입니다.
+ * - CustomAuthFailureHandler가 429 + Retry-After로 응답합니다.
+ * </p>
+ */
+public class LoginThrottledException extends AuthenticationException {
+
+    private final LoginThrottleScope scope;
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(final LoginThrottleScope scope, final long retryAfterSeconds) {
+        super("로그인 시도 한도를 초과했습니다: " + scope);
+        this.scope = scope;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public LoginThrottleScope getScope() {
+        return scope;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
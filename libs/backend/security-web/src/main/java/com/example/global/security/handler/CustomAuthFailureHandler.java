@@ -4,11 +4,13 @@ import com.example.domain.member.payload.dto.MemberLoginIdQuery;
 import com.example.global.config.web.RequestLoggingAttributes;
 import com.example.global.exception.enums.ErrorCode;
 import com.example.global.payload.response.ApiErrorDetail;
+import com.example.global.security.filter.support.LoginThrottledException;
 import com.example.global.security.handler.support.LoginFailureEventPublisher;
 import com.example.global.security.handler.support.LoginFailureLogWriter;
 import com.example.global.security.handler.support.LoginFailureMessageResolver;
 import com.example.global.security.handler.support.LoginFailureRequestResolver;
 import com.example.global.security.handler.support.LoginFailureResponseWriter;
+import com.example.global.security.password.PasswordVerificationRejectedException;
 import com.example.global.security.service.query.MemberAuthQueryService;
 import com.example.global.utils.LoginLoggingUtils;
 import jakarta.servlet.http.HttpServletRequest;
@@ -30,6 +32,8 @@ import java.util.List;
  * 정책 정리:
  * - 입력값 누락(폼 로그인) -> 400 + INPUT_VALUE_INVALID (+ errors[])
  * - 인증 실패(아이디/비밀번호 불일치 등) -> 401 + AUTHENTICATION_FAILED
+ * - 비밀번호 검증 수용 한도 초과 -> 503 + LOGIN_OVERLOADED + Retry-After
+ * - IP/로그인 아이디별 시도 제한 초과 -> 429 + LOGIN_THROTTLED + Retry-After
  * </p>
  */
 @Component
@@ -57,9 +61,50 @@ public class CustomAuthFailureHandler implements AuthenticationFailureHandler {
             return;
         }
 
+        if (exception instanceof LoginThrottledException throttled) {
+            handleThrottled(request, response, throttled);
+            return;
+        }
+
+        if (exception instanceof PasswordVerificationRejectedException rejected) {
+            handleOverloaded(request, response, rejected);
+            return;
+        }
+
         handleAuthFailure(request, response, exception, loginIdForEvent);
     }
 
+    /**
+     * 자격 증명을 검증하지 못한 거절이므로 로그인 실패 이벤트(회원 조회 + 로그 적재)는 발행하지 않습니다.
+     * 과부하 상황에서 DB 부하를 더하지 않기 위함이며, 요청 로그만 남깁니다.
+     */
+    private void handleOverloaded(
+            HttpServletRequest request, HttpServletResponse response,
+            PasswordVerificationRejectedException exception
+    ) throws IOException {
+        final String loginId = loginFailureRequestResolver.resolveLoginId(request).orElse(null);
+        markFilterLogged(request);
+        loginFailureLogWriter.logAuthFailure(request, loginId, loginFailureMessageResolver.resolve(exception));
+        loginFailureResponseWriter.writeRetryableErrorResponse(
+                response, HttpStatus.SERVICE_UNAVAILABLE, ErrorCode.LOGIN_OVERLOADED, exception.getRetryAfterSeconds()
+        );
+    }
+
+    /**
+     * 시도 제한 거절도 자격 증명을 검증하지 않았으므로 로그인 실패 이벤트를 발행하지 않습니다. (공격 트래픽이 DB 적재로 이어지지 않도록)
+     */
+    private void handleThrottled(
+            HttpServletRequest request, HttpServletResponse response,
+            LoginThrottledException exception
+    ) throws IOException {
+        final String loginId = loginFailureRequestResolver.resolveLoginId(request).orElse(null);
+        markFilterLogged(request);
+        loginFailureLogWriter.logAuthFailure(request, loginId, loginFailureMessageResolver.resolve(exception));
+        loginFailureResponseWriter.writeRetryableErrorResponse(
+                response, HttpStatus.TOO_MANY_REQUESTS, ErrorCode.LOGIN_THROTTLED, exception.getRetryAfterSeconds()
+        );
+    }
+
     private void handleMissingCredentials(
             HttpServletRequest request, HttpServletResponse response,
             String loginIdForEvent, List<ApiErrorDetail> errors
@@ -1,5 +1,7 @@
 package com.example.global.security.handler.support;
 
+import com.example.global.security.filter.support.LoginThrottledException;
+import com.example.global.security.password.PasswordVerificationRejectedException;
 import org.springframework.security.authentication.*;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -16,6 +18,8 @@ public class LoginFailureMessageResolver {
         return switch (exception) {
             case BadCredentialsException _ -> "비밀번호 불일치";
             case UsernameNotFoundException _ -> "계정 없음";
+            case PasswordVerificationRejectedException _ -> "로그인 과부하(검증 대기 한도 초과)";
+            case LoginThrottledException e -> "로그인 시도 제한(" + e.getScope() + ")";
             case InternalAuthenticationServiceException _ -> "내부 시스템 에러";
             case LockedException _ -> "계정 잠김";
             case DisabledException _ -> "계정 비활성화";
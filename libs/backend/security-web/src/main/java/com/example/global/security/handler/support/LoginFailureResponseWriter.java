@@ -5,6 +5,7 @@ import com.example.global.payload.response.ApiErrorDetail;
 import com.example.global.payload.response.ApiErrorResponse;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
@@ -37,4 +38,21 @@ public class LoginFailureResponseWriter {
         final ApiErrorResponse body = ApiErrorResponse.from(errorCode, errors);
         response.getWriter().write(objectMapper.writeValueAsString(body));
     }
+
+    /**
+     * 일시적 거절(과부하 등) 응답입니다. 클라이언트가 재시도 시점을 알 수 있도록 Retry-After(초)를 함께 내려줍니다.
+     */
+    public void writeRetryableErrorResponse(
+            final HttpServletResponse response,
+            final HttpStatus status,
+            final ErrorCode errorCode,
+            final long retryAfterSeconds
+    ) throws IOException {
+        if (response == null || response.isCommitted()) {
+            return;
+        }
+
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1L, retryAfterSeconds)));
+        writeErrorResponse(response, status, errorCode, List.of());
+    }
 }
@@ -0,0 +1,41 @@
+package com.example.global.security.password;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 로그인 인증 전용 PasswordEncoder 데코레이터
+ *
+ * <p>
+ * - matches(BCrypt 검증)만 {@link PasswordVerificationExecutor}를 거쳐 수용 제어를 적용합니다.
+ * - 회원 가입/비밀번호 변경의 encode는 공용 PasswordEncoder 빈을 그대로 사용하므로 이 클래스는 DaoAuthenticationProvider에만 주입합니다.
+ * - 존재하지 않는 계정의 타이밍 공격 완화용 matches도 같은 경로를 거치므로, 없는 ID로 폭주해도 CPU 한도가 유지됩니다.
+ * </p>
+ */
+public class AdmissionControlledPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordVerificationExecutor passwordVerificationExecutor;
+
+    public AdmissionControlledPasswordEncoder(
+            final PasswordEncoder delegate,
+            final PasswordVerificationExecutor passwordVerificationExecutor
+    ) {
+        this.delegate = delegate;
+        this.passwordVerificationExecutor = passwordVerificationExecutor;
+    }
+
+    @Override
+    public String encode(final CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+        return passwordVerificationExecutor.verify(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(final String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
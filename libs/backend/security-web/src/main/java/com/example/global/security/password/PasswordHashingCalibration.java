@@ -0,0 +1,36 @@
+package com.example.global.security.password;
+
+/**
+ * 비밀번호 해시 비용 보정 결과
+ *
+ * <p>
+ * - strength: 선택된 BCrypt work factor (log2 라운드 수)
+ * - measuredNanos: 선택된 strength로 측정한 1회 해시 시간(표본 최솟값)
+ * - targetNanos: 설정된 목표 지연 시간
+ * - calibrated: false면 설정값(app.security.password-hashing.strength)을 그대로 사용한 경우
+ * </p>
+ */
+public record PasswordHashingCalibration(
+        int strength,
+        long measuredNanos,
+        long targetNanos,
+        boolean calibrated
+) {
+
+    public static PasswordHashingCalibration of(
+            final int strength,
+            final long measuredNanos,
+            final long targetNanos,
+            final boolean calibrated
+    ) {
+        return new PasswordHashingCalibration(strength, measuredNanos, targetNanos, calibrated);
+    }
+
+    public double measuredMillis() {
+        return measuredNanos / 1_000_000.0d;
+    }
+
+    public double targetMillis() {
+        return targetNanos / 1_000_000.0d;
+    }
+}
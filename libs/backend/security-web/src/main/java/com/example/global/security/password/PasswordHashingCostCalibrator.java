@@ -0,0 +1,138 @@
+package com.example.global.security.password;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.IntToLongFunction;
+
+/**
+ * 기동 시 BCrypt work factor 보정기
+ *
+ * <p>
+ * - 실제 컨테이너 CPU에서 해시 시간을 측정해, 목표 지연 시간(target-latency)에 가장 가까운 strength를 고릅니다.
+ * - BCrypt는 strength가 1 오를 때 시간이 2배가 되므로, 한 번 측정한 값으로 후보를 추정한 뒤 후보를 다시 측정해 확정합니다.
+ * - min-strength 아래로는 내려가지 않습니다. (느린 CPU에서도 보안 하한 유지)
+ * - strength를 직접 지정하면 측정 없이 그 값을 사용합니다. (테스트/로컬 기동 시간 단축용)
+ * </p>
+ * <p>
+ * 설정 (app.security.password-hashing.*)
+ * - target-latency: 목표 1회 해시 시간 (기본 PT0.08S, admin-api는 더 강한 값을 기본으로 지정)
+ * - min-strength / max-strength: 허용 범위 (기본 10 / 16)
+ * - samples: strength별 측정 횟수, 최솟값 사용 (기본 3)
+ * - strength: 고정 strength (기본 0 = 보정)
+ * </p>
+ */
+@Slf4j
+@Component
+public class PasswordHashingCostCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+    private static final int BCRYPT_MIN_STRENGTH = 4;
+    private static final int BCRYPT_MAX_STRENGTH = 31;
+
+    private final long targetNanos;
+    private final int minStrength;
+    private final int maxStrength;
+    private final int samples;
+    private final int fixedStrength;
+    private final IntToLongFunction hashTimer;
+
+    private volatile PasswordHashingCalibration calibration;
+
+    public PasswordHashingCostCalibrator(
+            @Value("${app.security.password-hashing.target-latency:PT0.08S}") final Duration targetLatency,
+            @Value("${app.security.password-hashing.min-strength:10}") final int minStrength,
+            @Value("${app.security.password-hashing.max-strength:16}") final int maxStrength,
+            @Value("${app.security.password-hashing.samples:3}") final int samples,
+            @Value("${app.security.password-hashing.strength:0}") final int fixedStrength
+    ) {
+        this(targetLatency, minStrength, maxStrength, samples, fixedStrength, null);
+    }
+
+    PasswordHashingCostCalibrator(
+            final Duration targetLatency,
+            final int minStrength,
+            final int maxStrength,
+            final int samples,
+            final int fixedStrength,
+            final IntToLongFunction hashTimer
+    ) {
+        this.targetNanos = Math.max(1L, targetLatency.toNanos());
+        this.minStrength = clampStrength(minStrength);
+        this.maxStrength = Math.max(this.minStrength, clampStrength(maxStrength));
+        this.samples = Math.max(1, samples);
+        this.fixedStrength = fixedStrength;
+        this.hashTimer = hashTimer != null ? hashTimer : this::measureMinNanos;
+    }
+
+    /**
+     * 보정 결과를 반환합니다. 최초 호출 시 한 번만 측정합니다.
+     */
+    public PasswordHashingCalibration calibration() {
+        PasswordHashingCalibration result = calibration;
+        if (result == null) {
+            synchronized (this) {
+                result = calibration;
+                if (result == null) {
+                    result = calibrate();
+                    calibration = result;
+                    log.info("[PASSWORD_HASHING] BCrypt strength 선택: strength={}, measuredMs={}, targetMs={}, calibrated={}",
+                            result.strength(), String.format("%.1f", result.measuredMillis()),
+                            String.format("%.1f", result.targetMillis()), result.calibrated());
+                }
+            }
+        }
+        return result;
+    }
+
+    private PasswordHashingCalibration calibrate() {
+        if (fixedStrength > 0) {
+            return PasswordHashingCalibration.of(clampStrength(fixedStrength), 0L, targetNanos, false);
+        }
+
+        final long probeNanos = Math.max(1L, hashTimer.applyAsLong(minStrength));
+        int strength = clamp(minStrength + (int) Math.round(log2((double) targetNanos / probeNanos)));
+        long measuredNanos = strength == minStrength ? probeNanos : hashTimer.applyAsLong(strength);
+
+        // 추정이 한 단계 어긋났으면(측정 오차/터보 부스트 등) 인접 strength와 로그 거리로 비교해 보정합니다.
+        final double distance = Math.abs(log2((double) measuredNanos / targetNanos));
+        if (distance > 0.5d) {
+            final int neighbor = clamp(measuredNanos > targetNanos ? strength - 1 : strength + 1);
+            if (neighbor != strength) {
+                final long neighborNanos = neighbor == minStrength ? probeNanos : hashTimer.applyAsLong(neighbor);
+                if (Math.abs(log2((double) neighborNanos / targetNanos)) < distance) {
+                    strength = neighbor;
+                    measuredNanos = neighborNanos;
+                }
+            }
+        }
+        return PasswordHashingCalibration.of(strength, measuredNanos, targetNanos, true);
+    }
+
+    private long measureMinNanos(final int strength) {
+        final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode(SAMPLE_PASSWORD); // JIT/SecureRandom 초기화 비용을 측정에서 제외합니다.
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < samples; i++) {
+            final long startedAt = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            min = Math.min(min, System.nanoTime() - startedAt);
+        }
+        return min;
+    }
+
+    private int clamp(final int strength) {
+        return Math.min(maxStrength, Math.max(minStrength, strength));
+    }
+
+    private static int clampStrength(final int strength) {
+        return Math.min(BCRYPT_MAX_STRENGTH, Math.max(BCRYPT_MIN_STRENGTH, strength));
+    }
+
+    private static double log2(final double value) {
+        return Math.log(value) / Math.log(2.0d);
+    }
+}
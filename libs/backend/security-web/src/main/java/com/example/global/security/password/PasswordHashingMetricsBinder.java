@@ -0,0 +1,38 @@
+package com.example.global.security.password;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비밀번호 해시 비용 보정 결과 메트릭
+ *
+ * <p>
+ * - 노드별로 선택된 strength와 측정/목표 시간을 노출해, 노드 간 CPU 차이로 strength가 갈리는지 확인할 수 있습니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class PasswordHashingMetricsBinder implements MeterBinder {
+
+    private static final String PREFIX = "auth.password.hashing";
+
+    private final PasswordHashingCostCalibrator passwordHashingCostCalibrator;
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder(PREFIX + ".strength", passwordHashingCostCalibrator, calibrator -> calibrator.calibration().strength())
+                .description("선택된 BCrypt work factor")
+                .register(registry);
+        Gauge.builder(PREFIX + ".measured", passwordHashingCostCalibrator, calibrator -> calibrator.calibration().measuredMillis())
+                .description("선택된 strength의 1회 해시 측정 시간")
+                .baseUnit("milliseconds")
+                .register(registry);
+        Gauge.builder(PREFIX + ".target", passwordHashingCostCalibrator, calibrator -> calibrator.calibration().targetMillis())
+                .description("설정된 목표 해시 시간")
+                .baseUnit("milliseconds")
+                .register(registry);
+    }
+}
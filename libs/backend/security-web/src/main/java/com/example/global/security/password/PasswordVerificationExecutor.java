@@ -0,0 +1,205 @@
+package com.example.global.security.password;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 로그인 비밀번호 검증(BCrypt) 수용 제어 실행기
+ *
+ * <p>
+ * - BCrypt 검증을 요청 스레드가 아닌 코어 수 크기의 전용 플랫폼 스레드에서 실행해, 로그인 폭주가 모든 코어를 점유하지 못하게 합니다.
+ * - 대기열은 고정 크기이며, 가득 차거나 대기 기한(queue-wait-deadline) 안에 검증을 시작하지 못하면
+ *   검증 없이 {@link PasswordVerificationRejectedException}으로 거절합니다.
+ * - 기한이 지난 작업은 취소 표시 후 대기열에서 제거하므로, 이미 응답을 포기한 요청에 CPU를 쓰지 않습니다.
+ * - 검증이 시작된 작업은 기한과 무관하게 끝까지 기다립니다. (수용한 요청은 정상 응답)
+ * </p>
+ * <p>
+ * 설정 (app.security.password-verification.*)
+ * - threads: 검증 스레드 수 (기본 0 = CPU 코어 수)
+ * - queue-capacity: 대기열 크기 (기본 0 = threads × 8)
+ * - queue-wait-deadline: 대기 기한 (기본 PT1S)
+ * - retry-after: Retry-After 최솟값 (기본 PT1S, 대기열 소진 예상 시간이 더 길면 그 값 사용)
+ * </p>
+ */
+@Component
+public class PasswordVerificationExecutor {
+
+    private static final int QUEUED = 0;
+    private static final int RUNNING = 1;
+    private static final int CANCELLED = 2;
+    private static final long MAX_RETRY_AFTER_SECONDS = 60L;
+
+    private final ThreadPoolExecutor executor;
+    private final int threads;
+    private final long queueWaitDeadlineNanos;
+    private final long minRetryAfterSeconds;
+
+    private final LongAdder completedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAdder totalVerificationNanos = new LongAdder();
+
+    public PasswordVerificationExecutor(
+            @Value("${app.security.password-verification.threads:0}") final int threads,
+            @Value("${app.security.password-verification.queue-capacity:0}") final int queueCapacity,
+            @Value("${app.security.password-verification.queue-wait-deadline:PT1S}") final Duration queueWaitDeadline,
+            @Value("${app.security.password-verification.retry-after:PT1S}") final Duration retryAfter
+    ) {
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.queueWaitDeadlineNanos = Math.max(1L, queueWaitDeadline.toNanos());
+        this.minRetryAfterSeconds = Math.max(1L, retryAfter.toSeconds());
+        this.executor = new ThreadPoolExecutor(
+                this.threads,
+                this.threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity > 0 ? queueCapacity : this.threads * 8),
+                Thread.ofPlatform().name("password-verification-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * 검증을 전용 스레드에서 실행하고 결과를 반환합니다.
+     *
+     * @throws PasswordVerificationRejectedException 대기열 포화 또는 대기 기한 초과
+     */
+    public boolean verify(final BooleanSupplier verification) {
+        final VerificationTask task = new VerificationTask(verification);
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            throw reject();
+        }
+        return task.await();
+    }
+
+    public PasswordVerificationStats stats() {
+        return PasswordVerificationStats.of(
+                executor.getQueue().size(),
+                executor.getActiveCount(),
+                completedCount.sum(),
+                rejectedCount.sum(),
+                totalWaitNanos.sum(),
+                totalVerificationNanos.sum()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private PasswordVerificationRejectedException reject() {
+        rejectedCount.increment();
+        return new PasswordVerificationRejectedException(estimateRetryAfterSeconds());
+    }
+
+    /**
+     * 현재 대기열을 모두 처리하는 데 걸릴 예상 시간(초)을 Retry-After로 사용합니다.
+     */
+    private long estimateRetryAfterSeconds() {
+        final long completed = completedCount.sum();
+        if (completed == 0) {
+            return minRetryAfterSeconds;
+        }
+        final long averageVerificationNanos = totalVerificationNanos.sum() / completed;
+        final long drainNanos = averageVerificationNanos * executor.getQueue().size() / threads;
+        final long drainSeconds = TimeUnit.NANOSECONDS.toSeconds(drainNanos + TimeUnit.SECONDS.toNanos(1) - 1);
+        return Math.min(MAX_RETRY_AFTER_SECONDS, Math.max(minRetryAfterSeconds, drainSeconds));
+    }
+
+    private final class VerificationTask implements Runnable {
+
+        private final BooleanSupplier verification;
+        private final long enqueuedAt = System.nanoTime();
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+        private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+
+        private VerificationTask(final BooleanSupplier verification) {
+            this.verification = verification;
+        }
+
+        @Override
+        public void run() {
+            if (!state.compareAndSet(QUEUED, RUNNING)) {
+                return;
+            }
+
+            final long startedAt = System.nanoTime();
+            try {
+                result.complete(verification.getAsBoolean());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            } finally {
+                completedCount.increment();
+                totalWaitNanos.add(startedAt - enqueuedAt);
+                totalVerificationNanos.add(System.nanoTime() - startedAt);
+            }
+        }
+
+        private boolean await() {
+            try {
+                return result.get(queueWaitDeadlineNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (state.compareAndSet(QUEUED, CANCELLED)) {
+                    executor.remove(this);
+                    throw reject();
+                }
+                // 이미 검증이 시작된 요청은 수용한 것으로 보고 결과를 기다립니다.
+                return awaitRunning();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (state.compareAndSet(QUEUED, CANCELLED)) {
+                    executor.remove(this);
+                }
+                throw reject();
+            } catch (ExecutionException e) {
+                throw unwrap(e);
+            }
+        }
+
+        private boolean awaitRunning() {
+            boolean interrupted = false;
+            try {
+                while (true) {
+                    try {
+                        return result.get();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    } catch (ExecutionException e) {
+                        throw unwrap(e);
+                    }
+                }
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private static RuntimeException unwrap(final ExecutionException e) {
+        final Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException("비밀번호 검증에 실패했습니다.", cause);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.global.security.password;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호 검증 실행기 메트릭
+ *
+ * <p>
+ * - actuator가 있는 애플리케이션에서는 MeterBinder 빈이 자동으로 등록됩니다. 없으면 {@link PasswordVerificationExecutor#stats()}로 확인합니다.
+ * - 검증 경로에서는 카운터만 올리고, 메트릭 값은 수집 시점에 스냅샷에서 읽습니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class PasswordVerificationMetricsBinder implements MeterBinder {
+
+    private static final String PREFIX = "auth.password.verification";
+
+    private final PasswordVerificationExecutor passwordVerificationExecutor;
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder(PREFIX + ".queue.depth", passwordVerificationExecutor, executor -> executor.stats().queueDepth())
+                .description("검증 대기 중인 로그인 요청 수")
+                .register(registry);
+        Gauge.builder(PREFIX + ".active", passwordVerificationExecutor, executor -> executor.stats().activeCount())
+                .description("검증 중인 로그인 요청 수")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".rejected", passwordVerificationExecutor, executor -> executor.stats().rejectedCount())
+                .description("대기열 포화/대기 기한 초과로 거절한 로그인 요청 수")
+                .register(registry);
+        FunctionTimer.builder(
+                        PREFIX + ".queue.wait",
+                        passwordVerificationExecutor,
+                        executor -> executor.stats().completedCount(),
+                        executor -> executor.stats().totalWaitNanos(),
+                        TimeUnit.NANOSECONDS
+                )
+                .description("검증 시작까지 대기한 시간")
+                .register(registry);
+        FunctionTimer.builder(
+                        PREFIX + ".duration",
+                        passwordVerificationExecutor,
+                        executor -> executor.stats().completedCount(),
+                        executor -> executor.stats().totalVerificationNanos(),
+                        TimeUnit.NANOSECONDS
+                )
+                .description("비밀번호 검증 소요 시간")
+                .register(registry);
+    }
+}
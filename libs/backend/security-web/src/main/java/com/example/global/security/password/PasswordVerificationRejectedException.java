@@ -0,0 +1,26 @@
+package com.example.global.security.password;
+
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+
+/**
+ * 비밀번호 검증 수용 한도 초과 예외
+ *
+ * <p>
+ * - 검증 대기열이 가득 찼거나 대기 기한을 넘겨 BCrypt 검증을 시작하지 못한 경우입니다. (자격 증명 오류가 아님)
+ * - InternalAuthenticationServiceException을 상속해 ProviderManager가 다른 Provider로 넘기지 않고 즉시 전파합니다.
+ * - CustomAuthFailureHandler가 503 + Retry-After로 응답합니다.
+ * </p>
+ */
+public class PasswordVerificationRejectedException extends InternalAuthenticationServiceException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordVerificationRejectedException(final long retryAfterSeconds) {
+        super("비밀번호 검증 대기 한도를 초과했습니다.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.global.security.password;
+
+/**
+ * 비밀번호 검증 실행기 통계 스냅샷
+ *
+ * <p>
+ * - completedCount: 검증을 실행한 건수 (대기 시간/검증 시간 합계의 분모)
+ * - rejectedCount: 대기열 포화 또는 대기 기한 초과로 검증 없이 거절한 건수
+ * </p>
+ */
+public record PasswordVerificationStats(
+        int queueDepth,
+        int activeCount,
+        long completedCount,
+        long rejectedCount,
+        long totalWaitNanos,
+        long totalVerificationNanos
+) {
+
+    public static PasswordVerificationStats of(
+            final int queueDepth,
+            final int activeCount,
+            final long completedCount,
+            final long rejectedCount,
+            final long totalWaitNanos,
+            final long totalVerificationNanos
+    ) {
+        return new PasswordVerificationStats(
+                queueDepth, activeCount, completedCount, rejectedCount, totalWaitNanos, totalVerificationNanos
+        );
+    }
+
+    public double averageWaitMillis() {
+        return completedCount == 0 ? 0.0d : totalWaitNanos / 1_000_000.0d / completedCount;
+    }
+
+    public double averageVerificationMillis() {
+        return completedCount == 0 ? 0.0d : totalVerificationNanos / 1_000_000.0d / completedCount;
+    }
+}
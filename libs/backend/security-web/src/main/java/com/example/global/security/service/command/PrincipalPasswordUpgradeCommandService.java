@@ -0,0 +1,42 @@
+package com.example.global.security.service.command;
+
+import com.example.domain.account.payload.dto.AccountPasswordUpgradeCommand;
+import com.example.domain.account.service.command.AccountCommandService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로그인 성공 시 비밀번호 해시 재인코딩
+ *
+ * <p>
+ * - DaoAuthenticationProvider가 upgradeEncoding == true(접두사 없는 기존 해시, 보정된 strength보다 약한 해시)일 때 호출합니다.
+ * - 재인코딩 저장 실패는 로그인 결과에 영향을 주지 않으며, 다음 로그인에서 다시 시도됩니다.
+ * - 반환한 UserDetails는 인증 결과의 principal로만 쓰이고 비밀번호는 사용되지 않으므로 기존 객체를 그대로 반환합니다.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PrincipalPasswordUpgradeCommandService implements UserDetailsPasswordService {
+
+    private final AccountCommandService accountCommandService;
+
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        try {
+            final boolean upgraded = accountCommandService.upgradePassword(
+                    AccountPasswordUpgradeCommand.of(user.getUsername(), user.getPassword(), newPassword)
+            );
+            if (!upgraded) {
+                log.info("[PASSWORD_UPGRADE] 저장된 해시가 변경되어 재인코딩을 건너뜀: loginId={}", user.getUsername());
+            }
+        } catch (RuntimeException e) {
+            log.warn("[PASSWORD_UPGRADE] 비밀번호 해시 재인코딩 실패: loginId={}, exceptionName={}",
+                    user.getUsername(), e.getClass().getSimpleName(), e);
+        }
+        return user;
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.global.security.service.query;
 
+import com.example.domain.account.payload.dto.AccountAuthMemberBlacklistView;
 import com.example.domain.account.payload.dto.AccountAuthMemberView;
+import com.example.domain.member.payload.dto.MemberAuthLookupQuery;
 import com.example.domain.member.payload.dto.MemberLoginIdQuery;
 import com.example.domain.security.guard.support.SecurityMemberAccessPort;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +27,25 @@ public class MemberAuthQueryService {
         return securityMemberAccessPort.findActiveAuthMemberByLoginId(query.loginId());
     }
 
+    /**
+     * 회원 인증 정보와 토큰 블랙리스트 여부를 하나의 트랜잭션(커넥션 1회 체크아웃), 단일 쿼리로 조회합니다.
+     * 로컬 캐시/인덱스로 판정하지 못한 요청에서만 호출합니다.
+     */
+    public Optional<AccountAuthMemberBlacklistView> findActiveMemberWithBlacklist(MemberAuthLookupQuery query) {
+        if (query == null || !StringUtils.hasText(query.loginId())) {
+            return Optional.empty();
+        }
+        if (!StringUtils.hasText(query.tokenHash()) && query.tokenId() == null) {
+            return Optional.empty();
+        }
+
+        return securityMemberAccessPort.findActiveAuthMemberWithBlacklist(
+                query.loginId(),
+                query.tokenHash(),
+                query.tokenId()
+        );
+    }
+
     public Optional<Long> findMemberIdByLoginId(MemberLoginIdQuery query) {
         if (!isValidQuery(query)) {
             return Optional.empty();
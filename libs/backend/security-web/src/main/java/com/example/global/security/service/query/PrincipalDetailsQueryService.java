@@ -2,7 +2,10 @@ package com.example.global.security.service.query;
 
 import com.example.domain.account.payload.dto.AccountAuthMemberView;
 import com.example.domain.account.payload.dto.AccountLoginIdQuery;
+import com.example.domain.account.payload.dto.LoginMemberSnapshot;
 import com.example.domain.account.service.query.AccountQueryService;
+import com.example.domain.account.support.LoginMemberSnapshotScope;
+import com.example.domain.member.enums.MemberActiveStatus;
 import com.example.domain.member.enums.MemberType;
 import com.example.domain.security.guard.PrincipalDetails;
 import com.example.global.exception.GlobalException;
@@ -14,11 +17,18 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 로그인 UserDetailsService
+ *
+ * <p>
+ * - JSON 로그인은 검증 단계가 조회한 회원 스냅샷(LoginMemberSnapshotScope)을 재사용하므로 DB를 다시 조회하지 않습니다.
+ * - 스냅샷이 없을 때만 AccountQueryService(자체 읽기 트랜잭션)로 조회하며,
+ *   스냅샷 경로에서 커넥션을 잡지 않도록 클래스 레벨 트랜잭션은 두지 않습니다.
+ * </p>
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class PrincipalDetailsQueryService implements UserDetailsService {
 
     private final AccountQueryService accountQueryService;
@@ -31,7 +41,12 @@ public class PrincipalDetailsQueryService implements UserDetailsService {
             // [수정] Form Login 시 `role` 파라미터를 함께 전달받지 못하므로,
             // AccountQueryService는 `loginId`만으로 찾도록 합니다.
             // *단, AccountQueryService::findActiveMemberForAuthByLoginId는 Active 체크를 수행합니다.*
-            final AccountAuthMemberView member = accountQueryService.findActiveMemberForAuthByLoginId(AccountLoginIdQuery.of(username));
+            final AccountAuthMemberView member = LoginMemberSnapshotScope.findByLoginId(username)
+                    .map(LoginMemberSnapshot::toAuthMemberView)
+                    .orElseGet(() -> accountQueryService.findActiveMemberForAuthByLoginId(AccountLoginIdQuery.of(username)));
+            if (member.active() != MemberActiveStatus.ACTIVE) {
+                throw new DisabledException("비활성화된 계정입니다: " + username);
+            }
             if (member.memberType() != MemberType.GENERAL) {
                 throw new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username);
             }
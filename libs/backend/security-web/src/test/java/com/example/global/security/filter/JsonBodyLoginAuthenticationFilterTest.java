@@ -0,0 +1,102 @@
+package com.example.global.security.filter;
+
+import com.example.global.payload.response.ApiErrorDetail;
+import com.example.global.security.filter.support.JsonBodyLoginErrorWriter;
+import com.example.global.security.filter.support.JsonBodyLoginRequestParser;
+import com.example.global.security.filter.support.JsonBodyLoginRequestValidator;
+import com.example.global.security.filter.support.LoginRequestParseResult;
+import com.example.global.security.filter.support.LoginRequestValidationResult;
+import com.example.global.security.filter.support.LoginThrottledException;
+import com.example.global.security.throttle.LoginThrottleScope;
+import com.example.global.security.throttle.payload.dto.LoginThrottleCommand;
+import com.example.global.security.throttle.payload.dto.LoginThrottleDecision;
+import com.example.global.security.throttle.service.command.LoginThrottleCommandService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class JsonBodyLoginAuthenticationFilterTest {
+
+    private static final String LOGIN_ID = "member01";
+    private static final Object LOGIN_REQUEST = new Object();
+
+    @Mock
+    private JsonBodyLoginRequestParser requestParser;
+
+    @Mock
+    private JsonBodyLoginRequestValidator requestValidator;
+
+    @Mock
+    private JsonBodyLoginErrorWriter errorWriter;
+
+    @Mock
+    private LoginThrottleCommandService loginThrottleCommandService;
+
+    private JsonBodyLoginAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private LoginRequestValidationResult requestResult;
+
+    @BeforeEach
+    void setUp() {
+        filter = new JsonBodyLoginAuthenticationFilter(requestParser, requestValidator, errorWriter, loginThrottleCommandService);
+        request = new MockHttpServletRequest("POST", "/api/auth/login");
+        requestResult = LoginRequestValidationResult.of(LOGIN_REQUEST, null, LOGIN_ID, "password", List.of());
+
+        given(requestParser.isJsonRequest(request)).willReturn(true);
+        given(requestParser.parse(request)).willReturn(LoginRequestParseResult.success(LOGIN_REQUEST));
+        given(requestValidator.validateRequest(LOGIN_REQUEST)).willReturn(requestResult);
+    }
+
+    @Test
+    @DisplayName("로그인 아이디 시도 한도를 넘으면 계정 조회(계정 검증) 없이 차단한다")
+    void attemptAuthentication_loginIdThrottled_skipsAccountLookup() {
+        // Arrange
+        given(loginThrottleCommandService.acquire(any(LoginThrottleCommand.class))).willAnswer(invocation -> {
+            final LoginThrottleCommand command = invocation.getArgument(0);
+            return command.scope() == LoginThrottleScope.LOGIN_ID
+                    ? LoginThrottleDecision.throttled(LoginThrottleScope.LOGIN_ID, 30L)
+                    : LoginThrottleDecision.allow();
+        });
+
+        // Act & Assert
+        assertThatThrownBy(() -> filter.attemptAuthentication(request, new MockHttpServletResponse()))
+                .isInstanceOf(LoginThrottledException.class);
+        verify(requestValidator, never()).validateAccount(any());
+    }
+
+    @Test
+    @DisplayName("로그인 아이디 시도 제한은 형식 검증 후, 계정 검증 전에 획득한다")
+    void attemptAuthentication_acquiresLoginIdThrottleBeforeAccountValidation() {
+        // Arrange
+        given(loginThrottleCommandService.acquire(any(LoginThrottleCommand.class))).willReturn(LoginThrottleDecision.allow());
+        given(requestValidator.validateAccount(requestResult)).willReturn(
+                LoginRequestValidationResult.of(LOGIN_REQUEST, null, LOGIN_ID, "password",
+                        List.of(ApiErrorDetail.of("loginId", "존재하지 않는 계정입니다.")))
+        );
+
+        // Act
+        filter.attemptAuthentication(request, new MockHttpServletResponse());
+
+        // Assert
+        final InOrder order = inOrder(requestValidator, loginThrottleCommandService);
+        order.verify(requestValidator).validateRequest(LOGIN_REQUEST);
+        order.verify(loginThrottleCommandService).acquire(LoginThrottleCommand.of(LoginThrottleScope.LOGIN_ID, LOGIN_ID));
+        order.verify(requestValidator).validateAccount(requestResult);
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.global.security.filter.support;
+
+import com.example.domain.account.enums.AccountRole;
+import com.example.domain.account.payload.dto.AccountAuthMemberBlacklistView;
+import com.example.domain.account.payload.dto.AccountAuthMemberView;
+import com.example.domain.member.enums.MemberActiveStatus;
+import com.example.domain.member.enums.MemberType;
+import com.example.domain.member.payload.dto.MemberAuthLookupQuery;
+import com.example.domain.security.guard.support.AccountAuthMemberCache;
+import com.example.domain.security.jwt.JwtTokenPayload;
+import com.example.global.security.blacklist.support.BlacklistedTokenChecker;
+import com.example.global.security.blacklist.support.BlacklistedTokenKeyPolicy;
+import com.example.global.security.blacklist.support.BlacklistedTokenLocalVerdict;
+import com.example.global.security.jwt.JwtTokenType;
+import com.example.global.security.service.query.MemberAuthQueryService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthMemberResolverTest {
+
+    private static final String LOGIN_ID = "member01";
+    private static final String TOKEN_DIGEST = "0f1e2d3c4b5a69788796a5b4c3d2e1f00f1e2d3c4b5a69788796a5b4c3d2e1f0";
+
+    @InjectMocks
+    private JwtAuthMemberResolver jwtAuthMemberResolver;
+
+    @Mock
+    private AccountAuthMemberCache accountAuthMemberCache;
+
+    @Mock
+    private MemberAuthQueryService memberAuthQueryService;
+
+    @Mock
+    private BlacklistedTokenChecker blacklistedTokenChecker;
+
+    @Mock
+    private BlacklistedTokenKeyPolicy blacklistedTokenKeyPolicy;
+
+    @Test
+    @DisplayName("로컬 인덱스에서 블랙리스트로 확정되면 DB 조회 없이 빈 값을 반환한다")
+    void resolve_local_blacklisted_returns_empty_without_query() {
+        // Arrange
+        given(blacklistedTokenKeyPolicy.readsTokenHash()).willReturn(true);
+        given(blacklistedTokenChecker.checkLocally(anyString())).willReturn(BlacklistedTokenLocalVerdict.BLACKLISTED);
+
+        // Act
+        final Optional<AccountAuthMemberView> result = jwtAuthMemberResolver.resolve(payload(UUID.randomUUID().toString()), TOKEN_DIGEST);
+
+        // Assert
+        assertThat(result).isEmpty();
+        verify(memberAuthQueryService, never()).findActiveMemberWithBlacklist(any());
+        verify(memberAuthQueryService, never()).findActiveMemberForAuthentication(any());
+    }
+
+    @Test
+    @DisplayName("블랙리스트 아님이 확정되고 캐시가 최신이면 DB 조회 없이 캐시 값을 반환한다")
+    void resolve_local_not_blacklisted_and_cache_hit_returns_cached() {
+        // Arrange
+        final AccountAuthMemberView member = member(0L);
+        given(blacklistedTokenKeyPolicy.readsTokenHash()).willReturn(true);
+        given(blacklistedTokenChecker.checkLocally(anyString())).willReturn(BlacklistedTokenLocalVerdict.NOT_BLACKLISTED);
+        given(accountAuthMemberCache.find(LOGIN_ID)).willReturn(Optional.of(member));
+
+        // Act
+        final Optional<AccountAuthMemberView> result = jwtAuthMemberResolver.resolve(payload(UUID.randomUUID().toString()), TOKEN_DIGEST);
+
+        // Assert
+        assertThat(result).contains(member);
+        verify(memberAuthQueryService, never()).findActiveMemberWithBlacklist(any());
+        verify(memberAuthQueryService, never()).findActiveMemberForAuthentication(any());
+    }
+
+    @Test
+    @DisplayName("로컬 판정이 불가하면 통합 쿼리 한 번으로 회원과 블랙리스트 여부를 확인한다")
+    void resolve_local_unknown_uses_single_combined_query() {
+        // Arrange
+        final AccountAuthMemberView member = member(0L);
+        given(blacklistedTokenKeyPolicy.readsTokenHash()).willReturn(true);
+        given(blacklistedTokenChecker.checkLocally(anyString())).willReturn(BlacklistedTokenLocalVerdict.UNKNOWN);
+        given(memberAuthQueryService.findActiveMemberWithBlacklist(any(MemberAuthLookupQuery.class)))
+                .willReturn(Optional.of(AccountAuthMemberBlacklistView.of(member, false)));
+
+        // Act
+        final Optional<AccountAuthMemberView> result = jwtAuthMemberResolver.resolve(payload(UUID.randomUUID().toString()), TOKEN_DIGEST);
+
+        // Assert
+        assertThat(result).contains(member);
+        verify(memberAuthQueryService, never()).findActiveMemberForAuthentication(any());
+        verify(accountAuthMemberCache).putIfNotInvalidated(member, 0L);
+    }
+
+    @Test
+    @DisplayName("통합 쿼리 결과 블랙리스트이면 빈 값을 반환한다")
+    void resolve_combined_query_blacklisted_returns_empty() {
+        // Arrange
+        given(blacklistedTokenKeyPolicy.readsTokenHash()).willReturn(true);
+        given(blacklistedTokenChecker.checkLocally(anyString())).willReturn(BlacklistedTokenLocalVerdict.UNKNOWN);
+        given(memberAuthQueryService.findActiveMemberWithBlacklist(any(MemberAuthLookupQuery.class)))
+                .willReturn(Optional.of(AccountAuthMemberBlacklistView.of(member(0L), true)));
+
+        // Act
+        final Optional<AccountAuthMemberView> result = jwtAuthMemberResolver.resolve(payload(UUID.randomUUID().toString()), TOKEN_DIGEST);
+
+        // Assert
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("JTI 모드에서 jti가 UUID 형식이 아니면 조회 없이 빈 값을 반환한다")
+    void resolve_jti_mode_invalid_token_id_returns_empty() {
+        // Arrange
+        given(blacklistedTokenKeyPolicy.readsTokenHash()).willReturn(false);
+
+        // Act
+        final Optional<AccountAuthMemberView> result = jwtAuthMemberResolver.resolve(payload("not-a-uuid"), TOKEN_DIGEST);
+
+        // Assert
+        assertThat(result).isEmpty();
+        verify(blacklistedTokenChecker, never()).checkLocally(anyString());
+        verify(memberAuthQueryService, never()).findActiveMemberWithBlacklist(any());
+    }
+
+    @Test
+    @DisplayName("HASH 모드에서 파싱 단계의 토큰 해시를 그대로 블랙리스트 키로 사용한다")
+    void resolve_hash_mode_uses_token_digest_from_parser() {
+        // Arrange
+        given(blacklistedTokenKeyPolicy.readsTokenHash()).willReturn(true);
+        given(blacklistedTokenChecker.checkLocally(TOKEN_DIGEST)).willReturn(BlacklistedTokenLocalVerdict.BLACKLISTED);
+
+        // Act
+        final Optional<AccountAuthMemberView> result = jwtAuthMemberResolver.resolve(payload(UUID.randomUUID().toString()), TOKEN_DIGEST);
+
+        // Assert
+        assertThat(result).isEmpty();
+        verify(blacklistedTokenChecker).checkLocally(TOKEN_DIGEST);
+    }
+
+    @Test
+    @DisplayName("HASH 모드에서 토큰 해시가 없으면 조회 없이 빈 값을 반환한다")
+    void resolve_hash_mode_without_digest_returns_empty() {
+        // Arrange
+        given(blacklistedTokenKeyPolicy.readsTokenHash()).willReturn(true);
+
+        // Act
+        final Optional<AccountAuthMemberView> result = jwtAuthMemberResolver.resolve(payload(UUID.randomUUID().toString()), null);
+
+        // Assert
+        assertThat(result).isEmpty();
+        verify(blacklistedTokenChecker, never()).checkLocally(anyString());
+        verify(memberAuthQueryService, never()).findActiveMemberWithBlacklist(any());
+    }
+
+    private JwtTokenPayload payload(String tokenId) {
+        final Instant now = Instant.now();
+        return JwtTokenPayload.of(
+                LOGIN_ID, tokenId, AccountRole.USER, JwtTokenType.ACCESS, 0L, now, now.plusSeconds(600)
+        );
+    }
+
+    private AccountAuthMemberView member(long tokenVersion) {
+        return AccountAuthMemberView.of(
+                1L, LOGIN_ID, "encoded", "nick", AccountRole.USER, MemberType.GENERAL,
+                MemberActiveStatus.ACTIVE, tokenVersion
+        );
+    }
+}
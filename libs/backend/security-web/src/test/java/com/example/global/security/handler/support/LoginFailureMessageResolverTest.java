@@ -1,5 +1,8 @@
 package com.example.global.security.handler.support;
 
+import com.example.global.security.filter.support.LoginThrottledException;
+import com.example.global.security.password.PasswordVerificationRejectedException;
+import com.example.global.security.throttle.LoginThrottleScope;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.authentication.AccountExpiredException;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -35,6 +38,16 @@ class LoginFailureMessageResolverTest {
         assertThat(resolver.resolve(new InternalAuthenticationServiceException("internal"))).isEqualTo("내부 시스템 에러");
     }
 
+    @Test
+    void resolve_PasswordVerificationRejectedException() {
+        assertThat(resolver.resolve(new PasswordVerificationRejectedException(1L))).isEqualTo("로그인 과부하(검증 대기 한도 초과)");
+    }
+
+    @Test
+    void resolve_LoginThrottledException() {
+        assertThat(resolver.resolve(new LoginThrottledException(LoginThrottleScope.IP, 30L))).isEqualTo("로그인 시도 제한(IP)");
+    }
+
     @Test
     void resolve_LockedException() {
         assertThat(resolver.resolve(new LockedException("locked"))).isEqualTo("계정 잠김");
@@ -0,0 +1,72 @@
+package com.example.global.security.password;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntToLongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordHashingCostCalibratorTest {
+
+    /**
+     * strength 10에서 baseMillis가 걸리고 1 오를 때마다 2배가 되는 가상 CPU
+     */
+    private static IntToLongFunction bcryptLike(final double baseMillis) {
+        return strength -> (long) (baseMillis * Math.pow(2, strength - 10) * 1_000_000L);
+    }
+
+    @Test
+    @DisplayName("목표 지연 시간에 가장 가까운 strength를 선택한다")
+    void calibration_picksStrengthClosestToTarget() {
+        // Arrange
+        final PasswordHashingCostCalibrator calibrator = new PasswordHashingCostCalibrator(
+                Duration.ofMillis(80), 10, 16, 3, 0, bcryptLike(20.0d)
+        );
+
+        // Act
+        final PasswordHashingCalibration calibration = calibrator.calibration();
+
+        // Assert
+        assertThat(calibration.strength()).isEqualTo(12);
+        assertThat(calibration.measuredMillis()).isEqualTo(80.0d);
+        assertThat(calibration.calibrated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("느린 CPU에서도 최소 strength 아래로 내려가지 않는다")
+    void calibration_slowCpu_keepsMinStrength() {
+        // Arrange
+        final PasswordHashingCostCalibrator calibrator = new PasswordHashingCostCalibrator(
+                Duration.ofMillis(80), 10, 16, 3, 0, bcryptLike(400.0d)
+        );
+
+        // Act / Assert
+        assertThat(calibrator.calibration().strength()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("고정 strength가 있으면 측정하지 않고, 결과는 한 번만 계산한다")
+    void calibration_fixedStrength_skipsMeasurement() {
+        // Arrange
+        final AtomicInteger measureCount = new AtomicInteger();
+        final PasswordHashingCostCalibrator calibrator = new PasswordHashingCostCalibrator(
+                Duration.ofMillis(80), 10, 16, 3, 11, strength -> {
+                    measureCount.incrementAndGet();
+                    return 1L;
+                }
+        );
+
+        // Act
+        final PasswordHashingCalibration first = calibrator.calibration();
+        final PasswordHashingCalibration second = calibrator.calibration();
+
+        // Assert
+        assertThat(first.strength()).isEqualTo(11);
+        assertThat(first.calibrated()).isFalse();
+        assertThat(second).isSameAs(first);
+        assertThat(measureCount).hasValue(0);
+    }
+}
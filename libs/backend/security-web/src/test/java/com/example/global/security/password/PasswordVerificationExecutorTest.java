@@ -0,0 +1,92 @@
+package com.example.global.security.password;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordVerificationExecutorTest {
+
+    private PasswordVerificationExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("여유가 있으면 검증 결과를 그대로 반환하고 대기/검증 시간을 집계한다")
+    void verify_withinCapacity_returnsResult() {
+        // Arrange
+        executor = new PasswordVerificationExecutor(1, 1, Duration.ofSeconds(1), Duration.ofSeconds(1));
+
+        // Act
+        final boolean matched = executor.verify(() -> true);
+        final boolean mismatched = executor.verify(() -> false);
+
+        // Assert
+        assertThat(matched).isTrue();
+        assertThat(mismatched).isFalse();
+        assertThat(executor.stats().completedCount()).isEqualTo(2);
+        assertThat(executor.stats().rejectedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기 기한 안에 검증을 시작하지 못하면 검증 없이 거절하고 Retry-After를 제공한다")
+    void verify_queueWaitDeadlineExceeded_rejectsWithoutVerification() throws Exception {
+        // Arrange
+        executor = new PasswordVerificationExecutor(1, 4, Duration.ofMillis(50), Duration.ofSeconds(2));
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<Boolean> blocking = CompletableFuture.supplyAsync(() -> executor.verify(() -> {
+            started.countDown();
+            await(release);
+            return true;
+        }));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        final AtomicInteger skippedVerifications = new AtomicInteger();
+
+        // Act / Assert
+        try {
+            assertThatThrownBy(() -> executor.verify(() -> skippedVerifications.incrementAndGet() > 0))
+                    .isInstanceOf(PasswordVerificationRejectedException.class)
+                    .satisfies(e -> assertThat(((PasswordVerificationRejectedException) e).getRetryAfterSeconds())
+                            .isGreaterThanOrEqualTo(2L));
+        } finally {
+            release.countDown();
+        }
+        assertThat(blocking.get(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(skippedVerifications).hasValue(0);
+        assertThat(executor.stats().rejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검증 중 발생한 예외는 호출자에게 그대로 전달한다")
+    void verify_verificationThrows_propagatesException() {
+        // Arrange
+        executor = new PasswordVerificationExecutor(1, 1, Duration.ofSeconds(1), Duration.ofSeconds(1));
+
+        // Act / Assert
+        assertThatThrownBy(() -> executor.verify(() -> {
+            throw new IllegalArgumentException("Encoded password does not look like BCrypt");
+        })).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.global.security.service.query;
+
+import com.example.domain.account.enums.AccountRole;
+import com.example.domain.account.payload.dto.AccountAuthMemberView;
+import com.example.domain.account.payload.dto.AccountLoginIdQuery;
+import com.example.domain.account.payload.dto.AccountLoginValidationQuery;
+import com.example.domain.account.payload.dto.LoginMemberSnapshot;
+import com.example.domain.account.payload.request.AccountUserLoginRequest;
+import com.example.domain.account.payload.response.LoginTokenResponse;
+import com.example.domain.account.service.query.AccountQueryService;
+import com.example.domain.account.support.AccountMemberQueryPort;
+import com.example.domain.account.support.LoginMemberSnapshotScope;
+import com.example.domain.account.validator.LoginAccountValidator;
+import com.example.domain.account.validator.UserLoginRequestRoleStrategy;
+import com.example.domain.member.enums.MemberActiveStatus;
+import com.example.domain.member.enums.MemberType;
+import com.example.domain.security.guard.PrincipalDetails;
+import com.example.domain.security.port.SecurityMemberTokenInfo;
+import com.example.domain.security.port.SecurityMemberTokenPort;
+import com.example.domain.security.token.BlacklistedTokenCommandService;
+import com.example.domain.security.token.JwtTokenCommandService;
+import com.example.domain.security.token.LoginTokenCommandService;
+import com.example.global.security.RefreshTokenCrypto;
+import com.example.global.security.RefreshTokenHasher;
+import com.example.global.security.payload.LoginTokenIssueCommand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+/**
+ * JSON 로그인 1건의 회원 조회 횟수 테스트
+ * - 검증(LoginAccountValidator) → UserDetailsService → 토큰 발급 순서로 실제 서비스를 연결하고, 조회 Port 호출 수를 셉니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class LoginMemberSnapshotPipelineTest {
+
+    private static final String LOGIN_ID = "user01";
+
+    @Mock
+    private AccountMemberQueryPort accountMemberQueryPort;
+
+    @Mock
+    private SecurityMemberTokenPort securityMemberTokenPort;
+
+    @Mock
+    private JwtTokenCommandService jwtTokenCommandService;
+
+    @Mock
+    private RefreshTokenCrypto refreshTokenCrypto;
+
+    @Mock
+    private RefreshTokenHasher refreshTokenHasher;
+
+    @Mock
+    private BlacklistedTokenCommandService blacklistedTokenCommandService;
+
+    private LoginAccountValidator loginAccountValidator;
+    private PrincipalDetailsQueryService principalDetailsQueryService;
+    private LoginTokenCommandService loginTokenCommandService;
+
+    @BeforeEach
+    void setUp() {
+        final AccountQueryService accountQueryService = new AccountQueryService(accountMemberQueryPort);
+        loginAccountValidator = new LoginAccountValidator(accountQueryService, List.of(new UserLoginRequestRoleStrategy()));
+        principalDetailsQueryService = new PrincipalDetailsQueryService(accountQueryService);
+        loginTokenCommandService = new LoginTokenCommandService(
+                securityMemberTokenPort, jwtTokenCommandService, refreshTokenCrypto, refreshTokenHasher, blacklistedTokenCommandService
+        );
+    }
+
+    @Test
+    @DisplayName("성공한 로그인 1건은 회원을 한 번만 조회하고, 리프레시 토큰은 id 조건으로 갱신한다")
+    void login_success_loadsMemberOnce() {
+        // Arrange
+        given(accountMemberQueryPort.findLoginSnapshot(any(AccountLoginValidationQuery.class))).willReturn(Optional.of(snapshot()));
+        given(jwtTokenCommandService.generateAccessToken(any(SecurityMemberTokenInfo.class)))
+                .willReturn("access-token");
+        given(jwtTokenCommandService.generateRefreshToken(any(SecurityMemberTokenInfo.class)))
+                .willReturn("refresh-token");
+        given(refreshTokenCrypto.encrypt("refresh-token")).willReturn("refresh-token-encrypted");
+        given(refreshTokenHasher.hash("refresh-token")).willReturn("refresh-token-hash");
+        final AccountUserLoginRequest request = AccountUserLoginRequest.of(LOGIN_ID, "password1!");
+        final Errors errors = new BeanPropertyBindingResult(request, "accountUserLoginRequest");
+
+        // Act
+        final LoginTokenResponse response = LoginMemberSnapshotScope.open().call(() -> {
+            loginAccountValidator.validate(request, errors);
+            final PrincipalDetails principal = (PrincipalDetails) principalDetailsQueryService.loadUserByUsername(LOGIN_ID);
+            return loginTokenCommandService.issueTokens(LoginTokenIssueCommand.of(principal.getId()));
+        });
+
+        // Assert
+        assertThat(errors.hasErrors()).isFalse();
+        assertThat(response.accessToken()).isEqualTo("access-token");
+        verify(accountMemberQueryPort, times(1)).findLoginSnapshot(any(AccountLoginValidationQuery.class));
+        verifyNoMoreInteractions(accountMemberQueryPort);
+        verify(securityMemberTokenPort, never()).findTokenInfoById(any());
+        verify(securityMemberTokenPort).updateRefreshToken(1L, "refresh-token-encrypted", "refresh-token-hash");
+    }
+
+    @Test
+    @DisplayName("로그인 스냅샷 구간 밖에서는 기존 조회로 폴백한다")
+    void loadUserByUsername_outsideScope_fallsBackToQuery() {
+        // Arrange
+        given(accountMemberQueryPort.findAuthMember(any(AccountLoginIdQuery.class))).willReturn(Optional.of(
+                AccountAuthMemberView.of(1L, LOGIN_ID, "{bcrypt}hash", "닉네임", AccountRole.USER,
+                        MemberType.GENERAL, MemberActiveStatus.ACTIVE, 0L)
+        ));
+
+        // Act
+        final PrincipalDetails principal = (PrincipalDetails) principalDetailsQueryService.loadUserByUsername(LOGIN_ID);
+
+        // Assert
+        assertThat(principal.getId()).isEqualTo(1L);
+        verify(accountMemberQueryPort).findAuthMember(any(AccountLoginIdQuery.class));
+    }
+
+    private static LoginMemberSnapshot snapshot() {
+        return LoginMemberSnapshot.of(
+                1L, LOGIN_ID, "{bcrypt}hash", "닉네임", AccountRole.USER,
+                MemberType.GENERAL, MemberActiveStatus.ACTIVE, 0L, null
+        );
+    }
+}